@@ -21,6 +21,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.vibur.dbcp.pool.*;
 import org.vibur.dbcp.proxy.InvocationHooksHolder;
+import org.vibur.dbcp.rscache.ResultCache;
 import org.vibur.dbcp.stcache.StatementCache;
 import org.vibur.objectpool.PoolService;
 import org.vibur.objectpool.util.ConcurrentCollection;
@@ -53,6 +54,8 @@ public abstract class ViburConfig {
     public static final String SQLSTATE_CONN_VALIDATE_ERROR   = "VI004";
     public static final String SQLSTATE_OBJECT_CLOSED_ERROR   = "VI005";
     public static final String SQLSTATE_WRAPPER_ERROR         = "VI006";
+    public static final String SQLSTATE_CIRCUIT_OPEN_ERROR    = "VI007";
+    public static final String SQLSTATE_RATE_LIMITED_ERROR    = "VI008";
 
     static final int STATEMENT_CACHE_MAX_SIZE = 2000;
 
@@ -91,6 +94,12 @@ public abstract class ViburConfig {
      * If set to {@code 0}, will validate the connection always when it is taken from the pool.
      * If set to a negative number, will never validate the taken from the pool connection. */
     private int connectionIdleLimitInSeconds = 5;
+    /** If greater than {@code 0}, a connection which is due for validation as per the
+     * {@link #connectionIdleLimitInSeconds} will not be validated if it has successfully executed an SQL statement,
+     * or was created, within this number of milliseconds, i.e. a successful execution is treated as an implicit
+     * validation. This saves the validation round trips, for example, when the {@code connectionIdleLimitInSeconds}
+     * is set to {@code 0}. The numbers of the performed and of the skipped validations are exposed via JMX. */
+    private long implicitValidationWindowInMs = 0;
     /** The timeout that will be passed to the call to {@link #testConnectionQuery} when a taken
      * from the pool JDBC Connection is validated before use, or when {@link #initSQL} is executed (if specified).
      * {@code 0} means no limit. */
@@ -134,6 +143,16 @@ public abstract class ViburConfig {
      * for the needs of the application JDBC driver. For example, some JDBC drivers may require a synchronous
      * {@code Executor}. */
     private Executor networkTimeoutExecutor = null;
+    /** If greater than {@code 0}, a background thread will validate, approximately every this number of seconds,
+     * the JDBC Connections which stayed idle in the pool for so long that they could reach the
+     * {@link #connectionIdleLimitInSeconds} before the next such validation, and will evict the invalid ones.
+     * Thus, the threads calling {@code getConnection()} will usually take already validated Connections, instead of
+     * validating them on the borrow path. Applies only if the {@code connectionIdleLimitInSeconds} is greater than
+     * {@code 0}, and should be set to a value well below it. See {@link org.vibur.dbcp.pool.IdleSweeper}. */
+    private int idleSweepIntervalInSeconds = 0;
+    /** The maximum number of idle JDBC Connections which will be validated at each
+     * {@link #idleSweepIntervalInSeconds}. */
+    private int idleSweepBatchSize = 5;
 
 
     /** The pool initial size, i.e. the initial number of JDBC Connections allocated in this pool. */
@@ -147,11 +166,80 @@ public abstract class ViburConfig {
     /** If {@code true}, the pool will keep information for the current stack trace of every taken connection.
      * See also {@link #logTakenConnectionsOnTimeout}. */
     private boolean poolEnableConnectionTracking = false;
+    /** If {@code true}, each thread will first try to take from the pool the connection which it last restored
+     * there, before falling back to the shared collection of available connections. The connection is claimed via
+     * a compare-and-set, and while it is available it can be taken (stolen) by any other thread, too.
+     * This can reduce the contention on the shared collection and improve the CPU cache locality when the same
+     * threads repeatedly take and restore connections. See {@link org.vibur.dbcp.pool.ThreadAffinityCollection}. */
+    private boolean poolThreadAffinity = false;
+    /** If greater than {@code 1}, the pool will be split into this number of stripes, each of which has its own
+     * collection of available connections and a share of the {@link #poolInitialSize} and {@link #poolMaxSize}.
+     * Each thread takes connections from its own home stripe first, and from the other stripes only when its home
+     * stripe is exhausted. This can reduce the contention on the pool when it is used by many threads on a machine
+     * with many CPU cores. The value must not be greater than the {@code poolMaxSize}. When the pool is striped,
+     * the {@link #concurrentCollection} setting does not apply, and the {@link #poolFair} setting applies only
+     * within each stripe, i.e., the pool as a whole does not guarantee a FIFO order of the waiting threads.
+     * See {@link org.vibur.dbcp.pool.StripedPool}. */
+    private int poolStripes = 1;
+    /** If greater than {@code 0}, a background thread will create JDBC Connections ahead of demand whenever the
+     * number of the idle Connections in the pool drops below this value, as long as the {@link #poolMaxSize}
+     * allows it. Thus, the threads calling {@code getConnection()} will usually take ready Connections, instead of
+     * waiting for new Connections to be created, including the possible {@link #acquireRetryDelayInMs} delays.
+     * The value must not be greater than the {@code poolMaxSize}. Note that if the {@link #poolReducerClass pool
+     * reducer} is enabled, it may reduce the number of the idle Connections below this value, after which they
+     * will be created again. See {@link org.vibur.dbcp.pool.PoolFiller}. */
+    private int poolMinIdle = 0;
+    /** The number of pool connections which can be taken only by the {@code HIGH} priority
+     * {@link ViburDBCPDataSource#getConnection(ConnectionPriority, long) getConnection} calls. Thus, these calls can get
+     * a connection even when the lower priority calls saturate the pool. If this or the
+     * {@link #poolNormalPriorityReserve} is greater than {@code 0}, the calls which cannot get a connection wait in
+     * priority order, and the wait times of each priority are measured. See {@link org.vibur.dbcp.pool.PriorityGate}.
+     * The sum of the reserves must be smaller than the {@link #poolMaxSize}. */
+    private int poolHighPriorityReserve = 0;
+    /** The number of pool connections, in addition to the {@link #poolHighPriorityReserve}, which cannot be taken
+     * by the {@code LOW} priority {@code getConnection} calls. */
+    private int poolNormalPriorityReserve = 0;
+    /** The named partitions (bulkheads) of the pool, as comma separated {@code name:minSize:maxSize} values, for
+     * example {@code "api:5:40,reporting:0:10,workers:2:20"}. The connections are obtained via a partition by calling
+     * {@link ViburDBCPDataSource#partition partition(name)}{@code .getConnection()}. All partitions share the same
+     * pool and its idle connections, but each partition can have at most {@code maxSize} connections taken at the
+     * same time, and is guaranteed {@code minSize} connections which the other partitions cannot take. The
+     * connections obtained via the plain {@code getConnection()} methods are not guaranteed any connections.
+     * The sum of the {@code minSize} values must not be greater than the {@link #poolMaxSize}.
+     * See {@link org.vibur.dbcp.pool.PoolPartitions}. {@code null} disables it. */
+    private String poolPartitions = null;
+    /** The number of threads which will concurrently create the {@link #poolInitialSize initial} JDBC Connections
+     * when the pool is started. If set to {@code 1}, the initial Connections are created one after another by
+     * the thread calling {@code start()}. */
+    private int poolWarmUpConcurrency = 1;
+    /** If set to a non-negative value which is smaller than the {@link #poolInitialSize}, the pool {@code start()}
+     * will return as soon as this number of the initial JDBC Connections are created, and the remaining initial
+     * Connections will be created in background, using {@link #poolWarmUpConcurrency} threads. If set to
+     * {@code -1}, the {@code start()} will return only after all initial Connections are created.
+     *
+     * <p>Note that the underlying pool initial size, i.e. the number of Connections below which the
+     * {@link #poolReducerClass pool reducer} will not reduce the pool, will be equal to this value. */
+    private int poolWarmUpBlockingSize = -1;
+    /** If greater than {@code 0}, the JDBC Connections which have been open for this number of seconds, minus
+     * a random jitter of up to 20% of it, will be retired, i.e. closed and replaced with new Connections, in
+     * a background thread. The expiration is checked when a Connection is restored to the pool, and a replacement
+     * Connection is created before the expired one is closed, unless the pool is at its {@link #poolMaxSize}.
+     * This helps with releasing the server side resources held by long living Connections and with rebalancing
+     * the Connections between the servers behind a load balancer. See {@link org.vibur.dbcp.pool.ConnectionRetirer}. */
+    private int maxLifetimeInSeconds = 0;
+    /** The maximum number of the expired JDBC Connections which may be retiring at the same time, see
+     * {@link #maxLifetimeInSeconds}. The other expired Connections will be retired later. */
+    private int maxConcurrentRetirements = 1;
 
     private PoolService<ConnHolder> pool = null;
     private ConcurrentCollection<ConnHolder> concurrentCollection = new ConcurrentLinkedDequeCollection<>();
     private ViburObjectFactory connectionFactory = null;
     private ThreadedPoolReducer poolReducer = null;
+    private PoolFiller poolFiller = null;
+    private IdleSweeper idleSweeper = null;
+    private ConnectionRetirer connectionRetirer = null;
+    private PriorityGate priorityGate = null;
+    private PoolPartitions partitions = null;
 
     /** In rare circumstances, the application may need to obtain a non-pooled connection from the pool
      * after the pool has been terminated. This may happen as part of some post-caching or application
@@ -163,6 +251,45 @@ public abstract class ViburConfig {
      * the call to {@link java.sql.Wrapper#isWrapperFor} on any of these objects will always return {@code false}. */
     private boolean allowUnwrapping = true;
 
+    /** If {@code true}, the JDBC {@code Connection}, {@code Statement}, {@code PreparedStatement},
+     * {@code CallableStatement}, {@code ResultSet}, and {@code DatabaseMetaData} objects returned by the pool will be
+     * instances of concrete proxy classes instead of {@link java.lang.reflect.Proxy dynamic proxies}. The concrete
+     * proxies pass the intercepted by the pool methods (such as {@code close}, {@code execute...}, {@code set...})
+     * directly to the respective invocation handlers, and forward all other methods (such as the ResultSet getters)
+     * directly to the underlying raw JDBC objects, thus avoiding the reflective method call overhead and boxing of
+     * the arguments.
+     *
+     * <p>The concrete proxies are compiled against the JDBC 4.1 interfaces, hence, unlike the dynamic proxies,
+     * they do not forward the JDBC 4.2 methods which accept a {@code java.sql.SQLType} parameter; on Java 8 and later
+     * these methods will throw {@code SQLFeatureNotSupportedException} if called. The applications which use these
+     * methods should not enable this option. */
+    private boolean useConcreteProxies = false;
+
+    /** If {@code true}, each pooled connection will have one Connection invocation handler (together with its
+     * collected SQL exceptions and pending batches state) which will be created when the connection is taken from
+     * the pool for the first time, and which will be reused (recycled) on all subsequent takes of the same
+     * connection, instead of creating a new invocation handler on each {@code getConnection()} call. Each
+     * {@code getConnection()} call still returns a new lightweight Connection proxy, which is bound to the current
+     * lease of the recycled invocation handler.
+     *
+     * <p>A Connection proxy, as well as all {@code Statement}, {@code ResultSet}, and {@code DatabaseMetaData}
+     * objects derived from it, remain closed once the Connection proxy is closed, even after the same connection is
+     * taken from the pool again; calling their methods throws an SQLException with SQLState
+     * {@link #SQLSTATE_OBJECT_CLOSED_ERROR}, and calling {@code close()} on them does nothing. */
+    private boolean recycleConnectionProxies = false;
+
+    /** If {@code true}, the {@code ResultSet} and {@code DatabaseMetaData} objects derived from the pool's JDBC
+     * Connections and Statements will be wrapped in the lightweight concrete forwarding proxies described in
+     * {@link #useConcreteProxies}, even if the latter is disabled, i.e., their per-row and per-column calls
+     * will be plain forwarding calls to the raw JDBC objects rather than reflective calls. The Connection and
+     * Statement objects are proxied as configured by {@code useConcreteProxies}.
+     *
+     * <p>The wrapped objects keep the semantics of the other proxies: the SQL exceptions thrown by them are
+     * collected and processed when the Connection is closed, their {@code getStatement()} and
+     * {@code getConnection()} methods return the respective proxies, and the registered programming hooks
+     * are invoked as usual. */
+    private boolean thinProxies = false;
+
 
     private static final AtomicInteger idGenerator = new AtomicInteger(1);
     private final String defaultName = "p" + idGenerator.getAndIncrement();
@@ -179,7 +306,10 @@ public abstract class ViburConfig {
     /** The fully qualified pool reducer class name. This pool reducer class will be instantiated via reflection,
      * and will be instantiated only if {@link #reducerTimeIntervalInSeconds} is greater than {@code 0}.
      * It must implements the {@link org.vibur.objectpool.util.ThreadedPoolReducer} interface and must also have
-     * a public constructor accepting a single argument of type {@code ViburConfig}. */
+     * a public constructor accepting a single argument of type {@code ViburConfig}.
+     *
+     * <p>Setting this option to {@link org.vibur.dbcp.pool.AdaptivePoolSizer} enables the adaptive pool sizing,
+     * which grows the pool ahead of the measured demand and shrinks it smoothly when the demand decreases. */
     private String poolReducerClass = PoolReducer.class.getName();
 
     /** For more details on the next 2 parameters see {@link org.vibur.objectpool.util.SamplingPoolReducer}. */
@@ -214,6 +344,16 @@ public abstract class ViburConfig {
     /** After attempting to acquire a JDBC Connection and failing with an {@code SQLException},
      * try to connect these many times before giving up. */
     private int acquireRetryAttempts = 3;
+    /** If greater than {@code 0}, enables the connection circuit breaker, which opens after this many consecutive
+     * failures to create a JDBC Connection. While the breaker is open, no new Connections are created, and the calls
+     * to {@code getConnection()} which cannot get an idle connection from the pool fail immediately with SQLState
+     * {@link #SQLSTATE_CIRCUIT_OPEN_ERROR}. See {@link org.vibur.dbcp.pool.CircuitBreaker}. {@code 0} disables it. */
+    private int circuitBreakerThreshold = 0;
+    /** Will apply only if {@link #circuitBreakerThreshold} is enabled. While the breaker is open, a background thread
+     * tries to connect to the database after {@link #acquireRetryDelayInMs}, and then with an exponentially increasing
+     * delay of up to this value; the breaker closes when it succeeds. */
+    private long circuitBreakerMaxProbeDelayInMs = 30000;
+    private CircuitBreaker circuitBreaker = null;
 
 
     /** Defines the maximum statement cache size. {@code 0} disables it, max values is {@link #STATEMENT_CACHE_MAX_SIZE}.
@@ -222,11 +362,103 @@ public abstract class ViburConfig {
     private int statementCacheMaxSize = 0;
     private StatementCache statementCache = null;
 
+    /** If greater than {@code 0}, enables the automatic batching of the {@code PreparedStatement.executeUpdate()}
+     * calls: each such call is converted to an {@code addBatch()} call, and the accumulated batch is sent to the
+     * database via {@code executeBatch()} once it reaches {@code autoBatchSize} rows, or once
+     * {@link #autoBatchMaxDelayInMs} has elapsed. As the rows are deferred, each batched {@code executeUpdate()} call
+     * returns {@link java.sql.Statement#SUCCESS_NO_INFO} ({@code -2}), i.e., the application must not rely on the
+     * returned update count; the real update counts are the result of the {@code executeBatch()} call which sends
+     * the batch, and are available to the {@link org.vibur.dbcp.pool.Hook.StatementExecution StatementExecution}
+     * hooks, which see this call the same as an explicit {@code executeBatch()} call. An application which needs
+     * the update counts can call {@code executeBatch()} on the PreparedStatement itself: this sends the pending
+     * automatic batch of the Statement and returns its update counts. The errors (if any) are reported by the call which causes the batch
+     * to be sent. The pending batches of a Connection are also sent before: any other statement
+     * execution on the same Connection, the {@code commit()}, {@code setAutoCommit()}, {@code setSavepoint()} and
+     * {@code rollback(Savepoint)} calls, and the closing of the Statement or the Connection. A {@code rollback()}
+     * discards them. The calls with auto-generated keys and the {@code CallableStatement} calls are never batched.
+     * {@code 0} disables the automatic batching. */
+    private int autoBatchSize = 0;
+    /** Will apply only if {@link #autoBatchSize} is enabled, and is the maximum time for which the first row of a
+     * pending batch can be deferred. The time is checked only on the next {@code executeUpdate()} call on the same
+     * Statement, i.e., there is no background timer, and a pending batch which is older than this time is not sent
+     * until that call or until any of the other events listed for {@code autoBatchSize} happens, such as another
+     * statement execution, a {@code commit()}, or the closing of the Statement. {@code 0} disables this time
+     * limit. */
+    private long autoBatchMaxDelayInMs = 0;
+
+    /** If {@code true}, the pool will remember the sizes of the recently retrieved ResultSets for each SQL query,
+     * and will set the fetch size of the Statement before the next {@code executeQuery()} call for the same SQL query
+     * to one more than the largest of these sizes. This reduces the number of database round trips for the large
+     * ResultSets, while keeping the driver buffers small for the queries which retrieve only a few rows. A fetch size
+     * explicitly set by the application is not overridden, i.e., the pool does not tune the fetch size of a Statement
+     * on which the application has called {@code setFetchSize()}. See {@link DefaultHook.FetchSizeTuning}. */
+    private boolean tuneFetchSize = false;
+    /** Will apply only if {@link #tuneFetchSize} is enabled, and is the maximum fetch size which will be set. */
+    private int tunedFetchSizeMax = 1000;
+    /** Will apply only if {@link #tuneFetchSize} is enabled, and is the maximum number of distinct SQL queries for
+     * which the ResultSet sizes will be remembered. When this limit is reached, the least recently used SQL queries
+     * are forgotten. Requires the ConcurrentLinkedHashMap dependency, the same as the statement cache. */
+    private int tunedFetchSizeMaxQueries = 1000;
+    private DefaultHook.FetchSizeTuning fetchSizeTuning = null;
+
+    /** Defines the maximum total approximate size in bytes of the query results cached by the client side result
+     * cache. {@code 0} disables the cache. When the cache is enabled, the {@code executeQuery()} calls for the eligible
+     * {@code SELECT} queries return a replayable, read only copy of the result of the previous execution of the same
+     * SQL query with the same query parameters, if such was retrieved no longer than {@link #resultCacheTimeToLiveInMs}
+     * ago, without any call to the database. The cache requires {@link #includeQueryParameters} to be enabled with
+     * the {@code "full"} {@link #queryParametersCapture}. As the cache does not observe any data changes made in the
+     * database, it should be enabled only for queries which can tolerate stale results, such as reference data
+     * lookups, via the {@link #resultCacheIncludePattern}. See {@link org.vibur.dbcp.rscache.ClhmResultCache}.
+     * If the result cache is enabled, the client application needs to provide the dependency on
+     * ConcurrentLinkedHashMap. */
+    private long resultCacheMaxBytes = 0;
+    /** Will apply only if {@link #resultCacheMaxBytes} is enabled, and is the time after which a cached query result
+     * expires. */
+    private long resultCacheTimeToLiveInMs = 60000;
+    /** Will apply only if {@link #resultCacheMaxBytes} is enabled. The results of the queries retrieving more than
+     * this number of rows are not cached. */
+    private int resultCacheMaxRows = 1000;
+    /** Will apply only if {@link #resultCacheMaxBytes} is enabled. A (case insensitive) regular expression which must be
+     * found in the SQL queries whose results will be cached. {@code null} means all {@code SELECT} queries. */
+    private String resultCacheIncludePattern = null;
+    /** Will apply only if {@link #resultCacheMaxBytes} is enabled. A (case insensitive) regular expression which, if
+     * found in an SQL query, excludes its results from caching. {@code null} means no exclusions. */
+    private String resultCacheExcludePattern = null;
+    /** Will apply only if {@link #resultCacheMaxBytes} is enabled. If {@code true}, the concurrent executions of the
+     * same eligible query with the same parameters are coalesced: while the query is executed by one thread, the other
+     * threads wait for and share its result, instead of executing the same query in parallel. This protects the
+     * database from a "thundering herd" of identical queries when a popular cached result expires. */
+    private boolean resultCacheCoalescing = false;
+    /** Will apply only if {@link #resultCacheCoalescing} is enabled, and is the maximum time for which a thread waits
+     * for the result of an in flight execution of the same query. If the in flight execution does not complete within
+     * this time, or within the Statement query timeout if it is shorter, the waiting thread executes the query by
+     * itself. The waiting thread holds its borrowed Connection meanwhile, hence, this time should be comparable to
+     * the typical execution time of the coalesced queries rather than to the Connection timeout. */
+    private long resultCacheCoalescingMaxWaitInMs = 1000;
+    private ResultCache resultCache = null;
+
 
     /** The list of critical SQL states as a comma separated values, see http://stackoverflow.com/a/14412929/1682918 .
      * If an SQL exception that has any of these SQL states occurs then all connections in the pool will be
      * considered invalid and will be closed. */
     private String criticalSQLStates = "08001,08006,08007,08S01,57P01,57P02,57P03,JZ0C0,JZ0C1";
+    /** If greater than {@code 0}, enables the graded recovery from a critical SQL exception: instead of closing all
+     * connections in the pool, only the connection on which the exception occurred is closed, and the idle connections
+     * are validated in background by this number of threads; only the invalid ones are closed. See
+     * {@link org.vibur.dbcp.pool.GradedRecovery}. {@code 0} disables it. */
+    private int recoveryProbeConcurrency = 0;
+    /** Will apply only if {@link #recoveryProbeConcurrency} is enabled. If the ratio of the invalid to the validated
+     * connections reaches this value, the graded recovery escalates and closes all connections in the pool, as if
+     * the graded recovery was not enabled. Must be greater than {@code 0} and not greater than {@code 1}. */
+    private float recoveryEscalationRatio = 0.5f;
+    /** Will apply only if {@link #recoveryProbeConcurrency} is enabled. While the graded recovery is in progress,
+     * and shortly after it, the new connections are created at no more than this rate per second, so that
+     * the application threads do not all reconnect to the database at the same time. A thread which needs to
+     * create a connection above this rate waits for it, but not longer than the remaining timeout of its
+     * {@code getConnection} call; if the timeout runs out first, the call fails with an SQLTimeoutException with
+     * SQLState {@link #SQLSTATE_RATE_LIMITED_ERROR}. */
+    private int recoveryReconnectsPerSecond = 10;
+    private GradedRecovery gradedRecovery = null;
 
 
     /** {@code Datasource.getConnection()} method calls taking longer than or equal to this time limit are logged at
@@ -278,6 +510,31 @@ public abstract class ViburConfig {
      * collection can be useful if there are specific compliance requirements for the user application. */
     private boolean includeQueryParameters = true;
 
+    public static final String QUERY_PARAMS_FULL = "full";
+    public static final String QUERY_PARAMS_TRUNCATE = "truncate";
+    public static final String QUERY_PARAMS_TYPES = "types";
+    public static final String QUERY_PARAMS_OFF = "off";
+
+    /** Will apply only if {@link #includeQueryParameters} is enabled, and controls how the concrete SQL query
+     * parameters values are captured. The parameters are captured in a buffer indexed by the parameter position
+     * which is reused across the executions of the same JDBC Statement. The possible values are:
+     * <ul>
+     *     <li>{@code full} - the parameters values are captured as they are; note that this retains references to
+     *     possibly large values (such as {@code byte[]}, streams, or LOBs) until the next Statement execution;</li>
+     *     <li>{@code truncate} - {@code String} values longer than {@link #queryParametersTruncateLength}
+     *     {@code char}s and {@code byte[]} values longer than that many bytes are truncated to that length, and
+     *     stream and LOB values are replaced by the names of their classes;</li>
+     *     <li>{@code types} - only the names of the classes of the parameters values are captured;</li>
+     *     <li>{@code off} - the parameters are not captured, which is equivalent to disabling
+     *     {@link #includeQueryParameters}.</li>
+     * </ul> */
+    private String queryParametersCapture = QUERY_PARAMS_FULL;
+    /** The maximum length of the captured {@code String} (in {@code char}s) and {@code byte[]} (in bytes) query
+     * parameters values when {@link #queryParametersCapture} is set to {@code truncate}. A truncated {@code String}
+     * is never cut in the middle of a surrogate pair, i.e., it can be one {@code char} shorter than this length,
+     * and is followed by {@code "..."}. */
+    private int queryParametersTruncateLength = 100;
+
     /** If set to {@code true}, and if the {@link #connectionTimeoutInMs} is reached and the call to
      * {@code getConnection()} fails with throwing an {@code SQLException}, will log at WARN level information
      * about all currently taken connections, including the stack traces of the threads that have taken them, plus
@@ -407,6 +664,14 @@ public abstract class ViburConfig {
         this.connectionIdleLimitInSeconds = connectionIdleLimitInSeconds;
     }
 
+    public long getImplicitValidationWindowInMs() {
+        return implicitValidationWindowInMs;
+    }
+
+    public void setImplicitValidationWindowInMs(long implicitValidationWindowInMs) {
+        this.implicitValidationWindowInMs = implicitValidationWindowInMs;
+    }
+
     public int getValidateTimeoutInSeconds() {
         return validateTimeoutInSeconds;
     }
@@ -447,6 +712,22 @@ public abstract class ViburConfig {
         this.networkTimeoutExecutor = networkTimeoutExecutor;
     }
 
+    public int getIdleSweepIntervalInSeconds() {
+        return idleSweepIntervalInSeconds;
+    }
+
+    public void setIdleSweepIntervalInSeconds(int idleSweepIntervalInSeconds) {
+        this.idleSweepIntervalInSeconds = idleSweepIntervalInSeconds;
+    }
+
+    public int getIdleSweepBatchSize() {
+        return idleSweepBatchSize;
+    }
+
+    public void setIdleSweepBatchSize(int idleSweepBatchSize) {
+        this.idleSweepBatchSize = idleSweepBatchSize;
+    }
+
     public int getPoolInitialSize() {
         return poolInitialSize;
     }
@@ -479,6 +760,86 @@ public abstract class ViburConfig {
         this.poolEnableConnectionTracking = poolEnableConnectionTracking;
     }
 
+    public boolean isPoolThreadAffinity() {
+        return poolThreadAffinity;
+    }
+
+    public void setPoolThreadAffinity(boolean poolThreadAffinity) {
+        this.poolThreadAffinity = poolThreadAffinity;
+    }
+
+    public int getPoolStripes() {
+        return poolStripes;
+    }
+
+    public void setPoolStripes(int poolStripes) {
+        this.poolStripes = poolStripes;
+    }
+
+    public int getPoolMinIdle() {
+        return poolMinIdle;
+    }
+
+    public void setPoolMinIdle(int poolMinIdle) {
+        this.poolMinIdle = poolMinIdle;
+    }
+
+    public int getPoolHighPriorityReserve() {
+        return poolHighPriorityReserve;
+    }
+
+    public void setPoolHighPriorityReserve(int poolHighPriorityReserve) {
+        this.poolHighPriorityReserve = poolHighPriorityReserve;
+    }
+
+    public int getPoolNormalPriorityReserve() {
+        return poolNormalPriorityReserve;
+    }
+
+    public void setPoolNormalPriorityReserve(int poolNormalPriorityReserve) {
+        this.poolNormalPriorityReserve = poolNormalPriorityReserve;
+    }
+
+    public String getPoolPartitions() {
+        return poolPartitions;
+    }
+
+    public void setPoolPartitions(String poolPartitions) {
+        this.poolPartitions = poolPartitions;
+    }
+
+    public int getPoolWarmUpConcurrency() {
+        return poolWarmUpConcurrency;
+    }
+
+    public void setPoolWarmUpConcurrency(int poolWarmUpConcurrency) {
+        this.poolWarmUpConcurrency = poolWarmUpConcurrency;
+    }
+
+    public int getPoolWarmUpBlockingSize() {
+        return poolWarmUpBlockingSize;
+    }
+
+    public void setPoolWarmUpBlockingSize(int poolWarmUpBlockingSize) {
+        this.poolWarmUpBlockingSize = poolWarmUpBlockingSize;
+    }
+
+    public int getMaxLifetimeInSeconds() {
+        return maxLifetimeInSeconds;
+    }
+
+    public void setMaxLifetimeInSeconds(int maxLifetimeInSeconds) {
+        this.maxLifetimeInSeconds = maxLifetimeInSeconds;
+    }
+
+    public int getMaxConcurrentRetirements() {
+        return maxConcurrentRetirements;
+    }
+
+    public void setMaxConcurrentRetirements(int maxConcurrentRetirements) {
+        this.maxConcurrentRetirements = maxConcurrentRetirements;
+    }
+
     public PoolService<ConnHolder>  getPool() {
         return pool;
     }
@@ -511,6 +872,46 @@ public abstract class ViburConfig {
         this.poolReducer = poolReducer;
     }
 
+    public PoolFiller getPoolFiller() {
+        return poolFiller;
+    }
+
+    public void setPoolFiller(PoolFiller poolFiller) {
+        this.poolFiller = poolFiller;
+    }
+
+    public IdleSweeper getIdleSweeper() {
+        return idleSweeper;
+    }
+
+    public void setIdleSweeper(IdleSweeper idleSweeper) {
+        this.idleSweeper = idleSweeper;
+    }
+
+    public ConnectionRetirer getConnectionRetirer() {
+        return connectionRetirer;
+    }
+
+    public void setConnectionRetirer(ConnectionRetirer connectionRetirer) {
+        this.connectionRetirer = connectionRetirer;
+    }
+
+    public PriorityGate getPriorityGate() {
+        return priorityGate;
+    }
+
+    public void setPriorityGate(PriorityGate priorityGate) {
+        this.priorityGate = priorityGate;
+    }
+
+    public PoolPartitions getPartitions() {
+        return partitions;
+    }
+
+    public void setPartitions(PoolPartitions partitions) {
+        this.partitions = partitions;
+    }
+
     public boolean isAllowConnectionAfterTermination() {
         return allowConnectionAfterTermination;
     }
@@ -527,6 +928,30 @@ public abstract class ViburConfig {
         this.allowUnwrapping = allowUnwrapping;
     }
 
+    public boolean isUseConcreteProxies() {
+        return useConcreteProxies;
+    }
+
+    public void setUseConcreteProxies(boolean useConcreteProxies) {
+        this.useConcreteProxies = useConcreteProxies;
+    }
+
+    public boolean isRecycleConnectionProxies() {
+        return recycleConnectionProxies;
+    }
+
+    public void setRecycleConnectionProxies(boolean recycleConnectionProxies) {
+        this.recycleConnectionProxies = recycleConnectionProxies;
+    }
+
+    public boolean isThinProxies() {
+        return thinProxies;
+    }
+
+    public void setThinProxies(boolean thinProxies) {
+        this.thinProxies = thinProxies;
+    }
+
     public String getName() {
         return name;
     }
@@ -616,6 +1041,30 @@ public abstract class ViburConfig {
         this.acquireRetryAttempts = acquireRetryAttempts;
     }
 
+    public int getCircuitBreakerThreshold() {
+        return circuitBreakerThreshold;
+    }
+
+    public void setCircuitBreakerThreshold(int circuitBreakerThreshold) {
+        this.circuitBreakerThreshold = circuitBreakerThreshold;
+    }
+
+    public long getCircuitBreakerMaxProbeDelayInMs() {
+        return circuitBreakerMaxProbeDelayInMs;
+    }
+
+    public void setCircuitBreakerMaxProbeDelayInMs(long circuitBreakerMaxProbeDelayInMs) {
+        this.circuitBreakerMaxProbeDelayInMs = circuitBreakerMaxProbeDelayInMs;
+    }
+
+    public CircuitBreaker getCircuitBreaker() {
+        return circuitBreaker;
+    }
+
+    public void setCircuitBreaker(CircuitBreaker circuitBreaker) {
+        this.circuitBreaker = circuitBreaker;
+    }
+
     public int getStatementCacheMaxSize() {
         return statementCacheMaxSize;
     }
@@ -624,6 +1073,118 @@ public abstract class ViburConfig {
         this.statementCacheMaxSize = statementCacheMaxSize;
     }
 
+    public int getAutoBatchSize() {
+        return autoBatchSize;
+    }
+
+    public void setAutoBatchSize(int autoBatchSize) {
+        this.autoBatchSize = autoBatchSize;
+    }
+
+    public long getAutoBatchMaxDelayInMs() {
+        return autoBatchMaxDelayInMs;
+    }
+
+    public void setAutoBatchMaxDelayInMs(long autoBatchMaxDelayInMs) {
+        this.autoBatchMaxDelayInMs = autoBatchMaxDelayInMs;
+    }
+
+    public boolean isTuneFetchSize() {
+        return tuneFetchSize;
+    }
+
+    public void setTuneFetchSize(boolean tuneFetchSize) {
+        this.tuneFetchSize = tuneFetchSize;
+    }
+
+    public int getTunedFetchSizeMax() {
+        return tunedFetchSizeMax;
+    }
+
+    public void setTunedFetchSizeMax(int tunedFetchSizeMax) {
+        this.tunedFetchSizeMax = tunedFetchSizeMax;
+    }
+
+    public int getTunedFetchSizeMaxQueries() {
+        return tunedFetchSizeMaxQueries;
+    }
+
+    public void setTunedFetchSizeMaxQueries(int tunedFetchSizeMaxQueries) {
+        this.tunedFetchSizeMaxQueries = tunedFetchSizeMaxQueries;
+    }
+
+    public DefaultHook.FetchSizeTuning getFetchSizeTuning() {
+        return fetchSizeTuning;
+    }
+
+    public void setFetchSizeTuning(DefaultHook.FetchSizeTuning fetchSizeTuning) {
+        this.fetchSizeTuning = fetchSizeTuning;
+    }
+
+    public long getResultCacheMaxBytes() {
+        return resultCacheMaxBytes;
+    }
+
+    public void setResultCacheMaxBytes(long resultCacheMaxBytes) {
+        this.resultCacheMaxBytes = resultCacheMaxBytes;
+    }
+
+    public long getResultCacheTimeToLiveInMs() {
+        return resultCacheTimeToLiveInMs;
+    }
+
+    public void setResultCacheTimeToLiveInMs(long resultCacheTimeToLiveInMs) {
+        this.resultCacheTimeToLiveInMs = resultCacheTimeToLiveInMs;
+    }
+
+    public int getResultCacheMaxRows() {
+        return resultCacheMaxRows;
+    }
+
+    public void setResultCacheMaxRows(int resultCacheMaxRows) {
+        this.resultCacheMaxRows = resultCacheMaxRows;
+    }
+
+    public String getResultCacheIncludePattern() {
+        return resultCacheIncludePattern;
+    }
+
+    public void setResultCacheIncludePattern(String resultCacheIncludePattern) {
+        this.resultCacheIncludePattern = resultCacheIncludePattern;
+    }
+
+    public String getResultCacheExcludePattern() {
+        return resultCacheExcludePattern;
+    }
+
+    public void setResultCacheExcludePattern(String resultCacheExcludePattern) {
+        this.resultCacheExcludePattern = resultCacheExcludePattern;
+    }
+
+    public boolean isResultCacheCoalescing() {
+        return resultCacheCoalescing;
+    }
+
+    public void setResultCacheCoalescing(boolean resultCacheCoalescing) {
+        this.resultCacheCoalescing = resultCacheCoalescing;
+    }
+
+    public long getResultCacheCoalescingMaxWaitInMs() {
+        return resultCacheCoalescingMaxWaitInMs;
+    }
+
+    public void setResultCacheCoalescingMaxWaitInMs(long resultCacheCoalescingMaxWaitInMs) {
+        this.resultCacheCoalescingMaxWaitInMs = resultCacheCoalescingMaxWaitInMs;
+    }
+
+    public ResultCache getResultCache() {
+        return resultCache;
+    }
+
+    public void setResultCache(ResultCache resultCache) {
+        this.resultCache = resultCache;
+    }
+
     public StatementCache getStatementCache() {
         return statementCache;
     }
@@ -640,6 +1201,38 @@ public abstract class ViburConfig {
         this.criticalSQLStates = criticalSQLStates;
     }
 
+    public int getRecoveryProbeConcurrency() {
+        return recoveryProbeConcurrency;
+    }
+
+    public void setRecoveryProbeConcurrency(int recoveryProbeConcurrency) {
+        this.recoveryProbeConcurrency = recoveryProbeConcurrency;
+    }
+
+    public float getRecoveryEscalationRatio() {
+        return recoveryEscalationRatio;
+    }
+
+    public void setRecoveryEscalationRatio(float recoveryEscalationRatio) {
+        this.recoveryEscalationRatio = recoveryEscalationRatio;
+    }
+
+    public int getRecoveryReconnectsPerSecond() {
+        return recoveryReconnectsPerSecond;
+    }
+
+    public void setRecoveryReconnectsPerSecond(int recoveryReconnectsPerSecond) {
+        this.recoveryReconnectsPerSecond = recoveryReconnectsPerSecond;
+    }
+
+    public GradedRecovery getGradedRecovery() {
+        return gradedRecovery;
+    }
+
+    public void setGradedRecovery(GradedRecovery gradedRecovery) {
+        this.gradedRecovery = gradedRecovery;
+    }
+
     public long getLogConnectionLongerThanMs() {
         return logConnectionLongerThanMs;
     }
@@ -696,6 +1289,22 @@ public abstract class ViburConfig {
         this.includeQueryParameters = includeQueryParameters;
     }
 
+    public String getQueryParametersCapture() {
+        return queryParametersCapture;
+    }
+
+    public void setQueryParametersCapture(String queryParametersCapture) {
+        this.queryParametersCapture = queryParametersCapture;
+    }
+
+    public int getQueryParametersTruncateLength() {
+        return queryParametersTruncateLength;
+    }
+
+    public void setQueryParametersTruncateLength(int queryParametersTruncateLength) {
+        this.queryParametersTruncateLength = queryParametersTruncateLength;
+    }
+
     public boolean isLogTakenConnectionsOnTimeout() {
         return logTakenConnectionsOnTimeout;
     }
@@ -19,22 +19,27 @@ package org.vibur.dbcp;
 import org.slf4j.LoggerFactory;
 import org.vibur.dbcp.pool.*;
 import org.vibur.dbcp.proxy.ConnectionInvocationHandler;
+import org.vibur.dbcp.rscache.ClhmResultCache;
+import org.vibur.dbcp.rscache.ResultCache;
 import org.vibur.dbcp.stcache.ClhmStatementCache;
 import org.vibur.objectpool.ConcurrentPool;
+import org.vibur.objectpool.PoolObjectFactory;
 import org.vibur.objectpool.PoolService;
+import org.vibur.objectpool.util.ConcurrentCollection;
+import org.vibur.objectpool.util.ConcurrentLinkedDequeCollection;
 import org.vibur.objectpool.util.ThreadedPoolReducer;
 
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.PrintWriter;
 import java.lang.reflect.Field;
-import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
-import java.lang.reflect.Proxy;
 import java.net.URL;
 import java.net.URLConnection;
 import java.sql.*;
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
@@ -52,6 +57,7 @@ import static org.vibur.dbcp.ViburDataSource.State.*;
 import static org.vibur.dbcp.ViburMonitoring.registerMBean;
 import static org.vibur.dbcp.ViburMonitoring.unregisterMBean;
 import static org.vibur.dbcp.pool.Connector.Builder.buildConnector;
+import static org.vibur.dbcp.proxy.Proxy.getConnectionInvocationHandler;
 import static org.vibur.dbcp.util.ViburUtils.getPoolName;
 import static org.vibur.objectpool.util.ArgumentValidation.forbidIllegalArgument;
 
@@ -228,6 +234,8 @@ public class ViburDBCPDataSource extends ViburConfig implements ViburDataSource
         if (getExternalDataSource() == null)
             initDriverAndProperties();
         setConnector(buildConnector(this, getUsername(), getPassword()));
+        if (getCircuitBreakerThreshold() > 0)
+            setCircuitBreaker(new CircuitBreaker(this));
 
         initHooks();
 
@@ -236,11 +244,55 @@ public class ViburDBCPDataSource extends ViburConfig implements ViburDataSource
             setConnectionFactory(connectionFactory = new ConnectionFactory(this));
         PoolService<ConnHolder> pool = getPool();
         if (pool == null) {
-            pool = new ConcurrentPool<>(getConcurrentCollection(), connectionFactory,
-                    getPoolInitialSize(), getPoolMaxSize(), isPoolFair(),
-                    isPoolEnableConnectionTracking() ? new ViburListener(this) : null);
+            ViburListener listener = isPoolEnableConnectionTracking() ? new ViburListener(this) : null;
+            int initialSize = getPoolWarmUpBlockingSize() >= 0
+                    ? Math.min(getPoolWarmUpBlockingSize(), getPoolInitialSize()) : getPoolInitialSize();
+            PoolFiller poolFiller = getPoolMinIdle() > 0 || initialSize < getPoolInitialSize() || isAdaptivePoolSizer()
+                    ? new PoolFiller(this) : null;
+            IdleSweeper idleSweeper = getIdleSweepIntervalInSeconds() > 0 && getConnectionIdleLimitInSeconds() > 0
+                    ? new IdleSweeper(this) : null;
+            GradedRecovery gradedRecovery = getRecoveryProbeConcurrency() > 0
+                    ? new GradedRecovery(this, connectionFactory) : null;
+            ConnectionRetirer connectionRetirer = getMaxLifetimeInSeconds() > 0 ? new ConnectionRetirer(this) : null;
+            PoolObjectFactory<ConnHolder> poolObjectFactory = getPoolWarmUpConcurrency() > 1 && initialSize > 1
+                    ? new PoolWarmUp(connectionFactory, initialSize, getPoolWarmUpConcurrency(), getPoolName(this))
+                    : connectionFactory;
+
+            if (getPoolStripes() > 1) {
+                List<ConcurrentCollection<ConnHolder>> collections = new ArrayList<>();
+                for (int i = 0; i < getPoolStripes(); i++)
+                    collections.add(wrapAvailable(new ConcurrentLinkedDequeCollection<ConnHolder>(),
+                            poolFiller, idleSweeper, gradedRecovery, connectionRetirer));
+                pool = new StripedPool(collections, poolObjectFactory,
+                        initialSize, getPoolMaxSize(), isPoolFair(), listener);
+            }
+            else
+                pool = new ConcurrentPool<>(
+                        wrapAvailable(getConcurrentCollection(), poolFiller, idleSweeper, gradedRecovery,
+                                connectionRetirer),
+                        poolObjectFactory, initialSize, getPoolMaxSize(), isPoolFair(), listener);
             setPool(pool);
+            if (poolFiller != null) {
+                setPoolFiller(poolFiller);
+                poolFiller.start(pool);
+            }
+            if (idleSweeper != null) {
+                setIdleSweeper(idleSweeper);
+                idleSweeper.start(pool);
+            }
+            if (gradedRecovery != null) {
+                setGradedRecovery(gradedRecovery);
+                gradedRecovery.start(pool);
+            }
+            if (connectionRetirer != null) {
+                setConnectionRetirer(connectionRetirer);
+                connectionRetirer.start(pool);
+            }
         }
+        if (getPoolHighPriorityReserve() > 0 || getPoolNormalPriorityReserve() > 0)
+            setPriorityGate(new PriorityGate(this));
+        if (getPoolPartitions() != null)
+            setPartitions(new PoolPartitions(this));
         poolOperations = new PoolOperations(connectionFactory, pool, this);
 
         initPoolReducer();
@@ -258,10 +310,24 @@ public class ViburDBCPDataSource extends ViburConfig implements ViburDataSource
 
         if (getStatementCache() != null)
             getStatementCache().close();
+        if (getResultCache() != null)
+            getResultCache().invalidateAll();
         if (getPoolReducer() != null)
             getPoolReducer().terminate();
+        if (getPoolFiller() != null)
+            getPoolFiller().terminate();
+        if (getIdleSweeper() != null)
+            getIdleSweeper().terminate();
+        if (getConnectionRetirer() != null)
+            getConnectionRetirer().terminate();
+        if (getGradedRecovery() != null)
+            getGradedRecovery().terminate();
+        if (getCircuitBreaker() != null)
+            getCircuitBreaker().terminate();
         if (getPool() != null)
             getPool().terminate();
+        if (poolOperations != null)
+            poolOperations.terminate();
 
         if (isEnableJMX())
             unregisterMBean(this);
@@ -290,8 +356,31 @@ public class ViburDBCPDataSource extends ViburConfig implements ViburDataSource
         forbidIllegalArgument(getReducerSamples() <= 0);
         forbidIllegalArgument(getConnectionIdleLimitInSeconds() >= 0 && getTestConnectionQuery() == null);
         forbidIllegalArgument(getValidateTimeoutInSeconds() < 0);
+        forbidIllegalArgument(getImplicitValidationWindowInMs() < 0);
         forbidIllegalArgument(isUseNetworkTimeout() && getNetworkTimeoutExecutor() == null);
+        forbidIllegalArgument(getIdleSweepIntervalInSeconds() < 0);
+        forbidIllegalArgument(getIdleSweepBatchSize() < 1);
+        forbidIllegalArgument(getQueryParametersTruncateLength() < 0);
+        forbidIllegalArgument(getPoolStripes() < 1 || getPoolStripes() > getPoolMaxSize());
+        forbidIllegalArgument(getPoolMinIdle() < 0 || getPoolMinIdle() > getPoolMaxSize());
+        forbidIllegalArgument(getPoolHighPriorityReserve() < 0 || getPoolNormalPriorityReserve() < 0);
+        forbidIllegalArgument(getPoolHighPriorityReserve() + getPoolNormalPriorityReserve() >= getPoolMaxSize());
+        forbidIllegalArgument(getPoolWarmUpConcurrency() < 1);
+        forbidIllegalArgument(getPoolWarmUpBlockingSize() < -1);
+        forbidIllegalArgument(getMaxLifetimeInSeconds() < 0);
+        forbidIllegalArgument(getMaxConcurrentRetirements() < 1);
+        forbidIllegalArgument(getAutoBatchSize() < 0);
+        forbidIllegalArgument(getAutoBatchMaxDelayInMs() < 0);
+        forbidIllegalArgument(getTunedFetchSizeMax() <= 0);
+        forbidIllegalArgument(getTunedFetchSizeMaxQueries() <= 0);
+        forbidIllegalArgument(getResultCacheMaxBytes() < 0);
         requireNonNull(getCriticalSQLStates());
+        forbidIllegalArgument(getRecoveryProbeConcurrency() < 0);
+        forbidIllegalArgument(getRecoveryEscalationRatio() <= 0 || getRecoveryEscalationRatio() > 1);
+        forbidIllegalArgument(getRecoveryReconnectsPerSecond() < 1);
+        forbidIllegalArgument(getCircuitBreakerThreshold() < 0);
+        forbidIllegalArgument(getCircuitBreakerThreshold() > 0
+                && getCircuitBreakerMaxProbeDelayInMs() < getAcquireRetryDelayInMs());
 
         if (getPassword() == null) logger.warn("JDBC password is not specified.");
         if (getUsername() == null) logger.warn("JDBC username is not specified.");
@@ -309,6 +398,24 @@ public class ViburDBCPDataSource extends ViburConfig implements ViburDataSource
             setPoolEnableConnectionTracking(true);
         }
 
+        String queryParametersCapture = requireNonNull(getQueryParametersCapture()).toLowerCase();
+        switch (queryParametersCapture) {
+            case QUERY_PARAMS_FULL :
+            case QUERY_PARAMS_TRUNCATE :
+            case QUERY_PARAMS_TYPES :
+                setQueryParametersCapture(queryParametersCapture);
+                break;
+            case QUERY_PARAMS_OFF :
+                setQueryParametersCapture(queryParametersCapture);
+                setIncludeQueryParameters(false);
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown queryParametersCapture " + getQueryParametersCapture());
+        }
+        // the result cache keys are built from the captured query parameters
+        forbidIllegalArgument(getResultCacheMaxBytes() > 0
+                && (!isIncludeQueryParameters() || !QUERY_PARAMS_FULL.equals(getQueryParametersCapture())));
+
         if (getDefaultTransactionIsolation() != null) {
             String defaultTransactionIsolation = getDefaultTransactionIsolation().toUpperCase();
             switch (defaultTransactionIsolation) {
@@ -355,6 +462,18 @@ public class ViburDBCPDataSource extends ViburConfig implements ViburDataSource
 
         getInvocationHooks().addOnStatementExecution(new DefaultHook.QueryTiming(this));
         getInvocationHooks().addOnResultSetRetrieval(new DefaultHook.ResultSetSize(this));
+
+        if (isTuneFetchSize()) {
+            DefaultHook.FetchSizeTuning fetchSizeTuning = new DefaultHook.FetchSizeTuning(this);
+            setFetchSizeTuning(fetchSizeTuning);
+            getInvocationHooks().addOnResultSetRetrieval(fetchSizeTuning);
+        }
+
+        ResultCache resultCache = getResultCache();
+        if (resultCache == null && getResultCacheMaxBytes() > 0)
+            setResultCache(resultCache = new ClhmResultCache(this));
+        if (resultCache != null)
+            getInvocationHooks().addOnStatementExecution(resultCache);
     }
 
     private void initPoolReducer() throws ViburDBCPException {
@@ -371,6 +490,36 @@ public class ViburDBCPDataSource extends ViburConfig implements ViburDataSource
         }
     }
 
+    /**
+     * Wraps the given collection of available Connections with the collections which implement the enabled
+     * background pool services.
+     */
+    private ConcurrentCollection<ConnHolder> wrapAvailable(ConcurrentCollection<ConnHolder> available,
+            PoolFiller poolFiller, IdleSweeper idleSweeper, GradedRecovery gradedRecovery,
+            ConnectionRetirer connectionRetirer) {
+        if (isPoolThreadAffinity())
+            available = new ThreadAffinityCollection(available);
+        if (poolFiller != null)
+            available = poolFiller.wrap(available);
+        if (idleSweeper != null)
+            available = idleSweeper.wrap(available);
+        if (gradedRecovery != null)
+            available = gradedRecovery.wrap(available);
+        if (connectionRetirer != null)
+            available = connectionRetirer.wrap(available);
+        return available;
+    }
+
+    private boolean isAdaptivePoolSizer() {
+        if (getReducerTimeIntervalInSeconds() <= 0 || getPoolReducer() != null || getPoolReducerClass() == null)
+            return false;
+        try {
+            return AdaptivePoolSizer.class.isAssignableFrom(Class.forName(getPoolReducerClass()));
+        } catch (ClassNotFoundException e) {
+            return false; // will be reported by initPoolReducer()
+        }
+    }
+
     private void initStatementCache() {
         int statementCacheMaxSize = getStatementCacheMaxSize();
         if (statementCacheMaxSize > 0 && getStatementCache() == null)
@@ -395,6 +544,86 @@ public class ViburDBCPDataSource extends ViburConfig implements ViburDataSource
         return getNonPooledConnection();
     }
 
+    /**
+     * Returns a pooled JDBC Connection, waiting up to the given timeout. The request has the given priority: if
+     * {@link ViburConfig#getPoolHighPriorityReserve poolHighPriorityReserve} or
+     * {@link ViburConfig#getPoolNormalPriorityReserve poolNormalPriorityReserve} are enabled, the reserved
+     * Connections can be taken only by the higher priority requests, and the waiting requests are served in priority
+     * order. Otherwise, the priority has no effect. The plain {@code getConnection()} requests have
+     * {@link ConnectionPriority#NORMAL NORMAL} priority.
+     *
+     * @param priority the request priority
+     * @param timeoutMs the timeout in milliseconds; {@code 0} means no timeout
+     * @throws SQLException if this DataSource is not started or is terminated, or if a Connection couldn't
+     *      be obtained within the given timeout
+     */
+    public Connection getConnection(ConnectionPriority priority, long timeoutMs) throws SQLException {
+        requireNonNull(priority);
+        forbidIllegalArgument(timeoutMs < 0);
+        validatePoolState(false);
+        return poolOperations.getProxyConnection(priority, timeoutMs);
+    }
+
+    /**
+     * Returns the named pool partition configured via {@link ViburConfig#getPoolPartitions poolPartitions}, through
+     * which pooled JDBC Connections can be obtained within the partition quotas. Can be called only after this
+     * DataSource is started.
+     *
+     * @param name the partition name
+     * @throws IllegalArgumentException if there is no partition with the given name
+     */
+    public ViburPartition partition(String name) {
+        PoolPartitions partitions = getPartitions();
+        final PoolPartition partition = partitions != null ? partitions.get(name) : null;
+        if (partition == null)
+            throw new IllegalArgumentException(format("Pool %s, no such partition %s.", getPoolName(this), name));
+
+        return new ViburPartition() {
+            @Override
+            public String getName() {
+                return partition.getName();
+            }
+
+            @Override
+            public Connection getConnection() throws SQLException {
+                return getConnection(getConnectionTimeoutInMs());
+            }
+
+            @Override
+            public Connection getConnection(long timeoutMs) throws SQLException {
+                forbidIllegalArgument(timeoutMs < 0);
+                validatePoolState(false);
+                return poolOperations.getProxyConnection(partition, timeoutMs);
+            }
+        };
+    }
+
+    /**
+     * Requests a pooled JDBC Connection without blocking the calling thread, using the configured
+     * {@link ViburConfig#connectionTimeoutInMs connectionTimeoutInMs}. See {@link #getConnectionAsync(long)}.
+     *
+     * @throws SQLException if this DataSource is not started or is terminated
+     */
+    public ConnectionFuture getConnectionAsync() throws SQLException {
+        return getConnectionAsync(getConnectionTimeoutInMs());
+    }
+
+    /**
+     * Requests a pooled JDBC Connection without blocking the calling thread. If there is an idle Connection
+     * in the pool, the returned future is already complete. If a new Connection can be created, it is created on
+     * the pool creator thread, which completes the future. Otherwise, the request is queued, and the future is
+     * completed by the first thread which restores a Connection to the pool, or exceptionally with an
+     * {@code SQLTimeoutException} when the given timeout elapses. The queued requests are served in FIFO order.
+     *
+     * @param timeoutMs the timeout in milliseconds; {@code 0} means no timeout
+     * @throws SQLException if this DataSource is not started or is terminated
+     */
+    public ConnectionFuture getConnectionAsync(long timeoutMs) throws SQLException {
+        forbidIllegalArgument(timeoutMs < 0);
+        validatePoolState(false);
+        return poolOperations.getProxyConnectionAsync(timeoutMs);
+    }
+
     /**
      * {@inheritDoc}
      * <p>
@@ -430,14 +659,11 @@ public class ViburDBCPDataSource extends ViburConfig implements ViburDataSource
 
     @Override
     public void severConnection(Connection connection) throws SQLException {
-        if (Proxy.isProxyClass(connection.getClass())) {
-            InvocationHandler ih = Proxy.getInvocationHandler(connection);
-            if (ih instanceof ConnectionInvocationHandler) {
-                ((ConnectionInvocationHandler) ih).invalidate();
-                return;
-            }
-        }
-        connection.close();
+        ConnectionInvocationHandler ih = getConnectionInvocationHandler(connection);
+        if (ih != null)
+            ih.invalidate(connection);
+        else
+            connection.close();
     }
 
     private State validatePoolState(boolean allowConnectionAfterTermination) throws SQLException {
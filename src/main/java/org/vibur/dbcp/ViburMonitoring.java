@@ -18,12 +18,25 @@ package org.vibur.dbcp;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.vibur.dbcp.pool.CircuitBreaker;
+import org.vibur.dbcp.pool.ConnectionFactory;
+import org.vibur.dbcp.pool.PoolPartition;
+import org.vibur.dbcp.pool.PoolPartitions;
+import org.vibur.dbcp.pool.PriorityGate;
 import org.vibur.dbcp.pool.ViburListener;
+import org.vibur.dbcp.pool.ViburObjectFactory;
+import org.vibur.dbcp.rscache.ResultCache;
 
 import javax.management.JMException;
 import javax.management.MBeanServer;
 import javax.management.ObjectName;
 import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.vibur.dbcp.pool.ConnectionPriority.HIGH;
+import static org.vibur.dbcp.pool.ConnectionPriority.LOW;
+import static org.vibur.dbcp.pool.ConnectionPriority.NORMAL;
 
 /**
  * @author Simeon Malchev
@@ -84,6 +97,25 @@ public final class ViburMonitoring implements ViburMonitoringMBean {
         config.setConnectionIdleLimitInSeconds(connectionIdleLimitInSeconds);
     }
 
+    @Override
+    public long getImplicitValidationWindowInMs() {
+        return config.getImplicitValidationWindowInMs();
+    }
+
+    @Override
+    public long getConnectionValidations() {
+        ViburObjectFactory connectionFactory = config.getConnectionFactory();
+        return connectionFactory instanceof ConnectionFactory
+                ? ((ConnectionFactory) connectionFactory).getValidations() : 0;
+    }
+
+    @Override
+    public long getSkippedConnectionValidations() {
+        ViburObjectFactory connectionFactory = config.getConnectionFactory();
+        return connectionFactory instanceof ConnectionFactory
+                ? ((ConnectionFactory) connectionFactory).getSkippedValidations() : 0;
+    }
+
     @Override
     public int getValidateTimeoutInSeconds() {
         return config.getValidateTimeoutInSeconds();
@@ -119,6 +151,23 @@ public final class ViburMonitoring implements ViburMonitoringMBean {
         return config.isUseNetworkTimeout();
     }
 
+    @Override
+    public int getIdleSweepIntervalInSeconds() {
+        return config.getIdleSweepIntervalInSeconds();
+    }
+
+    @Override
+    public int getIdleSweepBatchSize() {
+        return config.getIdleSweepBatchSize();
+    }
+
+    @Override
+    public long getIdleSweepValidations() {
+        ViburObjectFactory connectionFactory = config.getConnectionFactory();
+        return connectionFactory instanceof ConnectionFactory
+                ? ((ConnectionFactory) connectionFactory).getSweeperValidations() : 0;
+    }
+
     @Override
     public int getPoolInitialSize() {
         return config.getPoolInitialSize();
@@ -149,6 +198,141 @@ public final class ViburMonitoring implements ViburMonitoringMBean {
         return config.isPoolEnableConnectionTracking();
     }
 
+    @Override
+    public boolean isPoolThreadAffinity() {
+        return config.isPoolThreadAffinity();
+    }
+
+    @Override
+    public int getPoolStripes() {
+        return config.getPoolStripes();
+    }
+
+    @Override
+    public int getPoolMinIdle() {
+        return config.getPoolMinIdle();
+    }
+
+    @Override
+    public int getPoolHighPriorityReserve() {
+        return config.getPoolHighPriorityReserve();
+    }
+
+    @Override
+    public int getPoolNormalPriorityReserve() {
+        return config.getPoolNormalPriorityReserve();
+    }
+
+    @Override
+    public double getHighPriorityMeanWaitInMs() {
+        PriorityGate priorityGate = config.getPriorityGate();
+        return priorityGate != null ? priorityGate.getMeanWaitInMs(HIGH) : 0;
+    }
+
+    @Override
+    public long getHighPriorityMaxWaitInMs() {
+        PriorityGate priorityGate = config.getPriorityGate();
+        return priorityGate != null ? priorityGate.getMaxWaitInMs(HIGH) : 0;
+    }
+
+    @Override
+    public double getNormalPriorityMeanWaitInMs() {
+        PriorityGate priorityGate = config.getPriorityGate();
+        return priorityGate != null ? priorityGate.getMeanWaitInMs(NORMAL) : 0;
+    }
+
+    @Override
+    public long getNormalPriorityMaxWaitInMs() {
+        PriorityGate priorityGate = config.getPriorityGate();
+        return priorityGate != null ? priorityGate.getMaxWaitInMs(NORMAL) : 0;
+    }
+
+    @Override
+    public double getLowPriorityMeanWaitInMs() {
+        PriorityGate priorityGate = config.getPriorityGate();
+        return priorityGate != null ? priorityGate.getMeanWaitInMs(LOW) : 0;
+    }
+
+    @Override
+    public long getLowPriorityMaxWaitInMs() {
+        PriorityGate priorityGate = config.getPriorityGate();
+        return priorityGate != null ? priorityGate.getMaxWaitInMs(LOW) : 0;
+    }
+
+    @Override
+    public String getPoolPartitions() {
+        return config.getPoolPartitions();
+    }
+
+    @Override
+    public String[] getPartitionNames() {
+        PoolPartitions partitions = config.getPartitions();
+        if (partitions == null)
+            return new String[0];
+        List<String> names = new ArrayList<>();
+        for (PoolPartition partition : partitions.getPartitions())
+            names.add(partition.getName());
+        return names.toArray(new String[names.size()]);
+    }
+
+    @Override
+    public int getPartitionTaken(String partition) {
+        return getPartition(partition).getTaken();
+    }
+
+    @Override
+    public int getPartitionPeakTaken(String partition) {
+        return getPartition(partition).getPeakTaken();
+    }
+
+    @Override
+    public long getPartitionRequests(String partition) {
+        return getPartition(partition).getRequests();
+    }
+
+    @Override
+    public long getPartitionTimeouts(String partition) {
+        return getPartition(partition).getTimeouts();
+    }
+
+    @Override
+    public double getPartitionMeanWaitInMs(String partition) {
+        return getPartition(partition).getMeanWaitInMs();
+    }
+
+    /**
+     * Returns the named partition, or the unnamed partition if the given name is empty.
+     */
+    private PoolPartition getPartition(String name) {
+        PoolPartitions partitions = config.getPartitions();
+        if (partitions == null)
+            throw new IllegalArgumentException("The pool partitions are not enabled.");
+        PoolPartition partition = name == null || name.isEmpty() ? partitions.getUnpartitioned() : partitions.get(name);
+        if (partition == null)
+            throw new IllegalArgumentException("No such partition " + name);
+        return partition;
+    }
+
+    @Override
+    public int getPoolWarmUpConcurrency() {
+        return config.getPoolWarmUpConcurrency();
+    }
+
+    @Override
+    public int getPoolWarmUpBlockingSize() {
+        return config.getPoolWarmUpBlockingSize();
+    }
+
+    @Override
+    public int getMaxLifetimeInSeconds() {
+        return config.getMaxLifetimeInSeconds();
+    }
+
+    @Override
+    public int getMaxConcurrentRetirements() {
+        return config.getMaxConcurrentRetirements();
+    }
+
     @Override
     public int getReducerTimeIntervalInSeconds() {
         return config.getReducerTimeIntervalInSeconds();
@@ -169,6 +353,21 @@ public final class ViburMonitoring implements ViburMonitoringMBean {
         return config.isAllowUnwrapping();
     }
 
+    @Override
+    public boolean isUseConcreteProxies() {
+        return config.isUseConcreteProxies();
+    }
+
+    @Override
+    public boolean isRecycleConnectionProxies() {
+        return config.isRecycleConnectionProxies();
+    }
+
+    @Override
+    public boolean isThinProxies() {
+        return config.isThinProxies();
+    }
+
     @Override
     public long getConnectionTimeoutInMs() {
         return config.getConnectionTimeoutInMs();
@@ -209,11 +408,94 @@ public final class ViburMonitoring implements ViburMonitoringMBean {
         config.setAcquireRetryAttempts(acquireRetryAttempts);
     }
 
+    @Override
+    public int getRecoveryProbeConcurrency() {
+        return config.getRecoveryProbeConcurrency();
+    }
+
+    @Override
+    public float getRecoveryEscalationRatio() {
+        return config.getRecoveryEscalationRatio();
+    }
+
+    @Override
+    public int getRecoveryReconnectsPerSecond() {
+        return config.getRecoveryReconnectsPerSecond();
+    }
+
+    @Override
+    public int getCircuitBreakerThreshold() {
+        return config.getCircuitBreakerThreshold();
+    }
+
+    @Override
+    public long getCircuitBreakerMaxProbeDelayInMs() {
+        return config.getCircuitBreakerMaxProbeDelayInMs();
+    }
+
+    @Override
+    public boolean isCircuitBreakerOpen() {
+        CircuitBreaker circuitBreaker = config.getCircuitBreaker();
+        return circuitBreaker != null && circuitBreaker.isOpen();
+    }
+
+    @Override
+    public long getCircuitBreakerOpenedCount() {
+        CircuitBreaker circuitBreaker = config.getCircuitBreaker();
+        return circuitBreaker != null ? circuitBreaker.getOpenedCount() : 0;
+    }
+
     @Override
     public int getStatementCacheMaxSize() {
         return config.getStatementCacheMaxSize();
     }
 
+    @Override
+    public int getAutoBatchSize() {
+        return config.getAutoBatchSize();
+    }
+
+    @Override
+    public long getAutoBatchMaxDelayInMs() {
+        return config.getAutoBatchMaxDelayInMs();
+    }
+
+    @Override
+    public boolean isTuneFetchSize() {
+        return config.isTuneFetchSize();
+    }
+
+    @Override
+    public int getTunedFetchSizeMax() {
+        return config.getTunedFetchSizeMax();
+    }
+
+    @Override
+    public int getTunedFetchSizeMaxQueries() {
+        return config.getTunedFetchSizeMaxQueries();
+    }
+
+    @Override
+    public long getResultCacheMaxBytes() {
+        return config.getResultCacheMaxBytes();
+    }
+
+    @Override
+    public long getResultCacheTimeToLiveInMs() {
+        return config.getResultCacheTimeToLiveInMs();
+    }
+
+    @Override
+    public boolean isResultCacheCoalescing() {
+        return config.isResultCacheCoalescing();
+    }
+
+    @Override
+    public int getResultCacheSize() {
+        ResultCache resultCache = config.getResultCache();
+        return resultCache != null ? resultCache.size() : 0;
+    }
+
     @Override
     public long getLogConnectionLongerThanMs() {
         return config.getLogConnectionLongerThanMs();
@@ -36,6 +36,12 @@ public interface ViburMonitoringMBean {
 
     void setConnectionIdleLimitInSeconds(int connectionIdleLimitInSeconds);
 
+    long getImplicitValidationWindowInMs();
+
+    long getConnectionValidations();
+
+    long getSkippedConnectionValidations();
+
     int getValidateTimeoutInSeconds();
 
     void setValidateTimeoutInSeconds(int validateTimeoutInSeconds);
@@ -50,6 +56,12 @@ public interface ViburMonitoringMBean {
 
     boolean isUseNetworkTimeout();
 
+    int getIdleSweepIntervalInSeconds();
+
+    int getIdleSweepBatchSize();
+
+    long getIdleSweepValidations();
+
 
     //////////// Pool parameters and PoolReducer parameters ////////////
 
@@ -65,6 +77,50 @@ public interface ViburMonitoringMBean {
 
     boolean isPoolEnableConnectionTracking();
 
+    boolean isPoolThreadAffinity();
+
+    int getPoolStripes();
+
+    int getPoolMinIdle();
+
+    int getPoolHighPriorityReserve();
+
+    int getPoolNormalPriorityReserve();
+
+    double getHighPriorityMeanWaitInMs();
+
+    long getHighPriorityMaxWaitInMs();
+
+    double getNormalPriorityMeanWaitInMs();
+
+    long getNormalPriorityMaxWaitInMs();
+
+    double getLowPriorityMeanWaitInMs();
+
+    long getLowPriorityMaxWaitInMs();
+
+    String getPoolPartitions();
+
+    String[] getPartitionNames();
+
+    int getPartitionTaken(String partition);
+
+    int getPartitionPeakTaken(String partition);
+
+    long getPartitionRequests(String partition);
+
+    long getPartitionTimeouts(String partition);
+
+    double getPartitionMeanWaitInMs(String partition);
+
+    int getPoolWarmUpConcurrency();
+
+    int getPoolWarmUpBlockingSize();
+
+    int getMaxLifetimeInSeconds();
+
+    int getMaxConcurrentRetirements();
+
     int getReducerTimeIntervalInSeconds();
 
     int getReducerSamples();
@@ -73,6 +129,12 @@ public interface ViburMonitoringMBean {
 
     boolean isAllowUnwrapping();
 
+    boolean isUseConcreteProxies();
+
+    boolean isRecycleConnectionProxies();
+
+    boolean isThinProxies();
+
 
     //////////// JDBC Connection acquiring timeout and retries, and Driver/DataSource login timeout ////////////
 
@@ -92,11 +154,43 @@ public interface ViburMonitoringMBean {
 
     void setAcquireRetryAttempts(int acquireRetryAttempts);
 
+    int getRecoveryProbeConcurrency();
+
+    float getRecoveryEscalationRatio();
+
+    int getRecoveryReconnectsPerSecond();
+
+    int getCircuitBreakerThreshold();
+
+    long getCircuitBreakerMaxProbeDelayInMs();
+
+    boolean isCircuitBreakerOpen();
+
+    long getCircuitBreakerOpenedCount();
+
 
     //////////// JDBC Statement caching ////////////
 
     int getStatementCacheMaxSize();
 
+    int getAutoBatchSize();
+
+    long getAutoBatchMaxDelayInMs();
+
+    boolean isTuneFetchSize();
+
+    int getTunedFetchSizeMax();
+
+    int getTunedFetchSizeMaxQueries();
+
+    long getResultCacheMaxBytes();
+
+    long getResultCacheTimeToLiveInMs();
+
+    boolean isResultCacheCoalescing();
+
+    int getResultCacheSize();
+
 
     //////////// JDBC Connection acquiring logging and SQL query execution logging ////////////
 
@@ -0,0 +1,51 @@
+/**
+ * Copyright 2024 the vibur-dbcp contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.vibur.dbcp;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * A named partition of the pool, see {@link ViburDBCPDataSource#partition} and
+ * {@link ViburConfig#getPoolPartitions poolPartitions}. The Connections obtained via the partition are counted
+ * towards the partition quotas until they are closed.
+ *
+ * @author agent
+ */
+public interface ViburPartition {
+
+    String getName();
+
+    /**
+     * Returns a pooled JDBC Connection via this partition, using the configured
+     * {@link ViburConfig#getConnectionTimeoutInMs connectionTimeoutInMs}.
+     *
+     * @throws SQLException if the DataSource is not started or is terminated, or if a Connection couldn't
+     *      be obtained within the timeout
+     */
+    Connection getConnection() throws SQLException;
+
+    /**
+     * Returns a pooled JDBC Connection via this partition, waiting up to the given timeout for the partition
+     * to admit the request and for a Connection to become available.
+     *
+     * @param timeoutMs the timeout in milliseconds; {@code 0} means no timeout
+     * @throws SQLException if the DataSource is not started or is terminated, or if a Connection couldn't
+     *      be obtained within the given timeout
+     */
+    Connection getConnection(long timeoutMs) throws SQLException;
+}
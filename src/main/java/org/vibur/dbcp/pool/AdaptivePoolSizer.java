@@ -0,0 +1,145 @@
+/**
+ * Copyright 2024 the vibur-dbcp contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.vibur.dbcp.pool;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.vibur.dbcp.ViburConfig;
+import org.vibur.objectpool.PoolService;
+
+import java.sql.Connection;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.vibur.dbcp.util.ViburUtils.getPoolName;
+
+/**
+ * An adaptive pool sizer - a pool reducer which not only reduces, but also grows the pool ahead of demand. It can be
+ * enabled by setting the {@link ViburConfig#getPoolReducerClass poolReducerClass} to the name of this class.
+ *
+ * <p>On each pool sample, i.e. {@link ViburConfig#getReducerSamples reducerSamples} times per
+ * {@link ViburConfig#getReducerTimeIntervalInSeconds reducerTimeIntervalInSeconds}, the sizer measures the rate at
+ * which the Connections were requested, the mean time for which they were held by the application, and the mean
+ * time for which the requests waited to get a Connection. Following the Little's law, the number of Connections
+ * needed for this load is the request rate times the mean hold time, plus the request rate times the mean wait time
+ * if the requests had to wait. This number is smoothed - it grows immediately but decays slowly - and, increased by
+ * some headroom, gives the target pool size, which is bounded by the pool initial and max sizes.
+ *
+ * <p>The pool grows towards the target via the {@link PoolFiller}, which is asked to keep enough idle Connections
+ * in the pool so that the target is reached; this happens in background and before the requests start to queue.
+ * The pool shrinks towards the target once per {@code reducerTimeIntervalInSeconds}, by at most one tenth of its
+ * size at a time, and only by Connections which stayed idle.
+ *
+ * @author agent
+ */
+public class AdaptivePoolSizer extends PoolReducer {
+
+    private static final Logger logger = LoggerFactory.getLogger(AdaptivePoolSizer.class);
+
+    static final double HEADROOM = 1.25;
+    static final double DECAY = 0.2; // the weight of a new sample when the load is decreasing
+    static final long WAIT_THRESHOLD_NANOS = MILLISECONDS.toNanos(1);
+    static final int MAX_SHRINK_DIVISOR = 10;
+
+    private final ViburConfig config;
+    private final PoolService<ConnHolder> pool;
+
+    private final AtomicLong requests = new AtomicLong(0);
+    private final AtomicLong waitNanos = new AtomicLong(0);
+    private final AtomicLong closes = new AtomicLong(0);
+    private final AtomicLong holdNanos = new AtomicLong(0);
+
+    // accessed only by the reducer thread, except for the target
+    private long lastSampleNanoTime = System.nanoTime();
+    private double meanHoldNanos = 0;
+    private double load = 0;
+    private volatile int target;
+
+    public AdaptivePoolSizer(ViburConfig config) {
+        super(config);
+        this.config = config;
+        this.pool = config.getPool();
+        this.target = config.getPoolInitialSize();
+
+        // the pool reducer is created and started as part of the DataSource start, i.e. the hooks can still be added
+        config.getConnHooks().addOnGet(new Hook.GetConnection() {
+            @Override
+            public void on(Connection rawConnection, long takenNanos) {
+                requests.incrementAndGet();
+                waitNanos.addAndGet(takenNanos);
+            }
+        });
+        config.getConnHooks().addOnClose(new Hook.CloseConnection() {
+            @Override
+            public void on(Connection rawConnection, long takenNanos) {
+                closes.incrementAndGet();
+                holdNanos.addAndGet(takenNanos);
+            }
+        });
+    }
+
+    /**
+     * Returns the current target pool size, i.e. the number of Connections which the sizer estimates the pool needs
+     * for the recently measured load.
+     */
+    public int getTarget() {
+        return target;
+    }
+
+    @Override
+    protected void samplePool() {
+        long now = System.nanoTime();
+        long elapsedNanos = Math.max(now - lastSampleNanoTime, 1);
+        lastSampleNanoTime = now;
+
+        long requests = this.requests.getAndSet(0);
+        long waitNanos = this.waitNanos.getAndSet(0);
+        long closes = this.closes.getAndSet(0);
+        long holdNanos = this.holdNanos.getAndSet(0);
+
+        if (closes > 0)
+            meanHoldNanos = (double) holdNanos / closes;
+        double arrivalRate = (double) requests / elapsedNanos; // per nanosecond
+        double meanWaitNanos = requests > 0 ? (double) waitNanos / requests : 0;
+
+        double demand = Math.max(arrivalRate * meanHoldNanos, pool.taken());
+        if (meanWaitNanos > WAIT_THRESHOLD_NANOS)
+            demand += arrivalRate * meanWaitNanos;
+        load = demand > load ? demand : load + DECAY * (demand - load);
+
+        int minSize = Math.max(pool.initialSize(), config.getPoolMinIdle());
+        target = Math.max(minSize, Math.min((int) Math.ceil(load * HEADROOM), pool.maxSize()));
+
+        PoolFiller poolFiller = config.getPoolFiller();
+        if (poolFiller != null)
+            poolFiller.setMinIdle(Math.max(config.getPoolMinIdle(), target - pool.taken()));
+
+        logger.trace("Pool {}, arrival rate {}/s, mean hold {} ms, mean wait {} ms, load {}, target {}.",
+                getPoolName(config), arrivalRate * 1e9, meanHoldNanos * 1e-6, meanWaitNanos * 1e-6, load, target);
+    }
+
+    @Override
+    protected int calculateReduction() {
+        int createdTotal = pool.createdTotal();
+        PoolFiller poolFiller = config.getPoolFiller();
+        int minIdle = poolFiller != null ? poolFiller.getMinIdle() : config.getPoolMinIdle();
+
+        int reduction = Math.min(createdTotal - target, pool.remainingCreated() - minIdle);
+        reduction = Math.min(reduction, Math.max(createdTotal / MAX_SHRINK_DIVISOR, 1));
+        return Math.max(reduction, 0);
+    }
+}
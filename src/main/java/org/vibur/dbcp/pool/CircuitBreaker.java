@@ -0,0 +1,151 @@
+/**
+ * Copyright 2024 the vibur-dbcp contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.vibur.dbcp.pool;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.vibur.dbcp.ViburConfig;
+import org.vibur.dbcp.ViburDBCPException;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import static java.lang.String.format;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.vibur.dbcp.ViburConfig.SQLSTATE_CIRCUIT_OPEN_ERROR;
+import static org.vibur.dbcp.util.JdbcUtils.quietClose;
+import static org.vibur.dbcp.util.ViburUtils.getPoolName;
+import static org.vibur.objectpool.util.ArgumentValidation.forbidIllegalArgument;
+
+/**
+ * The circuit breaker around the creation of new JDBC Connections. After
+ * {@link ViburConfig#getCircuitBreakerThreshold circuitBreakerThreshold} consecutive failures to connect to
+ * the database, the breaker opens, and while it is open the {@link ConnectionFactory} does not attempt to create
+ * new Connections: the threads calling {@code getConnection()} which cannot get an idle Connection from the pool
+ * fail immediately with an {@code SQLException} with SQLState {@link ViburConfig#SQLSTATE_CIRCUIT_OPEN_ERROR},
+ * and the connection attempts which are in progress are not retried. The breaker guards only the creation of
+ * the pool Connections; the non-pooled Connections, see {@code ViburDataSource.getNonPooledConnection}, are
+ * neither blocked by it nor counted towards its threshold.
+ *
+ * <p>While the breaker is open, a single background prober thread tries to connect to the database, initially
+ * after {@link ViburConfig#getAcquireRetryDelayInMs acquireRetryDelayInMs}, and then with an exponentially
+ * increasing delay of up to {@link ViburConfig#getCircuitBreakerMaxProbeDelayInMs circuitBreakerMaxProbeDelayInMs}.
+ * The breaker closes once the prober connects successfully; the prober Connection is closed.
+ *
+ * @author agent
+ */
+public class CircuitBreaker implements Runnable {
+
+    private static final Logger logger = LoggerFactory.getLogger(CircuitBreaker.class);
+
+    private final ViburConfig config;
+    private final int threshold;
+
+    private final AtomicInteger consecutiveFailures = new AtomicInteger(0);
+    private final AtomicBoolean open = new AtomicBoolean(false);
+    private final AtomicLong opened = new AtomicLong(0);
+    private volatile Thread thread = null;
+    private volatile boolean terminated = false;
+
+    public CircuitBreaker(ViburConfig config) {
+        forbidIllegalArgument(config.getCircuitBreakerThreshold() < 1);
+        forbidIllegalArgument(config.getCircuitBreakerMaxProbeDelayInMs() < config.getAcquireRetryDelayInMs());
+        this.config = config;
+        this.threshold = config.getCircuitBreakerThreshold();
+    }
+
+    public boolean isOpen() {
+        return open.get();
+    }
+
+    /**
+     * Returns the number of times the breaker has opened.
+     */
+    public long getOpenedCount() {
+        return opened.get();
+    }
+
+    public void terminate() {
+        terminated = true;
+        Thread thread = this.thread;
+        if (thread != null)
+            LockSupport.unpark(thread);
+    }
+
+    /**
+     * Throws an exception if the breaker is open, i.e. if no new Connection should be created at the moment.
+     *
+     * @throws ViburDBCPException wrapping an {@code SQLException} with SQLState
+     *      {@link ViburConfig#SQLSTATE_CIRCUIT_OPEN_ERROR}, if the breaker is open
+     */
+    void checkClosed() throws ViburDBCPException {
+        if (open.get())
+            throw new ViburDBCPException(new SQLException(format(
+                    "Pool %s, the connection circuit breaker is open after %d consecutive connection failures.",
+                    getPoolName(config), threshold), SQLSTATE_CIRCUIT_OPEN_ERROR));
+    }
+
+    void onSuccess() {
+        consecutiveFailures.set(0);
+    }
+
+    void onFailure() {
+        if (consecutiveFailures.incrementAndGet() >= threshold && !terminated && open.compareAndSet(false, true)) {
+            opened.incrementAndGet();
+            logger.error("Pool {}, {} consecutive connection failures, opened the connection circuit breaker.",
+                    getPoolName(config), threshold);
+            Thread thread = new ProberThread(this, getClass().getSimpleName() + " for pool " + config.getName());
+            this.thread = thread;
+            thread.start();
+        }
+    }
+
+    @Override
+    public void run() {
+        long delayMs = Math.max(config.getAcquireRetryDelayInMs(), 1);
+        while (!terminated) {
+            LockSupport.parkNanos(this, MILLISECONDS.toNanos(delayMs));
+            if (terminated)
+                break;
+            try {
+                Connection rawConnection = config.getConnector().connect();
+                if (rawConnection != null) {
+                    quietClose(rawConnection);
+                    consecutiveFailures.set(0);
+                    open.set(false);
+                    logger.warn("Pool {}, connected to the database, closed the connection circuit breaker.",
+                            getPoolName(config));
+                    return;
+                }
+            } catch (SQLException e) {
+                logger.debug("Pool {}, the connection circuit breaker probe failed", getPoolName(config), e);
+            }
+            delayMs = Math.min(delayMs * 2, config.getCircuitBreakerMaxProbeDelayInMs());
+        }
+    }
+
+    private static final class ProberThread extends Thread {
+        private ProberThread(Runnable target, String name) {
+            super(target, name);
+            setDaemon(true);
+        }
+    }
+}
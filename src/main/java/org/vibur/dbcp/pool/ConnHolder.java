@@ -16,6 +16,8 @@
 
 package org.vibur.dbcp.pool;
 
+import org.vibur.dbcp.proxy.ConnectionInvocationHandler;
+
 import java.sql.Connection;
 
 /**
@@ -33,16 +35,35 @@ public class ConnHolder {
     // used when there is a CloseConnection hook to measure and emit for how long the connection was held by the app
     private long takenNanoTime = 0;
     private long restoredNanoTime; // used when getConnectionIdleLimitInSeconds() >= 0
+    // used when getImplicitValidationWindowInMs() > 0; volatile as it is written by the application threads which
+    // execute the Statements, and read by the next thread which takes the Connection. The happens-before edge of
+    // the Connection restore is not relied on, because a Statement may complete on another thread than the one
+    // which restores the Connection.
+    private volatile long executedNanoTime;
+    private long retireNanoTime = 0; // used when getMaxLifetimeInSeconds() > 0, see ConnectionRetirer
 
     // these 2 fields are used when isPoolEnableConnectionTracking() is allowed
     private Thread thread = null;
     private Throwable location = null;
 
+    // used when isRecycleConnectionProxies() is allowed
+    private ConnectionInvocationHandler proxyHandler = null;
+
+    // used when isPoolThreadAffinity() is allowed, see ThreadAffinityCollection
+    volatile int affinityState = ThreadAffinityCollection.TAKEN;
+
+    // used when getPoolStripes() > 1, the index of the StripedPool stripe from which this ConnHolder was taken
+    private int stripe = 0;
+
+    // used when getPoolPartitions() is set, the partition via which this ConnHolder was taken, see PoolPartitions
+    private PoolPartition partition = null;
+
     ConnHolder(Connection value, int version, long currentNanoTime) {
         assert value != null;
         this.value = value;
         this.version = version;
         this.restoredNanoTime = currentNanoTime;
+        this.executedNanoTime = currentNanoTime;
     }
 
     public Connection value() {
@@ -70,6 +91,26 @@ public class ConnHolder {
         this.restoredNanoTime = restoredNanoTime;
     }
 
+    long getRetireNanoTime() {
+        return retireNanoTime;
+    }
+
+    void setRetireNanoTime(long retireNanoTime) {
+        this.retireNanoTime = retireNanoTime;
+    }
+
+    long getExecutedNanoTime() {
+        return executedNanoTime;
+    }
+
+    /**
+     * Records the time of the last successful SQL statement execution on this Connection, which is treated as
+     * an implicit validation of the Connection.
+     */
+    public void setExecutedNanoTime(long executedNanoTime) {
+        this.executedNanoTime = executedNanoTime;
+    }
+
 
     public Thread getThread() {
         return thread;
@@ -86,4 +127,30 @@ public class ConnHolder {
     void setLocation(Throwable location) {
         this.location = location;
     }
+
+
+    ConnectionInvocationHandler getProxyHandler() {
+        return proxyHandler;
+    }
+
+    void setProxyHandler(ConnectionInvocationHandler proxyHandler) {
+        this.proxyHandler = proxyHandler;
+    }
+
+
+    int getStripe() {
+        return stripe;
+    }
+
+    void setStripe(int stripe) {
+        this.stripe = stripe;
+    }
+
+    PoolPartition getPartition() {
+        return partition;
+    }
+
+    void setPartition(PoolPartition partition) {
+        this.partition = partition;
+    }
 }
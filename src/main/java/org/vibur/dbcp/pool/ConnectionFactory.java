@@ -25,6 +25,7 @@ import org.vibur.dbcp.ViburDBCPException;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static java.util.Objects.requireNonNull;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
@@ -54,6 +55,10 @@ public class ConnectionFactory implements ViburObjectFactory {
     private final ConnHooksHolder connHooks;
     private final AtomicInteger version = new AtomicInteger(1);
 
+    private final AtomicLong validations = new AtomicLong(0);
+    private final AtomicLong sweeperValidations = new AtomicLong(0); // see IdleSweeper
+    private final AtomicLong skippedValidations = new AtomicLong(0); // see ViburConfig.implicitValidationWindowInMs
+
     /**
      * Instantiates this object factory.
      *
@@ -73,6 +78,19 @@ public class ConnectionFactory implements ViburObjectFactory {
 
     @Override
     public ConnHolder create(Connector connector) throws ViburDBCPException {
+        if (PoolOperations.isTakingIdleOnly()) // the creation is handed off to another thread, see PoolOperations
+            throw new ViburDBCPException("No idle Connection, the asynchronous requests are served by the creator.");
+        // the breaker guards only the pool connector, the failures of the non-pooled logins with other credentials
+        // say nothing about the database availability
+        CircuitBreaker circuitBreaker = connector == config.getConnector() ? config.getCircuitBreaker() : null;
+        if (circuitBreaker != null)
+            circuitBreaker.checkClosed(); // fails fast while the database is unreachable
+        if (GradedRecovery.isProberThread()) // the probers validate only the existing idle Connections
+            throw new ViburDBCPException("The graded recovery prober threads don't create Connections.");
+        GradedRecovery gradedRecovery = config.getGradedRecovery();
+        if (gradedRecovery != null)
+            gradedRecovery.awaitReconnect(); // limits the reconnect rate during a recovery
+
         Hook.InitConnection[] onInit = connHooks.onInit();
         long startTime = onInit.length > 0 ? System.nanoTime() : 0;
 
@@ -83,14 +101,20 @@ public class ConnectionFactory implements ViburObjectFactory {
                 rawConnection = requireNonNull(connector.connect());
             } catch (SQLException e) {
                 logger.debug("Couldn't create rawConnection, attempt {}", attempt, e);
-                if (attempt++ >= config.getAcquireRetryAttempts())
+                if (circuitBreaker != null)
+                    circuitBreaker.onFailure();
+                if (attempt++ >= config.getAcquireRetryAttempts() || (circuitBreaker != null && circuitBreaker.isOpen()))
                     throw new ViburDBCPException(e);
                 try {
                     MILLISECONDS.sleep(config.getAcquireRetryDelayInMs());
                 } catch (InterruptedException ignored) {
+                    Thread.currentThread().interrupt(); // preserves the interrupt and stops retrying
+                    throw new ViburDBCPException(e);
                 }
             }
         }
+        if (circuitBreaker != null)
+            circuitBreaker.onSuccess();
 
         try {
             if (onInit.length > 0) {
@@ -103,14 +127,23 @@ public class ConnectionFactory implements ViburObjectFactory {
             throw new ViburDBCPException(e);
         }
         logger.debug("Created rawConnection {}", rawConnection);
-        return prepareTracking(new ConnHolder(rawConnection, version(),
-                config.getConnectionIdleLimitInSeconds() >= 0 ? System.nanoTime() : 0));
+        long currentNanoTime = System.nanoTime();
+        ConnHolder conn = new ConnHolder(rawConnection, version(),
+                config.getConnectionIdleLimitInSeconds() >= 0 ? currentNanoTime : 0);
+        conn.setRetireNanoTime(ConnectionRetirer.retireNanoTime(config, currentNanoTime));
+        return prepareTracking(conn);
     }
 
     @Override
     public boolean readyToTake(ConnHolder conn) {
+        if (ConnectionRetirer.isRetirerThread()) // the Connection is about to be destroyed, see ConnectionRetirer
+            return true;
         if (conn.version() != version())
             return false;
+        if (GradedRecovery.isProberThread()) // the Connection is validated by the prober, see GradedRecovery
+            return true;
+        if (ConnectionRetirer.isExpired(conn)) // the Connection is destroyed and replaced, see ConnectionRetirer
+            return false;
 
         Connection rawConnection = conn.value();
         try {
@@ -118,9 +151,19 @@ public class ConnectionFactory implements ViburObjectFactory {
             Hook.ValidateConnection[] onValidate = connHooks.onValidate();
             if (idleLimit >= 0 && onValidate.length > 0) {
                 long idleNanos = System.nanoTime() - conn.getRestoredNanoTime();
-                if (NANOSECONDS.toSeconds(idleNanos) >= idleLimit) {
+                boolean sweeper = IdleSweeper.isSweeperThread();
+                if (sweeper ? idleNanos >= config.getIdleSweeper().getValidateAfterNanos()
+                        : NANOSECONDS.toSeconds(idleNanos) >= idleLimit) {
+                    if (!sweeper && isExecutedRecently(conn)) {
+                        skippedValidations.incrementAndGet();
+                        prepareTracking(conn);
+                        return true;
+                    }
+                    (sweeper ? sweeperValidations : validations).incrementAndGet();
                     for (Hook.ValidateConnection hook : onValidate)
                         hook.on(rawConnection, idleNanos);
+                    if (sweeper)
+                        conn.setRestoredNanoTime(System.nanoTime()); // the Connection is validated, see IdleSweeper
                 }
             }
 
@@ -132,6 +175,11 @@ public class ConnectionFactory implements ViburObjectFactory {
         }
     }
 
+    private boolean isExecutedRecently(ConnHolder conn) {
+        long window = config.getImplicitValidationWindowInMs();
+        return window > 0 && System.nanoTime() - conn.getExecutedNanoTime() < MILLISECONDS.toNanos(window);
+    }
+
     @Override
     public boolean readyToRestore(ConnHolder conn) {
         clearTracking(conn); // we don't want to keep the Thread and Throwable objects references
@@ -139,13 +187,15 @@ public class ConnectionFactory implements ViburObjectFactory {
         Connection rawConnection = conn.value();
         try {
             Hook.CloseConnection[] onClose = connHooks.onClose();
-            if (onClose.length > 0) {
+            boolean sweeper = IdleSweeper.isSweeperThread();
+            if (onClose.length > 0 && !sweeper && !isServiceThread()) {
                 long takenNanos = System.nanoTime() - conn.getTakenNanoTime();
                 for (Hook.CloseConnection hook : onClose)
                     hook.on(rawConnection, takenNanos);
             }
 
-            if (config.getConnectionIdleLimitInSeconds() >= 0)
+            // the sweeper and the retirer restore the idle Connections they've checked without resetting their idle time
+            if (config.getConnectionIdleLimitInSeconds() >= 0 && !sweeper && !ConnectionRetirer.isRetirerThread())
                 conn.setRestoredNanoTime(System.nanoTime());
             return true;
         } catch (SQLException e) {
@@ -154,6 +204,14 @@ public class ConnectionFactory implements ViburObjectFactory {
         }
     }
 
+    /**
+     * Returns {@code true} if the current thread is a pool background thread which takes and restores Connections
+     * on its own, rather than on behalf of the application.
+     */
+    private static boolean isServiceThread() {
+        return PoolFiller.isFillerThread() || ConnectionRetirer.isRetirerThread() || GradedRecovery.isProberThread();
+    }
+
     private ConnHolder prepareTracking(ConnHolder conn) {
         if (config.isPoolEnableConnectionTracking()) {
             conn.setTakenNanoTime(System.nanoTime());
@@ -193,6 +251,29 @@ public class ConnectionFactory implements ViburObjectFactory {
             config.getStatementCache().removeAll(rawConnection);
     }
 
+    /**
+     * Returns the number of the Connection validations performed when the Connections were taken from the pool
+     * by the application. The validations performed by the {@link IdleSweeper} are not included.
+     */
+    public long getValidations() {
+        return validations.get();
+    }
+
+    /**
+     * Returns the number of the Connection validations performed in background by the {@link IdleSweeper}.
+     */
+    public long getSweeperValidations() {
+        return sweeperValidations.get();
+    }
+
+    /**
+     * Returns the number of the Connection validations skipped because the Connections have recently executed
+     * an SQL statement successfully, see {@link ViburConfig#getImplicitValidationWindowInMs}.
+     */
+    public long getSkippedValidations() {
+        return skippedValidations.get();
+    }
+
     @Override
     public int version() {
         return version.get();
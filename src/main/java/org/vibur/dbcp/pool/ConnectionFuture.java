@@ -0,0 +1,175 @@
+/**
+ * Copyright 2024 the vibur-dbcp contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.vibur.dbcp.pool;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Queue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The pending result of an asynchronous {@code getConnection} request, see
+ * {@link org.vibur.dbcp.ViburDBCPDataSource#getConnectionAsync}. The future is completed with a pooled Connection
+ * when one becomes available in the pool, or with an {@code SQLException} if the request has timed out, if the pool
+ * was terminated, or if the Connection creation has failed.
+ *
+ * <p>Instead of blocking in one of the {@code get} methods, the application can {@link #addCallback add} a
+ * {@link Callback} that will be invoked when the future completes. The callbacks are invoked by the thread which
+ * completes the future; this is usually the thread which has restored a Connection to the pool, or the pool timer
+ * thread in the case of a timeout, or the calling thread if the future was already complete. The callbacks should
+ * therefore take as short time as possible, and should not block.
+ *
+ * <p>If the future is {@link #cancel cancelled} before it completes, the callbacks are not invoked. If the
+ * application is no longer interested in a future which has already completed with a Connection, it has to close
+ * the Connection.
+ *
+ * @author agent
+ */
+public final class ConnectionFuture implements Future<Connection> {
+
+    /**
+     * A callback which is invoked when the {@link ConnectionFuture} completes.
+     */
+    public interface Callback {
+        /**
+         * Invoked when the future has completed with a pooled Connection, which the application has to close.
+         *
+         * @param connection the obtained pooled JDBC Connection
+         */
+        void onConnection(Connection connection);
+
+        /**
+         * Invoked when the future has completed exceptionally.
+         *
+         * @param exception the reason for which a Connection could not be obtained
+         */
+        void onFailure(SQLException exception);
+    }
+
+    private static final int PENDING = 0;
+    private static final int COMPLETING = 1; // claimed by the thread which completes it
+    private static final int COMPLETED = 2;
+    private static final int CANCELLED = 3;
+
+    private final AtomicInteger state = new AtomicInteger(PENDING);
+    private final CountDownLatch done = new CountDownLatch(1);
+    private final Queue<Callback> callbacks = new ConcurrentLinkedQueue<>();
+
+    private Connection connection = null; // these 2 fields are published via the state and the done latch
+    private SQLException exception = null;
+
+    ConnectionFuture() { }
+
+    /**
+     * Claims this future for completion. Only the thread which has successfully claimed the future may complete it.
+     *
+     * @return {@code true} if the future was pending and is now claimed; {@code false} otherwise
+     */
+    boolean claim() {
+        return state.compareAndSet(PENDING, COMPLETING);
+    }
+
+    boolean isPending() {
+        return state.get() == PENDING;
+    }
+
+    void complete(Connection connection) {
+        this.connection = connection;
+        completed();
+    }
+
+    void completeExceptionally(SQLException exception) {
+        this.exception = exception;
+        completed();
+    }
+
+    private void completed() {
+        assert state.get() == COMPLETING;
+        state.set(COMPLETED);
+        done.countDown();
+        runCallbacks();
+    }
+
+    /**
+     * Adds a callback which will be invoked when this future completes. If the future has already completed,
+     * the callback is invoked immediately by the calling thread.
+     *
+     * @param callback the callback to be added
+     */
+    public void addCallback(Callback callback) {
+        callbacks.add(callback);
+        if (state.get() == COMPLETED)
+            runCallbacks();
+    }
+
+    private void runCallbacks() {
+        Callback callback;
+        while ((callback = callbacks.poll()) != null) { // each callback is invoked exactly once
+            if (exception == null)
+                callback.onConnection(connection);
+            else
+                callback.onFailure(exception);
+        }
+    }
+
+    @Override
+    public boolean cancel(boolean mayInterruptIfRunning) {
+        if (!state.compareAndSet(PENDING, CANCELLED))
+            return false;
+        callbacks.clear();
+        done.countDown();
+        return true;
+    }
+
+    @Override
+    public boolean isCancelled() {
+        return state.get() == CANCELLED;
+    }
+
+    @Override
+    public boolean isDone() {
+        return state.get() >= COMPLETED;
+    }
+
+    @Override
+    public Connection get() throws InterruptedException, ExecutionException {
+        done.await();
+        return result();
+    }
+
+    @Override
+    public Connection get(long timeout, TimeUnit unit) throws InterruptedException, ExecutionException, TimeoutException {
+        if (!done.await(timeout, unit))
+            throw new TimeoutException();
+        return result();
+    }
+
+    private Connection result() throws ExecutionException {
+        if (state.get() == CANCELLED)
+            throw new CancellationException();
+        if (exception != null)
+            throw new ExecutionException(exception);
+        return connection;
+    }
+}
@@ -0,0 +1,322 @@
+/**
+ * Copyright 2024 the vibur-dbcp contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.vibur.dbcp.pool;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.vibur.dbcp.ViburConfig;
+import org.vibur.dbcp.ViburDBCPException;
+import org.vibur.objectpool.PoolService;
+import org.vibur.objectpool.util.ConcurrentCollection;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+import static java.util.Objects.requireNonNull;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.vibur.dbcp.util.ViburUtils.getPoolName;
+import static org.vibur.objectpool.util.ArgumentValidation.forbidIllegalArgument;
+
+/**
+ * The connection retirer, which retires in a background thread the JDBC Connections which have reached their
+ * {@link ViburConfig#getMaxLifetimeInSeconds maxLifetimeInSeconds}, and replaces them with new Connections.
+ *
+ * <p>The lifetime of each Connection is shortened by a random jitter of up to {@link #JITTER} of the max lifetime,
+ * so that the Connections which were created at the same time, for example, the initial pool Connections, do not
+ * expire at the same time. In addition, at most {@link ViburConfig#getMaxConcurrentRetirements
+ * maxConcurrentRetirements} Connections can be retiring at any given time; the expired Connections above this number
+ * are retired later.
+ *
+ * <p>The expiration is checked when a Connection is restored to the pool, and also periodically for the longest idle
+ * Connections in the pool, so that the Connections which are not taken again are retired, too; these are retired
+ * in the order in which they became idle. Similarly to the {@link PoolFiller},
+ * the retirer {@link #wrap wraps} the pool collection of available Connections, and the wrapper puts the expired
+ * Connection aside instead of in the collection. The retirer first creates a replacement Connection, and only then
+ * takes the expired Connection from the pool and destroys it, so that the pool does not have fewer available
+ * Connections in the meantime. The replacement is created only after the expired Connection is destroyed if
+ * the pool has reached its max size. The expired Connections put aside are still counted as available. An expired
+ * Connection is never given to the application: if it is taken from the pool, it is destroyed and replaced with
+ * a new Connection at that point, see {@link ConnectionFactory#readyToTake}.
+ *
+ * @author agent
+ */
+public class ConnectionRetirer implements Runnable {
+
+    private static final Logger logger = LoggerFactory.getLogger(ConnectionRetirer.class);
+
+    static final double JITTER = 0.2;
+    static final long CHECK_INTERVAL_MS = 1000;
+
+    private final ViburConfig config;
+    private final int maxRetiring;
+    private final AtomicInteger retiring = new AtomicInteger(0);
+    private final List<RetirableCollection> collections = new CopyOnWriteArrayList<>();
+
+    private volatile List<PoolService<ConnHolder>> pools = Collections.emptyList();
+    private volatile Thread thread = null;
+    private volatile boolean terminated = false;
+
+    // accessed only by the retirer thread
+    private boolean takingExpired = false;
+    private boolean checkingIdle = false;
+
+    public ConnectionRetirer(ViburConfig config) {
+        forbidIllegalArgument(config.getMaxLifetimeInSeconds() <= 0);
+        forbidIllegalArgument(config.getMaxConcurrentRetirements() < 1);
+        this.config = config;
+        this.maxRetiring = config.getMaxConcurrentRetirements();
+    }
+
+    /**
+     * Returns the time after which a Connection created at the given time will be retired, or {@code 0} if the
+     * Connection max lifetime is not enabled.
+     */
+    static long retireNanoTime(ViburConfig config, long createdNanoTime) {
+        if (config.getMaxLifetimeInSeconds() <= 0)
+            return 0;
+        long lifetimeNanos = SECONDS.toNanos(config.getMaxLifetimeInSeconds());
+        return createdNanoTime + lifetimeNanos - (long) (ThreadLocalRandom.current().nextDouble() * JITTER * lifetimeNanos);
+    }
+
+    static boolean isExpired(ConnHolder conn) {
+        return conn.getRetireNanoTime() != 0 && System.nanoTime() - conn.getRetireNanoTime() >= 0;
+    }
+
+    /**
+     * Wraps the given collection of available Connections with a collection which puts aside the expired
+     * Connections restored to it. Must be used as the collection of the pool, or of each of the pool stripes.
+     */
+    public ConcurrentCollection<ConnHolder> wrap(ConcurrentCollection<ConnHolder> available) {
+        RetirableCollection collection = new RetirableCollection(available);
+        collections.add(collection);
+        return collection;
+    }
+
+    @SuppressWarnings("unchecked")
+    public void start(PoolService<ConnHolder> pool) {
+        requireNonNull(pool);
+        List<PoolService<ConnHolder>> pools = pool instanceof StripedPool
+                ? Arrays.asList(((StripedPool) pool).stripes()) : Collections.singletonList(pool);
+        forbidIllegalArgument(pools.size() != collections.size());
+        this.pools = pools;
+
+        Thread thread = new RetirerThread(this, getClass().getSimpleName() + " for pool " + config.getName());
+        this.thread = thread;
+        thread.start();
+    }
+
+    public void terminate() {
+        terminated = true;
+        Thread thread = this.thread;
+        if (thread != null)
+            LockSupport.unpark(thread);
+    }
+
+    /**
+     * Returns {@code true} if the current thread is the retirer thread.
+     */
+    static boolean isRetirerThread() {
+        return Thread.currentThread() instanceof RetirerThread;
+    }
+
+    @Override
+    public void run() {
+        while (!terminated) {
+            LockSupport.parkNanos(this, MILLISECONDS.toNanos(CHECK_INTERVAL_MS));
+            int retired = 0;
+            for (int i = 0; i < pools.size() && !terminated; i++) {
+                while (!terminated && !collections.get(i).expired.isEmpty() && retireOne(pools.get(i)))
+                    retired++;
+                while (!terminated && !collections.get(i).available.isEmpty() && retireIdleOne(pools.get(i)))
+                    retired++;
+            }
+            if (retired > 0)
+                logger.debug("Pool {}, retired {} expired Connections.", getPoolName(config), retired);
+        }
+    }
+
+    /**
+     * Creates a replacement Connection, and takes and destroys one expired Connection from the given pool.
+     * Returns {@code true} if an expired Connection was retired.
+     */
+    private boolean retireOne(PoolService<ConnHolder> pool) {
+        try {
+            boolean replaced = createReplacement(pool);
+
+            ConnHolder conn;
+            takingExpired = true; // see RetirableCollection
+            try {
+                conn = pool.tryTake();
+            } finally {
+                takingExpired = false;
+            }
+            if (conn == null)
+                return false;
+            if (!isExpired(conn)) { // the expired Connection was given to the application, and a new one was created
+                pool.restore(conn, true);
+                return false;
+            }
+
+            pool.restore(conn, false); // destroys the expired Connection
+            retiring.decrementAndGet();
+            if (!replaced)
+                createReplacement(pool);
+            return true;
+        } catch (ViburDBCPException e) {
+            logger.warn("Pool {}, couldn't create a replacement for an expired Connection", getPoolName(config), e);
+        } catch (RuntimeException e) {
+            if (!pool.isTerminated())
+                logger.error("Pool {}, unexpected exception while retiring Connections", getPoolName(config), e);
+        }
+        return false;
+    }
+
+    /**
+     * Takes the longest idle Connection from the given pool, and retires it if it is expired, or restores it back
+     * among the longest idle Connections otherwise. Returns {@code true} if an expired Connection was retired.
+     */
+    private boolean retireIdleOne(PoolService<ConnHolder> pool) {
+        try {
+            ConnHolder conn;
+            checkingIdle = true; // see RetirableCollection
+            try {
+                conn = pool.tryTake();
+                if (conn == null)
+                    return false;
+                if (!isExpired(conn)) {
+                    pool.restore(conn, true);
+                    return false;
+                }
+            } finally {
+                checkingIdle = false;
+            }
+
+            boolean replaced = createReplacement(pool);
+            pool.restore(conn, false); // destroys the expired Connection
+            if (!replaced)
+                createReplacement(pool);
+            return true;
+        } catch (ViburDBCPException e) {
+            logger.warn("Pool {}, couldn't create a replacement for an expired Connection", getPoolName(config), e);
+        } catch (RuntimeException e) {
+            if (!pool.isTerminated())
+                logger.error("Pool {}, unexpected exception while retiring Connections", getPoolName(config), e);
+        }
+        return false;
+    }
+
+    private boolean createReplacement(PoolService<ConnHolder> pool) {
+        if (pool.remainingCapacity() <= 0)
+            return false;
+        ConnHolder conn = pool.tryTake(); // always creates a new Connection, see RetirableCollection
+        if (conn == null)
+            return false;
+        pool.restore(conn, true);
+        return true;
+    }
+
+    private static final class RetirerThread extends Thread {
+        private RetirerThread(Runnable target, String name) {
+            super(target, name);
+            setDaemon(true);
+        }
+    }
+
+    private final class RetirableCollection implements ConcurrentCollection<ConnHolder> {
+        private final ConcurrentCollection<ConnHolder> available;
+        private final Queue<ConnHolder> expired = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger expiredSize = new AtomicInteger(0);
+
+        private RetirableCollection(ConcurrentCollection<ConnHolder> available) {
+            this.available = requireNonNull(available);
+        }
+
+        @Override
+        public void offerFirst(ConnHolder conn) {
+            if (isRetirerThread() && checkingIdle)
+                available.offerLast(conn); // back among the longest idle Connections
+            else if (!putAside(conn))
+                available.offerFirst(conn);
+        }
+
+        @Override
+        public void offerLast(ConnHolder conn) {
+            if (!putAside(conn))
+                available.offerLast(conn);
+        }
+
+        private boolean putAside(ConnHolder conn) {
+            if (isRetirerThread() || !isExpired(conn))
+                return false;
+            for (int current; (current = retiring.get()) < maxRetiring; ) {
+                if (retiring.compareAndSet(current, current + 1)) {
+                    expiredSize.incrementAndGet();
+                    expired.add(conn);
+                    LockSupport.unpark(thread);
+                    return true;
+                }
+            }
+            return false; // too many Connections are already retiring, will be retired when restored next time
+        }
+
+        @Override
+        public ConnHolder pollFirst() {
+            if (isRetirerThread())
+                return takingExpired ? pollExpired() : checkingIdle ? available.pollLast() : null;
+            ConnHolder conn = available.pollFirst();
+            return conn != null ? conn : pollExpiredAndCancel();
+        }
+
+        @Override
+        public ConnHolder pollLast() {
+            ConnHolder conn = available.pollLast();
+            return conn != null ? conn : pollExpiredAndCancel();
+        }
+
+        private ConnHolder pollExpired() {
+            ConnHolder conn = expired.poll();
+            if (conn != null)
+                expiredSize.decrementAndGet();
+            return conn;
+        }
+
+        private ConnHolder pollExpiredAndCancel() {
+            ConnHolder conn = pollExpired();
+            if (conn != null)
+                retiring.decrementAndGet(); // its retirement is cancelled
+            return conn;
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return available.isEmpty() && expiredSize.get() <= 0;
+        }
+
+        @Override
+        public int size() {
+            return available.size() + Math.max(expiredSize.get(), 0);
+        }
+    }
+}
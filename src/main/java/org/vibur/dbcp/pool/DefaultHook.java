@@ -16,6 +16,7 @@
 
 package org.vibur.dbcp.pool;
 
+import com.googlecode.concurrentlinkedhashmap.ConcurrentLinkedHashMap;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.vibur.dbcp.ViburConfig;
@@ -26,6 +27,9 @@ import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
 
 import static java.lang.String.format;
 import static java.util.Objects.requireNonNull;
@@ -222,6 +226,79 @@ public abstract class DefaultHook {
         }
     }
 
+    /**
+     * Learns the sizes of the ResultSets retrieved by each SQL query, and provides the fetch size which the Statement
+     * proxies set before the next {@code executeQuery} call for the same SQL query. The fetch size is one more than
+     * the largest of the recently seen ResultSet sizes, so that the end of the ResultSet is detected in the same
+     * database round trip, and is capped at {@link ViburConfig#getTunedFetchSizeMax}. The Statement proxies do not
+     * tune the fetch size of a Statement on which the application has called {@code setFetchSize()}.
+     *
+     * <p>The ResultSet sizes are remembered for at most {@link ViburConfig#getTunedFetchSizeMaxQueries} SQL queries,
+     * in a {@link ConcurrentLinkedHashMap} which evicts the least recently used ones, the same as the statement cache.
+     *
+     * <p>This hook is registered as a {@code ResultSetRetrieval} hook.
+     */
+    public static class FetchSizeTuning extends DefaultHook implements Hook.ResultSetRetrieval {
+
+        private static final int HISTORY_SIZE = 8; // must be a power of 2
+
+        private final ConcurrentMap<String, History> histories;
+
+        public FetchSizeTuning(ViburConfig config) {
+            super(config);
+            this.histories = new ConcurrentLinkedHashMap.Builder<String, History>()
+                    .maximumWeightedCapacity(config.getTunedFetchSizeMaxQueries())
+                    .build();
+        }
+
+        /**
+         * Returns the tuned fetch size for the given SQL query, or {@code 0} if no fetch size is learned for it yet.
+         */
+        public int getFetchSize(String sqlQuery) {
+            History history = histories.get(sqlQuery);
+            return history != null ? history.fetchSize : 0;
+        }
+
+        @Override
+        public void on(String sqlQuery, List<Object[]> sqlQueryParams, long resultSetSize) {
+            if (sqlQuery == null || resultSetSize < 0)
+                return;
+
+            History history = histories.get(sqlQuery);
+            if (history == null) {
+                History newHistory = new History();
+                history = histories.putIfAbsent(sqlQuery, newHistory);
+                if (history == null)
+                    history = newHistory;
+            }
+            history.add(resultSetSize, config.getTunedFetchSizeMax());
+        }
+
+        @Override
+        boolean isEnabled() {
+            return config.isTuneFetchSize();
+        }
+
+        /**
+         * The recent ResultSet sizes of one SQL query, kept in a fixed size ring buffer. Concurrent updates may
+         * occasionally overwrite each other, which is acceptable for the purpose of this heuristic.
+         */
+        private static final class History {
+            private final AtomicLongArray sizes = new AtomicLongArray(HISTORY_SIZE);
+            private final AtomicInteger next = new AtomicInteger();
+            private volatile int fetchSize = 0; // 0 means no fetch size is learned yet
+
+            private void add(long resultSetSize, int maxFetchSize) {
+                sizes.set(next.getAndIncrement() & (HISTORY_SIZE - 1), resultSetSize);
+                long max = 0;
+                for (int i = 0; i < HISTORY_SIZE; i++)
+                    max = Math.max(max, sizes.get(i));
+
+                fetchSize = (int) Math.min(max + 1, maxFetchSize);
+            }
+        }
+    }
+
     ///////////////
     // Hooks utils:
 
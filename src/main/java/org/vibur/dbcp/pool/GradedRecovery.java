@@ -0,0 +1,348 @@
+/**
+ * Copyright 2024 the vibur-dbcp contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.vibur.dbcp.pool;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.vibur.dbcp.ViburConfig;
+import org.vibur.dbcp.ViburDBCPException;
+import org.vibur.objectpool.PoolService;
+import org.vibur.objectpool.util.ConcurrentCollection;
+
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.util.Objects.requireNonNull;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static java.lang.String.format;
+import static org.vibur.dbcp.ViburConfig.IS_VALID_QUERY;
+import static org.vibur.dbcp.ViburConfig.SQLSTATE_RATE_LIMITED_ERROR;
+import static org.vibur.dbcp.util.JdbcUtils.validateConnection;
+import static org.vibur.dbcp.util.ViburUtils.getPoolName;
+import static org.vibur.objectpool.util.ArgumentValidation.forbidIllegalArgument;
+
+/**
+ * The graded recovery from a critical SQL exception, see {@link ViburConfig#getCriticalSQLStates criticalSQLStates}.
+ * Instead of destroying all Connections in the pool, the recovery probes (validates) the idle Connections in
+ * background, using {@link ViburConfig#getRecoveryProbeConcurrency recoveryProbeConcurrency} threads, and destroys
+ * only the invalid ones. While the recovery is in progress, and for {@link #RATE_LIMIT_TAIL_MS} after it, the creation
+ * of new Connections is limited to {@link ViburConfig#getRecoveryReconnectsPerSecond recoveryReconnectsPerSecond},
+ * so that the threads which need Connections do not all reconnect at the same time. A thread which needs to create
+ * a Connection above this rate waits for its reconnect slot, but not longer than the remaining timeout of its
+ * {@code getConnection} call; if the timeout runs out first, the call fails with an {@code SQLTimeoutException} with
+ * SQLState {@link ViburConfig#SQLSTATE_RATE_LIMITED_ERROR}.
+ *
+ * <p>If the ratio of the invalid to the probed Connections reaches the
+ * {@link ViburConfig#getRecoveryEscalationRatio recoveryEscalationRatio}, after at least {@link #MIN_PROBES}
+ * Connections were probed, the recovery escalates to the full recovery: increments the {@link ConnectionFactory}
+ * version and destroys all Connections in the pool.
+ *
+ * <p>Similarly to the {@link IdleSweeper}, the recovery {@link #wrap wraps} the pool collection of available
+ * Connections, and takes the Connections to be probed from the pool and restores them back to it. The prober threads
+ * probe only the idle Connections and never create new ones. The wrapper makes
+ * the prober threads take the Connections from the tail of the collection, while the probed Connections are restored
+ * to its head. The {@code CloseConnection} hooks are not invoked for these restores.
+ *
+ * @author agent
+ */
+public class GradedRecovery {
+
+    private static final Logger logger = LoggerFactory.getLogger(GradedRecovery.class);
+
+    static final int MIN_PROBES = 3;
+    static final long RATE_LIMIT_TAIL_MS = 1000;
+
+    private final ViburConfig config;
+    private final ViburObjectFactory connectionFactory;
+    private final long reconnectIntervalNanos;
+
+    private volatile List<PoolService<ConnHolder>> pools = Collections.emptyList();
+    private final AtomicBoolean recovering = new AtomicBoolean(false);
+    private volatile long rateLimitedUntilNanoTime = System.nanoTime(); // the end of the tail after a recovery
+    private final AtomicLong nextReconnectNanoTime = new AtomicLong(System.nanoTime());
+    private final ThreadLocal<Long> reconnectDeadlines = new ThreadLocal<>(); // see setReconnectDeadline
+    private volatile boolean terminated = false;
+
+    public GradedRecovery(ViburConfig config, ViburObjectFactory connectionFactory) {
+        forbidIllegalArgument(config.getRecoveryProbeConcurrency() < 1);
+        forbidIllegalArgument(config.getRecoveryEscalationRatio() <= 0 || config.getRecoveryEscalationRatio() > 1);
+        forbidIllegalArgument(config.getRecoveryReconnectsPerSecond() < 1);
+        this.config = config;
+        this.connectionFactory = requireNonNull(connectionFactory);
+        this.reconnectIntervalNanos = SECONDS.toNanos(1) / config.getRecoveryReconnectsPerSecond();
+    }
+
+    /**
+     * Wraps the given collection of available Connections with a collection which gives the longest idle
+     * Connections to the prober threads. Must be used as the collection of the pool.
+     */
+    public ConcurrentCollection<ConnHolder> wrap(ConcurrentCollection<ConnHolder> available) {
+        return new ProbableCollection(available);
+    }
+
+    @SuppressWarnings("unchecked")
+    public void start(PoolService<ConnHolder> pool) {
+        requireNonNull(pool);
+        pools = pool instanceof StripedPool
+                ? Arrays.asList(((StripedPool) pool).stripes()) : Collections.singletonList(pool);
+    }
+
+    /**
+     * Stops the recovery in progress, if any: the prober threads exit after probing their current Connections.
+     * No new recoveries are started after this method is called.
+     */
+    public void terminate() {
+        terminated = true;
+    }
+
+    /**
+     * Returns {@code true} if a recovery is in progress, i.e. if the prober threads are still probing Connections.
+     */
+    public boolean isRecovering() {
+        return recovering.get();
+    }
+
+    /**
+     * Returns {@code true} if the current thread is a prober thread.
+     */
+    static boolean isProberThread() {
+        return Thread.currentThread() instanceof ProberThread;
+    }
+
+    /**
+     * Starts a graded recovery from the given critical SQL exception, unless a recovery is already in progress.
+     *
+     * @param criticalException the critical SQL exception
+     */
+    public void recover(SQLException criticalException) {
+        if (terminated || !recovering.compareAndSet(false, true))
+            return;
+        logger.warn("Critical SQLState {} occurred, probing the idle connections in pool {}.",
+                criticalException.getSQLState(), getPoolName(config), criticalException);
+
+        List<PoolService<ConnHolder>> pools = this.pools;
+        AtomicInteger[] toProbe = new AtomicInteger[pools.size()];
+        for (int i = 0; i < toProbe.length; i++)
+            toProbe[i] = new AtomicInteger(pools.get(i).remainingCreated());
+
+        Round round = new Round(pools, toProbe, config.getRecoveryProbeConcurrency(), connectionFactory.version());
+        for (int i = 0; i < config.getRecoveryProbeConcurrency(); i++)
+            new ProberThread(round, getClass().getSimpleName() + " for pool " + config.getName()).start();
+    }
+
+    /**
+     * Sets the time, as a {@link System#nanoTime} value, until which the calling thread can wait for a reconnect
+     * slot in {@link #awaitReconnect}, i.e. the deadline of its {@code getConnection} call; or clears it if
+     * {@code null}. A thread without a deadline waits for its slot, however long it takes.
+     */
+    void setReconnectDeadline(Long deadlineNanoTime) {
+        if (deadlineNanoTime != null)
+            reconnectDeadlines.set(deadlineNanoTime);
+        else
+            reconnectDeadlines.remove();
+    }
+
+    /**
+     * Waits, if needed, so that the new Connections are not created faster than the configured rate while
+     * the recovery is in progress, but not longer than the deadline of the calling thread, see
+     * {@link #setReconnectDeadline}. Called by the {@link ConnectionFactory} before creating a new Connection.
+     *
+     * @throws ViburDBCPException wrapping an {@code SQLTimeoutException} with SQLState
+     *      {@link ViburConfig#SQLSTATE_RATE_LIMITED_ERROR}, if the deadline has passed before a reconnect slot
+     *      became available; or wrapping an {@code InterruptedException}, if the calling thread was interrupted
+     */
+    void awaitReconnect() throws ViburDBCPException {
+        Long deadline = reconnectDeadlines.get();
+        for (;;) {
+            long now = System.nanoTime();
+            if (terminated || !isRateLimited(now))
+                return;
+
+            long next = nextReconnectNanoTime.get();
+            long slot = next - now >= 0 ? next : now;
+            if (deadline == null || deadline - slot >= 0) { // reserves the slot and waits for it
+                if (nextReconnectNanoTime.compareAndSet(next, slot + reconnectIntervalNanos)) {
+                    sleepNanos(slot - now);
+                    return;
+                }
+                continue;
+            }
+
+            if (deadline - now <= 0)
+                throw new ViburDBCPException(new SQLTimeoutException(format(
+                        "Pool %s, couldn't reconnect before the timeout, the reconnects are limited to %d per second "
+                                + "during the recovery.", getPoolName(config), config.getRecoveryReconnectsPerSecond()),
+                        SQLSTATE_RATE_LIMITED_ERROR));
+            sleepNanos(Math.min(deadline - now, reconnectIntervalNanos)); // the rate limit may end in the meantime
+        }
+    }
+
+    private boolean isRateLimited(long now) {
+        return recovering.get() || now - rateLimitedUntilNanoTime < 0;
+    }
+
+    private static void sleepNanos(long nanos) throws ViburDBCPException {
+        if (nanos <= 0)
+            return;
+        try {
+            NANOSECONDS.sleep(nanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt(); // preserves the interrupt
+            throw new ViburDBCPException(e);
+        }
+    }
+
+    private final class Round implements Runnable {
+        private final List<PoolService<ConnHolder>> pools;
+        private final AtomicInteger[] toProbe;
+        private final AtomicInteger probers;
+        private final int version;
+
+        private final AtomicInteger probed = new AtomicInteger(0);
+        private final AtomicInteger invalid = new AtomicInteger(0);
+        private final AtomicBoolean escalated = new AtomicBoolean(false);
+
+        private Round(List<PoolService<ConnHolder>> pools, AtomicInteger[] toProbe, int probers, int version) {
+            this.pools = pools;
+            this.toProbe = toProbe;
+            this.probers = new AtomicInteger(probers);
+            this.version = version;
+        }
+
+        @Override
+        public void run() {
+            try {
+                for (int i = 0; i < pools.size(); i++) {
+                    while (!terminated && !escalated.get() && toProbe[i].getAndDecrement() > 0
+                            && probeOne(pools.get(i))) {
+                        int probed = this.probed.get();
+                        if (probed >= MIN_PROBES && invalid.get() >= probed * config.getRecoveryEscalationRatio())
+                            escalate();
+                    }
+                }
+            } finally {
+                if (probers.decrementAndGet() == 0)
+                    finish();
+            }
+        }
+
+        /**
+         * Takes the longest idle Connection from the given pool, validates it, and restores it back to the pool
+         * or destroys it. Returns {@code true} if a Connection was probed.
+         */
+        private boolean probeOne(PoolService<ConnHolder> pool) {
+            try {
+                if (pool.remainingCreated() <= 0) // no idle Connections, see also ConnectionFactory.create
+                    return false;
+                ConnHolder conn = pool.tryTake(); // see ProbableCollection
+                if (conn == null)
+                    return false;
+
+                boolean valid = false;
+                try {
+                    String query = config.getTestConnectionQuery();
+                    valid = validateConnection(conn.value(), query != null ? query : IS_VALID_QUERY, config);
+                } catch (SQLException e) {
+                    logger.debug("Couldn't validate rawConnection {}", conn.value(), e);
+                }
+                probed.incrementAndGet();
+                if (!valid)
+                    invalid.incrementAndGet();
+                pool.restore(conn, valid); // destroys the invalid Connection
+                return true;
+            } catch (ViburDBCPException e) {
+                logger.warn("Pool {}, couldn't probe a Connection", getPoolName(config), e);
+            } catch (RuntimeException e) {
+                if (!pool.isTerminated())
+                    logger.error("Pool {}, unexpected exception while probing Connections", getPoolName(config), e);
+            }
+            return false;
+        }
+
+        private void escalate() {
+            if (!escalated.compareAndSet(false, true)) // only one prober escalates
+                return;
+            if (connectionFactory.compareAndSetVersion(version, version + 1)) {
+                int destroyed = config.getPool().drainCreated(); // destroys all connections in the pool
+                logger.error("Pool {}, {} of {} probed connections were invalid, destroyed {} connections, "
+                                + "current connection version is {}.", getPoolName(config), invalid.get(), probed.get(),
+                        destroyed, connectionFactory.version());
+            }
+        }
+
+        private void finish() {
+            if (!escalated.get())
+                logger.warn("Pool {}, probed {} connections, destroyed {} invalid connections.",
+                        getPoolName(config), probed.get(), invalid.get());
+            rateLimitedUntilNanoTime = System.nanoTime() + MILLISECONDS.toNanos(RATE_LIMIT_TAIL_MS);
+            recovering.set(false);
+        }
+    }
+
+    private static final class ProberThread extends Thread {
+        private ProberThread(Runnable target, String name) {
+            super(target, name);
+            setDaemon(true);
+        }
+    }
+
+    private static final class ProbableCollection implements ConcurrentCollection<ConnHolder> {
+        private final ConcurrentCollection<ConnHolder> available;
+
+        private ProbableCollection(ConcurrentCollection<ConnHolder> available) {
+            this.available = requireNonNull(available);
+        }
+
+        @Override
+        public void offerFirst(ConnHolder conn) {
+            available.offerFirst(conn);
+        }
+
+        @Override
+        public void offerLast(ConnHolder conn) {
+            available.offerLast(conn);
+        }
+
+        @Override
+        public ConnHolder pollFirst() {
+            return isProberThread() ? available.pollLast() : available.pollFirst();
+        }
+
+        @Override
+        public ConnHolder pollLast() {
+            return available.pollLast();
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return available.isEmpty();
+        }
+
+        @Override
+        public int size() {
+            return available.size();
+        }
+    }
+}
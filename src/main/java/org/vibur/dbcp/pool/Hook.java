@@ -171,7 +171,9 @@ public interface Hook {
          *                       in the PreparedStatement query. Each Object[] inside the list contains at index 0
          *                       the name of the invoked setXyz method and at the following indices the parameters of
          *                       the invoked setXyz method. For an example, see the documentation for
-         *                       {@link ResultSetRetrieval#on ResultSetRetrieval}.
+         *                       {@link ResultSetRetrieval#on ResultSetRetrieval}. The list is a read-only view
+         *                       of a buffer which is reused by the Statement, and it should not be retained by
+         *                       the hook after the hook returns. Also see {@link ViburConfig#queryParametersCapture}.
          * @param proceed the proceeding point through which the hook can pass the call to the intercepted Statement
          *                "execute..." method or to the next registered {@code StatementExecution} around hook,
          *                if there is such
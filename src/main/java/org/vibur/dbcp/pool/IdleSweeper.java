@@ -0,0 +1,229 @@
+/**
+ * Copyright 2024 the vibur-dbcp contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.vibur.dbcp.pool;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.vibur.dbcp.ViburConfig;
+import org.vibur.dbcp.ViburDBCPException;
+import org.vibur.objectpool.PoolService;
+import org.vibur.objectpool.util.ConcurrentCollection;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.LockSupport;
+
+import static java.util.Objects.requireNonNull;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.vibur.dbcp.util.ViburUtils.getPoolName;
+import static org.vibur.objectpool.util.ArgumentValidation.forbidIllegalArgument;
+
+/**
+ * The idle sweeper, which validates in a background thread the JDBC Connections which have stayed idle in the pool
+ * for a long time, before they reach the {@link ViburConfig#getConnectionIdleLimitInSeconds connectionIdleLimitInSeconds},
+ * and evicts the invalid ones. Thus, the threads calling {@code getConnection()} will usually take Connections
+ * which were recently used or validated, and will not have to validate them.
+ *
+ * <p>The sweeper runs every {@link ViburConfig#getIdleSweepIntervalInSeconds idleSweepIntervalInSeconds}, with
+ * a random jitter of up to {@link #JITTER} of the interval, so that the sweeps of different pools do not happen at
+ * the same time. Each sweep validates at most {@link ViburConfig#getIdleSweepBatchSize idleSweepBatchSize}
+ * Connections, one after another, starting from the ones which stayed idle for the longest time. A Connection is
+ * validated if it stayed idle for so long that it could reach the {@code connectionIdleLimitInSeconds} before the
+ * next sweep.
+ *
+ * <p>Similarly to the {@link PoolFiller}, the sweeper {@link #wrap wraps} the pool collection of available
+ * Connections, and takes the Connections to be validated from the pool and restores them back to it. The wrapper
+ * makes the sweeper thread take the Connections from the tail of the collection, where the longest idle Connections
+ * are, and restore a validated Connection to the head of the collection, or a Connection which did not need
+ * validation back to its tail. The Connections are validated by the {@link ConnectionFactory} when taken, and
+ * the invalid Connections are destroyed by the pool. The {@code CloseConnection} hooks are not invoked for these
+ * restores.
+ *
+ * @author agent
+ */
+public class IdleSweeper implements Runnable {
+
+    private static final Logger logger = LoggerFactory.getLogger(IdleSweeper.class);
+
+    static final double JITTER = 0.25;
+
+    private final ViburConfig config;
+    private final long intervalNanos;
+    private final long validateAfterNanos;
+    private final int batchSize;
+
+    private volatile List<PoolService<ConnHolder>> pools = Collections.emptyList();
+    private volatile Thread thread = null;
+    private volatile boolean terminated = false;
+
+    private long takeNanoTime = 0; // accessed only by the sweeper thread
+
+    public IdleSweeper(ViburConfig config) {
+        forbidIllegalArgument(config.getIdleSweepIntervalInSeconds() <= 0);
+        forbidIllegalArgument(config.getConnectionIdleLimitInSeconds() <= 0);
+        forbidIllegalArgument(config.getIdleSweepBatchSize() < 1);
+        this.config = config;
+        this.intervalNanos = SECONDS.toNanos(config.getIdleSweepIntervalInSeconds());
+        this.validateAfterNanos = Math.max(SECONDS.toNanos(config.getConnectionIdleLimitInSeconds())
+                - (long) (intervalNanos * (1 + JITTER)), 0);
+        this.batchSize = config.getIdleSweepBatchSize();
+    }
+
+    /**
+     * Wraps the given collection of available Connections with a collection which gives the longest idle
+     * Connections to the sweeper thread. Must be used as the collection of the pool.
+     */
+    public ConcurrentCollection<ConnHolder> wrap(ConcurrentCollection<ConnHolder> available) {
+        return new SweepableCollection(available);
+    }
+
+    @SuppressWarnings("unchecked")
+    public void start(PoolService<ConnHolder> pool) {
+        requireNonNull(pool);
+        pools = pool instanceof StripedPool
+                ? Arrays.asList(((StripedPool) pool).stripes()) : Collections.singletonList(pool);
+
+        Thread thread = new SweeperThread(this, getClass().getSimpleName() + " for pool " + config.getName());
+        this.thread = thread;
+        thread.start();
+    }
+
+    public void terminate() {
+        terminated = true;
+        Thread thread = this.thread;
+        if (thread != null)
+            LockSupport.unpark(thread);
+    }
+
+    /**
+     * Returns {@code true} if the current thread is the sweeper thread.
+     */
+    static boolean isSweeperThread() {
+        return Thread.currentThread() instanceof SweeperThread;
+    }
+
+    /**
+     * Returns the idle time in nanoseconds after which the sweeper validates a Connection.
+     */
+    long getValidateAfterNanos() {
+        return validateAfterNanos;
+    }
+
+    /**
+     * Returns {@code true} if the given Connection taken by the sweeper thread was validated or newly created.
+     */
+    private boolean isValidated(ConnHolder conn) {
+        return conn.getRestoredNanoTime() - takeNanoTime >= 0;
+    }
+
+    @Override
+    public void run() {
+        while (!terminated) {
+            long jitter = (long) ((ThreadLocalRandom.current().nextDouble() * 2 - 1) * JITTER * intervalNanos);
+            LockSupport.parkNanos(this, intervalNanos + jitter);
+            if (!terminated)
+                sweep();
+        }
+    }
+
+    private void sweep() {
+        int validated = 0;
+        List<PoolService<ConnHolder>> pools = this.pools;
+        int first = ThreadLocalRandom.current().nextInt(pools.size());
+        for (int i = 0; i < pools.size() && validated < batchSize && !terminated; i++) {
+            PoolService<ConnHolder> pool = pools.get((first + i) % pools.size());
+            while (validated < batchSize && !terminated && validateOne(pool))
+                validated++;
+        }
+        if (validated > 0)
+            logger.debug("Pool {}, validated {} idle Connections.", getPoolName(config), validated);
+    }
+
+    /**
+     * Takes the longest idle Connection from the given pool, which validates it if needed, and restores it back
+     * to the pool. Returns {@code true} if a Connection was validated.
+     */
+    private boolean validateOne(PoolService<ConnHolder> pool) {
+        if (pool.remainingCreated() <= 0)
+            return false;
+        try {
+            takeNanoTime = System.nanoTime();
+            ConnHolder conn = pool.tryTake(); // see SweepableCollection
+            if (conn == null)
+                return false;
+            boolean validated = isValidated(conn);
+            pool.restore(conn, true);
+            return validated;
+        } catch (ViburDBCPException e) { // the invalid Connection was evicted, but a new one couldn't be created
+            logger.warn("Pool {}, couldn't replace an invalid idle Connection", getPoolName(config), e);
+        } catch (RuntimeException e) {
+            if (!pool.isTerminated())
+                logger.error("Pool {}, unexpected exception while validating idle Connections", getPoolName(config), e);
+        }
+        return false;
+    }
+
+    private static final class SweeperThread extends Thread {
+        private SweeperThread(Runnable target, String name) {
+            super(target, name);
+            setDaemon(true);
+        }
+    }
+
+    private final class SweepableCollection implements ConcurrentCollection<ConnHolder> {
+        private final ConcurrentCollection<ConnHolder> available;
+
+        private SweepableCollection(ConcurrentCollection<ConnHolder> available) {
+            this.available = requireNonNull(available);
+        }
+
+        @Override
+        public void offerFirst(ConnHolder conn) {
+            if (isSweeperThread() && !isValidated(conn))
+                available.offerLast(conn); // did not need validation yet, stays among the longest idle Connections
+            else
+                available.offerFirst(conn);
+        }
+
+        @Override
+        public void offerLast(ConnHolder conn) {
+            available.offerLast(conn);
+        }
+
+        @Override
+        public ConnHolder pollFirst() {
+            return isSweeperThread() ? available.pollLast() : available.pollFirst();
+        }
+
+        @Override
+        public ConnHolder pollLast() {
+            return available.pollLast();
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return available.isEmpty();
+        }
+
+        @Override
+        public int size() {
+            return available.size();
+        }
+    }
+}
@@ -0,0 +1,261 @@
+/**
+ * Copyright 2024 the vibur-dbcp contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.vibur.dbcp.pool;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.vibur.dbcp.ViburConfig;
+import org.vibur.dbcp.ViburDBCPException;
+import org.vibur.objectpool.PoolService;
+import org.vibur.objectpool.util.ConcurrentCollection;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+
+import static java.util.Objects.requireNonNull;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.vibur.dbcp.util.ViburUtils.getPoolName;
+import static org.vibur.objectpool.util.ArgumentValidation.forbidIllegalArgument;
+
+/**
+ * The pool filler, which creates JDBC Connections ahead of demand in a background thread, so that the number
+ * of the idle (available) Connections in the pool stays at least {@link ViburConfig#getPoolMinIdle poolMinIdle},
+ * as long as the pool max size allows it. The filler is woken up whenever a Connection taken from the pool
+ * drops the number of the idle Connections below {@code poolMinIdle}, and also checks the pool periodically.
+ *
+ * <p>The filler also creates in background the initial pool Connections which were not created by the time when
+ * the pool was started, see {@link ViburConfig#getPoolWarmUpBlockingSize poolWarmUpBlockingSize}, using
+ * {@link ViburConfig#getPoolWarmUpConcurrency poolWarmUpConcurrency} threads.
+ *
+ * <p>The pool itself creates a new Connection only when its collection of available Connections is empty. Because
+ * of this, the filler {@link #wrap wraps} this collection with a collection which appears empty to the filler
+ * threads, and the filler creates the new Connections by simply taking them from and immediately restoring them
+ * to the pool. Thus, the created Connections count towards the pool max size and the pool metrics, the same as
+ * the Connections created on demand. The {@code CloseConnection} hooks are not invoked for these restores.
+ *
+ * @author agent
+ */
+public class PoolFiller implements Runnable {
+
+    private static final Logger logger = LoggerFactory.getLogger(PoolFiller.class);
+
+    static final long FILL_INTERVAL_MS = 1000;
+
+    private final ViburConfig config;
+    private volatile int minIdle; // can be changed at runtime, see AdaptivePoolSizer
+
+    private volatile PoolService<ConnHolder> pool = null;
+    private volatile Runnable restoreListener = null;
+    private final AtomicReference<Thread> thread = new AtomicReference<>();
+    private volatile boolean terminated = false;
+
+    public PoolFiller(ViburConfig config) {
+        forbidIllegalArgument(config.getPoolMinIdle() < 0);
+        this.config = config;
+        this.minIdle = config.getPoolMinIdle();
+    }
+
+    /**
+     * Wraps the given collection of available Connections with a collection which appears empty to the filler
+     * threads, and which wakes up the filler when the number of the available Connections drops below the minimum.
+     * Must be used as the collection of the pool.
+     */
+    public ConcurrentCollection<ConnHolder> wrap(ConcurrentCollection<ConnHolder> available) {
+        return new FillableCollection(available);
+    }
+
+    public void start(PoolService<ConnHolder> pool) {
+        this.pool = requireNonNull(pool);
+        String threadName = getClass().getSimpleName() + " for pool " + config.getName();
+
+        int warmUp = config.getPoolInitialSize() - pool.initialSize();
+        if (warmUp > 0) {
+            final AtomicInteger toCreate = new AtomicInteger(warmUp);
+            Runnable warmUpCreator = new Runnable() {
+                @Override
+                public void run() {
+                    int created = 0;
+                    while (!terminated && toCreate.getAndDecrement() > 0 && createOne())
+                        created++;
+                    logger.debug("Pool {}, created {} initial Connections in background.", getPoolName(config), created);
+                }
+            };
+            for (int i = 0; i < Math.min(config.getPoolWarmUpConcurrency(), warmUp); i++)
+                new FillerThread(warmUpCreator, threadName + " warm-up").start();
+        }
+
+        if (minIdle > 0)
+            startFiller();
+    }
+
+    private void startFiller() {
+        Thread filler = new FillerThread(this, getClass().getSimpleName() + " for pool " + config.getName());
+        if (thread.compareAndSet(null, filler))
+            filler.start();
+    }
+
+    /**
+     * Sets the listener which is run, on the filler thread, after each Connection created by the filler is restored
+     * to the pool. Used by the {@link PoolOperations} to serve its asynchronous waiters, because the filler restores
+     * the Connections directly to the pool.
+     *
+     * @param restoreListener the listener; must not take Connections from the pool on the calling thread, as
+     *                        the pool appears empty to the filler threads, see {@link #wrap}
+     */
+    public void setRestoreListener(Runnable restoreListener) {
+        this.restoreListener = restoreListener;
+    }
+
+    public int getMinIdle() {
+        return minIdle;
+    }
+
+    /**
+     * Changes the minimum number of idle Connections which the filler maintains in the pool. Used by the
+     * {@link AdaptivePoolSizer}.
+     *
+     * @param minIdle the new minimum number of idle Connections
+     */
+    public void setMinIdle(int minIdle) {
+        forbidIllegalArgument(minIdle < 0);
+        this.minIdle = minIdle;
+        if (minIdle > 0 && pool != null && !terminated) {
+            if (thread.get() == null)
+                startFiller();
+            signal(pool.remainingCreated());
+        }
+    }
+
+    public void terminate() {
+        terminated = true;
+        Thread filler = thread.get();
+        if (filler != null)
+            LockSupport.unpark(filler);
+    }
+
+    /**
+     * Returns {@code true} if the current thread is a pool filler thread, i.e. if the Connection being restored
+     * is a Connection just created by the filler.
+     */
+    static boolean isFillerThread() {
+        return Thread.currentThread() instanceof FillerThread;
+    }
+
+    @Override
+    public void run() {
+        while (!terminated) {
+            fill();
+            LockSupport.parkNanos(this, MILLISECONDS.toNanos(FILL_INTERVAL_MS));
+        }
+    }
+
+    private void fill() {
+        int created = 0;
+        while (!terminated && pool.remainingCreated() < minIdle && pool.remainingCapacity() > 0 && createOne())
+            created++;
+        if (created > 0)
+            logger.debug("Pool {}, created {} Connections ahead of demand.", getPoolName(config), created);
+    }
+
+    /**
+     * Creates one new Connection in the pool, and returns {@code true} on success.
+     */
+    private boolean createOne() {
+        try {
+            ConnHolder conn = pool.tryTake(); // always creates a new Connection, see FillableCollection
+            if (conn == null) // the pool max size is reached, or the pool is terminated
+                return false;
+            pool.restore(conn, true);
+            Runnable listener = restoreListener;
+            if (listener != null)
+                listener.run();
+            return true;
+        } catch (ViburDBCPException e) {
+            logger.warn("Pool {}, couldn't create a Connection ahead of demand", getPoolName(config), e);
+        } catch (RuntimeException e) {
+            if (!pool.isTerminated())
+                logger.error("Pool {}, unexpected exception while filling the pool", getPoolName(config), e);
+        }
+        return false;
+    }
+
+    private void signal(int available) {
+        if (available < minIdle) {
+            Thread filler = thread.get();
+            if (filler != null)
+                LockSupport.unpark(filler);
+        }
+    }
+
+    private static final class FillerThread extends Thread {
+        private FillerThread(Runnable target, String name) {
+            super(target, name);
+            setDaemon(true);
+        }
+    }
+
+    private final class FillableCollection implements ConcurrentCollection<ConnHolder> {
+        private final ConcurrentCollection<ConnHolder> available;
+        private final AtomicInteger size = new AtomicInteger(0);
+
+        private FillableCollection(ConcurrentCollection<ConnHolder> available) {
+            this.available = requireNonNull(available);
+        }
+
+        @Override
+        public void offerFirst(ConnHolder conn) {
+            size.incrementAndGet();
+            available.offerFirst(conn);
+        }
+
+        @Override
+        public void offerLast(ConnHolder conn) {
+            size.incrementAndGet();
+            available.offerLast(conn);
+        }
+
+        @Override
+        public ConnHolder pollFirst() {
+            if (isFillerThread())
+                return null;
+            return polled(available.pollFirst());
+        }
+
+        @Override
+        public ConnHolder pollLast() {
+            if (isFillerThread())
+                return null;
+            return polled(available.pollLast());
+        }
+
+        private ConnHolder polled(ConnHolder conn) {
+            signal(conn != null ? size.decrementAndGet() : 0);
+            return conn;
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return size.get() <= 0;
+        }
+
+        @Override
+        public int size() {
+            return Math.max(size.get(), 0);
+        }
+    }
+}
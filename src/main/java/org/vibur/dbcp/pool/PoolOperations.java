@@ -20,6 +20,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.vibur.dbcp.ViburConfig;
 import org.vibur.dbcp.ViburDBCPException;
+import org.vibur.dbcp.proxy.ConnectionInvocationHandler;
 import org.vibur.objectpool.PoolService;
 
 import java.sql.Connection;
@@ -27,13 +28,24 @@ import java.sql.SQLException;
 import java.sql.SQLTimeoutException;
 import java.util.Arrays;
 import java.util.HashSet;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.regex.Pattern;
 
 import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
 import static org.vibur.dbcp.ViburConfig.SQLSTATE_POOL_CLOSED_ERROR;
 import static org.vibur.dbcp.ViburConfig.SQLSTATE_TIMEOUT_ERROR;
+import static org.vibur.dbcp.proxy.Proxy.getConnectionInvocationHandler;
 import static org.vibur.dbcp.proxy.Proxy.newProxyConnection;
 import static org.vibur.dbcp.util.ViburUtils.getPoolName;
 
@@ -56,6 +68,21 @@ public class PoolOperations {
 
     private final ConnHooksHolder connHooks;
     private final Set<String> criticalSQLStates;
+    private final PriorityGate priorityGate; // null if the priority reserves are not enabled
+    private final PoolPartitions partitions; // null if the pool partitions are not enabled
+    private final PoolPartition unpartitioned;
+    private final GradedRecovery gradedRecovery; // null if the graded recovery is not enabled
+
+    // the waiters of the asynchronous getConnection requests, in FIFO order, the (lazily created) timer which times
+    // them out, and the (lazily created) creator which serves them when new Connections need to be created
+    private final Queue<Waiter> waiters = new ConcurrentLinkedQueue<>();
+    private final AtomicReference<ScheduledThreadPoolExecutor> timer = new AtomicReference<>();
+    private final AtomicReference<ScheduledThreadPoolExecutor> creator = new AtomicReference<>();
+    private final AtomicBoolean creatorScheduled = new AtomicBoolean(false);
+
+    // set while a Connection is taken from the pool on behalf of the asynchronous requests by a thread which must
+    // not block on the creation of a new Connection, see ConnectionFactory.create()
+    private static final ThreadLocal<Boolean> takingIdleOnly = new ThreadLocal<>();
 
     /**
      * Instantiates the PoolOperations facade.
@@ -71,37 +98,83 @@ public class PoolOperations {
         this.connHooks = config.getConnHooks();
         this.criticalSQLStates = new HashSet<>(Arrays.asList(
                 whitespaces.matcher(config.getCriticalSQLStates()).replaceAll("").split(",")));
+        this.priorityGate = config.getPriorityGate();
+        this.partitions = config.getPartitions();
+        this.unpartitioned = partitions != null ? partitions.getUnpartitioned() : null;
+        this.gradedRecovery = config.getGradedRecovery();
+
+        PoolFiller poolFiller = config.getPoolFiller();
+        if (poolFiller != null) // the filler restores the Connections which it creates directly to the pool
+            poolFiller.setRestoreListener(new Runnable() {
+                @Override
+                public void run() {
+                    if (!waiters.isEmpty() && !PoolOperations.this.poolService.isTerminated())
+                        serveWaitersAsync();
+                }
+            });
     }
 
     public Connection getProxyConnection(long timeout) throws SQLException {
-        try {
-            ConnHolder conn = getConnHolder(timeout);
-            if (conn != null) { // we were able to obtain a connection from the pool within the given timeout
-                if (logger.isTraceEnabled())
-                    logger.trace("Taking rawConnection {}", conn.value());
-                return newProxyConnection(conn, this, config);
-            }
+        return getProxyConnection(ConnectionPriority.NORMAL, timeout);
+    }
 
-            String poolName = getPoolName(config);
-            if (poolService.isTerminated())
-                throw new SQLException(format("Pool %s, the poolService is terminated.", poolName), SQLSTATE_POOL_CLOSED_ERROR);
+    public Connection getProxyConnection(ConnectionPriority priority, long timeout) throws SQLException {
+        return getProxyConnection(unpartitioned, priority, timeout);
+    }
 
-            if (config.isLogTakenConnectionsOnTimeout() && logger.isWarnEnabled())
-                logger.warn("Pool {}, couldn't obtain SQL connection within {} ms, full list of taken connections begins:\n{}",
-                        poolName, timeout, ((ViburListener) config.getPool().listener()).takenConnectionsToString());
-            throw new SQLTimeoutException(format("Pool %s, couldn't obtain SQL connection within %d ms.",
-                    poolName, timeout), SQLSTATE_TIMEOUT_ERROR, (int) timeout);
+    public Connection getProxyConnection(PoolPartition partition, long timeout) throws SQLException {
+        return getProxyConnection(requireNonNull(partition), ConnectionPriority.NORMAL, timeout);
+    }
+
+    private Connection getProxyConnection(PoolPartition partition, ConnectionPriority priority, long timeout)
+            throws SQLException {
+        try {
+            ConnHolder conn = partition == null ? getConnHolder(priority, timeout)
+                    : getPartitionConnHolder(partition, priority, timeout);
+            if (conn != null) // we were able to obtain a connection from the pool within the given timeout
+                return proxyConnection(conn);
+            throw connectionNotObtained(timeout);
 
         } catch (ViburDBCPException e) { // can be (indirectly) thrown by the ConnectionFactory.create() methods
             throw e.unwrapSQLException();
         }
     }
 
-    private ConnHolder getConnHolder(long timeout) throws SQLException {
+    private Connection proxyConnection(ConnHolder conn) {
+        if (logger.isTraceEnabled())
+            logger.trace("Taking rawConnection {}", conn.value());
+        if (config.isRecycleConnectionProxies())
+            return recycledProxyConnection(conn);
+        return newProxyConnection(conn, this, config);
+    }
+
+    private SQLException connectionNotObtained(long timeout) {
+        String poolName = getPoolName(config);
+        if (poolService.isTerminated())
+            return new SQLException(format("Pool %s, the poolService is terminated.", poolName), SQLSTATE_POOL_CLOSED_ERROR);
+
+        if (config.isLogTakenConnectionsOnTimeout() && logger.isWarnEnabled())
+            logger.warn("Pool {}, couldn't obtain SQL connection within {} ms, full list of taken connections begins:\n{}",
+                    poolName, timeout, ((ViburListener) config.getPool().listener()).takenConnectionsToString());
+        return new SQLTimeoutException(format("Pool %s, couldn't obtain SQL connection within %d ms.",
+                poolName, timeout), SQLSTATE_TIMEOUT_ERROR, (int) timeout);
+    }
+
+    private Connection recycledProxyConnection(ConnHolder conn) {
+        ConnectionInvocationHandler handler = conn.getProxyHandler();
+        if (handler != null)
+            return newProxyConnection(handler); // a new lease of the recycled invocation handler
+
+        Connection proxy = newProxyConnection(conn, this, config);
+        conn.setProxyHandler(getConnectionInvocationHandler(proxy));
+        return proxy;
+    }
+
+    private ConnHolder getConnHolder(ConnectionPriority priority, long timeout) throws SQLException {
         Hook.GetConnection[] onGet = connHooks.onGet();
-        long startTime = onGet.length > 0 ? System.nanoTime() : 0;
+        long startTime = onGet.length > 0 || priorityGate != null ? System.nanoTime() : 0;
 
-        ConnHolder conn = timeout > 0 ? poolService.tryTake(timeout, MILLISECONDS) : poolService.take();
+        ConnHolder conn = priorityGate == null ? take(timeout, MILLISECONDS) : gatedTake(priority, timeout, startTime);
 
         Connection rawConnection = null;
         long takenNanos = 0;
@@ -118,12 +191,325 @@ public class PoolOperations {
         return conn;
     }
 
+    /**
+     * Takes a Connection from the pool after the request is admitted via the given partition, within the given
+     * timeout in total, see {@link PoolPartitions}.
+     */
+    private ConnHolder getPartitionConnHolder(PoolPartition partition, ConnectionPriority priority, long timeout)
+            throws SQLException {
+        long startTime = System.nanoTime();
+        ConnHolder conn = null;
+        try {
+            if (partitions.acquire(partition, timeout, MILLISECONDS)) {
+                try {
+                    long remaining = timeout - NANOSECONDS.toMillis(System.nanoTime() - startTime);
+                    conn = getConnHolder(priority, timeout > 0 ? Math.max(remaining, 1) : 0);
+                } finally {
+                    if (conn == null)
+                        partitions.release(partition);
+                }
+                if (conn != null)
+                    conn.setPartition(partition);
+            }
+            else {
+                for (Hook.GetConnection hook : connHooks.onGet())
+                    hook.on(null, System.nanoTime() - startTime);
+            }
+        } catch (InterruptedException ignored) {
+            Thread.currentThread().interrupt(); // preserves the interrupt, the request is not admitted
+        }
+        partition.recordWait(System.nanoTime() - startTime, conn != null);
+        return conn;
+    }
+
+    private ConnHolder take(long timeout, TimeUnit unit) {
+        if (timeout <= 0)
+            return poolService.take();
+        if (gradedRecovery == null)
+            return poolService.tryTake(timeout, unit);
+
+        // the Connection creation, if any, waits for a reconnect slot not longer than the timeout
+        gradedRecovery.setReconnectDeadline(System.nanoTime() + unit.toNanos(timeout));
+        try {
+            return poolService.tryTake(timeout, unit);
+        } finally {
+            gradedRecovery.setReconnectDeadline(null);
+        }
+    }
+
+    /**
+     * Takes a Connection from the pool after the request is admitted by the {@link PriorityGate}, within the
+     * given timeout in total.
+     */
+    private ConnHolder gatedTake(ConnectionPriority priority, long timeout, long startTime) {
+        ConnHolder conn = null;
+        try {
+            if (priorityGate.acquire(priority, timeout, MILLISECONDS)) {
+                try {
+                    long remainingNanos = MILLISECONDS.toNanos(timeout) - (System.nanoTime() - startTime);
+                    conn = take(timeout > 0 ? Math.max(remainingNanos, 1) : 0, NANOSECONDS);
+                } finally {
+                    if (conn == null)
+                        priorityGate.release();
+                }
+            }
+        } catch (InterruptedException ignored) {
+            Thread.currentThread().interrupt(); // preserves the interrupt, the request is not admitted
+        }
+        priorityGate.recordWait(priority, System.nanoTime() - startTime);
+        return conn;
+    }
+
+    /**
+     * Restores to the pool a Connection which was taken by {@code PoolOperations} but not given to the application.
+     */
+    private void restoreTaken(ConnHolder conn) {
+        poolService.restore(conn, true);
+        releaseAdmission(conn);
+    }
+
+    /**
+     * Releases the admission of the request which took the given Connection, when the Connection is restored.
+     */
+    private void releaseAdmission(ConnHolder conn) {
+        PoolPartition partition = conn.getPartition();
+        conn.setPartition(null);
+        releaseAdmission(partition);
+    }
+
+    private void releaseAdmission(PoolPartition partition) {
+        if (priorityGate != null)
+            priorityGate.release();
+        if (partition != null)
+            partitions.release(partition);
+    }
+
+    /**
+     * Admits an asynchronous request via the priority gate and the unnamed partition, if they are enabled,
+     * if this is possible without waiting.
+     */
+    private boolean tryAdmit() {
+        if (unpartitioned != null && !partitions.tryAcquire(unpartitioned))
+            return false;
+        if (priorityGate != null && !priorityGate.tryAcquire(ConnectionPriority.NORMAL)) {
+            if (unpartitioned != null)
+                partitions.release(unpartitioned);
+            return false;
+        }
+        return true;
+    }
+
+    //////// The asynchronous getConnection requests: ////////
+
+    /**
+     * Requests a pooled Connection without blocking the calling thread. If there is an idle Connection in the pool,
+     * the returned future is completed immediately. If a new Connection can be created, it is created on the pool
+     * creator thread which then completes the future. Otherwise, the request is queued, and is completed by the
+     * first thread which restores a Connection to the pool, or by the pool timer thread when the given
+     * {@code timeout} elapses. The calling thread and the restoring threads never create Connections.
+     *
+     * <p>The {@code GetConnection} hooks, the {@code ValidateConnection} hooks, and the connection tracking work the
+     * same as for the synchronous {@link #getProxyConnection} requests; the tracked thread and location are these of
+     * the requesting thread.
+     *
+     * @param timeout the timeout in milliseconds; {@code 0} means no timeout
+     * @return the future Connection
+     */
+    public ConnectionFuture getProxyConnectionAsync(long timeout) {
+        Waiter waiter = new Waiter(config.isPoolEnableConnectionTracking());
+        waiters.add(waiter);
+        serveWaiters(true);
+
+        if (waiter.future.isPending()) {
+            if (poolService.isTerminated())
+                failWaiters();
+            else if (timeout > 0)
+                scheduleTimeout(waiter, timeout);
+        }
+        return waiter.future;
+    }
+
+    /**
+     * Completes the queued asynchronous requests, in FIFO order, for as long as Connections can be taken from the
+     * pool without waiting. If {@code idleOnly} is set, only the idle Connections are taken, and the creation of
+     * new Connections is handed off to the pool creator thread.
+     */
+    private void serveWaiters(boolean idleOnly) {
+        Waiter waiter;
+        while ((waiter = waiters.peek()) != null) {
+            if (!waiter.future.isPending()) { // cancelled, or timed out
+                waiters.remove(waiter);
+                continue;
+            }
+
+            if (idleOnly && poolService.remainingCreated() <= 0) {
+                if (poolService.createdTotal() < config.getPoolMaxSize())
+                    serveWaitersAsync();
+                return;
+            }
+            if (!tryAdmit())
+                return;
+            ConnHolder conn;
+            if (idleOnly)
+                takingIdleOnly.set(Boolean.TRUE);
+            try {
+                conn = poolService.tryTake();
+            } catch (ViburDBCPException e) { // can be (indirectly) thrown by the ConnectionFactory.create() methods
+                releaseAdmission(unpartitioned);
+                if (idleOnly) { // the idle Connection was taken by another thread meanwhile, or was not valid
+                    serveWaitersAsync();
+                    return;
+                }
+                if (waiters.remove(waiter) && waiter.future.claim())
+                    waiter.future.completeExceptionally(e.unwrapSQLException());
+                continue;
+            } finally {
+                if (idleOnly)
+                    takingIdleOnly.remove();
+            }
+            if (conn == null) {
+                releaseAdmission(unpartitioned);
+                return;
+            }
+            conn.setPartition(unpartitioned);
+
+            if (waiters.remove(waiter) && waiter.future.claim())
+                complete(waiter, conn);
+            else // the waiter was served by another thread, or was cancelled or timed out meanwhile
+                restoreTaken(conn);
+        }
+    }
+
+    private void complete(Waiter waiter, ConnHolder conn) {
+        if (waiter.thread != null) {
+            conn.setThread(waiter.thread);
+            conn.setLocation(waiter.location);
+        }
+        try {
+            Hook.GetConnection[] onGet = connHooks.onGet();
+            for (Hook.GetConnection hook : onGet)
+                hook.on(conn.value(), conn.getTakenNanoTime() - waiter.startTime);
+        } catch (SQLException e) {
+            restoreTaken(conn);
+            waiter.future.completeExceptionally(e);
+            return;
+        }
+        waiter.future.complete(proxyConnection(conn));
+    }
+
+    private void scheduleTimeout(final Waiter waiter, final long timeout) {
+        getOrInitExecutor(timer, "timer").schedule(new Runnable() {
+            @Override
+            public void run() {
+                if (!waiter.future.claim())
+                    return;
+                waiters.remove(waiter);
+                try {
+                    for (Hook.GetConnection hook : connHooks.onGet())
+                        hook.on(null, System.nanoTime() - waiter.startTime);
+                    waiter.future.completeExceptionally(connectionNotObtained(timeout));
+                } catch (SQLException e) {
+                    waiter.future.completeExceptionally(e);
+                }
+            }
+        }, timeout, MILLISECONDS);
+    }
+
+    /**
+     * Serves the queued asynchronous requests on the pool creator thread, which may create new Connections. Used
+     * when new Connections need to be created for the waiters, and when a Connection is restored to the pool by
+     * a thread which cannot take Connections from the pool on behalf of the waiters, such as the {@link PoolFiller}
+     * threads. At most one such task is pending at any time.
+     */
+    private void serveWaitersAsync() {
+        if (!creatorScheduled.compareAndSet(false, true))
+            return;
+        try {
+            getOrInitExecutor(creator, "creator").execute(new Runnable() {
+                @Override
+                public void run() {
+                    creatorScheduled.set(false);
+                    serveWaiters(false);
+                }
+            });
+        } catch (RejectedExecutionException ignored) { // the pool is being terminated
+            creatorScheduled.set(false);
+        }
+    }
+
+    /**
+     * Returns {@code true} if the current thread is taking a Connection from the pool on behalf of the asynchronous
+     * requests, and must not create a new Connection.
+     */
+    static boolean isTakingIdleOnly() {
+        return takingIdleOnly.get() != null;
+    }
+
+    private ScheduledThreadPoolExecutor getOrInitExecutor(AtomicReference<ScheduledThreadPoolExecutor> executor,
+                                                          final String kind) {
+        ScheduledThreadPoolExecutor result = executor.get();
+        if (result == null) {
+            result = new ScheduledThreadPoolExecutor(1, new ThreadFactory() {
+                @Override
+                public Thread newThread(Runnable r) {
+                    Thread thread = new Thread(r, "getConnectionAsync " + kind + " for pool " + config.getName());
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            });
+            result.setRemoveOnCancelPolicy(true);
+            if (!executor.compareAndSet(null, result)) {
+                result.shutdown();
+                result = executor.get();
+            }
+        }
+        return result;
+    }
+
+    private void failWaiters() {
+        Waiter waiter;
+        while ((waiter = waiters.poll()) != null) {
+            if (waiter.future.claim())
+                waiter.future.completeExceptionally(connectionNotObtained(0));
+        }
+    }
+
+    /**
+     * Fails all queued asynchronous getConnection requests, and stops the timer and the creator. Called when the
+     * pool is terminated.
+     */
+    public void terminate() {
+        failWaiters();
+        for (AtomicReference<ScheduledThreadPoolExecutor> executor : Arrays.asList(timer, creator)) {
+            ScheduledThreadPoolExecutor result = executor.getAndSet(null);
+            if (result != null)
+                result.shutdownNow();
+        }
+    }
+
+    private static final class Waiter {
+        private final ConnectionFuture future = new ConnectionFuture();
+        private final long startTime = System.nanoTime();
+        private final Thread thread; // these 2 fields are set only if isPoolEnableConnectionTracking()
+        private final Throwable location;
+
+        private Waiter(boolean tracking) {
+            this.thread = tracking ? Thread.currentThread() : null;
+            this.location = tracking ? new Throwable() : null;
+        }
+    }
+
+    //////// Restoring of Connections: ////////
+
     public void restore(ConnHolder conn, boolean valid, SQLException[] exceptions) {
         if (logger.isTraceEnabled())
             logger.trace("Restoring rawConnection {}", conn.value());
         boolean reusable = valid && exceptions.length == 0 && conn.version() == connectionFactory.version();
         poolService.restore(conn, reusable);
+        releaseAdmission(conn);
         processSQLExceptions(conn, exceptions);
+        if (!waiters.isEmpty())
+            serveWaiters(true);
     }
 
     /**
@@ -135,6 +521,10 @@ public class PoolOperations {
     private void processSQLExceptions(ConnHolder conn, SQLException[] exceptions) {
         int connVersion = conn.version();
         SQLException criticalException = getCriticalSQLException(exceptions);
+        if (criticalException != null && gradedRecovery != null && connVersion == connectionFactory.version()) {
+            gradedRecovery.recover(criticalException); // the Connection itself is not reusable and will be destroyed
+            return;
+        }
         if (criticalException != null && connectionFactory.compareAndSetVersion(connVersion, connVersion + 1)) {
             int destroyed = config.getPool().drainCreated(); // destroys all connections in the pool
             logger.error("Critical SQLState {} occurred, destroyed {} connections from pool {}, current connection version is {}.",
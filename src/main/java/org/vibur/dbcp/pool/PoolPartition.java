@@ -0,0 +1,107 @@
+/**
+ * Copyright 2024 the vibur-dbcp contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.vibur.dbcp.pool;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * A named partition of the pool, see {@link PoolPartitions}. Holds the partition quotas, the number of
+ * the Connections currently taken via the partition, and the partition metrics.
+ *
+ * @author agent
+ */
+public final class PoolPartition {
+
+    private final String name;
+    private final int minSize;
+    private final int maxSize;
+
+    // guarded by the PoolPartitions lock, and read without it only by the metrics getters
+    volatile int taken = 0;
+    volatile int peakTaken = 0;
+    int waiting = 0;
+    final Condition admittable;
+
+    private final AtomicLong requests = new AtomicLong(0);
+    private final AtomicLong timeouts = new AtomicLong(0);
+    private final AtomicLong waitNanos = new AtomicLong(0);
+
+    PoolPartition(String name, int minSize, int maxSize, Condition admittable) {
+        this.name = name;
+        this.minSize = minSize;
+        this.maxSize = maxSize;
+        this.admittable = admittable;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the number of Connections guaranteed to this partition, i.e. which the other partitions cannot take.
+     */
+    public int getMinSize() {
+        return minSize;
+    }
+
+    /**
+     * Returns the maximum number of Connections which can be taken at the same time via this partition.
+     */
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public int getTaken() {
+        return taken;
+    }
+
+    public int getPeakTaken() {
+        return peakTaken;
+    }
+
+    public long getRequests() {
+        return requests.get();
+    }
+
+    public long getTimeouts() {
+        return timeouts.get();
+    }
+
+    /**
+     * Returns the mean time in milliseconds for which the requests via this partition waited to be admitted
+     * and to get a Connection, including the requests which timed out.
+     */
+    public double getMeanWaitInMs() {
+        long requests = this.requests.get();
+        return requests > 0 ? NANOSECONDS.toMicros(waitNanos.get() / requests) / 1000.0 : 0;
+    }
+
+    void recordWait(long nanos, boolean obtained) {
+        requests.incrementAndGet();
+        waitNanos.addAndGet(nanos);
+        if (!obtained)
+            timeouts.incrementAndGet();
+    }
+
+    @Override
+    public String toString() {
+        return name + ':' + minSize + ':' + maxSize;
+    }
+}
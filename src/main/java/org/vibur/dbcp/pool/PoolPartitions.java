@@ -0,0 +1,212 @@
+/**
+ * Copyright 2024 the vibur-dbcp contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.vibur.dbcp.pool;
+
+import org.vibur.dbcp.ViburConfig;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Pattern;
+
+import static java.lang.String.format;
+
+/**
+ * The named partitions (bulkheads) of the pool, configured via {@link ViburConfig#getPoolPartitions poolPartitions}.
+ * All partitions share the same pool and the same idle Connections, but each of them can have at most
+ * {@link PoolPartition#getMaxSize maxSize} Connections taken at the same time, and is guaranteed to be able to take
+ * {@link PoolPartition#getMinSize minSize} Connections, which the other partitions cannot take. The requests which
+ * are not made via a named partition belong to an unnamed partition with no guarantee and no quota other than the
+ * {@link ViburConfig#getPoolMaxSize poolMaxSize}.
+ *
+ * <p>A request is admitted if its partition has fewer than {@code maxSize} Connections taken, and either has fewer
+ * than {@code minSize} Connections taken, or the pool has a Connection which is not guaranteed to a partition which
+ * has not yet taken its guaranteed Connections. The requests which cannot be admitted wait, in FIFO order within
+ * a partition, until a Connection is restored to the pool.
+ *
+ * @author agent
+ */
+public class PoolPartitions {
+
+    private static final Pattern separators = Pattern.compile("\\s*,\\s*");
+
+    private final int poolMaxSize;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<String, PoolPartition> partitions = new LinkedHashMap<>();
+    private final PoolPartition unpartitioned;
+    private final List<PoolPartition> all = new ArrayList<>();
+
+    // guarded by the lock
+    private int taken = 0;
+    private int reserved; // the guaranteed Connections which are not yet taken by their partitions
+
+    /**
+     * Parses the partitions from the given configuration.
+     *
+     * @throws IllegalArgumentException if the {@code poolPartitions} value is invalid
+     */
+    public PoolPartitions(ViburConfig config) {
+        this.poolMaxSize = config.getPoolMaxSize();
+        int minSizes = 0;
+        for (String spec : separators.split(config.getPoolPartitions().trim())) {
+            String[] parts = spec.split(":");
+            if (parts.length != 3 || parts[0].trim().isEmpty())
+                throw new IllegalArgumentException(format("Invalid pool partition %s, expected name:minSize:maxSize.", spec));
+            String name = parts[0].trim();
+            int minSize = Integer.parseInt(parts[1].trim());
+            int maxSize = Integer.parseInt(parts[2].trim());
+            if (minSize < 0 || maxSize < 1 || minSize > maxSize || maxSize > poolMaxSize || partitions.containsKey(name))
+                throw new IllegalArgumentException(format("Invalid pool partition %s.", spec));
+
+            PoolPartition partition = new PoolPartition(name, minSize, maxSize, lock.newCondition());
+            partitions.put(name, partition);
+            all.add(partition);
+            minSizes += minSize;
+        }
+        if (minSizes > poolMaxSize)
+            throw new IllegalArgumentException(format("The pool partitions minSizes sum %d is greater than the poolMaxSize.", minSizes));
+
+        this.reserved = minSizes;
+        this.unpartitioned = new PoolPartition("", 0, poolMaxSize, lock.newCondition());
+        all.add(unpartitioned);
+    }
+
+    /**
+     * Returns the partition with the given name, or {@code null} if there is no such partition.
+     */
+    public PoolPartition get(String name) {
+        return partitions.get(name);
+    }
+
+    public Collection<PoolPartition> getPartitions() {
+        return Collections.unmodifiableCollection(partitions.values());
+    }
+
+    /**
+     * Returns the unnamed partition of the requests which are not made via a named partition.
+     */
+    public PoolPartition getUnpartitioned() {
+        return unpartitioned;
+    }
+
+    /**
+     * Admits a request via the given partition, waiting if necessary up to the given timeout.
+     *
+     * @param partition the partition
+     * @param timeout the timeout; {@code 0} means forever
+     * @param unit the timeout unit
+     * @return {@code true} if the request was admitted, {@code false} if the timeout has elapsed
+     * @throws InterruptedException if the calling thread was interrupted while waiting
+     */
+    boolean acquire(PoolPartition partition, long timeout, TimeUnit unit) throws InterruptedException {
+        long nanos = unit.toNanos(timeout);
+        boolean acquired = false;
+        lock.lockInterruptibly();
+        try {
+            if (canAdmit(partition, true)) {
+                acquired = true;
+                return true;
+            }
+            partition.waiting++;
+            try {
+                while (!canAdmit(partition, false)) {
+                    if (timeout <= 0)
+                        partition.admittable.await();
+                    else if (nanos <= 0)
+                        return false;
+                    else
+                        nanos = partition.admittable.awaitNanos(nanos);
+                }
+                acquired = true;
+                return true;
+            } finally {
+                partition.waiting--;
+            }
+        } finally {
+            if (acquired)
+                admit(partition);
+            signalAdmittable(); // the next waiting requests may be admitted, too
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Admits a request via the given partition if this is possible without waiting.
+     */
+    boolean tryAcquire(PoolPartition partition) {
+        lock.lock();
+        try {
+            if (!canAdmit(partition, true))
+                return false;
+            admit(partition);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Releases an admission via the given partition, i.e. must be called when a Connection taken via
+     * the partition is restored to the pool, or when the admitted request couldn't get a Connection.
+     */
+    void release(PoolPartition partition) {
+        lock.lock();
+        try {
+            int partitionTaken = --partition.taken;
+            if (partitionTaken < partition.getMinSize())
+                reserved++;
+            taken--;
+            signalAdmittable();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns {@code true} if a request via the given partition can be admitted now. A newly arrived request waits
+     * also behind the already waiting requests of the same partition.
+     */
+    private boolean canAdmit(PoolPartition partition, boolean arriving) {
+        if (arriving && partition.waiting > 0)
+            return false;
+        if (partition.taken >= partition.getMaxSize())
+            return false;
+        return partition.taken < partition.getMinSize() || poolMaxSize - taken - reserved > 0;
+    }
+
+    private void admit(PoolPartition partition) {
+        int partitionTaken = partition.taken;
+        if (partitionTaken < partition.getMinSize())
+            reserved--;
+        partition.taken = ++partitionTaken;
+        if (partitionTaken > partition.peakTaken)
+            partition.peakTaken = partitionTaken;
+        taken++;
+    }
+
+    private void signalAdmittable() {
+        for (PoolPartition partition : all) {
+            if (partition.waiting > 0 && canAdmit(partition, false))
+                partition.admittable.signal();
+        }
+    }
+}
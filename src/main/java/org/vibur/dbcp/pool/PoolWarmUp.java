@@ -0,0 +1,144 @@
+/**
+ * Copyright 2024 the vibur-dbcp contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.vibur.dbcp.pool;
+
+import org.vibur.dbcp.ViburDBCPException;
+import org.vibur.objectpool.PoolObjectFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.Objects.requireNonNull;
+import static org.vibur.objectpool.util.ArgumentValidation.forbidIllegalArgument;
+
+/**
+ * The pool object factory used when the initial pool Connections are created in parallel, see
+ * {@link org.vibur.dbcp.ViburConfig#getPoolWarmUpConcurrency poolWarmUpConcurrency}. Upon its construction, this
+ * factory starts the given number of threads which create the given number of Connections via the underlying
+ * {@link ViburObjectFactory}. The first {@code count} calls to {@link #create} return these Connections, in the
+ * order in which they were created, and all subsequent calls, as well as all other operations, are delegated
+ * to the underlying factory. Thus, the pool can be constructed with its usual initial size, and while it requests
+ * its initial Connections one after another, they are created concurrently.
+ *
+ * <p>If the creation of any of the initial Connections fails, the respective {@code create} call rethrows
+ * the failure, be it the {@link ViburDBCPException} or any other unchecked exception or error, the creation of the remaining initial Connections is stopped, and the already
+ * created but not yet returned Connections are destroyed.
+ *
+ * @author agent
+ */
+public class PoolWarmUp implements PoolObjectFactory<ConnHolder> {
+
+    private final ViburObjectFactory connectionFactory;
+
+    private final BlockingQueue<Object> created; // contains ConnHolders or Throwables
+    private final AtomicInteger toCreate;
+    private final AtomicInteger toReturn;
+    private volatile boolean failed = false;
+
+    public PoolWarmUp(ViburObjectFactory connectionFactory, int count, int concurrency, String poolName) {
+        forbidIllegalArgument(count < 0);
+        forbidIllegalArgument(concurrency < 1);
+        this.connectionFactory = requireNonNull(connectionFactory);
+        this.created = new LinkedBlockingQueue<>();
+        this.toCreate = new AtomicInteger(count);
+        this.toReturn = new AtomicInteger(count);
+
+        Runnable creator = new Runnable() {
+            @Override
+            public void run() {
+                while (!failed && toCreate.getAndDecrement() > 0) {
+                    try {
+                        created.add(PoolWarmUp.this.connectionFactory.create());
+                        if (failed) // the failure might have been already handled
+                            destroyCreated();
+                    } catch (Throwable t) { // any failure must reach the create() call which waits for it
+                        failed = true;
+                        created.add(t);
+                    }
+                }
+            }
+        };
+        for (int i = 0; i < Math.min(concurrency, count); i++) {
+            Thread thread = new Thread(creator, getClass().getSimpleName() + " for pool " + poolName);
+            thread.setDaemon(true);
+            thread.start();
+        }
+    }
+
+    @Override
+    public ConnHolder create() throws ViburDBCPException {
+        if (toReturn.getAndDecrement() <= 0)
+            return connectionFactory.create();
+
+        Object conn = takeUninterruptibly();
+        if (conn instanceof Throwable) {
+            toReturn.set(0);
+            destroyCreated();
+            if (conn instanceof RuntimeException) // including the ViburDBCPException
+                throw (RuntimeException) conn;
+            if (conn instanceof Error)
+                throw (Error) conn;
+            throw new ViburDBCPException((Throwable) conn);
+        }
+        return (ConnHolder) conn;
+    }
+
+    private Object takeUninterruptibly() {
+        boolean interrupted = false;
+        try {
+            for (;;) {
+                try {
+                    return created.take();
+                } catch (InterruptedException ignored) {
+                    interrupted = true;
+                }
+            }
+        } finally {
+            if (interrupted)
+                Thread.currentThread().interrupt();
+        }
+    }
+
+    private void destroyCreated() {
+        List<Object> drained = new ArrayList<>();
+        created.drainTo(drained);
+        for (Object conn : drained) {
+            if (conn instanceof ConnHolder)
+                connectionFactory.destroy((ConnHolder) conn);
+            else
+                created.add(conn); // a failure not yet received by the create() call
+        }
+    }
+
+    @Override
+    public boolean readyToTake(ConnHolder conn) {
+        return connectionFactory.readyToTake(conn);
+    }
+
+    @Override
+    public boolean readyToRestore(ConnHolder conn) {
+        return connectionFactory.readyToRestore(conn);
+    }
+
+    @Override
+    public void destroy(ConnHolder conn) {
+        connectionFactory.destroy(conn);
+    }
+}
@@ -0,0 +1,204 @@
+/**
+ * Copyright 2024 the vibur-dbcp contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.vibur.dbcp.pool;
+
+import org.vibur.dbcp.ViburConfig;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static org.vibur.objectpool.util.ArgumentValidation.forbidIllegalArgument;
+
+/**
+ * The priority gate, which admits the {@code getConnection} requests to the pool according to their
+ * {@link ConnectionPriority}. Each priority can have at most a given number of Connections taken: the
+ * {@link ConnectionPriority#HIGH HIGH} priority requests can take up to {@link ViburConfig#getPoolMaxSize
+ * poolMaxSize} Connections, the {@link ConnectionPriority#NORMAL NORMAL} priority requests up to
+ * {@code poolMaxSize} minus the {@link ViburConfig#getPoolHighPriorityReserve poolHighPriorityReserve}, and the
+ * {@link ConnectionPriority#LOW LOW} priority requests up to the latter minus the
+ * {@link ViburConfig#getPoolNormalPriorityReserve poolNormalPriorityReserve}. Thus, the reserved Connections
+ * remain available to the higher priority requests even when the lower priority requests saturate the pool.
+ *
+ * <p>The requests which cannot be admitted wait in priority order: a request is not admitted while there are
+ * waiting requests with the same or higher priority, and within the same priority the requests are admitted
+ * in FIFO order. The gate also records the time for which the requests of each priority waited to get
+ * a Connection.
+ *
+ * @author agent
+ */
+public class PriorityGate {
+
+    private static final ConnectionPriority[] PRIORITIES = ConnectionPriority.values();
+
+    private final int[] limits = new int[PRIORITIES.length];
+    private final int[] waiting = new int[PRIORITIES.length];
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition[] conditions = new Condition[PRIORITIES.length];
+    private int admitted = 0;
+
+    private final WaitStats[] stats = new WaitStats[PRIORITIES.length];
+
+    public PriorityGate(ViburConfig config) {
+        int highReserve = config.getPoolHighPriorityReserve();
+        int normalReserve = config.getPoolNormalPriorityReserve();
+        forbidIllegalArgument(highReserve < 0 || normalReserve < 0
+                || highReserve + normalReserve >= config.getPoolMaxSize());
+
+        limits[ConnectionPriority.HIGH.ordinal()] = config.getPoolMaxSize();
+        limits[ConnectionPriority.NORMAL.ordinal()] = config.getPoolMaxSize() - highReserve;
+        limits[ConnectionPriority.LOW.ordinal()] = config.getPoolMaxSize() - highReserve - normalReserve;
+        for (int i = 0; i < PRIORITIES.length; i++) {
+            conditions[i] = lock.newCondition();
+            stats[i] = new WaitStats();
+        }
+    }
+
+    /**
+     * Admits a request with the given priority, waiting if necessary up to the given timeout.
+     *
+     * @param priority the request priority
+     * @param timeout the timeout; {@code 0} means forever
+     * @param unit the timeout unit
+     * @return {@code true} if the request was admitted, {@code false} if the timeout has elapsed
+     * @throws InterruptedException if the calling thread was interrupted while waiting
+     */
+    boolean acquire(ConnectionPriority priority, long timeout, TimeUnit unit) throws InterruptedException {
+        int p = priority.ordinal();
+        long nanos = unit.toNanos(timeout);
+        boolean acquired = false;
+        lock.lockInterruptibly();
+        try {
+            if (canAdmit(p, true)) {
+                acquired = true;
+                return true;
+            }
+            waiting[p]++;
+            try {
+                while (!canAdmit(p, false)) {
+                    if (timeout <= 0)
+                        conditions[p].await();
+                    else if (nanos <= 0)
+                        return false;
+                    else
+                        nanos = conditions[p].awaitNanos(nanos);
+                }
+                acquired = true;
+                return true;
+            } finally {
+                waiting[p]--;
+            }
+        } finally {
+            if (acquired)
+                admitted++;
+            signalNext(); // the next waiting request may be admitted, too
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Admits a request with the given priority if this is possible without waiting.
+     */
+    boolean tryAcquire(ConnectionPriority priority) {
+        lock.lock();
+        try {
+            if (!canAdmit(priority.ordinal(), true))
+                return false;
+            admitted++;
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Releases an admission, i.e. must be called when a Connection taken by an admitted request is restored
+     * to the pool, or when the admitted request couldn't get a Connection.
+     */
+    void release() {
+        lock.lock();
+        try {
+            admitted--;
+            signalNext();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns {@code true} if a request with the given priority can be admitted now. A newly arrived request waits
+     * also behind the already waiting requests with the same priority.
+     */
+    private boolean canAdmit(int p, boolean arriving) {
+        if (admitted >= limits[p])
+            return false;
+        for (int i = arriving ? p : p + 1; i < waiting.length; i++) {
+            if (waiting[i] > 0)
+                return false;
+        }
+        return true;
+    }
+
+    private void signalNext() {
+        for (int i = waiting.length - 1; i >= 0; i--) {
+            if (waiting[i] > 0) { // the lower priority requests cannot be admitted while this one is waiting
+                if (admitted < limits[i])
+                    conditions[i].signal();
+                return;
+            }
+        }
+    }
+
+    void recordWait(ConnectionPriority priority, long waitNanos) {
+        stats[priority.ordinal()].record(waitNanos);
+    }
+
+    /**
+     * Returns the mean time in milliseconds for which the requests with the given priority waited to get
+     * a Connection, including the requests which timed out.
+     */
+    public double getMeanWaitInMs(ConnectionPriority priority) {
+        WaitStats stats = this.stats[priority.ordinal()];
+        long requests = stats.requests.get();
+        return requests > 0 ? NANOSECONDS.toMicros(stats.waitNanos.get() / requests) / 1000.0 : 0;
+    }
+
+    /**
+     * Returns the maximum time in milliseconds for which a request with the given priority waited to get
+     * a Connection.
+     */
+    public long getMaxWaitInMs(ConnectionPriority priority) {
+        return NANOSECONDS.toMillis(stats[priority.ordinal()].maxWaitNanos.get());
+    }
+
+    private static final class WaitStats {
+        private final AtomicLong requests = new AtomicLong(0);
+        private final AtomicLong waitNanos = new AtomicLong(0);
+        private final AtomicLong maxWaitNanos = new AtomicLong(0);
+
+        private void record(long nanos) {
+            requests.incrementAndGet();
+            waitNanos.addAndGet(nanos);
+            for (long max; nanos > (max = maxWaitNanos.get()); ) {
+                if (maxWaitNanos.compareAndSet(max, nanos))
+                    break;
+            }
+        }
+    }
+}
@@ -0,0 +1,280 @@
+/**
+ * Copyright 2024 the vibur-dbcp contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.vibur.dbcp.pool;
+
+import org.vibur.objectpool.ConcurrentPool;
+import org.vibur.objectpool.PoolObjectFactory;
+import org.vibur.objectpool.PoolService;
+import org.vibur.objectpool.util.ConcurrentCollection;
+import org.vibur.objectpool.util.Listener;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static org.vibur.objectpool.util.ArgumentValidation.forbidIllegalArgument;
+
+/**
+ * A {@link PoolService} which splits the pool into a number of stripes, each of which is a separate
+ * {@link ConcurrentPool} with its own collection of available connections, its own permits, and a share of the pool
+ * initial and max sizes. Each thread has a home stripe, chosen by the thread id, from which it takes connections.
+ * The thread first takes an idle connection from its home stripe, or if there is none, steals an idle connection
+ * from the other stripes; only if no stripe has an idle connection, a new connection is created in the first stripe
+ * (starting from the home stripe) which has not reached its max size. If all stripes are exhausted, the thread waits
+ * on its home stripe, re-checking the other stripes every {@link #WAIT_SLICE_MS} milliseconds.
+ *
+ * <p>The {@link #isFair fairness} applies only within each stripe: the threads waiting on the same home stripe obtain
+ * its restored connections in FIFO order, but a waiting thread can be overtaken by a newly arrived thread which
+ * steals a connection restored to another stripe, i.e., the striped pool as a whole is not FIFO fair.
+ *
+ * <p>Because the stripe max sizes sum up to the pool max size, and every connection is restored to the stripe from
+ * which it was taken, the {@code taken}, {@code remainingCreated}, {@code createdTotal} and the other pool metrics,
+ * which are the sums of the respective stripe metrics, remain correct, and the pool never holds more than the
+ * configured max size connections. All stripes share the same {@link Listener}.
+ *
+ * @author agent
+ */
+public class StripedPool implements PoolService<ConnHolder> {
+
+    static final long WAIT_SLICE_MS = 10;
+
+    private final PoolService<ConnHolder>[] stripes;
+    private final List<ConcurrentCollection<ConnHolder>> available; // the idle connections of each stripe
+    private final int initialSize;
+    private final int maxSize;
+    private final boolean fair;
+    private final Listener<ConnHolder> listener;
+
+    /**
+     * Creates a new striped pool.
+     *
+     * @param collections the collections of available connections, one for each stripe; their number must be
+     *                    between 1 and {@code maxSize}
+     * @param poolObjectFactory the factory which creates and destroys the connections, shared by all stripes
+     * @param initialSize the pool initial size, split between the stripes
+     * @param maxSize the pool max size, split between the stripes
+     * @param fair the pool fairness setting, which applies within each stripe
+     * @param listener the listener, shared by all stripes; can be {@code null}
+     */
+    public StripedPool(List<ConcurrentCollection<ConnHolder>> collections,
+                       PoolObjectFactory<ConnHolder> poolObjectFactory,
+                       int initialSize, int maxSize, boolean fair, Listener<ConnHolder> listener) {
+        forbidIllegalArgument(collections.isEmpty() || collections.size() > maxSize);
+        forbidIllegalArgument(initialSize < 0 || initialSize > maxSize);
+
+        this.stripes = newStripes(collections.size());
+        this.available = collections;
+        this.initialSize = initialSize;
+        this.maxSize = maxSize;
+        this.fair = fair;
+        this.listener = listener;
+
+        for (int i = 0; i < stripes.length; i++)
+            stripes[i] = new ConcurrentPool<>(collections.get(i), poolObjectFactory,
+                    share(initialSize, i), share(maxSize, i), fair, listener);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"}) // a generic array creation
+    private static PoolService<ConnHolder>[] newStripes(int length) {
+        return new PoolService[length];
+    }
+
+    PoolService<ConnHolder>[] stripes() {
+        return stripes;
+    }
+
+    private int share(int size, int stripe) {
+        return size / stripes.length + (stripe < size % stripes.length ? 1 : 0);
+    }
+
+    private int homeStripe() {
+        long id = Thread.currentThread().getId();
+        return (int) ((id ^ (id >>> 32)) & Integer.MAX_VALUE) % stripes.length;
+    }
+
+    @Override
+    public ConnHolder take() {
+        ConnHolder conn;
+        do {
+            conn = take(Long.MAX_VALUE);
+        } while (conn == null && !isTerminated() && !Thread.currentThread().isInterrupted());
+        return conn;
+    }
+
+    @Override
+    public ConnHolder tryTake(long timeout, TimeUnit unit) {
+        return take(unit.toNanos(timeout));
+    }
+
+    @Override
+    public ConnHolder tryTake() {
+        return take(0);
+    }
+
+    private ConnHolder take(long timeoutNanos) {
+        int home = homeStripe();
+        ConnHolder conn = stealOrTake(home);
+        if (conn != null || timeoutNanos <= 0)
+            return conn;
+
+        long deadline = System.nanoTime() + timeoutNanos;
+        long sliceNanos = MILLISECONDS.toNanos(WAIT_SLICE_MS);
+        for (long remaining = timeoutNanos; remaining > 0; remaining = deadline - System.nanoTime()) {
+            conn = stripes[home].tryTake(Math.min(remaining, sliceNanos), NANOSECONDS);
+            if (conn != null)
+                return taken(conn, home);
+            if (isTerminated() || Thread.currentThread().isInterrupted())
+                return null;
+            if ((conn = stealOrTake(home)) != null)
+                return conn;
+        }
+        return null;
+    }
+
+    /**
+     * Tries to take a connection without waiting: first an idle connection from the home stripe and then from
+     * the other stripes, and only then a new connection from the first stripe which can create one. The check
+     * whether a stripe has an idle connection is racy, i.e., a new connection can occasionally be created when
+     * the last idle connection of the stripe has just been taken by another thread.
+     */
+    private ConnHolder stealOrTake(int home) {
+        for (int i = 0; i < stripes.length; i++) {
+            int stripe = (home + i) % stripes.length;
+            if (available.get(stripe).isEmpty())
+                continue;
+            ConnHolder conn = stripes[stripe].tryTake();
+            if (conn != null)
+                return taken(conn, stripe);
+        }
+        for (int i = 0; i < stripes.length; i++) {
+            int stripe = (home + i) % stripes.length;
+            ConnHolder conn = stripes[stripe].tryTake();
+            if (conn != null)
+                return taken(conn, stripe);
+        }
+        return null;
+    }
+
+    private static ConnHolder taken(ConnHolder conn, int stripe) {
+        conn.setStripe(stripe);
+        return conn;
+    }
+
+    @Override
+    public void restore(ConnHolder conn) {
+        restore(conn, true);
+    }
+
+    @Override
+    public void restore(ConnHolder conn, boolean valid) {
+        stripes[conn.getStripe()].restore(conn, valid);
+    }
+
+    @Override
+    public Listener<ConnHolder> listener() {
+        return listener;
+    }
+
+    @Override
+    public boolean isFair() {
+        return fair;
+    }
+
+    @Override
+    public int taken() {
+        int taken = 0;
+        for (PoolService<ConnHolder> stripe : stripes)
+            taken += stripe.taken();
+        return taken;
+    }
+
+    @Override
+    public int remainingCreated() {
+        int remainingCreated = 0;
+        for (PoolService<ConnHolder> stripe : stripes)
+            remainingCreated += stripe.remainingCreated();
+        return remainingCreated;
+    }
+
+    @Override
+    public int createdTotal() {
+        int createdTotal = 0;
+        for (PoolService<ConnHolder> stripe : stripes)
+            createdTotal += stripe.createdTotal();
+        return createdTotal;
+    }
+
+    @Override
+    public int remainingCapacity() {
+        int remainingCapacity = 0;
+        for (PoolService<ConnHolder> stripe : stripes)
+            remainingCapacity += stripe.remainingCapacity();
+        return remainingCapacity;
+    }
+
+    @Override
+    public int initialSize() {
+        return initialSize;
+    }
+
+    @Override
+    public int maxSize() {
+        return maxSize;
+    }
+
+    @Override
+    public int drainCreated() {
+        int drained = 0;
+        for (PoolService<ConnHolder> stripe : stripes)
+            drained += stripe.drainCreated();
+        return drained;
+    }
+
+    @Override
+    public int reduceCreatedBy(int reduction, boolean ignoreInitialSize) {
+        forbidIllegalArgument(reduction < 0);
+
+        int reduced = 0;
+        for (int i = 0; i < stripes.length && reduced < reduction; i++)
+            reduced += stripes[i].reduceCreatedBy(reduction - reduced, ignoreInitialSize);
+        return reduced;
+    }
+
+    @Override
+    public int reduceCreatedTo(int size, boolean ignoreInitialSize) {
+        forbidIllegalArgument(size < 0);
+
+        return reduceCreatedBy(Math.max(createdTotal() - size, 0), ignoreInitialSize);
+    }
+
+    @Override
+    public void terminate() {
+        for (PoolService<ConnHolder> stripe : stripes)
+            stripe.terminate();
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return stripes[0].isTerminated();
+    }
+
+    @Override
+    public void close() {
+        terminate();
+    }
+}
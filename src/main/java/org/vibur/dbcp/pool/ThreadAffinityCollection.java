@@ -0,0 +1,173 @@
+/**
+ * Copyright 2024 the vibur-dbcp contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.vibur.dbcp.pool;
+
+import org.vibur.objectpool.util.ConcurrentCollection;
+
+import java.lang.ref.WeakReference;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A {@link ConcurrentCollection} of the available connections, which adds a thread affinity fast path in front of
+ * the given underlying collection. Each thread remembers in a thread local slot the connection which it last restored
+ * in the pool, and tries to claim this connection first when it takes a connection from the pool again. The claim is
+ * a compare-and-set on the connection state, and the connection also stays in the underlying collection, from where
+ * any other thread can steal it if it is still available.
+ *
+ * <p>A connection claimed via the fast path leaves a stale entry in the underlying collection, which is skipped and
+ * dropped when polled, or is reused when the same connection is restored again, i.e. the underlying collection never
+ * holds more than one entry for the same connection. Because the fast path is implemented on the level of the
+ * collection, the pool permits, the fairness, and the taken/created connections accounting of the
+ * {@code ConcurrentPool} remain unchanged; in particular, each take and restore still acquires and releases
+ * a {@code ConcurrentPool} permit, i.e., the fast path avoids the contention on the head of the underlying
+ * collection but not the one on the pool semaphore.
+ *
+ * <p>The number of the available connections is kept in striped counters, selected by the thread id, so that
+ * the fast path does not update a single shared counter. The thread local slots hold the connections via weak
+ * references, so that they don't keep the connections of a terminated pool reachable from the application threads.
+ *
+ * @author agent
+ */
+public class ThreadAffinityCollection implements ConcurrentCollection<ConnHolder> {
+
+    // the ConnHolder.affinityState values:
+    static final int TAKEN = 0;     // not available, and no entry for it in the underlying collection
+    static final int AVAILABLE = 1; // available, and there is one entry for it in the underlying collection
+    static final int CLAIMED = 2;   // taken via the thread local slot, and its entry is still in the underlying collection
+
+    private static final AtomicIntegerFieldUpdater<ConnHolder> state =
+            AtomicIntegerFieldUpdater.newUpdater(ConnHolder.class, "affinityState");
+
+    // the number of stripes of the size counter, a power of 2, and the spacing between the stripes in the array,
+    // which keeps them on separate cache lines
+    private static final int STRIPES = Integer.highestOneBit(Runtime.getRuntime().availableProcessors()) << 1;
+    private static final int STRIPE_SPACING = 16;
+
+    private final ConcurrentCollection<ConnHolder> available;
+    private final AtomicLongArray sizes = new AtomicLongArray(STRIPES * STRIPE_SPACING);
+    private final ThreadLocal<WeakReference<ConnHolder>> lastRestored = new ThreadLocal<>();
+
+    public ThreadAffinityCollection(ConcurrentCollection<ConnHolder> available) {
+        this.available = requireNonNull(available);
+    }
+
+    @Override
+    public void offerFirst(ConnHolder conn) {
+        if (makeAvailable(conn))
+            available.offerFirst(conn);
+    }
+
+    @Override
+    public void offerLast(ConnHolder conn) {
+        if (makeAvailable(conn))
+            available.offerLast(conn);
+    }
+
+    /**
+     * Marks the given connection as available, and returns {@code true} if it needs to be added to the underlying
+     * collection, or {@code false} if its previous entry is still there.
+     */
+    private boolean makeAvailable(ConnHolder conn) {
+        addSize(1);
+        WeakReference<ConnHolder> ref = lastRestored.get();
+        if (ref == null || ref.get() != conn) // usually the thread restores the same connection which it took
+            lastRestored.set(new WeakReference<>(conn));
+        for (;;) {
+            int current = conn.affinityState;
+            if (current == CLAIMED && state.compareAndSet(conn, CLAIMED, AVAILABLE))
+                return false;
+            if (current == TAKEN && state.compareAndSet(conn, TAKEN, AVAILABLE))
+                return true;
+            assert current != AVAILABLE;
+        }
+    }
+
+    @Override
+    public ConnHolder pollFirst() {
+        ConnHolder conn = claimLastRestored();
+        if (conn != null)
+            return conn;
+
+        while ((conn = available.pollFirst()) != null) {
+            if (takeFromCollection(conn))
+                return conn;
+        }
+        return null;
+    }
+
+    @Override
+    public ConnHolder pollLast() {
+        ConnHolder conn;
+        while ((conn = available.pollLast()) != null) {
+            if (takeFromCollection(conn))
+                return conn;
+        }
+        return null;
+    }
+
+    private ConnHolder claimLastRestored() {
+        WeakReference<ConnHolder> ref = lastRestored.get();
+        ConnHolder conn = ref != null ? ref.get() : null;
+        if (conn == null)
+            return null;
+        if (state.compareAndSet(conn, AVAILABLE, CLAIMED)) {
+            addSize(-1);
+            return conn;
+        }
+        lastRestored.remove(); // it was stolen by another thread, or removed from the pool
+        return null;
+    }
+
+    /**
+     * Handles a connection just polled from the underlying collection, and returns {@code true} if it was available
+     * and is now taken, or {@code false} if it was a stale entry for a connection claimed via the fast path.
+     */
+    private boolean takeFromCollection(ConnHolder conn) {
+        for (;;) {
+            int current = conn.affinityState;
+            if (current == AVAILABLE && state.compareAndSet(conn, AVAILABLE, TAKEN)) {
+                addSize(-1);
+                return true;
+            }
+            if (current == CLAIMED && state.compareAndSet(conn, CLAIMED, TAKEN))
+                return false;
+            if (current == TAKEN)
+                return false;
+        }
+    }
+
+    private void addSize(int delta) {
+        int stripe = (int) Thread.currentThread().getId() & (STRIPES - 1);
+        sizes.addAndGet(stripe * STRIPE_SPACING, delta);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() <= 0;
+    }
+
+    @Override
+    public int size() {
+        long result = 0;
+        for (int i = 0; i < STRIPES; i++)
+            result += sizes.get(i * STRIPE_SPACING);
+        return (int) Math.max(result, 0);
+    }
+}
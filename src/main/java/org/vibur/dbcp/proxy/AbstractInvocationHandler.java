@@ -27,10 +27,11 @@ import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.sql.SQLException;
 import java.util.Arrays;
-import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
 
 import static org.vibur.dbcp.ViburConfig.SQLSTATE_OBJECT_CLOSED_ERROR;
 import static org.vibur.dbcp.ViburConfig.SQLSTATE_WRAPPER_ERROR;
+import static org.vibur.dbcp.proxy.MethodDispatch.*;
 import static org.vibur.dbcp.util.ViburUtils.getPoolName;
 
 /**
@@ -47,12 +48,16 @@ abstract class AbstractInvocationHandler<T> extends ExceptionCollector implement
      *  For example, the underlying JDBC Connection, the underlying JDBC Statement, etc. */
     private final T target;
 
-    private final ViburConfig config;
+    final ViburConfig config;
     private final Hook.MethodInvocation[] onMethodInvocation;
 
     private final ExceptionCollector exceptionCollector;
 
-    private final AtomicBoolean closed = new AtomicBoolean(false);
+    @SuppressWarnings("rawtypes")
+    private static final AtomicIntegerFieldUpdater<AbstractInvocationHandler> closedUpdater =
+            AtomicIntegerFieldUpdater.newUpdater(AbstractInvocationHandler.class, "closed");
+    private volatile int closed = 0; // 0 - open, 1 - closed; a field updater is used instead of an AtomicBoolean
+                                     // as an invocation handler is created for each proxied JDBC object
 
     AbstractInvocationHandler(T target, ViburConfig config, ExceptionCollector exceptionCollector) {
         assert target != null;
@@ -71,13 +76,14 @@ abstract class AbstractInvocationHandler<T> extends ExceptionCollector implement
         @SuppressWarnings("unchecked")
         T proxy = (T) objProxy;
 
-        Object unrestrictedResult = unrestrictedInvoke(proxy, method, args); // (1)
+        int opcode = opcode(method);
+        Object unrestrictedResult = unrestrictedInvoke(proxy, opcode, method, args); // (1)
         if (unrestrictedResult != NO_RESULT)
             return unrestrictedResult;
 
         restrictedAccessEntry(proxy, method, args); // (2)
 
-        return restrictedInvoke(proxy, method, args); // (3)
+        return restrictedInvoke(proxy, opcode, method, args); // (3)
     }
 
     /**
@@ -88,40 +94,59 @@ abstract class AbstractInvocationHandler<T> extends ExceptionCollector implement
      * returns {@link #NO_RESULT} to indicate this.
      *
      * @param proxy see {@link java.lang.reflect.InvocationHandler#invoke}
-     * @param method as above
+     * @param opcode the {@link MethodDispatch} opcode of the invoked method
+     * @param method see {@link java.lang.reflect.InvocationHandler#invoke}
      * @param args as above
      * @return as above
      * @throws SQLException if the invoked underlying method throws such
      */
-    Object unrestrictedInvoke(T proxy, Method method, Object[] args) throws SQLException {
-        String methodName = method.getName();
-
-        if (methodName == "equals") // comparing with == as the Method names are interned Strings
-            return proxy == args[0];
-        if (methodName == "hashCode")
-            return System.identityHashCode(proxy);
-        if (methodName == "toString")
-            return "Vibur proxy for: " + target;
-        // getClass(), notify(), notifyAll(), and wait() method calls are not intercepted by the dynamic proxies
-
-        if (methodName == "unwrap") {
-            @SuppressWarnings("unchecked")
-            Class<T> iface = (Class<T>) args[0];
-            return unwrap(iface);
+    Object unrestrictedInvoke(T proxy, int opcode, Method method, Object[] args) throws SQLException {
+        switch (opcode) {
+            case EQUALS:
+                return proxy == args[0];
+            case HASH_CODE:
+                return System.identityHashCode(proxy);
+            case TO_STRING:
+                return "Vibur proxy for: " + target;
+            // getClass(), notify(), notifyAll(), and wait() method calls are not intercepted by the dynamic proxies
+
+            case UNWRAP:
+                @SuppressWarnings("unchecked")
+                Class<T> iface = (Class<T>) args[0];
+                return unwrap(iface);
+            case IS_WRAPPER_FOR:
+                return isWrapperFor((Class<?>) args[0]);
+
+            default:
+                return NO_RESULT;
         }
-        if (methodName == "isWrapperFor")
-            return isWrapperFor((Class<?>) args[0]);
-
-        return NO_RESULT;
     }
 
-    private void restrictedAccessEntry(T proxy, Method method, Object[] args) throws SQLException {
-        if (isClosed())
+    final void restrictedAccessEntry(Object proxy, Method method, Object[] args) throws SQLException {
+        if (isClosed(proxy))
             throw new SQLException(target.getClass().getName() + " is closed.", SQLSTATE_OBJECT_CLOSED_ERROR);
         for (Hook.MethodInvocation hook : onMethodInvocation)
             hook.on(proxy, method, args);
     }
 
+    /**
+     * Returns {@code true} if the {@link #restrictedAccessEntry} needs to be passed through before a restricted method
+     * invocation, i.e., if this invocation handler is closed or if there are registered {@code MethodInvocation} hooks.
+     * Used by the concrete proxies, which call {@code restrictedAccessEntry} only when this method returns
+     * {@code true}, in order to avoid the allocation of the method {@code args} array on their fast path.
+     */
+    final boolean accessEntryRequired() {
+        return onMethodInvocation.length > 0 || isClosed();
+    }
+
+    /**
+     * As {@link #accessEntryRequired()}, but for a concrete proxy whose invocation handler can back more than one
+     * proxy, see {@link #isClosed(Object)}.
+     */
+    final boolean accessEntryRequired(Object proxy) {
+        return onMethodInvocation.length > 0 || isClosed(proxy);
+    }
+
     /**
      * Handles all restricted method invocations that occur after (and if) we have passed through the
      * {@link #restrictedAccessEntry}. This method will be overridden in the {@code AbstractInvocationHandler}
@@ -130,12 +155,13 @@ abstract class AbstractInvocationHandler<T> extends ExceptionCollector implement
      * proxied object.
      *
      * @param proxy see {@link java.lang.reflect.InvocationHandler#invoke}
-     * @param method as above
+     * @param opcode the {@link MethodDispatch} opcode of the invoked method
+     * @param method see {@link java.lang.reflect.InvocationHandler#invoke}
      * @param args as above
      * @return as above
      * @throws SQLException if the invoked underlying method throws such
      */
-    Object restrictedInvoke(T proxy, Method method, Object[] args) throws SQLException {
+    Object restrictedInvoke(T proxy, int opcode, Method method, Object[] args) throws SQLException {
         return targetInvoke(method, args);
     }
 
@@ -148,14 +174,11 @@ abstract class AbstractInvocationHandler<T> extends ExceptionCollector implement
             if (cause == null)
                 cause = e;
 
-            logTargetInvokeFailure(method, args, cause);
+            if (cause instanceof SQLException)
+                throw targetException(method, args, (SQLException) cause);
 
-            if (cause instanceof SQLException) {
-                SQLException sqlException = (SQLException) cause;
-                exceptionCollector.addException(sqlException);
-                throw sqlException;
-            }
-            else if (cause instanceof RuntimeException)
+            logTargetInvokeFailure(method, args, cause);
+            if (cause instanceof RuntimeException)
                 throw (RuntimeException) cause;
             else if (cause instanceof Error)
                 throw (Error) cause;
@@ -166,7 +189,23 @@ abstract class AbstractInvocationHandler<T> extends ExceptionCollector implement
         }
     }
 
-    private void logTargetInvokeFailure(Method method, Object[] args, Throwable t) {
+
+    /**
+     * Logs and collects the given SQLException thrown by the invocation of the given method on the target object,
+     * and returns it so that it can be rethrown by the caller.
+     */
+    final SQLException targetException(Method method, Object[] args, SQLException e) {
+        logTargetInvokeFailure(method, args, e);
+        exceptionCollector.addException(e);
+        return e;
+    }
+
+    /**
+     * Logs the given RuntimeException, Error or SQLException thrown by the invocation of the given method on
+     * the target object. Used directly by the concrete proxies for the unchecked exceptions, which are rethrown
+     * unchanged as in {@link #targetInvoke}.
+     */
+    final void logTargetInvokeFailure(Method method, Object[] args, Throwable t) {
         if (logger.isDebugEnabled())
             logger.debug("Pool {}, the invocation of {} with args {} on {} threw:",
                     getPoolName(config), method, Arrays.toString(args), target, t);
@@ -182,11 +221,26 @@ abstract class AbstractInvocationHandler<T> extends ExceptionCollector implement
      * from open to close.
      */
     final boolean close() {
-        return !closed.getAndSet(true);
+        return closed == 0 && closedUpdater.compareAndSet(this, 0, 1);
     }
 
-    final boolean isClosed() {
-        return closed.get();
+    /**
+     * Logically reopens this invocation handler. Used only for the recycled Connection invocation handlers.
+     */
+    final void open() {
+        closed = 0;
+    }
+
+    boolean isClosed() {
+        return closed != 0;
+    }
+
+    /**
+     * Returns {@code true} if this invocation handler is closed for the given proxy. Overridden by the
+     * {@link ConnectionInvocationHandler} which, when recycled, backs a different Connection proxy on each lease.
+     */
+    boolean isClosed(Object proxy) {
+        return isClosed();
     }
 
     public final T getTarget() {
@@ -0,0 +1,83 @@
+/**
+ * Copyright 2024 the vibur-dbcp contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.vibur.dbcp.proxy;
+
+import java.lang.reflect.Method;
+
+/**
+ * The base class for all concrete (non-reflective) JDBC proxies, which are used instead of the
+ * {@link java.lang.reflect.Proxy dynamic proxies} when {@link org.vibur.dbcp.ViburConfig#useConcreteProxies} is
+ * enabled.
+ *
+ * <p>Each concrete proxy is backed by the same {@link AbstractInvocationHandler} that backs the respective dynamic
+ * proxy. The methods which the invocation handler intercepts (such as {@code close}, {@code execute...},
+ * {@code set...}, {@code prepare...}) are passed directly to the handler's {@code invoke} method, and all other
+ * methods are plain forwarding calls to the underlying raw JDBC object. The forwarding calls go through the handler
+ * only if the handler is closed, if there are registered {@link org.vibur.dbcp.pool.Hook.MethodInvocation
+ * MethodInvocation} hooks, or if the raw JDBC object throws an exception, which preserves the semantics of
+ * the dynamic proxies: an SQLException is logged and collected via {@code targetException}, and a RuntimeException
+ * or an Error is logged via {@code logTargetInvokeFailure} and rethrown unchanged, as in {@code targetInvoke}.
+ *
+ * @author agent
+ * @param <T> the type of the object that we are proxying
+ */
+abstract class AbstractProxy<T> {
+
+    /** The real (raw) object that we are proxying. */
+    final T target;
+
+    final AbstractInvocationHandler<?> handler;
+
+    AbstractProxy(T target, AbstractInvocationHandler<?> handler) {
+        assert target != null;
+        assert handler != null;
+        this.target = target;
+        this.handler = handler;
+    }
+
+    final AbstractInvocationHandler<?> getHandler() {
+        return handler;
+    }
+
+    // equals() and hashCode() are inherited from Object and have the same (identity) semantics as in the
+    // AbstractInvocationHandler; getClass(), notify(), notifyAll(), and wait() cannot be overridden
+
+    @Override
+    public final String toString() {
+        return "Vibur proxy for: " + target;
+    }
+
+    static Method method(Class<?> iface, String name, Class<?>... parameterTypes) {
+        try {
+            return iface.getMethod(name, parameterTypes);
+        } catch (NoSuchMethodException e) {
+            throw new Error(e);
+        }
+    }
+
+    /**
+     * As {@link #method}, but for the methods that were added in JDBC 4.2 / Java 8 as default interface methods.
+     * Returns {@code null} when running on Java 7, where such methods cannot be called.
+     */
+    static Method optionalMethod(Class<?> iface, String name, Class<?>... parameterTypes) {
+        try {
+            return iface.getMethod(name, parameterTypes);
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+}
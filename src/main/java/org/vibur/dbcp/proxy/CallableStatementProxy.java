@@ -0,0 +1,1332 @@
+/**
+ * Copyright 2024 the vibur-dbcp contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.vibur.dbcp.proxy;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.lang.reflect.Method;
+import java.math.BigDecimal;
+import java.net.URL;
+import java.sql.*;
+import java.util.Calendar;
+import java.util.Map;
+
+/**
+ * The concrete (non-reflective) proxy class for the JDBC {@link CallableStatement} interface.
+ *
+ * @see StatementProxy
+ *
+ * @author agent
+ */
+final class CallableStatementProxy extends PreparedStatementProxy<CallableStatement> implements CallableStatement {
+
+    private static final Method registerOutParameter1 = method(CallableStatement.class, "registerOutParameter", int.class, int.class);
+    private static final Method registerOutParameter2 = method(CallableStatement.class, "registerOutParameter", int.class, int.class, int.class);
+    private static final Method wasNull = method(CallableStatement.class, "wasNull");
+    private static final Method getString1 = method(CallableStatement.class, "getString", int.class);
+    private static final Method getBoolean1 = method(CallableStatement.class, "getBoolean", int.class);
+    private static final Method getByte1 = method(CallableStatement.class, "getByte", int.class);
+    private static final Method getShort1 = method(CallableStatement.class, "getShort", int.class);
+    private static final Method getInt1 = method(CallableStatement.class, "getInt", int.class);
+    private static final Method getLong1 = method(CallableStatement.class, "getLong", int.class);
+    private static final Method getFloat1 = method(CallableStatement.class, "getFloat", int.class);
+    private static final Method getDouble1 = method(CallableStatement.class, "getDouble", int.class);
+    private static final Method getBigDecimal1 = method(CallableStatement.class, "getBigDecimal", int.class, int.class);
+    private static final Method getBytes1 = method(CallableStatement.class, "getBytes", int.class);
+    private static final Method getDate1 = method(CallableStatement.class, "getDate", int.class);
+    private static final Method getTime1 = method(CallableStatement.class, "getTime", int.class);
+    private static final Method getTimestamp1 = method(CallableStatement.class, "getTimestamp", int.class);
+    private static final Method getObject1 = method(CallableStatement.class, "getObject", int.class);
+    private static final Method getBigDecimal2 = method(CallableStatement.class, "getBigDecimal", int.class);
+    private static final Method getObject2 = method(CallableStatement.class, "getObject", int.class, Map.class);
+    private static final Method getRef1 = method(CallableStatement.class, "getRef", int.class);
+    private static final Method getBlob1 = method(CallableStatement.class, "getBlob", int.class);
+    private static final Method getClob1 = method(CallableStatement.class, "getClob", int.class);
+    private static final Method getArray1 = method(CallableStatement.class, "getArray", int.class);
+    private static final Method getDate2 = method(CallableStatement.class, "getDate", int.class, Calendar.class);
+    private static final Method getTime2 = method(CallableStatement.class, "getTime", int.class, Calendar.class);
+    private static final Method getTimestamp2 = method(CallableStatement.class, "getTimestamp", int.class, Calendar.class);
+    private static final Method registerOutParameter3 = method(CallableStatement.class, "registerOutParameter", int.class, int.class, String.class);
+    private static final Method registerOutParameter4 = method(CallableStatement.class, "registerOutParameter", String.class, int.class);
+    private static final Method registerOutParameter5 = method(CallableStatement.class, "registerOutParameter", String.class, int.class, int.class);
+    private static final Method registerOutParameter6 = method(CallableStatement.class, "registerOutParameter", String.class, int.class, String.class);
+    private static final Method getURL1 = method(CallableStatement.class, "getURL", int.class);
+    private static final Method setURL = method(CallableStatement.class, "setURL", String.class, URL.class);
+    private static final Method setNull1 = method(CallableStatement.class, "setNull", String.class, int.class);
+    private static final Method setBoolean = method(CallableStatement.class, "setBoolean", String.class, boolean.class);
+    private static final Method setByte = method(CallableStatement.class, "setByte", String.class, byte.class);
+    private static final Method setShort = method(CallableStatement.class, "setShort", String.class, short.class);
+    private static final Method setInt = method(CallableStatement.class, "setInt", String.class, int.class);
+    private static final Method setLong = method(CallableStatement.class, "setLong", String.class, long.class);
+    private static final Method setFloat = method(CallableStatement.class, "setFloat", String.class, float.class);
+    private static final Method setDouble = method(CallableStatement.class, "setDouble", String.class, double.class);
+    private static final Method setBigDecimal = method(CallableStatement.class, "setBigDecimal", String.class, BigDecimal.class);
+    private static final Method setString = method(CallableStatement.class, "setString", String.class, String.class);
+    private static final Method setBytes = method(CallableStatement.class, "setBytes", String.class, byte[].class);
+    private static final Method setDate1 = method(CallableStatement.class, "setDate", String.class, Date.class);
+    private static final Method setTime1 = method(CallableStatement.class, "setTime", String.class, Time.class);
+    private static final Method setTimestamp1 = method(CallableStatement.class, "setTimestamp", String.class, Timestamp.class);
+    private static final Method setAsciiStream1 = method(CallableStatement.class, "setAsciiStream", String.class, InputStream.class, int.class);
+    private static final Method setBinaryStream1 = method(CallableStatement.class, "setBinaryStream", String.class, InputStream.class, int.class);
+    private static final Method setObject1 = method(CallableStatement.class, "setObject", String.class, Object.class, int.class, int.class);
+    private static final Method setObject2 = method(CallableStatement.class, "setObject", String.class, Object.class, int.class);
+    private static final Method setObject3 = method(CallableStatement.class, "setObject", String.class, Object.class);
+    private static final Method setCharacterStream1 = method(CallableStatement.class, "setCharacterStream", String.class, Reader.class, int.class);
+    private static final Method setDate2 = method(CallableStatement.class, "setDate", String.class, Date.class, Calendar.class);
+    private static final Method setTime2 = method(CallableStatement.class, "setTime", String.class, Time.class, Calendar.class);
+    private static final Method setTimestamp2 = method(CallableStatement.class, "setTimestamp", String.class, Timestamp.class, Calendar.class);
+    private static final Method setNull2 = method(CallableStatement.class, "setNull", String.class, int.class, String.class);
+    private static final Method getString2 = method(CallableStatement.class, "getString", String.class);
+    private static final Method getBoolean2 = method(CallableStatement.class, "getBoolean", String.class);
+    private static final Method getByte2 = method(CallableStatement.class, "getByte", String.class);
+    private static final Method getShort2 = method(CallableStatement.class, "getShort", String.class);
+    private static final Method getInt2 = method(CallableStatement.class, "getInt", String.class);
+    private static final Method getLong2 = method(CallableStatement.class, "getLong", String.class);
+    private static final Method getFloat2 = method(CallableStatement.class, "getFloat", String.class);
+    private static final Method getDouble2 = method(CallableStatement.class, "getDouble", String.class);
+    private static final Method getBytes2 = method(CallableStatement.class, "getBytes", String.class);
+    private static final Method getDate3 = method(CallableStatement.class, "getDate", String.class);
+    private static final Method getTime3 = method(CallableStatement.class, "getTime", String.class);
+    private static final Method getTimestamp3 = method(CallableStatement.class, "getTimestamp", String.class);
+    private static final Method getObject3 = method(CallableStatement.class, "getObject", String.class);
+    private static final Method getBigDecimal3 = method(CallableStatement.class, "getBigDecimal", String.class);
+    private static final Method getObject4 = method(CallableStatement.class, "getObject", String.class, Map.class);
+    private static final Method getRef2 = method(CallableStatement.class, "getRef", String.class);
+    private static final Method getBlob2 = method(CallableStatement.class, "getBlob", String.class);
+    private static final Method getClob2 = method(CallableStatement.class, "getClob", String.class);
+    private static final Method getArray2 = method(CallableStatement.class, "getArray", String.class);
+    private static final Method getDate4 = method(CallableStatement.class, "getDate", String.class, Calendar.class);
+    private static final Method getTime4 = method(CallableStatement.class, "getTime", String.class, Calendar.class);
+    private static final Method getTimestamp4 = method(CallableStatement.class, "getTimestamp", String.class, Calendar.class);
+    private static final Method getURL2 = method(CallableStatement.class, "getURL", String.class);
+    private static final Method getRowId1 = method(CallableStatement.class, "getRowId", int.class);
+    private static final Method getRowId2 = method(CallableStatement.class, "getRowId", String.class);
+    private static final Method setRowId = method(CallableStatement.class, "setRowId", String.class, RowId.class);
+    private static final Method setNString = method(CallableStatement.class, "setNString", String.class, String.class);
+    private static final Method setNCharacterStream1 = method(CallableStatement.class, "setNCharacterStream", String.class, Reader.class, long.class);
+    private static final Method setNClob1 = method(CallableStatement.class, "setNClob", String.class, NClob.class);
+    private static final Method setClob1 = method(CallableStatement.class, "setClob", String.class, Reader.class, long.class);
+    private static final Method setBlob1 = method(CallableStatement.class, "setBlob", String.class, InputStream.class, long.class);
+    private static final Method setNClob2 = method(CallableStatement.class, "setNClob", String.class, Reader.class, long.class);
+    private static final Method getNClob1 = method(CallableStatement.class, "getNClob", int.class);
+    private static final Method getNClob2 = method(CallableStatement.class, "getNClob", String.class);
+    private static final Method setSQLXML = method(CallableStatement.class, "setSQLXML", String.class, SQLXML.class);
+    private static final Method getSQLXML1 = method(CallableStatement.class, "getSQLXML", int.class);
+    private static final Method getSQLXML2 = method(CallableStatement.class, "getSQLXML", String.class);
+    private static final Method getNString1 = method(CallableStatement.class, "getNString", int.class);
+    private static final Method getNString2 = method(CallableStatement.class, "getNString", String.class);
+    private static final Method getNCharacterStream1 = method(CallableStatement.class, "getNCharacterStream", int.class);
+    private static final Method getNCharacterStream2 = method(CallableStatement.class, "getNCharacterStream", String.class);
+    private static final Method getCharacterStream1 = method(CallableStatement.class, "getCharacterStream", int.class);
+    private static final Method getCharacterStream2 = method(CallableStatement.class, "getCharacterStream", String.class);
+    private static final Method setBlob2 = method(CallableStatement.class, "setBlob", String.class, Blob.class);
+    private static final Method setClob2 = method(CallableStatement.class, "setClob", String.class, Clob.class);
+    private static final Method setAsciiStream2 = method(CallableStatement.class, "setAsciiStream", String.class, InputStream.class, long.class);
+    private static final Method setBinaryStream2 = method(CallableStatement.class, "setBinaryStream", String.class, InputStream.class, long.class);
+    private static final Method setCharacterStream2 = method(CallableStatement.class, "setCharacterStream", String.class, Reader.class, long.class);
+    private static final Method setAsciiStream3 = method(CallableStatement.class, "setAsciiStream", String.class, InputStream.class);
+    private static final Method setBinaryStream3 = method(CallableStatement.class, "setBinaryStream", String.class, InputStream.class);
+    private static final Method setCharacterStream3 = method(CallableStatement.class, "setCharacterStream", String.class, Reader.class);
+    private static final Method setNCharacterStream2 = method(CallableStatement.class, "setNCharacterStream", String.class, Reader.class);
+    private static final Method setClob3 = method(CallableStatement.class, "setClob", String.class, Reader.class);
+    private static final Method setBlob3 = method(CallableStatement.class, "setBlob", String.class, InputStream.class);
+    private static final Method setNClob3 = method(CallableStatement.class, "setNClob", String.class, Reader.class);
+    private static final Method getObject5 = method(CallableStatement.class, "getObject", int.class, Class.class);
+    private static final Method getObject6 = method(CallableStatement.class, "getObject", String.class, Class.class);
+
+    CallableStatementProxy(CallableStatement target, StatementInvocationHandler handler) {
+        super(target, handler);
+    }
+
+    @Override
+    public void registerOutParameter(int parameterIndex, int sqlType) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, registerOutParameter1, new Object[] {parameterIndex, sqlType});
+        try {
+            target.registerOutParameter(parameterIndex, sqlType);
+        } catch (SQLException e) {
+            throw handler.targetException(registerOutParameter1, new Object[] {parameterIndex, sqlType}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(registerOutParameter1, new Object[] {parameterIndex, sqlType}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public void registerOutParameter(int parameterIndex, int sqlType, int scale) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, registerOutParameter2, new Object[] {parameterIndex, sqlType, scale});
+        try {
+            target.registerOutParameter(parameterIndex, sqlType, scale);
+        } catch (SQLException e) {
+            throw handler.targetException(registerOutParameter2, new Object[] {parameterIndex, sqlType, scale}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(registerOutParameter2, new Object[] {parameterIndex, sqlType, scale}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean wasNull() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, wasNull, null);
+        try {
+            return target.wasNull();
+        } catch (SQLException e) {
+            throw handler.targetException(wasNull, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(wasNull, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public String getString(int parameterIndex) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getString1, new Object[] {parameterIndex});
+        try {
+            return target.getString(parameterIndex);
+        } catch (SQLException e) {
+            throw handler.targetException(getString1, new Object[] {parameterIndex}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getString1, new Object[] {parameterIndex}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean getBoolean(int parameterIndex) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getBoolean1, new Object[] {parameterIndex});
+        try {
+            return target.getBoolean(parameterIndex);
+        } catch (SQLException e) {
+            throw handler.targetException(getBoolean1, new Object[] {parameterIndex}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getBoolean1, new Object[] {parameterIndex}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public byte getByte(int parameterIndex) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getByte1, new Object[] {parameterIndex});
+        try {
+            return target.getByte(parameterIndex);
+        } catch (SQLException e) {
+            throw handler.targetException(getByte1, new Object[] {parameterIndex}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getByte1, new Object[] {parameterIndex}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public short getShort(int parameterIndex) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getShort1, new Object[] {parameterIndex});
+        try {
+            return target.getShort(parameterIndex);
+        } catch (SQLException e) {
+            throw handler.targetException(getShort1, new Object[] {parameterIndex}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getShort1, new Object[] {parameterIndex}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public int getInt(int parameterIndex) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getInt1, new Object[] {parameterIndex});
+        try {
+            return target.getInt(parameterIndex);
+        } catch (SQLException e) {
+            throw handler.targetException(getInt1, new Object[] {parameterIndex}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getInt1, new Object[] {parameterIndex}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public long getLong(int parameterIndex) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getLong1, new Object[] {parameterIndex});
+        try {
+            return target.getLong(parameterIndex);
+        } catch (SQLException e) {
+            throw handler.targetException(getLong1, new Object[] {parameterIndex}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getLong1, new Object[] {parameterIndex}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public float getFloat(int parameterIndex) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getFloat1, new Object[] {parameterIndex});
+        try {
+            return target.getFloat(parameterIndex);
+        } catch (SQLException e) {
+            throw handler.targetException(getFloat1, new Object[] {parameterIndex}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getFloat1, new Object[] {parameterIndex}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public double getDouble(int parameterIndex) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getDouble1, new Object[] {parameterIndex});
+        try {
+            return target.getDouble(parameterIndex);
+        } catch (SQLException e) {
+            throw handler.targetException(getDouble1, new Object[] {parameterIndex}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getDouble1, new Object[] {parameterIndex}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    @Deprecated
+    public BigDecimal getBigDecimal(int parameterIndex, int scale) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getBigDecimal1, new Object[] {parameterIndex, scale});
+        try {
+            return target.getBigDecimal(parameterIndex, scale);
+        } catch (SQLException e) {
+            throw handler.targetException(getBigDecimal1, new Object[] {parameterIndex, scale}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getBigDecimal1, new Object[] {parameterIndex, scale}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public byte[] getBytes(int parameterIndex) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getBytes1, new Object[] {parameterIndex});
+        try {
+            return target.getBytes(parameterIndex);
+        } catch (SQLException e) {
+            throw handler.targetException(getBytes1, new Object[] {parameterIndex}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getBytes1, new Object[] {parameterIndex}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public Date getDate(int parameterIndex) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getDate1, new Object[] {parameterIndex});
+        try {
+            return target.getDate(parameterIndex);
+        } catch (SQLException e) {
+            throw handler.targetException(getDate1, new Object[] {parameterIndex}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getDate1, new Object[] {parameterIndex}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public Time getTime(int parameterIndex) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getTime1, new Object[] {parameterIndex});
+        try {
+            return target.getTime(parameterIndex);
+        } catch (SQLException e) {
+            throw handler.targetException(getTime1, new Object[] {parameterIndex}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getTime1, new Object[] {parameterIndex}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public Timestamp getTimestamp(int parameterIndex) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getTimestamp1, new Object[] {parameterIndex});
+        try {
+            return target.getTimestamp(parameterIndex);
+        } catch (SQLException e) {
+            throw handler.targetException(getTimestamp1, new Object[] {parameterIndex}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getTimestamp1, new Object[] {parameterIndex}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public Object getObject(int parameterIndex) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getObject1, new Object[] {parameterIndex});
+        try {
+            return target.getObject(parameterIndex);
+        } catch (SQLException e) {
+            throw handler.targetException(getObject1, new Object[] {parameterIndex}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getObject1, new Object[] {parameterIndex}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public BigDecimal getBigDecimal(int parameterIndex) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getBigDecimal2, new Object[] {parameterIndex});
+        try {
+            return target.getBigDecimal(parameterIndex);
+        } catch (SQLException e) {
+            throw handler.targetException(getBigDecimal2, new Object[] {parameterIndex}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getBigDecimal2, new Object[] {parameterIndex}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public Object getObject(int parameterIndex, Map<String, Class<?>> map) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getObject2, new Object[] {parameterIndex, map});
+        try {
+            return target.getObject(parameterIndex, map);
+        } catch (SQLException e) {
+            throw handler.targetException(getObject2, new Object[] {parameterIndex, map}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getObject2, new Object[] {parameterIndex, map}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public Ref getRef(int parameterIndex) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getRef1, new Object[] {parameterIndex});
+        try {
+            return target.getRef(parameterIndex);
+        } catch (SQLException e) {
+            throw handler.targetException(getRef1, new Object[] {parameterIndex}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getRef1, new Object[] {parameterIndex}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public Blob getBlob(int parameterIndex) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getBlob1, new Object[] {parameterIndex});
+        try {
+            return target.getBlob(parameterIndex);
+        } catch (SQLException e) {
+            throw handler.targetException(getBlob1, new Object[] {parameterIndex}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getBlob1, new Object[] {parameterIndex}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public Clob getClob(int parameterIndex) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getClob1, new Object[] {parameterIndex});
+        try {
+            return target.getClob(parameterIndex);
+        } catch (SQLException e) {
+            throw handler.targetException(getClob1, new Object[] {parameterIndex}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getClob1, new Object[] {parameterIndex}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public Array getArray(int parameterIndex) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getArray1, new Object[] {parameterIndex});
+        try {
+            return target.getArray(parameterIndex);
+        } catch (SQLException e) {
+            throw handler.targetException(getArray1, new Object[] {parameterIndex}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getArray1, new Object[] {parameterIndex}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public Date getDate(int parameterIndex, Calendar cal) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getDate2, new Object[] {parameterIndex, cal});
+        try {
+            return target.getDate(parameterIndex, cal);
+        } catch (SQLException e) {
+            throw handler.targetException(getDate2, new Object[] {parameterIndex, cal}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getDate2, new Object[] {parameterIndex, cal}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public Time getTime(int parameterIndex, Calendar cal) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getTime2, new Object[] {parameterIndex, cal});
+        try {
+            return target.getTime(parameterIndex, cal);
+        } catch (SQLException e) {
+            throw handler.targetException(getTime2, new Object[] {parameterIndex, cal}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getTime2, new Object[] {parameterIndex, cal}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public Timestamp getTimestamp(int parameterIndex, Calendar cal) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getTimestamp2, new Object[] {parameterIndex, cal});
+        try {
+            return target.getTimestamp(parameterIndex, cal);
+        } catch (SQLException e) {
+            throw handler.targetException(getTimestamp2, new Object[] {parameterIndex, cal}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getTimestamp2, new Object[] {parameterIndex, cal}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public void registerOutParameter(int parameterIndex, int sqlType, String typeName) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, registerOutParameter3, new Object[] {parameterIndex, sqlType, typeName});
+        try {
+            target.registerOutParameter(parameterIndex, sqlType, typeName);
+        } catch (SQLException e) {
+            throw handler.targetException(registerOutParameter3, new Object[] {parameterIndex, sqlType, typeName}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(registerOutParameter3, new Object[] {parameterIndex, sqlType, typeName}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public void registerOutParameter(String parameterName, int sqlType) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, registerOutParameter4, new Object[] {parameterName, sqlType});
+        try {
+            target.registerOutParameter(parameterName, sqlType);
+        } catch (SQLException e) {
+            throw handler.targetException(registerOutParameter4, new Object[] {parameterName, sqlType}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(registerOutParameter4, new Object[] {parameterName, sqlType}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public void registerOutParameter(String parameterName, int sqlType, int scale) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, registerOutParameter5, new Object[] {parameterName, sqlType, scale});
+        try {
+            target.registerOutParameter(parameterName, sqlType, scale);
+        } catch (SQLException e) {
+            throw handler.targetException(registerOutParameter5, new Object[] {parameterName, sqlType, scale}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(registerOutParameter5, new Object[] {parameterName, sqlType, scale}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public void registerOutParameter(String parameterName, int sqlType, String typeName) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, registerOutParameter6, new Object[] {parameterName, sqlType, typeName});
+        try {
+            target.registerOutParameter(parameterName, sqlType, typeName);
+        } catch (SQLException e) {
+            throw handler.targetException(registerOutParameter6, new Object[] {parameterName, sqlType, typeName}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(registerOutParameter6, new Object[] {parameterName, sqlType, typeName}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public URL getURL(int parameterIndex) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getURL1, new Object[] {parameterIndex});
+        try {
+            return target.getURL(parameterIndex);
+        } catch (SQLException e) {
+            throw handler.targetException(getURL1, new Object[] {parameterIndex}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getURL1, new Object[] {parameterIndex}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public void setURL(String parameterName, URL val) throws SQLException {
+        handler.invoke(this, setURL, new Object[] {parameterName, val});
+    }
+
+    @Override
+    public void setNull(String parameterName, int sqlType) throws SQLException {
+        handler.invoke(this, setNull1, new Object[] {parameterName, sqlType});
+    }
+
+    @Override
+    public void setBoolean(String parameterName, boolean x) throws SQLException {
+        handler.invoke(this, setBoolean, new Object[] {parameterName, x});
+    }
+
+    @Override
+    public void setByte(String parameterName, byte x) throws SQLException {
+        handler.invoke(this, setByte, new Object[] {parameterName, x});
+    }
+
+    @Override
+    public void setShort(String parameterName, short x) throws SQLException {
+        handler.invoke(this, setShort, new Object[] {parameterName, x});
+    }
+
+    @Override
+    public void setInt(String parameterName, int x) throws SQLException {
+        handler.invoke(this, setInt, new Object[] {parameterName, x});
+    }
+
+    @Override
+    public void setLong(String parameterName, long x) throws SQLException {
+        handler.invoke(this, setLong, new Object[] {parameterName, x});
+    }
+
+    @Override
+    public void setFloat(String parameterName, float x) throws SQLException {
+        handler.invoke(this, setFloat, new Object[] {parameterName, x});
+    }
+
+    @Override
+    public void setDouble(String parameterName, double x) throws SQLException {
+        handler.invoke(this, setDouble, new Object[] {parameterName, x});
+    }
+
+    @Override
+    public void setBigDecimal(String parameterName, BigDecimal x) throws SQLException {
+        handler.invoke(this, setBigDecimal, new Object[] {parameterName, x});
+    }
+
+    @Override
+    public void setString(String parameterName, String x) throws SQLException {
+        handler.invoke(this, setString, new Object[] {parameterName, x});
+    }
+
+    @Override
+    public void setBytes(String parameterName, byte[] x) throws SQLException {
+        handler.invoke(this, setBytes, new Object[] {parameterName, x});
+    }
+
+    @Override
+    public void setDate(String parameterName, Date x) throws SQLException {
+        handler.invoke(this, setDate1, new Object[] {parameterName, x});
+    }
+
+    @Override
+    public void setTime(String parameterName, Time x) throws SQLException {
+        handler.invoke(this, setTime1, new Object[] {parameterName, x});
+    }
+
+    @Override
+    public void setTimestamp(String parameterName, Timestamp x) throws SQLException {
+        handler.invoke(this, setTimestamp1, new Object[] {parameterName, x});
+    }
+
+    @Override
+    public void setAsciiStream(String parameterName, InputStream x, int length) throws SQLException {
+        handler.invoke(this, setAsciiStream1, new Object[] {parameterName, x, length});
+    }
+
+    @Override
+    public void setBinaryStream(String parameterName, InputStream x, int length) throws SQLException {
+        handler.invoke(this, setBinaryStream1, new Object[] {parameterName, x, length});
+    }
+
+    @Override
+    public void setObject(String parameterName, Object x, int targetSqlType, int scale) throws SQLException {
+        handler.invoke(this, setObject1, new Object[] {parameterName, x, targetSqlType, scale});
+    }
+
+    @Override
+    public void setObject(String parameterName, Object x, int targetSqlType) throws SQLException {
+        handler.invoke(this, setObject2, new Object[] {parameterName, x, targetSqlType});
+    }
+
+    @Override
+    public void setObject(String parameterName, Object x) throws SQLException {
+        handler.invoke(this, setObject3, new Object[] {parameterName, x});
+    }
+
+    @Override
+    public void setCharacterStream(String parameterName, Reader reader, int length) throws SQLException {
+        handler.invoke(this, setCharacterStream1, new Object[] {parameterName, reader, length});
+    }
+
+    @Override
+    public void setDate(String parameterName, Date x, Calendar cal) throws SQLException {
+        handler.invoke(this, setDate2, new Object[] {parameterName, x, cal});
+    }
+
+    @Override
+    public void setTime(String parameterName, Time x, Calendar cal) throws SQLException {
+        handler.invoke(this, setTime2, new Object[] {parameterName, x, cal});
+    }
+
+    @Override
+    public void setTimestamp(String parameterName, Timestamp x, Calendar cal) throws SQLException {
+        handler.invoke(this, setTimestamp2, new Object[] {parameterName, x, cal});
+    }
+
+    @Override
+    public void setNull(String parameterName, int sqlType, String typeName) throws SQLException {
+        handler.invoke(this, setNull2, new Object[] {parameterName, sqlType, typeName});
+    }
+
+    @Override
+    public String getString(String parameterName) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getString2, new Object[] {parameterName});
+        try {
+            return target.getString(parameterName);
+        } catch (SQLException e) {
+            throw handler.targetException(getString2, new Object[] {parameterName}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getString2, new Object[] {parameterName}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean getBoolean(String parameterName) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getBoolean2, new Object[] {parameterName});
+        try {
+            return target.getBoolean(parameterName);
+        } catch (SQLException e) {
+            throw handler.targetException(getBoolean2, new Object[] {parameterName}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getBoolean2, new Object[] {parameterName}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public byte getByte(String parameterName) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getByte2, new Object[] {parameterName});
+        try {
+            return target.getByte(parameterName);
+        } catch (SQLException e) {
+            throw handler.targetException(getByte2, new Object[] {parameterName}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getByte2, new Object[] {parameterName}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public short getShort(String parameterName) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getShort2, new Object[] {parameterName});
+        try {
+            return target.getShort(parameterName);
+        } catch (SQLException e) {
+            throw handler.targetException(getShort2, new Object[] {parameterName}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getShort2, new Object[] {parameterName}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public int getInt(String parameterName) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getInt2, new Object[] {parameterName});
+        try {
+            return target.getInt(parameterName);
+        } catch (SQLException e) {
+            throw handler.targetException(getInt2, new Object[] {parameterName}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getInt2, new Object[] {parameterName}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public long getLong(String parameterName) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getLong2, new Object[] {parameterName});
+        try {
+            return target.getLong(parameterName);
+        } catch (SQLException e) {
+            throw handler.targetException(getLong2, new Object[] {parameterName}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getLong2, new Object[] {parameterName}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public float getFloat(String parameterName) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getFloat2, new Object[] {parameterName});
+        try {
+            return target.getFloat(parameterName);
+        } catch (SQLException e) {
+            throw handler.targetException(getFloat2, new Object[] {parameterName}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getFloat2, new Object[] {parameterName}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public double getDouble(String parameterName) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getDouble2, new Object[] {parameterName});
+        try {
+            return target.getDouble(parameterName);
+        } catch (SQLException e) {
+            throw handler.targetException(getDouble2, new Object[] {parameterName}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getDouble2, new Object[] {parameterName}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public byte[] getBytes(String parameterName) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getBytes2, new Object[] {parameterName});
+        try {
+            return target.getBytes(parameterName);
+        } catch (SQLException e) {
+            throw handler.targetException(getBytes2, new Object[] {parameterName}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getBytes2, new Object[] {parameterName}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public Date getDate(String parameterName) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getDate3, new Object[] {parameterName});
+        try {
+            return target.getDate(parameterName);
+        } catch (SQLException e) {
+            throw handler.targetException(getDate3, new Object[] {parameterName}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getDate3, new Object[] {parameterName}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public Time getTime(String parameterName) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getTime3, new Object[] {parameterName});
+        try {
+            return target.getTime(parameterName);
+        } catch (SQLException e) {
+            throw handler.targetException(getTime3, new Object[] {parameterName}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getTime3, new Object[] {parameterName}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public Timestamp getTimestamp(String parameterName) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getTimestamp3, new Object[] {parameterName});
+        try {
+            return target.getTimestamp(parameterName);
+        } catch (SQLException e) {
+            throw handler.targetException(getTimestamp3, new Object[] {parameterName}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getTimestamp3, new Object[] {parameterName}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public Object getObject(String parameterName) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getObject3, new Object[] {parameterName});
+        try {
+            return target.getObject(parameterName);
+        } catch (SQLException e) {
+            throw handler.targetException(getObject3, new Object[] {parameterName}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getObject3, new Object[] {parameterName}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public BigDecimal getBigDecimal(String parameterName) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getBigDecimal3, new Object[] {parameterName});
+        try {
+            return target.getBigDecimal(parameterName);
+        } catch (SQLException e) {
+            throw handler.targetException(getBigDecimal3, new Object[] {parameterName}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getBigDecimal3, new Object[] {parameterName}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public Object getObject(String parameterName, Map<String, Class<?>> map) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getObject4, new Object[] {parameterName, map});
+        try {
+            return target.getObject(parameterName, map);
+        } catch (SQLException e) {
+            throw handler.targetException(getObject4, new Object[] {parameterName, map}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getObject4, new Object[] {parameterName, map}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public Ref getRef(String parameterName) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getRef2, new Object[] {parameterName});
+        try {
+            return target.getRef(parameterName);
+        } catch (SQLException e) {
+            throw handler.targetException(getRef2, new Object[] {parameterName}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getRef2, new Object[] {parameterName}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public Blob getBlob(String parameterName) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getBlob2, new Object[] {parameterName});
+        try {
+            return target.getBlob(parameterName);
+        } catch (SQLException e) {
+            throw handler.targetException(getBlob2, new Object[] {parameterName}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getBlob2, new Object[] {parameterName}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public Clob getClob(String parameterName) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getClob2, new Object[] {parameterName});
+        try {
+            return target.getClob(parameterName);
+        } catch (SQLException e) {
+            throw handler.targetException(getClob2, new Object[] {parameterName}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getClob2, new Object[] {parameterName}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public Array getArray(String parameterName) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getArray2, new Object[] {parameterName});
+        try {
+            return target.getArray(parameterName);
+        } catch (SQLException e) {
+            throw handler.targetException(getArray2, new Object[] {parameterName}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getArray2, new Object[] {parameterName}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public Date getDate(String parameterName, Calendar cal) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getDate4, new Object[] {parameterName, cal});
+        try {
+            return target.getDate(parameterName, cal);
+        } catch (SQLException e) {
+            throw handler.targetException(getDate4, new Object[] {parameterName, cal}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getDate4, new Object[] {parameterName, cal}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public Time getTime(String parameterName, Calendar cal) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getTime4, new Object[] {parameterName, cal});
+        try {
+            return target.getTime(parameterName, cal);
+        } catch (SQLException e) {
+            throw handler.targetException(getTime4, new Object[] {parameterName, cal}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getTime4, new Object[] {parameterName, cal}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public Timestamp getTimestamp(String parameterName, Calendar cal) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getTimestamp4, new Object[] {parameterName, cal});
+        try {
+            return target.getTimestamp(parameterName, cal);
+        } catch (SQLException e) {
+            throw handler.targetException(getTimestamp4, new Object[] {parameterName, cal}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getTimestamp4, new Object[] {parameterName, cal}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public URL getURL(String parameterName) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getURL2, new Object[] {parameterName});
+        try {
+            return target.getURL(parameterName);
+        } catch (SQLException e) {
+            throw handler.targetException(getURL2, new Object[] {parameterName}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getURL2, new Object[] {parameterName}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public RowId getRowId(int parameterIndex) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getRowId1, new Object[] {parameterIndex});
+        try {
+            return target.getRowId(parameterIndex);
+        } catch (SQLException e) {
+            throw handler.targetException(getRowId1, new Object[] {parameterIndex}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getRowId1, new Object[] {parameterIndex}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public RowId getRowId(String parameterName) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getRowId2, new Object[] {parameterName});
+        try {
+            return target.getRowId(parameterName);
+        } catch (SQLException e) {
+            throw handler.targetException(getRowId2, new Object[] {parameterName}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getRowId2, new Object[] {parameterName}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public void setRowId(String parameterName, RowId x) throws SQLException {
+        handler.invoke(this, setRowId, new Object[] {parameterName, x});
+    }
+
+    @Override
+    public void setNString(String parameterName, String value) throws SQLException {
+        handler.invoke(this, setNString, new Object[] {parameterName, value});
+    }
+
+    @Override
+    public void setNCharacterStream(String parameterName, Reader value, long length) throws SQLException {
+        handler.invoke(this, setNCharacterStream1, new Object[] {parameterName, value, length});
+    }
+
+    @Override
+    public void setNClob(String parameterName, NClob value) throws SQLException {
+        handler.invoke(this, setNClob1, new Object[] {parameterName, value});
+    }
+
+    @Override
+    public void setClob(String parameterName, Reader reader, long length) throws SQLException {
+        handler.invoke(this, setClob1, new Object[] {parameterName, reader, length});
+    }
+
+    @Override
+    public void setBlob(String parameterName, InputStream inputStream, long length) throws SQLException {
+        handler.invoke(this, setBlob1, new Object[] {parameterName, inputStream, length});
+    }
+
+    @Override
+    public void setNClob(String parameterName, Reader reader, long length) throws SQLException {
+        handler.invoke(this, setNClob2, new Object[] {parameterName, reader, length});
+    }
+
+    @Override
+    public NClob getNClob(int parameterIndex) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getNClob1, new Object[] {parameterIndex});
+        try {
+            return target.getNClob(parameterIndex);
+        } catch (SQLException e) {
+            throw handler.targetException(getNClob1, new Object[] {parameterIndex}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getNClob1, new Object[] {parameterIndex}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public NClob getNClob(String parameterName) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getNClob2, new Object[] {parameterName});
+        try {
+            return target.getNClob(parameterName);
+        } catch (SQLException e) {
+            throw handler.targetException(getNClob2, new Object[] {parameterName}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getNClob2, new Object[] {parameterName}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public void setSQLXML(String parameterName, SQLXML xmlObject) throws SQLException {
+        handler.invoke(this, setSQLXML, new Object[] {parameterName, xmlObject});
+    }
+
+    @Override
+    public SQLXML getSQLXML(int parameterIndex) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getSQLXML1, new Object[] {parameterIndex});
+        try {
+            return target.getSQLXML(parameterIndex);
+        } catch (SQLException e) {
+            throw handler.targetException(getSQLXML1, new Object[] {parameterIndex}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getSQLXML1, new Object[] {parameterIndex}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public SQLXML getSQLXML(String parameterName) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getSQLXML2, new Object[] {parameterName});
+        try {
+            return target.getSQLXML(parameterName);
+        } catch (SQLException e) {
+            throw handler.targetException(getSQLXML2, new Object[] {parameterName}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getSQLXML2, new Object[] {parameterName}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public String getNString(int parameterIndex) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getNString1, new Object[] {parameterIndex});
+        try {
+            return target.getNString(parameterIndex);
+        } catch (SQLException e) {
+            throw handler.targetException(getNString1, new Object[] {parameterIndex}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getNString1, new Object[] {parameterIndex}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public String getNString(String parameterName) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getNString2, new Object[] {parameterName});
+        try {
+            return target.getNString(parameterName);
+        } catch (SQLException e) {
+            throw handler.targetException(getNString2, new Object[] {parameterName}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getNString2, new Object[] {parameterName}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public Reader getNCharacterStream(int parameterIndex) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getNCharacterStream1, new Object[] {parameterIndex});
+        try {
+            return target.getNCharacterStream(parameterIndex);
+        } catch (SQLException e) {
+            throw handler.targetException(getNCharacterStream1, new Object[] {parameterIndex}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getNCharacterStream1, new Object[] {parameterIndex}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public Reader getNCharacterStream(String parameterName) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getNCharacterStream2, new Object[] {parameterName});
+        try {
+            return target.getNCharacterStream(parameterName);
+        } catch (SQLException e) {
+            throw handler.targetException(getNCharacterStream2, new Object[] {parameterName}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getNCharacterStream2, new Object[] {parameterName}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public Reader getCharacterStream(int parameterIndex) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getCharacterStream1, new Object[] {parameterIndex});
+        try {
+            return target.getCharacterStream(parameterIndex);
+        } catch (SQLException e) {
+            throw handler.targetException(getCharacterStream1, new Object[] {parameterIndex}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getCharacterStream1, new Object[] {parameterIndex}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public Reader getCharacterStream(String parameterName) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getCharacterStream2, new Object[] {parameterName});
+        try {
+            return target.getCharacterStream(parameterName);
+        } catch (SQLException e) {
+            throw handler.targetException(getCharacterStream2, new Object[] {parameterName}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getCharacterStream2, new Object[] {parameterName}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public void setBlob(String parameterName, Blob x) throws SQLException {
+        handler.invoke(this, setBlob2, new Object[] {parameterName, x});
+    }
+
+    @Override
+    public void setClob(String parameterName, Clob x) throws SQLException {
+        handler.invoke(this, setClob2, new Object[] {parameterName, x});
+    }
+
+    @Override
+    public void setAsciiStream(String parameterName, InputStream x, long length) throws SQLException {
+        handler.invoke(this, setAsciiStream2, new Object[] {parameterName, x, length});
+    }
+
+    @Override
+    public void setBinaryStream(String parameterName, InputStream x, long length) throws SQLException {
+        handler.invoke(this, setBinaryStream2, new Object[] {parameterName, x, length});
+    }
+
+    @Override
+    public void setCharacterStream(String parameterName, Reader reader, long length) throws SQLException {
+        handler.invoke(this, setCharacterStream2, new Object[] {parameterName, reader, length});
+    }
+
+    @Override
+    public void setAsciiStream(String parameterName, InputStream x) throws SQLException {
+        handler.invoke(this, setAsciiStream3, new Object[] {parameterName, x});
+    }
+
+    @Override
+    public void setBinaryStream(String parameterName, InputStream x) throws SQLException {
+        handler.invoke(this, setBinaryStream3, new Object[] {parameterName, x});
+    }
+
+    @Override
+    public void setCharacterStream(String parameterName, Reader reader) throws SQLException {
+        handler.invoke(this, setCharacterStream3, new Object[] {parameterName, reader});
+    }
+
+    @Override
+    public void setNCharacterStream(String parameterName, Reader value) throws SQLException {
+        handler.invoke(this, setNCharacterStream2, new Object[] {parameterName, value});
+    }
+
+    @Override
+    public void setClob(String parameterName, Reader reader) throws SQLException {
+        handler.invoke(this, setClob3, new Object[] {parameterName, reader});
+    }
+
+    @Override
+    public void setBlob(String parameterName, InputStream inputStream) throws SQLException {
+        handler.invoke(this, setBlob3, new Object[] {parameterName, inputStream});
+    }
+
+    @Override
+    public void setNClob(String parameterName, Reader reader) throws SQLException {
+        handler.invoke(this, setNClob3, new Object[] {parameterName, reader});
+    }
+
+    @Override
+    public <T> T getObject(int parameterIndex, Class<T> type) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getObject5, new Object[] {parameterIndex, type});
+        try {
+            return target.getObject(parameterIndex, type);
+        } catch (SQLException e) {
+            throw handler.targetException(getObject5, new Object[] {parameterIndex, type}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getObject5, new Object[] {parameterIndex, type}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public <T> T getObject(String parameterName, Class<T> type) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getObject6, new Object[] {parameterName, type});
+        try {
+            return target.getObject(parameterName, type);
+        } catch (SQLException e) {
+            throw handler.targetException(getObject6, new Object[] {parameterName, type}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getObject6, new Object[] {parameterName, type}, e);
+            throw e;
+        }
+    }
+}
@@ -29,22 +29,42 @@ import java.sql.SQLException;
 class ChildObjectInvocationHandler<P, T> extends AbstractInvocationHandler<T> {
 
     private final P parentProxy;
-    private final String getParentMethod;
+    private final int getParentOpcode;
 
-    ChildObjectInvocationHandler(T targetChild, P parentProxy, String getParentMethod,
+    // used only when the Connection proxy from which this child object was (directly or indirectly) derived is
+    // a recycled one, in which case the child object is considered closed once the Connection lease has changed
+    private final ConnectionInvocationHandler connHandler;
+    private final int connLease;
+
+    ChildObjectInvocationHandler(T targetChild, P parentProxy, int getParentOpcode,
                                  ViburConfig config, ExceptionCollector exceptionCollector) {
         super(targetChild, config, exceptionCollector);
         assert parentProxy != null;
-        assert getParentMethod != null;
         this.parentProxy = parentProxy;
-        this.getParentMethod = getParentMethod;
+        this.getParentOpcode = getParentOpcode;
+
+        this.connHandler = config.isRecycleConnectionProxies() ? rootConnHandler(exceptionCollector) : null;
+        this.connLease = connHandler != null ? connHandler.lease() : 0;
+    }
+
+    private static ConnectionInvocationHandler rootConnHandler(ExceptionCollector parentHandler) {
+        if (parentHandler instanceof ConnectionInvocationHandler)
+            return (ConnectionInvocationHandler) parentHandler;
+        if (parentHandler instanceof ChildObjectInvocationHandler)
+            return ((ChildObjectInvocationHandler<?, ?>) parentHandler).connHandler;
+        return null;
+    }
+
+    @Override
+    boolean isClosed() {
+        return super.isClosed() || (connHandler != null && connHandler.lease() != connLease);
     }
 
     @Override
-    Object restrictedInvoke(T proxy, Method method, Object[] args) throws SQLException {
-        if (method.getName() == getParentMethod)
+    Object restrictedInvoke(T proxy, int opcode, Method method, Object[] args) throws SQLException {
+        if (opcode == getParentOpcode)
             return parentProxy;
 
-        return super.restrictedInvoke(proxy, method, args);
+        return super.restrictedInvoke(proxy, opcode, method, args);
     }
 }
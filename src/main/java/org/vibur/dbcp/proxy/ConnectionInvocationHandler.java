@@ -26,7 +26,11 @@ import org.vibur.dbcp.stcache.StatementMethod;
 
 import java.lang.reflect.Method;
 import java.sql.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 
+import static org.vibur.dbcp.proxy.MethodDispatch.*;
 import static org.vibur.dbcp.proxy.Proxy.*;
 
 /**
@@ -36,58 +40,80 @@ public class ConnectionInvocationHandler extends AbstractInvocationHandler<Conne
 
     private final ConnHolder conn;
     private final PoolOperations poolOperations;
-    private final ViburConfig config;
 
     private final StatementCache statementCache;
 
+    private volatile int lease = 0; // incremented each time when this invocation handler is recycled
+
+    private static final AtomicReferenceFieldUpdater<ConnectionInvocationHandler, Connection> leaseProxyUpdater =
+            AtomicReferenceFieldUpdater.newUpdater(ConnectionInvocationHandler.class, Connection.class, "leaseProxy");
+    private volatile Connection leaseProxy = null; // the Connection proxy of the current lease, null once closed
+
+    // the Statements which have pending automatic batches, see ViburConfig.autoBatchSize; lazily created
+    private List<StatementInvocationHandler> pendingBatches = null;
+
+    // the catalog and schema of the underlying Connection, see getCatalogAndSchema(); null if not known
+    private String[] catalogAndSchema = null;
+
     ConnectionInvocationHandler(ConnHolder conn, PoolOperations poolOperations, ViburConfig config) {
         super(conn.value(), config, null /* becomes a new ExceptionCollector */);
         this.conn = conn;
         this.poolOperations = poolOperations;
-        this.config = config;
         this.statementCache = config.getStatementCache();
     }
 
     @Override
-    Object unrestrictedInvoke(Connection proxy, Method method, Object[] args) throws SQLException {
-        String methodName = method.getName();
-
-        if (methodName == "close")
-            return processClose();
-        if (methodName == "isClosed")
-            return isClosed();
-        if (methodName == "isValid")
-            return isClosed() ? false : targetInvoke(method, args);
-        if (methodName == "abort")
-            return processAbort(method, args);
-
-        return super.unrestrictedInvoke(proxy, method, args);
+    Object unrestrictedInvoke(Connection proxy, int opcode, Method method, Object[] args) throws SQLException {
+        switch (opcode) {
+            case CLOSE:
+                return processClose(proxy);
+            case IS_CLOSED:
+                return isClosed(proxy);
+            case IS_VALID:
+                return isClosed(proxy) ? false : targetInvoke(method, args);
+            case ABORT:
+                return processAbort(proxy, method, args);
+            default:
+                return super.unrestrictedInvoke(proxy, opcode, method, args);
+        }
     }
 
     @Override
-    Object restrictedInvoke(Connection proxy, Method method, Object[] args) throws SQLException {
-        String methodName = method.getName();
-
+    Object restrictedInvoke(Connection proxy, int opcode, Method method, Object[] args) throws SQLException {
         // Methods which results have to be proxied so that when getConnection() is called
         // on their results the return value to be the current JDBC Connection proxy.
-        if (methodName == "createStatement") { // *3
-            StatementHolder statement = getUncachedStatement(method, args, null);
-            return newProxyStatement(statement, proxy, config, this);
-        }
-        if (methodName == "prepareStatement") { // *6
-            StatementHolder pStatement = getCachedStatement(method, args);
-            return newProxyPreparedStatement(pStatement, proxy, config, this);
-        }
-        if (methodName == "prepareCall") { // *3
-            StatementHolder cStatement = getCachedStatement(method, args);
-            return newProxyCallableStatement(cStatement, proxy, config, this);
-        }
-        if (methodName == "getMetaData") { // *1
-            DatabaseMetaData rawDatabaseMetaData = (DatabaseMetaData) targetInvoke(method, args);
-            return newProxyDatabaseMetaData(rawDatabaseMetaData, proxy, config, this);
-        }
+        switch (opcode) {
+            case CREATE_STATEMENT: // *3
+                StatementHolder statement = getUncachedStatement(method, args, null);
+                return newProxyStatement(statement, proxy, config, this);
+            case PREPARE_STATEMENT: // *6
+                StatementHolder pStatement = getCachedStatement(method, args);
+                // the prepareStatement() methods with 2 args are the ones which request auto-generated keys
+                return newProxyPreparedStatement(pStatement, proxy, args.length != 2, config, this);
+            case PREPARE_CALL: // *3
+                StatementHolder cStatement = getCachedStatement(method, args);
+                return newProxyCallableStatement(cStatement, proxy, config, this);
+            case GET_META_DATA: // *1
+                DatabaseMetaData rawDatabaseMetaData = (DatabaseMetaData) targetInvoke(method, args);
+                return newProxyDatabaseMetaData(rawDatabaseMetaData, proxy, config, this);
 
-        return super.restrictedInvoke(proxy, method, args);
+            case COMMIT:
+            case SET_AUTO_COMMIT:
+            case SET_SAVEPOINT:
+                flushPendingBatches();
+                return targetInvoke(method, args);
+            case ROLLBACK:
+                if (args == null)
+                    discardPendingBatches();
+                else // a rollback to a Savepoint
+                    flushPendingBatches();
+                return targetInvoke(method, args);
+            case SET_CATALOG_OR_SCHEMA:
+                catalogAndSchema = null;
+                return targetInvoke(method, args);
+            default:
+                return super.restrictedInvoke(proxy, opcode, method, args);
+        }
     }
 
     /**
@@ -111,15 +137,47 @@ public class ConnectionInvocationHandler extends AbstractInvocationHandler<Conne
         return new StatementHolder(rawStatement, null, sqlQuery);
     }
 
-    private Object processClose() {
-        if (close())
+    /**
+     * Records a successful SQL statement execution on the underlying Connection, see
+     * {@link ViburConfig#getImplicitValidationWindowInMs}.
+     */
+    void executed() {
+        conn.setExecutedNanoTime(System.nanoTime());
+    }
+
+    /**
+     * Returns the catalog and the schema of the underlying Connection, as a two elements array. They are queried
+     * from the driver only once per lease, and again after {@code setCatalog} or {@code setSchema} is invoked
+     * via the Connection proxy, which avoids a database round trip per call with some drivers.
+     *
+     * @return see above
+     * @throws SQLException if getting the catalog or the schema throws such
+     */
+    public String[] getCatalogAndSchema() throws SQLException {
+        String[] result = catalogAndSchema;
+        if (result == null) {
+            Connection target = getTarget();
+            catalogAndSchema = result = new String[] {target.getCatalog(), target.getSchema()};
+        }
+        return result;
+    }
+
+    private Object processClose(Connection proxy) throws SQLException {
+        if (!closeLease(proxy))
+            return null;
+        try {
+            flushPendingBatches();
+        } finally {
+            abandonPendingBatches(); // if sending any of them has failed
             poolOperations.restore(conn, true, getExceptions());
+        }
         return null;
     }
 
-    private Object processAbort(Method method, Object[] args) throws SQLException {
-        if (!close())
+    private Object processAbort(Connection proxy, Method method, Object[] args) throws SQLException {
+        if (!closeLease(proxy))
             return null;
+        abandonPendingBatches(); // the aborted Connection cannot send them
         try {
             return targetInvoke(method, args);
         } finally {
@@ -127,15 +185,85 @@ public class ConnectionInvocationHandler extends AbstractInvocationHandler<Conne
         }
     }
 
+    void addPendingBatch(StatementInvocationHandler statementHandler) {
+        if (pendingBatches == null)
+            pendingBatches = new ArrayList<>(2);
+        pendingBatches.add(statementHandler);
+    }
+
+    void removePendingBatch(StatementInvocationHandler statementHandler) {
+        pendingBatches.remove(statementHandler);
+    }
+
+    /**
+     * Sends to the database the pending automatic batches of all Statements derived from this Connection. If
+     * sending of a batch fails, the remaining batches are left pending.
+     */
+    void flushPendingBatches() throws SQLException {
+        if (pendingBatches == null)
+            return;
+        while (!pendingBatches.isEmpty())
+            pendingBatches.get(0).flushBatch(); // removes itself from the pendingBatches list
+    }
+
+    private void discardPendingBatches() throws SQLException {
+        if (pendingBatches == null)
+            return;
+        while (!pendingBatches.isEmpty())
+            pendingBatches.get(0).discardBatch(); // removes itself from the pendingBatches list
+    }
+
+    private void abandonPendingBatches() {
+        if (pendingBatches == null)
+            return;
+        for (StatementInvocationHandler statementHandler : pendingBatches)
+            statementHandler.abandonBatch();
+        pendingBatches = null;
+    }
+
     public PreparedStatement newStatement(Method method, Object[] args) throws SQLException {
-        String methodName = method.getName();
-        if (methodName != "prepareStatement" && methodName != "prepareCall")
+        int opcode = opcode(method);
+        if (opcode != PREPARE_STATEMENT && opcode != PREPARE_CALL)
             throw new ViburDBCPException("Unexpected method passed to newStatement() " + method);
         return (PreparedStatement) targetInvoke(method, args);
     }
 
-    public void invalidate() {
-        if (close())
+    /**
+     * Starts a new lease of this invocation handler, which will back the given (newly created) Connection proxy.
+     * When this invocation handler is recycled, i.e., when the same underlying {@code ConnHolder} is taken from
+     * the pool again, reopens the handler and increments its lease, which makes the Connection proxy and all
+     * Statements and other JDBC objects derived from the previous lease closed, and clears the SQL exceptions
+     * collected during the previous lease.
+     */
+    void startLease(Connection proxy) {
+        if (isClosed()) { // a recycled invocation handler
+            lease++; // only the thread which has taken the ConnHolder from the pool writes here
+            clearExceptions();
+            catalogAndSchema = null;
+            open();
+        }
+        leaseProxy = proxy;
+    }
+
+    int lease() {
+        return lease;
+    }
+
+    /**
+     * Closes the current lease of this invocation handler if the given Connection proxy is the proxy of this lease.
+     * Returns true only once per lease, and never for a Connection proxy from a previous lease.
+     */
+    private boolean closeLease(Connection proxy) {
+        return leaseProxyUpdater.compareAndSet(this, proxy, null) && close();
+    }
+
+    @Override
+    boolean isClosed(Object proxy) {
+        return proxy != leaseProxy || isClosed();
+    }
+
+    public void invalidate(Connection proxy) {
+        if (closeLease(proxy))
             poolOperations.restore(conn, false, getExceptions());
     }
 }
@@ -0,0 +1,619 @@
+/**
+ * Copyright 2024 the vibur-dbcp contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.vibur.dbcp.proxy;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.sql.*;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.Executor;
+
+/**
+ * The concrete (non-reflective) proxy class for the JDBC {@link Connection} interface. All methods that
+ * the {@link ConnectionInvocationHandler} intercepts are passed to it, and all other methods are
+ * forwarded directly to the underlying raw Connection.
+ *
+ * @see AbstractProxy
+ *
+ * @author agent
+ */
+final class ConnectionProxy extends AbstractProxy<Connection> implements Connection {
+
+    private static final Method unwrap = method(Connection.class, "unwrap", Class.class);
+    private static final Method isWrapperFor = method(Connection.class, "isWrapperFor", Class.class);
+    private static final Method createStatement1 = method(Connection.class, "createStatement");
+    private static final Method prepareStatement1 = method(Connection.class, "prepareStatement", String.class);
+    private static final Method prepareCall1 = method(Connection.class, "prepareCall", String.class);
+    private static final Method nativeSQL = method(Connection.class, "nativeSQL", String.class);
+    private static final Method setAutoCommit = method(Connection.class, "setAutoCommit", boolean.class);
+    private static final Method getAutoCommit = method(Connection.class, "getAutoCommit");
+    private static final Method commit = method(Connection.class, "commit");
+    private static final Method rollback1 = method(Connection.class, "rollback");
+    private static final Method close = method(Connection.class, "close");
+    private static final Method isClosed = method(Connection.class, "isClosed");
+    private static final Method getMetaData = method(Connection.class, "getMetaData");
+    private static final Method setReadOnly = method(Connection.class, "setReadOnly", boolean.class);
+    private static final Method isReadOnly = method(Connection.class, "isReadOnly");
+    private static final Method setCatalog = method(Connection.class, "setCatalog", String.class);
+    private static final Method getCatalog = method(Connection.class, "getCatalog");
+    private static final Method setTransactionIsolation = method(Connection.class, "setTransactionIsolation", int.class);
+    private static final Method getTransactionIsolation = method(Connection.class, "getTransactionIsolation");
+    private static final Method getWarnings = method(Connection.class, "getWarnings");
+    private static final Method clearWarnings = method(Connection.class, "clearWarnings");
+    private static final Method createStatement2 = method(Connection.class, "createStatement", int.class, int.class);
+    private static final Method prepareStatement2 = method(Connection.class, "prepareStatement", String.class, int.class, int.class);
+    private static final Method prepareCall2 = method(Connection.class, "prepareCall", String.class, int.class, int.class);
+    private static final Method getTypeMap = method(Connection.class, "getTypeMap");
+    private static final Method setTypeMap = method(Connection.class, "setTypeMap", Map.class);
+    private static final Method setHoldability = method(Connection.class, "setHoldability", int.class);
+    private static final Method getHoldability = method(Connection.class, "getHoldability");
+    private static final Method setSavepoint1 = method(Connection.class, "setSavepoint");
+    private static final Method setSavepoint2 = method(Connection.class, "setSavepoint", String.class);
+    private static final Method rollback2 = method(Connection.class, "rollback", Savepoint.class);
+    private static final Method releaseSavepoint = method(Connection.class, "releaseSavepoint", Savepoint.class);
+    private static final Method createStatement3 = method(Connection.class, "createStatement", int.class, int.class, int.class);
+    private static final Method prepareStatement3 = method(Connection.class, "prepareStatement", String.class, int.class, int.class, int.class);
+    private static final Method prepareCall3 = method(Connection.class, "prepareCall", String.class, int.class, int.class, int.class);
+    private static final Method prepareStatement4 = method(Connection.class, "prepareStatement", String.class, int.class);
+    private static final Method prepareStatement5 = method(Connection.class, "prepareStatement", String.class, int[].class);
+    private static final Method prepareStatement6 = method(Connection.class, "prepareStatement", String.class, String[].class);
+    private static final Method createClob = method(Connection.class, "createClob");
+    private static final Method createBlob = method(Connection.class, "createBlob");
+    private static final Method createNClob = method(Connection.class, "createNClob");
+    private static final Method createSQLXML = method(Connection.class, "createSQLXML");
+    private static final Method isValid = method(Connection.class, "isValid", int.class);
+    private static final Method setClientInfo1 = method(Connection.class, "setClientInfo", String.class, String.class);
+    private static final Method setClientInfo2 = method(Connection.class, "setClientInfo", Properties.class);
+    private static final Method getClientInfo1 = method(Connection.class, "getClientInfo", String.class);
+    private static final Method getClientInfo2 = method(Connection.class, "getClientInfo");
+    private static final Method createArrayOf = method(Connection.class, "createArrayOf", String.class, Object[].class);
+    private static final Method createStruct = method(Connection.class, "createStruct", String.class, Object[].class);
+    private static final Method setSchema = method(Connection.class, "setSchema", String.class);
+    private static final Method getSchema = method(Connection.class, "getSchema");
+    private static final Method abort = method(Connection.class, "abort", Executor.class);
+    private static final Method setNetworkTimeout = method(Connection.class, "setNetworkTimeout", Executor.class, int.class);
+    private static final Method getNetworkTimeout = method(Connection.class, "getNetworkTimeout");
+
+    ConnectionProxy(Connection target, ConnectionInvocationHandler handler) {
+        super(target, handler);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T unwrap(Class<T> iface) throws SQLException {
+        return (T) handler.invoke(this, unwrap, new Object[] {iface});
+    }
+
+    @Override
+    public boolean isWrapperFor(Class<?> iface) throws SQLException {
+        return (Boolean) handler.invoke(this, isWrapperFor, new Object[] {iface});
+    }
+
+    @Override
+    public Statement createStatement() throws SQLException {
+        return (Statement) handler.invoke(this, createStatement1, null);
+    }
+
+    @Override
+    public PreparedStatement prepareStatement(String sql) throws SQLException {
+        return (PreparedStatement) handler.invoke(this, prepareStatement1, new Object[] {sql});
+    }
+
+    @Override
+    public CallableStatement prepareCall(String sql) throws SQLException {
+        return (CallableStatement) handler.invoke(this, prepareCall1, new Object[] {sql});
+    }
+
+    @Override
+    public String nativeSQL(String sql) throws SQLException {
+        if (handler.accessEntryRequired(this))
+            handler.restrictedAccessEntry(this, nativeSQL, new Object[] {sql});
+        try {
+            return target.nativeSQL(sql);
+        } catch (SQLException e) {
+            throw handler.targetException(nativeSQL, new Object[] {sql}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(nativeSQL, new Object[] {sql}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public void setAutoCommit(boolean autoCommit) throws SQLException {
+        handler.invoke(this, setAutoCommit, new Object[] {autoCommit});
+    }
+
+    @Override
+    public boolean getAutoCommit() throws SQLException {
+        if (handler.accessEntryRequired(this))
+            handler.restrictedAccessEntry(this, getAutoCommit, null);
+        try {
+            return target.getAutoCommit();
+        } catch (SQLException e) {
+            throw handler.targetException(getAutoCommit, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getAutoCommit, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public void commit() throws SQLException {
+        handler.invoke(this, commit, null);
+    }
+
+    @Override
+    public void rollback() throws SQLException {
+        handler.invoke(this, rollback1, null);
+    }
+
+    @Override
+    public void close() throws SQLException {
+        handler.invoke(this, close, null);
+    }
+
+    @Override
+    public boolean isClosed() throws SQLException {
+        return (Boolean) handler.invoke(this, isClosed, null);
+    }
+
+    @Override
+    public DatabaseMetaData getMetaData() throws SQLException {
+        return (DatabaseMetaData) handler.invoke(this, getMetaData, null);
+    }
+
+    @Override
+    public void setReadOnly(boolean readOnly) throws SQLException {
+        if (handler.accessEntryRequired(this))
+            handler.restrictedAccessEntry(this, setReadOnly, new Object[] {readOnly});
+        try {
+            target.setReadOnly(readOnly);
+        } catch (SQLException e) {
+            throw handler.targetException(setReadOnly, new Object[] {readOnly}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(setReadOnly, new Object[] {readOnly}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean isReadOnly() throws SQLException {
+        if (handler.accessEntryRequired(this))
+            handler.restrictedAccessEntry(this, isReadOnly, null);
+        try {
+            return target.isReadOnly();
+        } catch (SQLException e) {
+            throw handler.targetException(isReadOnly, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(isReadOnly, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public void setCatalog(String catalog) throws SQLException {
+        handler.invoke(this, setCatalog, new Object[] {catalog});
+    }
+
+    @Override
+    public String getCatalog() throws SQLException {
+        if (handler.accessEntryRequired(this))
+            handler.restrictedAccessEntry(this, getCatalog, null);
+        try {
+            return target.getCatalog();
+        } catch (SQLException e) {
+            throw handler.targetException(getCatalog, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getCatalog, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public void setTransactionIsolation(int level) throws SQLException {
+        if (handler.accessEntryRequired(this))
+            handler.restrictedAccessEntry(this, setTransactionIsolation, new Object[] {level});
+        try {
+            target.setTransactionIsolation(level);
+        } catch (SQLException e) {
+            throw handler.targetException(setTransactionIsolation, new Object[] {level}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(setTransactionIsolation, new Object[] {level}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public int getTransactionIsolation() throws SQLException {
+        if (handler.accessEntryRequired(this))
+            handler.restrictedAccessEntry(this, getTransactionIsolation, null);
+        try {
+            return target.getTransactionIsolation();
+        } catch (SQLException e) {
+            throw handler.targetException(getTransactionIsolation, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getTransactionIsolation, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public SQLWarning getWarnings() throws SQLException {
+        if (handler.accessEntryRequired(this))
+            handler.restrictedAccessEntry(this, getWarnings, null);
+        try {
+            return target.getWarnings();
+        } catch (SQLException e) {
+            throw handler.targetException(getWarnings, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getWarnings, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public void clearWarnings() throws SQLException {
+        if (handler.accessEntryRequired(this))
+            handler.restrictedAccessEntry(this, clearWarnings, null);
+        try {
+            target.clearWarnings();
+        } catch (SQLException e) {
+            throw handler.targetException(clearWarnings, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(clearWarnings, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public Statement createStatement(int resultSetType, int resultSetConcurrency) throws SQLException {
+        return (Statement) handler.invoke(this, createStatement2, new Object[] {resultSetType, resultSetConcurrency});
+    }
+
+    @Override
+    public PreparedStatement prepareStatement(String sql, int resultSetType, int resultSetConcurrency) throws SQLException {
+        return (PreparedStatement) handler.invoke(this, prepareStatement2, new Object[] {sql, resultSetType, resultSetConcurrency});
+    }
+
+    @Override
+    public CallableStatement prepareCall(String sql, int resultSetType, int resultSetConcurrency) throws SQLException {
+        return (CallableStatement) handler.invoke(this, prepareCall2, new Object[] {sql, resultSetType, resultSetConcurrency});
+    }
+
+    @Override
+    public Map<String, Class<?>> getTypeMap() throws SQLException {
+        if (handler.accessEntryRequired(this))
+            handler.restrictedAccessEntry(this, getTypeMap, null);
+        try {
+            return target.getTypeMap();
+        } catch (SQLException e) {
+            throw handler.targetException(getTypeMap, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getTypeMap, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public void setTypeMap(Map<String, Class<?>> map) throws SQLException {
+        if (handler.accessEntryRequired(this))
+            handler.restrictedAccessEntry(this, setTypeMap, new Object[] {map});
+        try {
+            target.setTypeMap(map);
+        } catch (SQLException e) {
+            throw handler.targetException(setTypeMap, new Object[] {map}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(setTypeMap, new Object[] {map}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public void setHoldability(int holdability) throws SQLException {
+        if (handler.accessEntryRequired(this))
+            handler.restrictedAccessEntry(this, setHoldability, new Object[] {holdability});
+        try {
+            target.setHoldability(holdability);
+        } catch (SQLException e) {
+            throw handler.targetException(setHoldability, new Object[] {holdability}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(setHoldability, new Object[] {holdability}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public int getHoldability() throws SQLException {
+        if (handler.accessEntryRequired(this))
+            handler.restrictedAccessEntry(this, getHoldability, null);
+        try {
+            return target.getHoldability();
+        } catch (SQLException e) {
+            throw handler.targetException(getHoldability, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getHoldability, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public Savepoint setSavepoint() throws SQLException {
+        return (Savepoint) handler.invoke(this, setSavepoint1, null);
+    }
+
+    @Override
+    public Savepoint setSavepoint(String name) throws SQLException {
+        return (Savepoint) handler.invoke(this, setSavepoint2, new Object[] {name});
+    }
+
+    @Override
+    public void rollback(Savepoint savepoint) throws SQLException {
+        handler.invoke(this, rollback2, new Object[] {savepoint});
+    }
+
+    @Override
+    public void releaseSavepoint(Savepoint savepoint) throws SQLException {
+        if (handler.accessEntryRequired(this))
+            handler.restrictedAccessEntry(this, releaseSavepoint, new Object[] {savepoint});
+        try {
+            target.releaseSavepoint(savepoint);
+        } catch (SQLException e) {
+            throw handler.targetException(releaseSavepoint, new Object[] {savepoint}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(releaseSavepoint, new Object[] {savepoint}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public Statement createStatement(int resultSetType, int resultSetConcurrency, int resultSetHoldability) throws SQLException {
+        return (Statement) handler.invoke(this, createStatement3, new Object[] {resultSetType, resultSetConcurrency, resultSetHoldability});
+    }
+
+    @Override
+    public PreparedStatement prepareStatement(String sql, int resultSetType, int resultSetConcurrency, int resultSetHoldability) throws SQLException {
+        return (PreparedStatement) handler.invoke(this, prepareStatement3, new Object[] {sql, resultSetType, resultSetConcurrency, resultSetHoldability});
+    }
+
+    @Override
+    public CallableStatement prepareCall(String sql, int resultSetType, int resultSetConcurrency, int resultSetHoldability) throws SQLException {
+        return (CallableStatement) handler.invoke(this, prepareCall3, new Object[] {sql, resultSetType, resultSetConcurrency, resultSetHoldability});
+    }
+
+    @Override
+    public PreparedStatement prepareStatement(String sql, int autoGeneratedKeys) throws SQLException {
+        return (PreparedStatement) handler.invoke(this, prepareStatement4, new Object[] {sql, autoGeneratedKeys});
+    }
+
+    @Override
+    public PreparedStatement prepareStatement(String sql, int[] columnIndexes) throws SQLException {
+        return (PreparedStatement) handler.invoke(this, prepareStatement5, new Object[] {sql, columnIndexes});
+    }
+
+    @Override
+    public PreparedStatement prepareStatement(String sql, String[] columnNames) throws SQLException {
+        return (PreparedStatement) handler.invoke(this, prepareStatement6, new Object[] {sql, columnNames});
+    }
+
+    @Override
+    public Clob createClob() throws SQLException {
+        if (handler.accessEntryRequired(this))
+            handler.restrictedAccessEntry(this, createClob, null);
+        try {
+            return target.createClob();
+        } catch (SQLException e) {
+            throw handler.targetException(createClob, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(createClob, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public Blob createBlob() throws SQLException {
+        if (handler.accessEntryRequired(this))
+            handler.restrictedAccessEntry(this, createBlob, null);
+        try {
+            return target.createBlob();
+        } catch (SQLException e) {
+            throw handler.targetException(createBlob, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(createBlob, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public NClob createNClob() throws SQLException {
+        if (handler.accessEntryRequired(this))
+            handler.restrictedAccessEntry(this, createNClob, null);
+        try {
+            return target.createNClob();
+        } catch (SQLException e) {
+            throw handler.targetException(createNClob, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(createNClob, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public SQLXML createSQLXML() throws SQLException {
+        if (handler.accessEntryRequired(this))
+            handler.restrictedAccessEntry(this, createSQLXML, null);
+        try {
+            return target.createSQLXML();
+        } catch (SQLException e) {
+            throw handler.targetException(createSQLXML, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(createSQLXML, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean isValid(int timeout) throws SQLException {
+        return (Boolean) handler.invoke(this, isValid, new Object[] {timeout});
+    }
+
+    @Override
+    public void setClientInfo(String name, String value) throws SQLClientInfoException {
+        if (handler.accessEntryRequired(this)) {
+            try {
+                handler.restrictedAccessEntry(this, setClientInfo1, new Object[] {name, value});
+            } catch (SQLException e) {
+                throw new UndeclaredThrowableException(e); // as a dynamic proxy would do
+            }
+        }
+        try {
+            target.setClientInfo(name, value);
+        } catch (SQLClientInfoException e) {
+            throw (SQLClientInfoException) handler.targetException(setClientInfo1, new Object[] {name, value}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(setClientInfo1, new Object[] {name, value}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public void setClientInfo(Properties properties) throws SQLClientInfoException {
+        if (handler.accessEntryRequired(this)) {
+            try {
+                handler.restrictedAccessEntry(this, setClientInfo2, new Object[] {properties});
+            } catch (SQLException e) {
+                throw new UndeclaredThrowableException(e); // as a dynamic proxy would do
+            }
+        }
+        try {
+            target.setClientInfo(properties);
+        } catch (SQLClientInfoException e) {
+            throw (SQLClientInfoException) handler.targetException(setClientInfo2, new Object[] {properties}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(setClientInfo2, new Object[] {properties}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public String getClientInfo(String name) throws SQLException {
+        if (handler.accessEntryRequired(this))
+            handler.restrictedAccessEntry(this, getClientInfo1, new Object[] {name});
+        try {
+            return target.getClientInfo(name);
+        } catch (SQLException e) {
+            throw handler.targetException(getClientInfo1, new Object[] {name}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getClientInfo1, new Object[] {name}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public Properties getClientInfo() throws SQLException {
+        if (handler.accessEntryRequired(this))
+            handler.restrictedAccessEntry(this, getClientInfo2, null);
+        try {
+            return target.getClientInfo();
+        } catch (SQLException e) {
+            throw handler.targetException(getClientInfo2, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getClientInfo2, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public Array createArrayOf(String typeName, Object[] elements) throws SQLException {
+        if (handler.accessEntryRequired(this))
+            handler.restrictedAccessEntry(this, createArrayOf, new Object[] {typeName, elements});
+        try {
+            return target.createArrayOf(typeName, elements);
+        } catch (SQLException e) {
+            throw handler.targetException(createArrayOf, new Object[] {typeName, elements}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(createArrayOf, new Object[] {typeName, elements}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public Struct createStruct(String typeName, Object[] attributes) throws SQLException {
+        if (handler.accessEntryRequired(this))
+            handler.restrictedAccessEntry(this, createStruct, new Object[] {typeName, attributes});
+        try {
+            return target.createStruct(typeName, attributes);
+        } catch (SQLException e) {
+            throw handler.targetException(createStruct, new Object[] {typeName, attributes}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(createStruct, new Object[] {typeName, attributes}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public void setSchema(String schema) throws SQLException {
+        handler.invoke(this, setSchema, new Object[] {schema});
+    }
+
+    @Override
+    public String getSchema() throws SQLException {
+        if (handler.accessEntryRequired(this))
+            handler.restrictedAccessEntry(this, getSchema, null);
+        try {
+            return target.getSchema();
+        } catch (SQLException e) {
+            throw handler.targetException(getSchema, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getSchema, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public void abort(Executor executor) throws SQLException {
+        handler.invoke(this, abort, new Object[] {executor});
+    }
+
+    @Override
+    public void setNetworkTimeout(Executor executor, int milliseconds) throws SQLException {
+        if (handler.accessEntryRequired(this))
+            handler.restrictedAccessEntry(this, setNetworkTimeout, new Object[] {executor, milliseconds});
+        try {
+            target.setNetworkTimeout(executor, milliseconds);
+        } catch (SQLException e) {
+            throw handler.targetException(setNetworkTimeout, new Object[] {executor, milliseconds}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(setNetworkTimeout, new Object[] {executor, milliseconds}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public int getNetworkTimeout() throws SQLException {
+        if (handler.accessEntryRequired(this))
+            handler.restrictedAccessEntry(this, getNetworkTimeout, null);
+        try {
+            return target.getNetworkTimeout();
+        } catch (SQLException e) {
+            throw handler.targetException(getNetworkTimeout, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getNetworkTimeout, null, e);
+            throw e;
+        }
+    }
+}
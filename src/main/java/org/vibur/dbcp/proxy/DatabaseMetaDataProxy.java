@@ -0,0 +1,2656 @@
+/**
+ * Copyright 2024 the vibur-dbcp contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.vibur.dbcp.proxy;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.sql.*;
+
+/**
+ * The concrete (non-reflective) proxy class for the JDBC {@link DatabaseMetaData} interface.
+ *
+ * @see AbstractProxy
+ *
+ * @author agent
+ */
+final class DatabaseMetaDataProxy extends AbstractProxy<DatabaseMetaData> implements DatabaseMetaData {
+
+    private static final Method unwrap = method(DatabaseMetaData.class, "unwrap", Class.class);
+    private static final Method isWrapperFor = method(DatabaseMetaData.class, "isWrapperFor", Class.class);
+    private static final Method allProceduresAreCallable = method(DatabaseMetaData.class, "allProceduresAreCallable");
+    private static final Method allTablesAreSelectable = method(DatabaseMetaData.class, "allTablesAreSelectable");
+    private static final Method getURL = method(DatabaseMetaData.class, "getURL");
+    private static final Method getUserName = method(DatabaseMetaData.class, "getUserName");
+    private static final Method isReadOnly = method(DatabaseMetaData.class, "isReadOnly");
+    private static final Method nullsAreSortedHigh = method(DatabaseMetaData.class, "nullsAreSortedHigh");
+    private static final Method nullsAreSortedLow = method(DatabaseMetaData.class, "nullsAreSortedLow");
+    private static final Method nullsAreSortedAtStart = method(DatabaseMetaData.class, "nullsAreSortedAtStart");
+    private static final Method nullsAreSortedAtEnd = method(DatabaseMetaData.class, "nullsAreSortedAtEnd");
+    private static final Method getDatabaseProductName = method(DatabaseMetaData.class, "getDatabaseProductName");
+    private static final Method getDatabaseProductVersion = method(DatabaseMetaData.class, "getDatabaseProductVersion");
+    private static final Method getDriverName = method(DatabaseMetaData.class, "getDriverName");
+    private static final Method getDriverVersion = method(DatabaseMetaData.class, "getDriverVersion");
+    private static final Method getDriverMajorVersion = method(DatabaseMetaData.class, "getDriverMajorVersion");
+    private static final Method getDriverMinorVersion = method(DatabaseMetaData.class, "getDriverMinorVersion");
+    private static final Method usesLocalFiles = method(DatabaseMetaData.class, "usesLocalFiles");
+    private static final Method usesLocalFilePerTable = method(DatabaseMetaData.class, "usesLocalFilePerTable");
+    private static final Method supportsMixedCaseIdentifiers = method(DatabaseMetaData.class, "supportsMixedCaseIdentifiers");
+    private static final Method storesUpperCaseIdentifiers = method(DatabaseMetaData.class, "storesUpperCaseIdentifiers");
+    private static final Method storesLowerCaseIdentifiers = method(DatabaseMetaData.class, "storesLowerCaseIdentifiers");
+    private static final Method storesMixedCaseIdentifiers = method(DatabaseMetaData.class, "storesMixedCaseIdentifiers");
+    private static final Method supportsMixedCaseQuotedIdentifiers = method(DatabaseMetaData.class, "supportsMixedCaseQuotedIdentifiers");
+    private static final Method storesUpperCaseQuotedIdentifiers = method(DatabaseMetaData.class, "storesUpperCaseQuotedIdentifiers");
+    private static final Method storesLowerCaseQuotedIdentifiers = method(DatabaseMetaData.class, "storesLowerCaseQuotedIdentifiers");
+    private static final Method storesMixedCaseQuotedIdentifiers = method(DatabaseMetaData.class, "storesMixedCaseQuotedIdentifiers");
+    private static final Method getIdentifierQuoteString = method(DatabaseMetaData.class, "getIdentifierQuoteString");
+    private static final Method getSQLKeywords = method(DatabaseMetaData.class, "getSQLKeywords");
+    private static final Method getNumericFunctions = method(DatabaseMetaData.class, "getNumericFunctions");
+    private static final Method getStringFunctions = method(DatabaseMetaData.class, "getStringFunctions");
+    private static final Method getSystemFunctions = method(DatabaseMetaData.class, "getSystemFunctions");
+    private static final Method getTimeDateFunctions = method(DatabaseMetaData.class, "getTimeDateFunctions");
+    private static final Method getSearchStringEscape = method(DatabaseMetaData.class, "getSearchStringEscape");
+    private static final Method getExtraNameCharacters = method(DatabaseMetaData.class, "getExtraNameCharacters");
+    private static final Method supportsAlterTableWithAddColumn = method(DatabaseMetaData.class, "supportsAlterTableWithAddColumn");
+    private static final Method supportsAlterTableWithDropColumn = method(DatabaseMetaData.class, "supportsAlterTableWithDropColumn");
+    private static final Method supportsColumnAliasing = method(DatabaseMetaData.class, "supportsColumnAliasing");
+    private static final Method nullPlusNonNullIsNull = method(DatabaseMetaData.class, "nullPlusNonNullIsNull");
+    private static final Method supportsConvert1 = method(DatabaseMetaData.class, "supportsConvert");
+    private static final Method supportsConvert2 = method(DatabaseMetaData.class, "supportsConvert", int.class, int.class);
+    private static final Method supportsTableCorrelationNames = method(DatabaseMetaData.class, "supportsTableCorrelationNames");
+    private static final Method supportsDifferentTableCorrelationNames = method(DatabaseMetaData.class, "supportsDifferentTableCorrelationNames");
+    private static final Method supportsExpressionsInOrderBy = method(DatabaseMetaData.class, "supportsExpressionsInOrderBy");
+    private static final Method supportsOrderByUnrelated = method(DatabaseMetaData.class, "supportsOrderByUnrelated");
+    private static final Method supportsGroupBy = method(DatabaseMetaData.class, "supportsGroupBy");
+    private static final Method supportsGroupByUnrelated = method(DatabaseMetaData.class, "supportsGroupByUnrelated");
+    private static final Method supportsGroupByBeyondSelect = method(DatabaseMetaData.class, "supportsGroupByBeyondSelect");
+    private static final Method supportsLikeEscapeClause = method(DatabaseMetaData.class, "supportsLikeEscapeClause");
+    private static final Method supportsMultipleResultSets = method(DatabaseMetaData.class, "supportsMultipleResultSets");
+    private static final Method supportsMultipleTransactions = method(DatabaseMetaData.class, "supportsMultipleTransactions");
+    private static final Method supportsNonNullableColumns = method(DatabaseMetaData.class, "supportsNonNullableColumns");
+    private static final Method supportsMinimumSQLGrammar = method(DatabaseMetaData.class, "supportsMinimumSQLGrammar");
+    private static final Method supportsCoreSQLGrammar = method(DatabaseMetaData.class, "supportsCoreSQLGrammar");
+    private static final Method supportsExtendedSQLGrammar = method(DatabaseMetaData.class, "supportsExtendedSQLGrammar");
+    private static final Method supportsANSI92EntryLevelSQL = method(DatabaseMetaData.class, "supportsANSI92EntryLevelSQL");
+    private static final Method supportsANSI92IntermediateSQL = method(DatabaseMetaData.class, "supportsANSI92IntermediateSQL");
+    private static final Method supportsANSI92FullSQL = method(DatabaseMetaData.class, "supportsANSI92FullSQL");
+    private static final Method supportsIntegrityEnhancementFacility = method(DatabaseMetaData.class, "supportsIntegrityEnhancementFacility");
+    private static final Method supportsOuterJoins = method(DatabaseMetaData.class, "supportsOuterJoins");
+    private static final Method supportsFullOuterJoins = method(DatabaseMetaData.class, "supportsFullOuterJoins");
+    private static final Method supportsLimitedOuterJoins = method(DatabaseMetaData.class, "supportsLimitedOuterJoins");
+    private static final Method getSchemaTerm = method(DatabaseMetaData.class, "getSchemaTerm");
+    private static final Method getProcedureTerm = method(DatabaseMetaData.class, "getProcedureTerm");
+    private static final Method getCatalogTerm = method(DatabaseMetaData.class, "getCatalogTerm");
+    private static final Method isCatalogAtStart = method(DatabaseMetaData.class, "isCatalogAtStart");
+    private static final Method getCatalogSeparator = method(DatabaseMetaData.class, "getCatalogSeparator");
+    private static final Method supportsSchemasInDataManipulation = method(DatabaseMetaData.class, "supportsSchemasInDataManipulation");
+    private static final Method supportsSchemasInProcedureCalls = method(DatabaseMetaData.class, "supportsSchemasInProcedureCalls");
+    private static final Method supportsSchemasInTableDefinitions = method(DatabaseMetaData.class, "supportsSchemasInTableDefinitions");
+    private static final Method supportsSchemasInIndexDefinitions = method(DatabaseMetaData.class, "supportsSchemasInIndexDefinitions");
+    private static final Method supportsSchemasInPrivilegeDefinitions = method(DatabaseMetaData.class, "supportsSchemasInPrivilegeDefinitions");
+    private static final Method supportsCatalogsInDataManipulation = method(DatabaseMetaData.class, "supportsCatalogsInDataManipulation");
+    private static final Method supportsCatalogsInProcedureCalls = method(DatabaseMetaData.class, "supportsCatalogsInProcedureCalls");
+    private static final Method supportsCatalogsInTableDefinitions = method(DatabaseMetaData.class, "supportsCatalogsInTableDefinitions");
+    private static final Method supportsCatalogsInIndexDefinitions = method(DatabaseMetaData.class, "supportsCatalogsInIndexDefinitions");
+    private static final Method supportsCatalogsInPrivilegeDefinitions = method(DatabaseMetaData.class, "supportsCatalogsInPrivilegeDefinitions");
+    private static final Method supportsPositionedDelete = method(DatabaseMetaData.class, "supportsPositionedDelete");
+    private static final Method supportsPositionedUpdate = method(DatabaseMetaData.class, "supportsPositionedUpdate");
+    private static final Method supportsSelectForUpdate = method(DatabaseMetaData.class, "supportsSelectForUpdate");
+    private static final Method supportsStoredProcedures = method(DatabaseMetaData.class, "supportsStoredProcedures");
+    private static final Method supportsSubqueriesInComparisons = method(DatabaseMetaData.class, "supportsSubqueriesInComparisons");
+    private static final Method supportsSubqueriesInExists = method(DatabaseMetaData.class, "supportsSubqueriesInExists");
+    private static final Method supportsSubqueriesInIns = method(DatabaseMetaData.class, "supportsSubqueriesInIns");
+    private static final Method supportsSubqueriesInQuantifieds = method(DatabaseMetaData.class, "supportsSubqueriesInQuantifieds");
+    private static final Method supportsCorrelatedSubqueries = method(DatabaseMetaData.class, "supportsCorrelatedSubqueries");
+    private static final Method supportsUnion = method(DatabaseMetaData.class, "supportsUnion");
+    private static final Method supportsUnionAll = method(DatabaseMetaData.class, "supportsUnionAll");
+    private static final Method supportsOpenCursorsAcrossCommit = method(DatabaseMetaData.class, "supportsOpenCursorsAcrossCommit");
+    private static final Method supportsOpenCursorsAcrossRollback = method(DatabaseMetaData.class, "supportsOpenCursorsAcrossRollback");
+    private static final Method supportsOpenStatementsAcrossCommit = method(DatabaseMetaData.class, "supportsOpenStatementsAcrossCommit");
+    private static final Method supportsOpenStatementsAcrossRollback = method(DatabaseMetaData.class, "supportsOpenStatementsAcrossRollback");
+    private static final Method getMaxBinaryLiteralLength = method(DatabaseMetaData.class, "getMaxBinaryLiteralLength");
+    private static final Method getMaxCharLiteralLength = method(DatabaseMetaData.class, "getMaxCharLiteralLength");
+    private static final Method getMaxColumnNameLength = method(DatabaseMetaData.class, "getMaxColumnNameLength");
+    private static final Method getMaxColumnsInGroupBy = method(DatabaseMetaData.class, "getMaxColumnsInGroupBy");
+    private static final Method getMaxColumnsInIndex = method(DatabaseMetaData.class, "getMaxColumnsInIndex");
+    private static final Method getMaxColumnsInOrderBy = method(DatabaseMetaData.class, "getMaxColumnsInOrderBy");
+    private static final Method getMaxColumnsInSelect = method(DatabaseMetaData.class, "getMaxColumnsInSelect");
+    private static final Method getMaxColumnsInTable = method(DatabaseMetaData.class, "getMaxColumnsInTable");
+    private static final Method getMaxConnections = method(DatabaseMetaData.class, "getMaxConnections");
+    private static final Method getMaxCursorNameLength = method(DatabaseMetaData.class, "getMaxCursorNameLength");
+    private static final Method getMaxIndexLength = method(DatabaseMetaData.class, "getMaxIndexLength");
+    private static final Method getMaxSchemaNameLength = method(DatabaseMetaData.class, "getMaxSchemaNameLength");
+    private static final Method getMaxProcedureNameLength = method(DatabaseMetaData.class, "getMaxProcedureNameLength");
+    private static final Method getMaxCatalogNameLength = method(DatabaseMetaData.class, "getMaxCatalogNameLength");
+    private static final Method getMaxRowSize = method(DatabaseMetaData.class, "getMaxRowSize");
+    private static final Method doesMaxRowSizeIncludeBlobs = method(DatabaseMetaData.class, "doesMaxRowSizeIncludeBlobs");
+    private static final Method getMaxStatementLength = method(DatabaseMetaData.class, "getMaxStatementLength");
+    private static final Method getMaxStatements = method(DatabaseMetaData.class, "getMaxStatements");
+    private static final Method getMaxTableNameLength = method(DatabaseMetaData.class, "getMaxTableNameLength");
+    private static final Method getMaxTablesInSelect = method(DatabaseMetaData.class, "getMaxTablesInSelect");
+    private static final Method getMaxUserNameLength = method(DatabaseMetaData.class, "getMaxUserNameLength");
+    private static final Method getDefaultTransactionIsolation = method(DatabaseMetaData.class, "getDefaultTransactionIsolation");
+    private static final Method supportsTransactions = method(DatabaseMetaData.class, "supportsTransactions");
+    private static final Method supportsTransactionIsolationLevel = method(DatabaseMetaData.class, "supportsTransactionIsolationLevel", int.class);
+    private static final Method supportsDataDefinitionAndDataManipulationTransactions = method(DatabaseMetaData.class, "supportsDataDefinitionAndDataManipulationTransactions");
+    private static final Method supportsDataManipulationTransactionsOnly = method(DatabaseMetaData.class, "supportsDataManipulationTransactionsOnly");
+    private static final Method dataDefinitionCausesTransactionCommit = method(DatabaseMetaData.class, "dataDefinitionCausesTransactionCommit");
+    private static final Method dataDefinitionIgnoredInTransactions = method(DatabaseMetaData.class, "dataDefinitionIgnoredInTransactions");
+    private static final Method getProcedures = method(DatabaseMetaData.class, "getProcedures", String.class, String.class, String.class);
+    private static final Method getProcedureColumns = method(DatabaseMetaData.class, "getProcedureColumns", String.class, String.class, String.class, String.class);
+    private static final Method getTables = method(DatabaseMetaData.class, "getTables", String.class, String.class, String.class, String[].class);
+    private static final Method getSchemas1 = method(DatabaseMetaData.class, "getSchemas");
+    private static final Method getCatalogs = method(DatabaseMetaData.class, "getCatalogs");
+    private static final Method getTableTypes = method(DatabaseMetaData.class, "getTableTypes");
+    private static final Method getColumns = method(DatabaseMetaData.class, "getColumns", String.class, String.class, String.class, String.class);
+    private static final Method getColumnPrivileges = method(DatabaseMetaData.class, "getColumnPrivileges", String.class, String.class, String.class, String.class);
+    private static final Method getTablePrivileges = method(DatabaseMetaData.class, "getTablePrivileges", String.class, String.class, String.class);
+    private static final Method getBestRowIdentifier = method(DatabaseMetaData.class, "getBestRowIdentifier", String.class, String.class, String.class, int.class, boolean.class);
+    private static final Method getVersionColumns = method(DatabaseMetaData.class, "getVersionColumns", String.class, String.class, String.class);
+    private static final Method getPrimaryKeys = method(DatabaseMetaData.class, "getPrimaryKeys", String.class, String.class, String.class);
+    private static final Method getImportedKeys = method(DatabaseMetaData.class, "getImportedKeys", String.class, String.class, String.class);
+    private static final Method getExportedKeys = method(DatabaseMetaData.class, "getExportedKeys", String.class, String.class, String.class);
+    private static final Method getCrossReference = method(DatabaseMetaData.class, "getCrossReference", String.class, String.class, String.class, String.class, String.class, String.class);
+    private static final Method getTypeInfo = method(DatabaseMetaData.class, "getTypeInfo");
+    private static final Method getIndexInfo = method(DatabaseMetaData.class, "getIndexInfo", String.class, String.class, String.class, boolean.class, boolean.class);
+    private static final Method supportsResultSetType = method(DatabaseMetaData.class, "supportsResultSetType", int.class);
+    private static final Method supportsResultSetConcurrency = method(DatabaseMetaData.class, "supportsResultSetConcurrency", int.class, int.class);
+    private static final Method ownUpdatesAreVisible = method(DatabaseMetaData.class, "ownUpdatesAreVisible", int.class);
+    private static final Method ownDeletesAreVisible = method(DatabaseMetaData.class, "ownDeletesAreVisible", int.class);
+    private static final Method ownInsertsAreVisible = method(DatabaseMetaData.class, "ownInsertsAreVisible", int.class);
+    private static final Method othersUpdatesAreVisible = method(DatabaseMetaData.class, "othersUpdatesAreVisible", int.class);
+    private static final Method othersDeletesAreVisible = method(DatabaseMetaData.class, "othersDeletesAreVisible", int.class);
+    private static final Method othersInsertsAreVisible = method(DatabaseMetaData.class, "othersInsertsAreVisible", int.class);
+    private static final Method updatesAreDetected = method(DatabaseMetaData.class, "updatesAreDetected", int.class);
+    private static final Method deletesAreDetected = method(DatabaseMetaData.class, "deletesAreDetected", int.class);
+    private static final Method insertsAreDetected = method(DatabaseMetaData.class, "insertsAreDetected", int.class);
+    private static final Method supportsBatchUpdates = method(DatabaseMetaData.class, "supportsBatchUpdates");
+    private static final Method getUDTs = method(DatabaseMetaData.class, "getUDTs", String.class, String.class, String.class, int[].class);
+    private static final Method getConnection = method(DatabaseMetaData.class, "getConnection");
+    private static final Method supportsSavepoints = method(DatabaseMetaData.class, "supportsSavepoints");
+    private static final Method supportsNamedParameters = method(DatabaseMetaData.class, "supportsNamedParameters");
+    private static final Method supportsMultipleOpenResults = method(DatabaseMetaData.class, "supportsMultipleOpenResults");
+    private static final Method supportsGetGeneratedKeys = method(DatabaseMetaData.class, "supportsGetGeneratedKeys");
+    private static final Method getSuperTypes = method(DatabaseMetaData.class, "getSuperTypes", String.class, String.class, String.class);
+    private static final Method getSuperTables = method(DatabaseMetaData.class, "getSuperTables", String.class, String.class, String.class);
+    private static final Method getAttributes = method(DatabaseMetaData.class, "getAttributes", String.class, String.class, String.class, String.class);
+    private static final Method supportsResultSetHoldability = method(DatabaseMetaData.class, "supportsResultSetHoldability", int.class);
+    private static final Method getResultSetHoldability = method(DatabaseMetaData.class, "getResultSetHoldability");
+    private static final Method getDatabaseMajorVersion = method(DatabaseMetaData.class, "getDatabaseMajorVersion");
+    private static final Method getDatabaseMinorVersion = method(DatabaseMetaData.class, "getDatabaseMinorVersion");
+    private static final Method getJDBCMajorVersion = method(DatabaseMetaData.class, "getJDBCMajorVersion");
+    private static final Method getJDBCMinorVersion = method(DatabaseMetaData.class, "getJDBCMinorVersion");
+    private static final Method getSQLStateType = method(DatabaseMetaData.class, "getSQLStateType");
+    private static final Method locatorsUpdateCopy = method(DatabaseMetaData.class, "locatorsUpdateCopy");
+    private static final Method supportsStatementPooling = method(DatabaseMetaData.class, "supportsStatementPooling");
+    private static final Method getRowIdLifetime = method(DatabaseMetaData.class, "getRowIdLifetime");
+    private static final Method getSchemas2 = method(DatabaseMetaData.class, "getSchemas", String.class, String.class);
+    private static final Method supportsStoredFunctionsUsingCallSyntax = method(DatabaseMetaData.class, "supportsStoredFunctionsUsingCallSyntax");
+    private static final Method autoCommitFailureClosesAllResultSets = method(DatabaseMetaData.class, "autoCommitFailureClosesAllResultSets");
+    private static final Method getClientInfoProperties = method(DatabaseMetaData.class, "getClientInfoProperties");
+    private static final Method getFunctions = method(DatabaseMetaData.class, "getFunctions", String.class, String.class, String.class);
+    private static final Method getFunctionColumns = method(DatabaseMetaData.class, "getFunctionColumns", String.class, String.class, String.class, String.class);
+    private static final Method getPseudoColumns = method(DatabaseMetaData.class, "getPseudoColumns", String.class, String.class, String.class, String.class);
+    private static final Method generatedKeyAlwaysReturned = method(DatabaseMetaData.class, "generatedKeyAlwaysReturned");
+    private static final Method getMaxLogicalLobSize = optionalMethod(DatabaseMetaData.class, "getMaxLogicalLobSize");
+    private static final Method supportsRefCursors = optionalMethod(DatabaseMetaData.class, "supportsRefCursors");
+
+    DatabaseMetaDataProxy(DatabaseMetaData target, ChildObjectInvocationHandler<Connection, DatabaseMetaData> handler) {
+        super(target, handler);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T unwrap(Class<T> iface) throws SQLException {
+        return (T) handler.invoke(this, unwrap, new Object[] {iface});
+    }
+
+    @Override
+    public boolean isWrapperFor(Class<?> iface) throws SQLException {
+        return (Boolean) handler.invoke(this, isWrapperFor, new Object[] {iface});
+    }
+
+    @Override
+    public boolean allProceduresAreCallable() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, allProceduresAreCallable, null);
+        try {
+            return target.allProceduresAreCallable();
+        } catch (SQLException e) {
+            throw handler.targetException(allProceduresAreCallable, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(allProceduresAreCallable, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean allTablesAreSelectable() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, allTablesAreSelectable, null);
+        try {
+            return target.allTablesAreSelectable();
+        } catch (SQLException e) {
+            throw handler.targetException(allTablesAreSelectable, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(allTablesAreSelectable, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public String getURL() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getURL, null);
+        try {
+            return target.getURL();
+        } catch (SQLException e) {
+            throw handler.targetException(getURL, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getURL, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public String getUserName() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getUserName, null);
+        try {
+            return target.getUserName();
+        } catch (SQLException e) {
+            throw handler.targetException(getUserName, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getUserName, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean isReadOnly() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, isReadOnly, null);
+        try {
+            return target.isReadOnly();
+        } catch (SQLException e) {
+            throw handler.targetException(isReadOnly, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(isReadOnly, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean nullsAreSortedHigh() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, nullsAreSortedHigh, null);
+        try {
+            return target.nullsAreSortedHigh();
+        } catch (SQLException e) {
+            throw handler.targetException(nullsAreSortedHigh, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(nullsAreSortedHigh, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean nullsAreSortedLow() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, nullsAreSortedLow, null);
+        try {
+            return target.nullsAreSortedLow();
+        } catch (SQLException e) {
+            throw handler.targetException(nullsAreSortedLow, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(nullsAreSortedLow, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean nullsAreSortedAtStart() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, nullsAreSortedAtStart, null);
+        try {
+            return target.nullsAreSortedAtStart();
+        } catch (SQLException e) {
+            throw handler.targetException(nullsAreSortedAtStart, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(nullsAreSortedAtStart, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean nullsAreSortedAtEnd() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, nullsAreSortedAtEnd, null);
+        try {
+            return target.nullsAreSortedAtEnd();
+        } catch (SQLException e) {
+            throw handler.targetException(nullsAreSortedAtEnd, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(nullsAreSortedAtEnd, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public String getDatabaseProductName() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getDatabaseProductName, null);
+        try {
+            return target.getDatabaseProductName();
+        } catch (SQLException e) {
+            throw handler.targetException(getDatabaseProductName, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getDatabaseProductName, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public String getDatabaseProductVersion() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getDatabaseProductVersion, null);
+        try {
+            return target.getDatabaseProductVersion();
+        } catch (SQLException e) {
+            throw handler.targetException(getDatabaseProductVersion, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getDatabaseProductVersion, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public String getDriverName() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getDriverName, null);
+        try {
+            return target.getDriverName();
+        } catch (SQLException e) {
+            throw handler.targetException(getDriverName, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getDriverName, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public String getDriverVersion() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getDriverVersion, null);
+        try {
+            return target.getDriverVersion();
+        } catch (SQLException e) {
+            throw handler.targetException(getDriverVersion, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getDriverVersion, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public int getDriverMajorVersion() {
+        if (handler.accessEntryRequired()) {
+            try {
+                handler.restrictedAccessEntry(this, getDriverMajorVersion, null);
+            } catch (SQLException e) {
+                throw new UndeclaredThrowableException(e); // as a dynamic proxy would do
+            }
+        }
+        return target.getDriverMajorVersion();
+    }
+
+    @Override
+    public int getDriverMinorVersion() {
+        if (handler.accessEntryRequired()) {
+            try {
+                handler.restrictedAccessEntry(this, getDriverMinorVersion, null);
+            } catch (SQLException e) {
+                throw new UndeclaredThrowableException(e); // as a dynamic proxy would do
+            }
+        }
+        return target.getDriverMinorVersion();
+    }
+
+    @Override
+    public boolean usesLocalFiles() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, usesLocalFiles, null);
+        try {
+            return target.usesLocalFiles();
+        } catch (SQLException e) {
+            throw handler.targetException(usesLocalFiles, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(usesLocalFiles, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean usesLocalFilePerTable() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, usesLocalFilePerTable, null);
+        try {
+            return target.usesLocalFilePerTable();
+        } catch (SQLException e) {
+            throw handler.targetException(usesLocalFilePerTable, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(usesLocalFilePerTable, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean supportsMixedCaseIdentifiers() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, supportsMixedCaseIdentifiers, null);
+        try {
+            return target.supportsMixedCaseIdentifiers();
+        } catch (SQLException e) {
+            throw handler.targetException(supportsMixedCaseIdentifiers, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(supportsMixedCaseIdentifiers, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean storesUpperCaseIdentifiers() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, storesUpperCaseIdentifiers, null);
+        try {
+            return target.storesUpperCaseIdentifiers();
+        } catch (SQLException e) {
+            throw handler.targetException(storesUpperCaseIdentifiers, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(storesUpperCaseIdentifiers, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean storesLowerCaseIdentifiers() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, storesLowerCaseIdentifiers, null);
+        try {
+            return target.storesLowerCaseIdentifiers();
+        } catch (SQLException e) {
+            throw handler.targetException(storesLowerCaseIdentifiers, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(storesLowerCaseIdentifiers, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean storesMixedCaseIdentifiers() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, storesMixedCaseIdentifiers, null);
+        try {
+            return target.storesMixedCaseIdentifiers();
+        } catch (SQLException e) {
+            throw handler.targetException(storesMixedCaseIdentifiers, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(storesMixedCaseIdentifiers, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean supportsMixedCaseQuotedIdentifiers() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, supportsMixedCaseQuotedIdentifiers, null);
+        try {
+            return target.supportsMixedCaseQuotedIdentifiers();
+        } catch (SQLException e) {
+            throw handler.targetException(supportsMixedCaseQuotedIdentifiers, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(supportsMixedCaseQuotedIdentifiers, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean storesUpperCaseQuotedIdentifiers() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, storesUpperCaseQuotedIdentifiers, null);
+        try {
+            return target.storesUpperCaseQuotedIdentifiers();
+        } catch (SQLException e) {
+            throw handler.targetException(storesUpperCaseQuotedIdentifiers, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(storesUpperCaseQuotedIdentifiers, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean storesLowerCaseQuotedIdentifiers() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, storesLowerCaseQuotedIdentifiers, null);
+        try {
+            return target.storesLowerCaseQuotedIdentifiers();
+        } catch (SQLException e) {
+            throw handler.targetException(storesLowerCaseQuotedIdentifiers, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(storesLowerCaseQuotedIdentifiers, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean storesMixedCaseQuotedIdentifiers() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, storesMixedCaseQuotedIdentifiers, null);
+        try {
+            return target.storesMixedCaseQuotedIdentifiers();
+        } catch (SQLException e) {
+            throw handler.targetException(storesMixedCaseQuotedIdentifiers, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(storesMixedCaseQuotedIdentifiers, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public String getIdentifierQuoteString() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getIdentifierQuoteString, null);
+        try {
+            return target.getIdentifierQuoteString();
+        } catch (SQLException e) {
+            throw handler.targetException(getIdentifierQuoteString, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getIdentifierQuoteString, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public String getSQLKeywords() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getSQLKeywords, null);
+        try {
+            return target.getSQLKeywords();
+        } catch (SQLException e) {
+            throw handler.targetException(getSQLKeywords, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getSQLKeywords, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public String getNumericFunctions() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getNumericFunctions, null);
+        try {
+            return target.getNumericFunctions();
+        } catch (SQLException e) {
+            throw handler.targetException(getNumericFunctions, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getNumericFunctions, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public String getStringFunctions() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getStringFunctions, null);
+        try {
+            return target.getStringFunctions();
+        } catch (SQLException e) {
+            throw handler.targetException(getStringFunctions, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getStringFunctions, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public String getSystemFunctions() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getSystemFunctions, null);
+        try {
+            return target.getSystemFunctions();
+        } catch (SQLException e) {
+            throw handler.targetException(getSystemFunctions, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getSystemFunctions, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public String getTimeDateFunctions() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getTimeDateFunctions, null);
+        try {
+            return target.getTimeDateFunctions();
+        } catch (SQLException e) {
+            throw handler.targetException(getTimeDateFunctions, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getTimeDateFunctions, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public String getSearchStringEscape() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getSearchStringEscape, null);
+        try {
+            return target.getSearchStringEscape();
+        } catch (SQLException e) {
+            throw handler.targetException(getSearchStringEscape, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getSearchStringEscape, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public String getExtraNameCharacters() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getExtraNameCharacters, null);
+        try {
+            return target.getExtraNameCharacters();
+        } catch (SQLException e) {
+            throw handler.targetException(getExtraNameCharacters, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getExtraNameCharacters, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean supportsAlterTableWithAddColumn() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, supportsAlterTableWithAddColumn, null);
+        try {
+            return target.supportsAlterTableWithAddColumn();
+        } catch (SQLException e) {
+            throw handler.targetException(supportsAlterTableWithAddColumn, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(supportsAlterTableWithAddColumn, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean supportsAlterTableWithDropColumn() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, supportsAlterTableWithDropColumn, null);
+        try {
+            return target.supportsAlterTableWithDropColumn();
+        } catch (SQLException e) {
+            throw handler.targetException(supportsAlterTableWithDropColumn, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(supportsAlterTableWithDropColumn, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean supportsColumnAliasing() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, supportsColumnAliasing, null);
+        try {
+            return target.supportsColumnAliasing();
+        } catch (SQLException e) {
+            throw handler.targetException(supportsColumnAliasing, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(supportsColumnAliasing, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean nullPlusNonNullIsNull() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, nullPlusNonNullIsNull, null);
+        try {
+            return target.nullPlusNonNullIsNull();
+        } catch (SQLException e) {
+            throw handler.targetException(nullPlusNonNullIsNull, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(nullPlusNonNullIsNull, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean supportsConvert() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, supportsConvert1, null);
+        try {
+            return target.supportsConvert();
+        } catch (SQLException e) {
+            throw handler.targetException(supportsConvert1, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(supportsConvert1, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean supportsConvert(int fromType, int toType) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, supportsConvert2, new Object[] {fromType, toType});
+        try {
+            return target.supportsConvert(fromType, toType);
+        } catch (SQLException e) {
+            throw handler.targetException(supportsConvert2, new Object[] {fromType, toType}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(supportsConvert2, new Object[] {fromType, toType}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean supportsTableCorrelationNames() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, supportsTableCorrelationNames, null);
+        try {
+            return target.supportsTableCorrelationNames();
+        } catch (SQLException e) {
+            throw handler.targetException(supportsTableCorrelationNames, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(supportsTableCorrelationNames, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean supportsDifferentTableCorrelationNames() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, supportsDifferentTableCorrelationNames, null);
+        try {
+            return target.supportsDifferentTableCorrelationNames();
+        } catch (SQLException e) {
+            throw handler.targetException(supportsDifferentTableCorrelationNames, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(supportsDifferentTableCorrelationNames, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean supportsExpressionsInOrderBy() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, supportsExpressionsInOrderBy, null);
+        try {
+            return target.supportsExpressionsInOrderBy();
+        } catch (SQLException e) {
+            throw handler.targetException(supportsExpressionsInOrderBy, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(supportsExpressionsInOrderBy, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean supportsOrderByUnrelated() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, supportsOrderByUnrelated, null);
+        try {
+            return target.supportsOrderByUnrelated();
+        } catch (SQLException e) {
+            throw handler.targetException(supportsOrderByUnrelated, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(supportsOrderByUnrelated, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean supportsGroupBy() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, supportsGroupBy, null);
+        try {
+            return target.supportsGroupBy();
+        } catch (SQLException e) {
+            throw handler.targetException(supportsGroupBy, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(supportsGroupBy, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean supportsGroupByUnrelated() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, supportsGroupByUnrelated, null);
+        try {
+            return target.supportsGroupByUnrelated();
+        } catch (SQLException e) {
+            throw handler.targetException(supportsGroupByUnrelated, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(supportsGroupByUnrelated, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean supportsGroupByBeyondSelect() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, supportsGroupByBeyondSelect, null);
+        try {
+            return target.supportsGroupByBeyondSelect();
+        } catch (SQLException e) {
+            throw handler.targetException(supportsGroupByBeyondSelect, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(supportsGroupByBeyondSelect, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean supportsLikeEscapeClause() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, supportsLikeEscapeClause, null);
+        try {
+            return target.supportsLikeEscapeClause();
+        } catch (SQLException e) {
+            throw handler.targetException(supportsLikeEscapeClause, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(supportsLikeEscapeClause, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean supportsMultipleResultSets() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, supportsMultipleResultSets, null);
+        try {
+            return target.supportsMultipleResultSets();
+        } catch (SQLException e) {
+            throw handler.targetException(supportsMultipleResultSets, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(supportsMultipleResultSets, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean supportsMultipleTransactions() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, supportsMultipleTransactions, null);
+        try {
+            return target.supportsMultipleTransactions();
+        } catch (SQLException e) {
+            throw handler.targetException(supportsMultipleTransactions, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(supportsMultipleTransactions, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean supportsNonNullableColumns() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, supportsNonNullableColumns, null);
+        try {
+            return target.supportsNonNullableColumns();
+        } catch (SQLException e) {
+            throw handler.targetException(supportsNonNullableColumns, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(supportsNonNullableColumns, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean supportsMinimumSQLGrammar() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, supportsMinimumSQLGrammar, null);
+        try {
+            return target.supportsMinimumSQLGrammar();
+        } catch (SQLException e) {
+            throw handler.targetException(supportsMinimumSQLGrammar, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(supportsMinimumSQLGrammar, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean supportsCoreSQLGrammar() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, supportsCoreSQLGrammar, null);
+        try {
+            return target.supportsCoreSQLGrammar();
+        } catch (SQLException e) {
+            throw handler.targetException(supportsCoreSQLGrammar, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(supportsCoreSQLGrammar, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean supportsExtendedSQLGrammar() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, supportsExtendedSQLGrammar, null);
+        try {
+            return target.supportsExtendedSQLGrammar();
+        } catch (SQLException e) {
+            throw handler.targetException(supportsExtendedSQLGrammar, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(supportsExtendedSQLGrammar, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean supportsANSI92EntryLevelSQL() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, supportsANSI92EntryLevelSQL, null);
+        try {
+            return target.supportsANSI92EntryLevelSQL();
+        } catch (SQLException e) {
+            throw handler.targetException(supportsANSI92EntryLevelSQL, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(supportsANSI92EntryLevelSQL, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean supportsANSI92IntermediateSQL() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, supportsANSI92IntermediateSQL, null);
+        try {
+            return target.supportsANSI92IntermediateSQL();
+        } catch (SQLException e) {
+            throw handler.targetException(supportsANSI92IntermediateSQL, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(supportsANSI92IntermediateSQL, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean supportsANSI92FullSQL() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, supportsANSI92FullSQL, null);
+        try {
+            return target.supportsANSI92FullSQL();
+        } catch (SQLException e) {
+            throw handler.targetException(supportsANSI92FullSQL, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(supportsANSI92FullSQL, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean supportsIntegrityEnhancementFacility() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, supportsIntegrityEnhancementFacility, null);
+        try {
+            return target.supportsIntegrityEnhancementFacility();
+        } catch (SQLException e) {
+            throw handler.targetException(supportsIntegrityEnhancementFacility, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(supportsIntegrityEnhancementFacility, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean supportsOuterJoins() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, supportsOuterJoins, null);
+        try {
+            return target.supportsOuterJoins();
+        } catch (SQLException e) {
+            throw handler.targetException(supportsOuterJoins, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(supportsOuterJoins, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean supportsFullOuterJoins() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, supportsFullOuterJoins, null);
+        try {
+            return target.supportsFullOuterJoins();
+        } catch (SQLException e) {
+            throw handler.targetException(supportsFullOuterJoins, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(supportsFullOuterJoins, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean supportsLimitedOuterJoins() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, supportsLimitedOuterJoins, null);
+        try {
+            return target.supportsLimitedOuterJoins();
+        } catch (SQLException e) {
+            throw handler.targetException(supportsLimitedOuterJoins, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(supportsLimitedOuterJoins, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public String getSchemaTerm() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getSchemaTerm, null);
+        try {
+            return target.getSchemaTerm();
+        } catch (SQLException e) {
+            throw handler.targetException(getSchemaTerm, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getSchemaTerm, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public String getProcedureTerm() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getProcedureTerm, null);
+        try {
+            return target.getProcedureTerm();
+        } catch (SQLException e) {
+            throw handler.targetException(getProcedureTerm, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getProcedureTerm, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public String getCatalogTerm() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getCatalogTerm, null);
+        try {
+            return target.getCatalogTerm();
+        } catch (SQLException e) {
+            throw handler.targetException(getCatalogTerm, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getCatalogTerm, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean isCatalogAtStart() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, isCatalogAtStart, null);
+        try {
+            return target.isCatalogAtStart();
+        } catch (SQLException e) {
+            throw handler.targetException(isCatalogAtStart, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(isCatalogAtStart, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public String getCatalogSeparator() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getCatalogSeparator, null);
+        try {
+            return target.getCatalogSeparator();
+        } catch (SQLException e) {
+            throw handler.targetException(getCatalogSeparator, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getCatalogSeparator, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean supportsSchemasInDataManipulation() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, supportsSchemasInDataManipulation, null);
+        try {
+            return target.supportsSchemasInDataManipulation();
+        } catch (SQLException e) {
+            throw handler.targetException(supportsSchemasInDataManipulation, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(supportsSchemasInDataManipulation, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean supportsSchemasInProcedureCalls() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, supportsSchemasInProcedureCalls, null);
+        try {
+            return target.supportsSchemasInProcedureCalls();
+        } catch (SQLException e) {
+            throw handler.targetException(supportsSchemasInProcedureCalls, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(supportsSchemasInProcedureCalls, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean supportsSchemasInTableDefinitions() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, supportsSchemasInTableDefinitions, null);
+        try {
+            return target.supportsSchemasInTableDefinitions();
+        } catch (SQLException e) {
+            throw handler.targetException(supportsSchemasInTableDefinitions, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(supportsSchemasInTableDefinitions, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean supportsSchemasInIndexDefinitions() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, supportsSchemasInIndexDefinitions, null);
+        try {
+            return target.supportsSchemasInIndexDefinitions();
+        } catch (SQLException e) {
+            throw handler.targetException(supportsSchemasInIndexDefinitions, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(supportsSchemasInIndexDefinitions, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean supportsSchemasInPrivilegeDefinitions() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, supportsSchemasInPrivilegeDefinitions, null);
+        try {
+            return target.supportsSchemasInPrivilegeDefinitions();
+        } catch (SQLException e) {
+            throw handler.targetException(supportsSchemasInPrivilegeDefinitions, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(supportsSchemasInPrivilegeDefinitions, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean supportsCatalogsInDataManipulation() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, supportsCatalogsInDataManipulation, null);
+        try {
+            return target.supportsCatalogsInDataManipulation();
+        } catch (SQLException e) {
+            throw handler.targetException(supportsCatalogsInDataManipulation, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(supportsCatalogsInDataManipulation, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean supportsCatalogsInProcedureCalls() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, supportsCatalogsInProcedureCalls, null);
+        try {
+            return target.supportsCatalogsInProcedureCalls();
+        } catch (SQLException e) {
+            throw handler.targetException(supportsCatalogsInProcedureCalls, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(supportsCatalogsInProcedureCalls, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean supportsCatalogsInTableDefinitions() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, supportsCatalogsInTableDefinitions, null);
+        try {
+            return target.supportsCatalogsInTableDefinitions();
+        } catch (SQLException e) {
+            throw handler.targetException(supportsCatalogsInTableDefinitions, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(supportsCatalogsInTableDefinitions, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean supportsCatalogsInIndexDefinitions() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, supportsCatalogsInIndexDefinitions, null);
+        try {
+            return target.supportsCatalogsInIndexDefinitions();
+        } catch (SQLException e) {
+            throw handler.targetException(supportsCatalogsInIndexDefinitions, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(supportsCatalogsInIndexDefinitions, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean supportsCatalogsInPrivilegeDefinitions() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, supportsCatalogsInPrivilegeDefinitions, null);
+        try {
+            return target.supportsCatalogsInPrivilegeDefinitions();
+        } catch (SQLException e) {
+            throw handler.targetException(supportsCatalogsInPrivilegeDefinitions, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(supportsCatalogsInPrivilegeDefinitions, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean supportsPositionedDelete() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, supportsPositionedDelete, null);
+        try {
+            return target.supportsPositionedDelete();
+        } catch (SQLException e) {
+            throw handler.targetException(supportsPositionedDelete, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(supportsPositionedDelete, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean supportsPositionedUpdate() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, supportsPositionedUpdate, null);
+        try {
+            return target.supportsPositionedUpdate();
+        } catch (SQLException e) {
+            throw handler.targetException(supportsPositionedUpdate, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(supportsPositionedUpdate, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean supportsSelectForUpdate() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, supportsSelectForUpdate, null);
+        try {
+            return target.supportsSelectForUpdate();
+        } catch (SQLException e) {
+            throw handler.targetException(supportsSelectForUpdate, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(supportsSelectForUpdate, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean supportsStoredProcedures() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, supportsStoredProcedures, null);
+        try {
+            return target.supportsStoredProcedures();
+        } catch (SQLException e) {
+            throw handler.targetException(supportsStoredProcedures, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(supportsStoredProcedures, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean supportsSubqueriesInComparisons() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, supportsSubqueriesInComparisons, null);
+        try {
+            return target.supportsSubqueriesInComparisons();
+        } catch (SQLException e) {
+            throw handler.targetException(supportsSubqueriesInComparisons, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(supportsSubqueriesInComparisons, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean supportsSubqueriesInExists() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, supportsSubqueriesInExists, null);
+        try {
+            return target.supportsSubqueriesInExists();
+        } catch (SQLException e) {
+            throw handler.targetException(supportsSubqueriesInExists, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(supportsSubqueriesInExists, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean supportsSubqueriesInIns() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, supportsSubqueriesInIns, null);
+        try {
+            return target.supportsSubqueriesInIns();
+        } catch (SQLException e) {
+            throw handler.targetException(supportsSubqueriesInIns, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(supportsSubqueriesInIns, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean supportsSubqueriesInQuantifieds() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, supportsSubqueriesInQuantifieds, null);
+        try {
+            return target.supportsSubqueriesInQuantifieds();
+        } catch (SQLException e) {
+            throw handler.targetException(supportsSubqueriesInQuantifieds, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(supportsSubqueriesInQuantifieds, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean supportsCorrelatedSubqueries() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, supportsCorrelatedSubqueries, null);
+        try {
+            return target.supportsCorrelatedSubqueries();
+        } catch (SQLException e) {
+            throw handler.targetException(supportsCorrelatedSubqueries, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(supportsCorrelatedSubqueries, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean supportsUnion() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, supportsUnion, null);
+        try {
+            return target.supportsUnion();
+        } catch (SQLException e) {
+            throw handler.targetException(supportsUnion, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(supportsUnion, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean supportsUnionAll() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, supportsUnionAll, null);
+        try {
+            return target.supportsUnionAll();
+        } catch (SQLException e) {
+            throw handler.targetException(supportsUnionAll, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(supportsUnionAll, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean supportsOpenCursorsAcrossCommit() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, supportsOpenCursorsAcrossCommit, null);
+        try {
+            return target.supportsOpenCursorsAcrossCommit();
+        } catch (SQLException e) {
+            throw handler.targetException(supportsOpenCursorsAcrossCommit, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(supportsOpenCursorsAcrossCommit, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean supportsOpenCursorsAcrossRollback() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, supportsOpenCursorsAcrossRollback, null);
+        try {
+            return target.supportsOpenCursorsAcrossRollback();
+        } catch (SQLException e) {
+            throw handler.targetException(supportsOpenCursorsAcrossRollback, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(supportsOpenCursorsAcrossRollback, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean supportsOpenStatementsAcrossCommit() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, supportsOpenStatementsAcrossCommit, null);
+        try {
+            return target.supportsOpenStatementsAcrossCommit();
+        } catch (SQLException e) {
+            throw handler.targetException(supportsOpenStatementsAcrossCommit, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(supportsOpenStatementsAcrossCommit, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean supportsOpenStatementsAcrossRollback() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, supportsOpenStatementsAcrossRollback, null);
+        try {
+            return target.supportsOpenStatementsAcrossRollback();
+        } catch (SQLException e) {
+            throw handler.targetException(supportsOpenStatementsAcrossRollback, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(supportsOpenStatementsAcrossRollback, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public int getMaxBinaryLiteralLength() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getMaxBinaryLiteralLength, null);
+        try {
+            return target.getMaxBinaryLiteralLength();
+        } catch (SQLException e) {
+            throw handler.targetException(getMaxBinaryLiteralLength, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getMaxBinaryLiteralLength, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public int getMaxCharLiteralLength() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getMaxCharLiteralLength, null);
+        try {
+            return target.getMaxCharLiteralLength();
+        } catch (SQLException e) {
+            throw handler.targetException(getMaxCharLiteralLength, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getMaxCharLiteralLength, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public int getMaxColumnNameLength() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getMaxColumnNameLength, null);
+        try {
+            return target.getMaxColumnNameLength();
+        } catch (SQLException e) {
+            throw handler.targetException(getMaxColumnNameLength, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getMaxColumnNameLength, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public int getMaxColumnsInGroupBy() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getMaxColumnsInGroupBy, null);
+        try {
+            return target.getMaxColumnsInGroupBy();
+        } catch (SQLException e) {
+            throw handler.targetException(getMaxColumnsInGroupBy, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getMaxColumnsInGroupBy, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public int getMaxColumnsInIndex() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getMaxColumnsInIndex, null);
+        try {
+            return target.getMaxColumnsInIndex();
+        } catch (SQLException e) {
+            throw handler.targetException(getMaxColumnsInIndex, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getMaxColumnsInIndex, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public int getMaxColumnsInOrderBy() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getMaxColumnsInOrderBy, null);
+        try {
+            return target.getMaxColumnsInOrderBy();
+        } catch (SQLException e) {
+            throw handler.targetException(getMaxColumnsInOrderBy, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getMaxColumnsInOrderBy, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public int getMaxColumnsInSelect() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getMaxColumnsInSelect, null);
+        try {
+            return target.getMaxColumnsInSelect();
+        } catch (SQLException e) {
+            throw handler.targetException(getMaxColumnsInSelect, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getMaxColumnsInSelect, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public int getMaxColumnsInTable() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getMaxColumnsInTable, null);
+        try {
+            return target.getMaxColumnsInTable();
+        } catch (SQLException e) {
+            throw handler.targetException(getMaxColumnsInTable, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getMaxColumnsInTable, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public int getMaxConnections() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getMaxConnections, null);
+        try {
+            return target.getMaxConnections();
+        } catch (SQLException e) {
+            throw handler.targetException(getMaxConnections, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getMaxConnections, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public int getMaxCursorNameLength() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getMaxCursorNameLength, null);
+        try {
+            return target.getMaxCursorNameLength();
+        } catch (SQLException e) {
+            throw handler.targetException(getMaxCursorNameLength, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getMaxCursorNameLength, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public int getMaxIndexLength() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getMaxIndexLength, null);
+        try {
+            return target.getMaxIndexLength();
+        } catch (SQLException e) {
+            throw handler.targetException(getMaxIndexLength, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getMaxIndexLength, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public int getMaxSchemaNameLength() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getMaxSchemaNameLength, null);
+        try {
+            return target.getMaxSchemaNameLength();
+        } catch (SQLException e) {
+            throw handler.targetException(getMaxSchemaNameLength, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getMaxSchemaNameLength, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public int getMaxProcedureNameLength() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getMaxProcedureNameLength, null);
+        try {
+            return target.getMaxProcedureNameLength();
+        } catch (SQLException e) {
+            throw handler.targetException(getMaxProcedureNameLength, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getMaxProcedureNameLength, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public int getMaxCatalogNameLength() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getMaxCatalogNameLength, null);
+        try {
+            return target.getMaxCatalogNameLength();
+        } catch (SQLException e) {
+            throw handler.targetException(getMaxCatalogNameLength, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getMaxCatalogNameLength, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public int getMaxRowSize() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getMaxRowSize, null);
+        try {
+            return target.getMaxRowSize();
+        } catch (SQLException e) {
+            throw handler.targetException(getMaxRowSize, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getMaxRowSize, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean doesMaxRowSizeIncludeBlobs() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, doesMaxRowSizeIncludeBlobs, null);
+        try {
+            return target.doesMaxRowSizeIncludeBlobs();
+        } catch (SQLException e) {
+            throw handler.targetException(doesMaxRowSizeIncludeBlobs, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(doesMaxRowSizeIncludeBlobs, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public int getMaxStatementLength() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getMaxStatementLength, null);
+        try {
+            return target.getMaxStatementLength();
+        } catch (SQLException e) {
+            throw handler.targetException(getMaxStatementLength, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getMaxStatementLength, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public int getMaxStatements() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getMaxStatements, null);
+        try {
+            return target.getMaxStatements();
+        } catch (SQLException e) {
+            throw handler.targetException(getMaxStatements, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getMaxStatements, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public int getMaxTableNameLength() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getMaxTableNameLength, null);
+        try {
+            return target.getMaxTableNameLength();
+        } catch (SQLException e) {
+            throw handler.targetException(getMaxTableNameLength, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getMaxTableNameLength, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public int getMaxTablesInSelect() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getMaxTablesInSelect, null);
+        try {
+            return target.getMaxTablesInSelect();
+        } catch (SQLException e) {
+            throw handler.targetException(getMaxTablesInSelect, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getMaxTablesInSelect, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public int getMaxUserNameLength() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getMaxUserNameLength, null);
+        try {
+            return target.getMaxUserNameLength();
+        } catch (SQLException e) {
+            throw handler.targetException(getMaxUserNameLength, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getMaxUserNameLength, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public int getDefaultTransactionIsolation() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getDefaultTransactionIsolation, null);
+        try {
+            return target.getDefaultTransactionIsolation();
+        } catch (SQLException e) {
+            throw handler.targetException(getDefaultTransactionIsolation, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getDefaultTransactionIsolation, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean supportsTransactions() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, supportsTransactions, null);
+        try {
+            return target.supportsTransactions();
+        } catch (SQLException e) {
+            throw handler.targetException(supportsTransactions, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(supportsTransactions, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean supportsTransactionIsolationLevel(int level) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, supportsTransactionIsolationLevel, new Object[] {level});
+        try {
+            return target.supportsTransactionIsolationLevel(level);
+        } catch (SQLException e) {
+            throw handler.targetException(supportsTransactionIsolationLevel, new Object[] {level}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(supportsTransactionIsolationLevel, new Object[] {level}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean supportsDataDefinitionAndDataManipulationTransactions() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, supportsDataDefinitionAndDataManipulationTransactions, null);
+        try {
+            return target.supportsDataDefinitionAndDataManipulationTransactions();
+        } catch (SQLException e) {
+            throw handler.targetException(supportsDataDefinitionAndDataManipulationTransactions, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(supportsDataDefinitionAndDataManipulationTransactions, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean supportsDataManipulationTransactionsOnly() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, supportsDataManipulationTransactionsOnly, null);
+        try {
+            return target.supportsDataManipulationTransactionsOnly();
+        } catch (SQLException e) {
+            throw handler.targetException(supportsDataManipulationTransactionsOnly, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(supportsDataManipulationTransactionsOnly, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean dataDefinitionCausesTransactionCommit() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, dataDefinitionCausesTransactionCommit, null);
+        try {
+            return target.dataDefinitionCausesTransactionCommit();
+        } catch (SQLException e) {
+            throw handler.targetException(dataDefinitionCausesTransactionCommit, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(dataDefinitionCausesTransactionCommit, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean dataDefinitionIgnoredInTransactions() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, dataDefinitionIgnoredInTransactions, null);
+        try {
+            return target.dataDefinitionIgnoredInTransactions();
+        } catch (SQLException e) {
+            throw handler.targetException(dataDefinitionIgnoredInTransactions, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(dataDefinitionIgnoredInTransactions, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public ResultSet getProcedures(String catalog, String schemaPattern, String procedureNamePattern) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getProcedures, new Object[] {catalog, schemaPattern, procedureNamePattern});
+        try {
+            return target.getProcedures(catalog, schemaPattern, procedureNamePattern);
+        } catch (SQLException e) {
+            throw handler.targetException(getProcedures, new Object[] {catalog, schemaPattern, procedureNamePattern}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getProcedures, new Object[] {catalog, schemaPattern, procedureNamePattern}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public ResultSet getProcedureColumns(String catalog, String schemaPattern, String procedureNamePattern, String columnNamePattern) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getProcedureColumns, new Object[] {catalog, schemaPattern, procedureNamePattern, columnNamePattern});
+        try {
+            return target.getProcedureColumns(catalog, schemaPattern, procedureNamePattern, columnNamePattern);
+        } catch (SQLException e) {
+            throw handler.targetException(getProcedureColumns, new Object[] {catalog, schemaPattern, procedureNamePattern, columnNamePattern}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getProcedureColumns, new Object[] {catalog, schemaPattern, procedureNamePattern, columnNamePattern}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public ResultSet getTables(String catalog, String schemaPattern, String tableNamePattern, String[] types) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getTables, new Object[] {catalog, schemaPattern, tableNamePattern, types});
+        try {
+            return target.getTables(catalog, schemaPattern, tableNamePattern, types);
+        } catch (SQLException e) {
+            throw handler.targetException(getTables, new Object[] {catalog, schemaPattern, tableNamePattern, types}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getTables, new Object[] {catalog, schemaPattern, tableNamePattern, types}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public ResultSet getSchemas() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getSchemas1, null);
+        try {
+            return target.getSchemas();
+        } catch (SQLException e) {
+            throw handler.targetException(getSchemas1, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getSchemas1, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public ResultSet getCatalogs() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getCatalogs, null);
+        try {
+            return target.getCatalogs();
+        } catch (SQLException e) {
+            throw handler.targetException(getCatalogs, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getCatalogs, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public ResultSet getTableTypes() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getTableTypes, null);
+        try {
+            return target.getTableTypes();
+        } catch (SQLException e) {
+            throw handler.targetException(getTableTypes, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getTableTypes, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public ResultSet getColumns(String catalog, String schemaPattern, String tableNamePattern, String columnNamePattern) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getColumns, new Object[] {catalog, schemaPattern, tableNamePattern, columnNamePattern});
+        try {
+            return target.getColumns(catalog, schemaPattern, tableNamePattern, columnNamePattern);
+        } catch (SQLException e) {
+            throw handler.targetException(getColumns, new Object[] {catalog, schemaPattern, tableNamePattern, columnNamePattern}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getColumns, new Object[] {catalog, schemaPattern, tableNamePattern, columnNamePattern}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public ResultSet getColumnPrivileges(String catalog, String schema, String table, String columnNamePattern) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getColumnPrivileges, new Object[] {catalog, schema, table, columnNamePattern});
+        try {
+            return target.getColumnPrivileges(catalog, schema, table, columnNamePattern);
+        } catch (SQLException e) {
+            throw handler.targetException(getColumnPrivileges, new Object[] {catalog, schema, table, columnNamePattern}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getColumnPrivileges, new Object[] {catalog, schema, table, columnNamePattern}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public ResultSet getTablePrivileges(String catalog, String schemaPattern, String tableNamePattern) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getTablePrivileges, new Object[] {catalog, schemaPattern, tableNamePattern});
+        try {
+            return target.getTablePrivileges(catalog, schemaPattern, tableNamePattern);
+        } catch (SQLException e) {
+            throw handler.targetException(getTablePrivileges, new Object[] {catalog, schemaPattern, tableNamePattern}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getTablePrivileges, new Object[] {catalog, schemaPattern, tableNamePattern}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public ResultSet getBestRowIdentifier(String catalog, String schema, String table, int scope, boolean nullable) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getBestRowIdentifier, new Object[] {catalog, schema, table, scope, nullable});
+        try {
+            return target.getBestRowIdentifier(catalog, schema, table, scope, nullable);
+        } catch (SQLException e) {
+            throw handler.targetException(getBestRowIdentifier, new Object[] {catalog, schema, table, scope, nullable}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getBestRowIdentifier, new Object[] {catalog, schema, table, scope, nullable}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public ResultSet getVersionColumns(String catalog, String schema, String table) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getVersionColumns, new Object[] {catalog, schema, table});
+        try {
+            return target.getVersionColumns(catalog, schema, table);
+        } catch (SQLException e) {
+            throw handler.targetException(getVersionColumns, new Object[] {catalog, schema, table}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getVersionColumns, new Object[] {catalog, schema, table}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public ResultSet getPrimaryKeys(String catalog, String schema, String table) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getPrimaryKeys, new Object[] {catalog, schema, table});
+        try {
+            return target.getPrimaryKeys(catalog, schema, table);
+        } catch (SQLException e) {
+            throw handler.targetException(getPrimaryKeys, new Object[] {catalog, schema, table}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getPrimaryKeys, new Object[] {catalog, schema, table}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public ResultSet getImportedKeys(String catalog, String schema, String table) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getImportedKeys, new Object[] {catalog, schema, table});
+        try {
+            return target.getImportedKeys(catalog, schema, table);
+        } catch (SQLException e) {
+            throw handler.targetException(getImportedKeys, new Object[] {catalog, schema, table}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getImportedKeys, new Object[] {catalog, schema, table}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public ResultSet getExportedKeys(String catalog, String schema, String table) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getExportedKeys, new Object[] {catalog, schema, table});
+        try {
+            return target.getExportedKeys(catalog, schema, table);
+        } catch (SQLException e) {
+            throw handler.targetException(getExportedKeys, new Object[] {catalog, schema, table}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getExportedKeys, new Object[] {catalog, schema, table}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public ResultSet getCrossReference(String parentCatalog, String parentSchema, String parentTable, String foreignCatalog, String foreignSchema, String foreignTable) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getCrossReference, new Object[] {parentCatalog, parentSchema, parentTable, foreignCatalog, foreignSchema, foreignTable});
+        try {
+            return target.getCrossReference(parentCatalog, parentSchema, parentTable, foreignCatalog, foreignSchema, foreignTable);
+        } catch (SQLException e) {
+            throw handler.targetException(getCrossReference, new Object[] {parentCatalog, parentSchema, parentTable, foreignCatalog, foreignSchema, foreignTable}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getCrossReference, new Object[] {parentCatalog, parentSchema, parentTable, foreignCatalog, foreignSchema, foreignTable}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public ResultSet getTypeInfo() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getTypeInfo, null);
+        try {
+            return target.getTypeInfo();
+        } catch (SQLException e) {
+            throw handler.targetException(getTypeInfo, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getTypeInfo, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public ResultSet getIndexInfo(String catalog, String schema, String table, boolean unique, boolean approximate) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getIndexInfo, new Object[] {catalog, schema, table, unique, approximate});
+        try {
+            return target.getIndexInfo(catalog, schema, table, unique, approximate);
+        } catch (SQLException e) {
+            throw handler.targetException(getIndexInfo, new Object[] {catalog, schema, table, unique, approximate}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getIndexInfo, new Object[] {catalog, schema, table, unique, approximate}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean supportsResultSetType(int type) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, supportsResultSetType, new Object[] {type});
+        try {
+            return target.supportsResultSetType(type);
+        } catch (SQLException e) {
+            throw handler.targetException(supportsResultSetType, new Object[] {type}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(supportsResultSetType, new Object[] {type}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean supportsResultSetConcurrency(int type, int concurrency) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, supportsResultSetConcurrency, new Object[] {type, concurrency});
+        try {
+            return target.supportsResultSetConcurrency(type, concurrency);
+        } catch (SQLException e) {
+            throw handler.targetException(supportsResultSetConcurrency, new Object[] {type, concurrency}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(supportsResultSetConcurrency, new Object[] {type, concurrency}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean ownUpdatesAreVisible(int type) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, ownUpdatesAreVisible, new Object[] {type});
+        try {
+            return target.ownUpdatesAreVisible(type);
+        } catch (SQLException e) {
+            throw handler.targetException(ownUpdatesAreVisible, new Object[] {type}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(ownUpdatesAreVisible, new Object[] {type}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean ownDeletesAreVisible(int type) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, ownDeletesAreVisible, new Object[] {type});
+        try {
+            return target.ownDeletesAreVisible(type);
+        } catch (SQLException e) {
+            throw handler.targetException(ownDeletesAreVisible, new Object[] {type}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(ownDeletesAreVisible, new Object[] {type}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean ownInsertsAreVisible(int type) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, ownInsertsAreVisible, new Object[] {type});
+        try {
+            return target.ownInsertsAreVisible(type);
+        } catch (SQLException e) {
+            throw handler.targetException(ownInsertsAreVisible, new Object[] {type}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(ownInsertsAreVisible, new Object[] {type}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean othersUpdatesAreVisible(int type) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, othersUpdatesAreVisible, new Object[] {type});
+        try {
+            return target.othersUpdatesAreVisible(type);
+        } catch (SQLException e) {
+            throw handler.targetException(othersUpdatesAreVisible, new Object[] {type}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(othersUpdatesAreVisible, new Object[] {type}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean othersDeletesAreVisible(int type) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, othersDeletesAreVisible, new Object[] {type});
+        try {
+            return target.othersDeletesAreVisible(type);
+        } catch (SQLException e) {
+            throw handler.targetException(othersDeletesAreVisible, new Object[] {type}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(othersDeletesAreVisible, new Object[] {type}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean othersInsertsAreVisible(int type) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, othersInsertsAreVisible, new Object[] {type});
+        try {
+            return target.othersInsertsAreVisible(type);
+        } catch (SQLException e) {
+            throw handler.targetException(othersInsertsAreVisible, new Object[] {type}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(othersInsertsAreVisible, new Object[] {type}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean updatesAreDetected(int type) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, updatesAreDetected, new Object[] {type});
+        try {
+            return target.updatesAreDetected(type);
+        } catch (SQLException e) {
+            throw handler.targetException(updatesAreDetected, new Object[] {type}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(updatesAreDetected, new Object[] {type}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean deletesAreDetected(int type) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, deletesAreDetected, new Object[] {type});
+        try {
+            return target.deletesAreDetected(type);
+        } catch (SQLException e) {
+            throw handler.targetException(deletesAreDetected, new Object[] {type}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(deletesAreDetected, new Object[] {type}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean insertsAreDetected(int type) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, insertsAreDetected, new Object[] {type});
+        try {
+            return target.insertsAreDetected(type);
+        } catch (SQLException e) {
+            throw handler.targetException(insertsAreDetected, new Object[] {type}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(insertsAreDetected, new Object[] {type}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean supportsBatchUpdates() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, supportsBatchUpdates, null);
+        try {
+            return target.supportsBatchUpdates();
+        } catch (SQLException e) {
+            throw handler.targetException(supportsBatchUpdates, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(supportsBatchUpdates, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public ResultSet getUDTs(String catalog, String schemaPattern, String typeNamePattern, int[] types) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getUDTs, new Object[] {catalog, schemaPattern, typeNamePattern, types});
+        try {
+            return target.getUDTs(catalog, schemaPattern, typeNamePattern, types);
+        } catch (SQLException e) {
+            throw handler.targetException(getUDTs, new Object[] {catalog, schemaPattern, typeNamePattern, types}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getUDTs, new Object[] {catalog, schemaPattern, typeNamePattern, types}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return (Connection) handler.invoke(this, getConnection, null);
+    }
+
+    @Override
+    public boolean supportsSavepoints() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, supportsSavepoints, null);
+        try {
+            return target.supportsSavepoints();
+        } catch (SQLException e) {
+            throw handler.targetException(supportsSavepoints, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(supportsSavepoints, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean supportsNamedParameters() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, supportsNamedParameters, null);
+        try {
+            return target.supportsNamedParameters();
+        } catch (SQLException e) {
+            throw handler.targetException(supportsNamedParameters, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(supportsNamedParameters, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean supportsMultipleOpenResults() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, supportsMultipleOpenResults, null);
+        try {
+            return target.supportsMultipleOpenResults();
+        } catch (SQLException e) {
+            throw handler.targetException(supportsMultipleOpenResults, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(supportsMultipleOpenResults, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean supportsGetGeneratedKeys() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, supportsGetGeneratedKeys, null);
+        try {
+            return target.supportsGetGeneratedKeys();
+        } catch (SQLException e) {
+            throw handler.targetException(supportsGetGeneratedKeys, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(supportsGetGeneratedKeys, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public ResultSet getSuperTypes(String catalog, String schemaPattern, String typeNamePattern) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getSuperTypes, new Object[] {catalog, schemaPattern, typeNamePattern});
+        try {
+            return target.getSuperTypes(catalog, schemaPattern, typeNamePattern);
+        } catch (SQLException e) {
+            throw handler.targetException(getSuperTypes, new Object[] {catalog, schemaPattern, typeNamePattern}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getSuperTypes, new Object[] {catalog, schemaPattern, typeNamePattern}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public ResultSet getSuperTables(String catalog, String schemaPattern, String tableNamePattern) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getSuperTables, new Object[] {catalog, schemaPattern, tableNamePattern});
+        try {
+            return target.getSuperTables(catalog, schemaPattern, tableNamePattern);
+        } catch (SQLException e) {
+            throw handler.targetException(getSuperTables, new Object[] {catalog, schemaPattern, tableNamePattern}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getSuperTables, new Object[] {catalog, schemaPattern, tableNamePattern}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public ResultSet getAttributes(String catalog, String schemaPattern, String typeNamePattern, String attributeNamePattern) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getAttributes, new Object[] {catalog, schemaPattern, typeNamePattern, attributeNamePattern});
+        try {
+            return target.getAttributes(catalog, schemaPattern, typeNamePattern, attributeNamePattern);
+        } catch (SQLException e) {
+            throw handler.targetException(getAttributes, new Object[] {catalog, schemaPattern, typeNamePattern, attributeNamePattern}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getAttributes, new Object[] {catalog, schemaPattern, typeNamePattern, attributeNamePattern}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean supportsResultSetHoldability(int holdability) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, supportsResultSetHoldability, new Object[] {holdability});
+        try {
+            return target.supportsResultSetHoldability(holdability);
+        } catch (SQLException e) {
+            throw handler.targetException(supportsResultSetHoldability, new Object[] {holdability}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(supportsResultSetHoldability, new Object[] {holdability}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public int getResultSetHoldability() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getResultSetHoldability, null);
+        try {
+            return target.getResultSetHoldability();
+        } catch (SQLException e) {
+            throw handler.targetException(getResultSetHoldability, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getResultSetHoldability, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public int getDatabaseMajorVersion() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getDatabaseMajorVersion, null);
+        try {
+            return target.getDatabaseMajorVersion();
+        } catch (SQLException e) {
+            throw handler.targetException(getDatabaseMajorVersion, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getDatabaseMajorVersion, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public int getDatabaseMinorVersion() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getDatabaseMinorVersion, null);
+        try {
+            return target.getDatabaseMinorVersion();
+        } catch (SQLException e) {
+            throw handler.targetException(getDatabaseMinorVersion, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getDatabaseMinorVersion, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public int getJDBCMajorVersion() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getJDBCMajorVersion, null);
+        try {
+            return target.getJDBCMajorVersion();
+        } catch (SQLException e) {
+            throw handler.targetException(getJDBCMajorVersion, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getJDBCMajorVersion, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public int getJDBCMinorVersion() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getJDBCMinorVersion, null);
+        try {
+            return target.getJDBCMinorVersion();
+        } catch (SQLException e) {
+            throw handler.targetException(getJDBCMinorVersion, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getJDBCMinorVersion, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public int getSQLStateType() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getSQLStateType, null);
+        try {
+            return target.getSQLStateType();
+        } catch (SQLException e) {
+            throw handler.targetException(getSQLStateType, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getSQLStateType, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean locatorsUpdateCopy() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, locatorsUpdateCopy, null);
+        try {
+            return target.locatorsUpdateCopy();
+        } catch (SQLException e) {
+            throw handler.targetException(locatorsUpdateCopy, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(locatorsUpdateCopy, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean supportsStatementPooling() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, supportsStatementPooling, null);
+        try {
+            return target.supportsStatementPooling();
+        } catch (SQLException e) {
+            throw handler.targetException(supportsStatementPooling, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(supportsStatementPooling, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public RowIdLifetime getRowIdLifetime() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getRowIdLifetime, null);
+        try {
+            return target.getRowIdLifetime();
+        } catch (SQLException e) {
+            throw handler.targetException(getRowIdLifetime, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getRowIdLifetime, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public ResultSet getSchemas(String catalog, String schemaPattern) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getSchemas2, new Object[] {catalog, schemaPattern});
+        try {
+            return target.getSchemas(catalog, schemaPattern);
+        } catch (SQLException e) {
+            throw handler.targetException(getSchemas2, new Object[] {catalog, schemaPattern}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getSchemas2, new Object[] {catalog, schemaPattern}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean supportsStoredFunctionsUsingCallSyntax() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, supportsStoredFunctionsUsingCallSyntax, null);
+        try {
+            return target.supportsStoredFunctionsUsingCallSyntax();
+        } catch (SQLException e) {
+            throw handler.targetException(supportsStoredFunctionsUsingCallSyntax, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(supportsStoredFunctionsUsingCallSyntax, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean autoCommitFailureClosesAllResultSets() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, autoCommitFailureClosesAllResultSets, null);
+        try {
+            return target.autoCommitFailureClosesAllResultSets();
+        } catch (SQLException e) {
+            throw handler.targetException(autoCommitFailureClosesAllResultSets, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(autoCommitFailureClosesAllResultSets, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public ResultSet getClientInfoProperties() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getClientInfoProperties, null);
+        try {
+            return target.getClientInfoProperties();
+        } catch (SQLException e) {
+            throw handler.targetException(getClientInfoProperties, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getClientInfoProperties, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public ResultSet getFunctions(String catalog, String schemaPattern, String functionNamePattern) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getFunctions, new Object[] {catalog, schemaPattern, functionNamePattern});
+        try {
+            return target.getFunctions(catalog, schemaPattern, functionNamePattern);
+        } catch (SQLException e) {
+            throw handler.targetException(getFunctions, new Object[] {catalog, schemaPattern, functionNamePattern}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getFunctions, new Object[] {catalog, schemaPattern, functionNamePattern}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public ResultSet getFunctionColumns(String catalog, String schemaPattern, String functionNamePattern, String columnNamePattern) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getFunctionColumns, new Object[] {catalog, schemaPattern, functionNamePattern, columnNamePattern});
+        try {
+            return target.getFunctionColumns(catalog, schemaPattern, functionNamePattern, columnNamePattern);
+        } catch (SQLException e) {
+            throw handler.targetException(getFunctionColumns, new Object[] {catalog, schemaPattern, functionNamePattern, columnNamePattern}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getFunctionColumns, new Object[] {catalog, schemaPattern, functionNamePattern, columnNamePattern}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public ResultSet getPseudoColumns(String catalog, String schemaPattern, String tableNamePattern, String columnNamePattern) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getPseudoColumns, new Object[] {catalog, schemaPattern, tableNamePattern, columnNamePattern});
+        try {
+            return target.getPseudoColumns(catalog, schemaPattern, tableNamePattern, columnNamePattern);
+        } catch (SQLException e) {
+            throw handler.targetException(getPseudoColumns, new Object[] {catalog, schemaPattern, tableNamePattern, columnNamePattern}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getPseudoColumns, new Object[] {catalog, schemaPattern, tableNamePattern, columnNamePattern}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean generatedKeyAlwaysReturned() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, generatedKeyAlwaysReturned, null);
+        try {
+            return target.generatedKeyAlwaysReturned();
+        } catch (SQLException e) {
+            throw handler.targetException(generatedKeyAlwaysReturned, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(generatedKeyAlwaysReturned, null, e);
+            throw e;
+        }
+    }
+
+    public long getMaxLogicalLobSize() throws SQLException {
+        return (Long) handler.invoke(this, getMaxLogicalLobSize, null);
+    }
+
+    public boolean supportsRefCursors() throws SQLException {
+        return (Boolean) handler.invoke(this, supportsRefCursors, null);
+    }
+}
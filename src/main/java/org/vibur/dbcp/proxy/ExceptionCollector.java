@@ -22,6 +22,7 @@ import java.sql.SQLTransactionRollbackException;
 import java.util.Arrays;
 import java.util.Queue;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 
 /**
  * This exceptions collector will receive notifications for all SQL exceptions thrown by the operations invoked on
@@ -34,6 +35,10 @@ abstract class ExceptionCollector {
 
     private static final SQLException[] emptyArray = new SQLException[0];
 
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<ExceptionCollector, Queue> exceptionsUpdater =
+            AtomicReferenceFieldUpdater.newUpdater(ExceptionCollector.class, Queue.class, "exceptions");
+
     private volatile Queue<SQLException> exceptions = null; // will be lazily initialized if an SQLException occurs
 
     /**
@@ -47,18 +52,23 @@ abstract class ExceptionCollector {
             getOrInit().offer(exception); // SQLExceptions from the above two sub-types are not stored
     }
 
-    private Queue<SQLException> getOrInit() {
+    private Queue<SQLException> getOrInit() { // lock-free, i.e. never pins a virtual thread to its carrier
         Queue<SQLException> ex = exceptions;
-        if (ex == null) {
-            synchronized (this) {
-                ex = exceptions;
-                if (ex == null)
-                    exceptions = ex = new ConcurrentLinkedQueue<>();
-            }
-        }
+        if (ex == null && !exceptionsUpdater.compareAndSet(this, null, ex = new ConcurrentLinkedQueue<>()))
+            ex = exceptions;
         return ex;
     }
 
+    /**
+     * Clears all SQL exceptions collected by {@link #addException}. Used when a recycled Connection invocation
+     * handler is reopened.
+     */
+    final void clearExceptions() {
+        Queue<SQLException> ex = exceptions;
+        if (ex != null)
+            ex.clear();
+    }
+
     /**
      * Returns an array of all SQL exceptions collected by {@link #addException}. This method will be
      * called when a pooled Connection is closed, in order to determine whether the underlying (raw)
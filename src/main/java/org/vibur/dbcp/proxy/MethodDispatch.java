@@ -0,0 +1,164 @@
+/**
+ * Copyright 2024 the vibur-dbcp contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.vibur.dbcp.proxy;
+
+import java.lang.reflect.Method;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * A precomputed dispatch table which maps each invoked {@link Method} to an integer opcode, so that the
+ * {@link AbstractInvocationHandler} subclasses can select the handling of the method via a single {@code switch}
+ * instead of via a chain of method name comparisons and {@code startsWith} checks.
+ *
+ * <p>There is one table per declaring interface (kept in a {@link ClassValue}). Each table is an identity map
+ * from the {@code Method} objects seen so far to their opcodes; the opcode of a {@code Method} is computed from its
+ * name only once, on the first invocation of that {@code Method} object, and the table is then republished as
+ * a new copy. Because the number of distinct {@code Method} objects which are passed to the invocation handlers is
+ * bounded (they come from the static fields of the dynamic and concrete proxy classes), the tables stabilize
+ * shortly after the application start.
+ *
+ * @author agent
+ */
+final class MethodDispatch {
+
+    static final int OTHER = 0;
+
+    // java.lang.Object and java.sql.Wrapper methods:
+    static final int EQUALS = 1;
+    static final int HASH_CODE = 2;
+    static final int TO_STRING = 3;
+    static final int UNWRAP = 4;
+    static final int IS_WRAPPER_FOR = 5;
+
+    // methods common for more than one JDBC interface:
+    static final int CLOSE = 6;
+    static final int IS_CLOSED = 7;
+    static final int GET_CONNECTION = 8;
+
+    // java.sql.Connection methods:
+    static final int IS_VALID = 9;
+    static final int ABORT = 10;
+    static final int CREATE_STATEMENT = 11;
+    static final int PREPARE_STATEMENT = 12;
+    static final int PREPARE_CALL = 13;
+    static final int GET_META_DATA = 14;
+    static final int COMMIT = 15;
+    static final int ROLLBACK = 16;
+    static final int SET_AUTO_COMMIT = 17;
+    static final int SET_SAVEPOINT = 18;
+    static final int SET_CATALOG_OR_SCHEMA = 19;
+
+    // java.sql.Statement, PreparedStatement and CallableStatement methods:
+    static final int SET = 20; // all "set..." methods except the Connection methods above
+    static final int EXECUTE = 21; // all "execute..." methods except executeQuery and executeUpdate
+    static final int EXECUTE_QUERY = 22;
+    static final int EXECUTE_UPDATE = 23;
+    static final int GET_RESULT_SET = 24; // getResultSet and getGeneratedKeys
+    static final int CANCEL = 25;
+    static final int BATCH = 26; // addBatch and clearBatch
+
+    // java.sql.ResultSet methods:
+    static final int NEXT = 27;
+    static final int GET_STATEMENT = 28;
+
+    private static final ClassValue<Table> tables = new ClassValue<Table>() {
+        @Override
+        protected Table computeValue(Class<?> type) {
+            return new Table();
+        }
+    };
+
+    private MethodDispatch() { }
+
+    /**
+     * Returns the opcode for the given {@code method}.
+     *
+     * @param method the invoked method
+     * @return see above
+     */
+    static int opcode(Method method) {
+        return tables.get(method.getDeclaringClass()).opcode(method);
+    }
+
+    private static final class Table {
+        private volatile Map<Method, Integer> opcodes = new IdentityHashMap<>();
+
+        private int opcode(Method method) {
+            Integer opcode = opcodes.get(method);
+            if (opcode != null)
+                return opcode;
+            return add(method);
+        }
+
+        /**
+         * Adds the given method to a copy of the current table and republishes it. Concurrent additions may
+         * occasionally lose an entry, in which case its opcode will be simply recomputed on a subsequent invocation.
+         */
+        private int add(Method method) {
+            int opcode = compute(method.getName());
+            Map<Method, Integer> copy = new IdentityHashMap<>(opcodes);
+            copy.put(method, opcode);
+            opcodes = copy;
+            return opcode;
+        }
+    }
+
+    private static int compute(String methodName) {
+        switch (methodName) {
+            case "equals": return EQUALS;
+            case "hashCode": return HASH_CODE;
+            case "toString": return TO_STRING;
+            case "unwrap": return UNWRAP;
+            case "isWrapperFor": return IS_WRAPPER_FOR;
+
+            case "close": return CLOSE;
+            case "isClosed": return IS_CLOSED;
+            case "getConnection": return GET_CONNECTION;
+
+            case "isValid": return IS_VALID;
+            case "abort": return ABORT;
+            case "createStatement": return CREATE_STATEMENT;
+            case "prepareStatement": return PREPARE_STATEMENT;
+            case "prepareCall": return PREPARE_CALL;
+            case "getMetaData": return GET_META_DATA;
+            case "commit": return COMMIT;
+            case "rollback": return ROLLBACK;
+            case "setAutoCommit": return SET_AUTO_COMMIT;
+            case "setSavepoint": return SET_SAVEPOINT;
+            case "setCatalog":
+            case "setSchema": return SET_CATALOG_OR_SCHEMA;
+
+            case "executeQuery": return EXECUTE_QUERY;
+            case "executeUpdate": return EXECUTE_UPDATE;
+            case "getResultSet":
+            case "getGeneratedKeys": return GET_RESULT_SET;
+            case "cancel": return CANCEL;
+            case "addBatch":
+            case "clearBatch": return BATCH;
+
+            case "next": return NEXT;
+            case "getStatement": return GET_STATEMENT;
+        }
+
+        if (methodName.startsWith("set"))
+            return SET;
+        if (methodName.startsWith("execute"))
+            return EXECUTE;
+        return OTHER;
+    }
+}
@@ -0,0 +1,404 @@
+/**
+ * Copyright 2024 the vibur-dbcp contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.vibur.dbcp.proxy;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.lang.reflect.Method;
+import java.math.BigDecimal;
+import java.net.URL;
+import java.sql.*;
+import java.util.Calendar;
+
+/**
+ * The concrete (non-reflective) proxy class for the JDBC {@link PreparedStatement} interface.
+ *
+ * @see StatementProxy
+ *
+ * @author agent
+ * @param <T> the type of the proxied PreparedStatement
+ */
+class PreparedStatementProxy<T extends PreparedStatement> extends StatementProxy<T> implements PreparedStatement {
+
+    private static final Method executeQuery = method(PreparedStatement.class, "executeQuery");
+    private static final Method executeUpdate = method(PreparedStatement.class, "executeUpdate");
+    private static final Method setNull1 = method(PreparedStatement.class, "setNull", int.class, int.class);
+    private static final Method setBoolean = method(PreparedStatement.class, "setBoolean", int.class, boolean.class);
+    private static final Method setByte = method(PreparedStatement.class, "setByte", int.class, byte.class);
+    private static final Method setShort = method(PreparedStatement.class, "setShort", int.class, short.class);
+    private static final Method setInt = method(PreparedStatement.class, "setInt", int.class, int.class);
+    private static final Method setLong = method(PreparedStatement.class, "setLong", int.class, long.class);
+    private static final Method setFloat = method(PreparedStatement.class, "setFloat", int.class, float.class);
+    private static final Method setDouble = method(PreparedStatement.class, "setDouble", int.class, double.class);
+    private static final Method setBigDecimal = method(PreparedStatement.class, "setBigDecimal", int.class, BigDecimal.class);
+    private static final Method setString = method(PreparedStatement.class, "setString", int.class, String.class);
+    private static final Method setBytes = method(PreparedStatement.class, "setBytes", int.class, byte[].class);
+    private static final Method setDate1 = method(PreparedStatement.class, "setDate", int.class, Date.class);
+    private static final Method setTime1 = method(PreparedStatement.class, "setTime", int.class, Time.class);
+    private static final Method setTimestamp1 = method(PreparedStatement.class, "setTimestamp", int.class, Timestamp.class);
+    private static final Method setAsciiStream1 = method(PreparedStatement.class, "setAsciiStream", int.class, InputStream.class, int.class);
+    private static final Method setUnicodeStream = method(PreparedStatement.class, "setUnicodeStream", int.class, InputStream.class, int.class);
+    private static final Method setBinaryStream1 = method(PreparedStatement.class, "setBinaryStream", int.class, InputStream.class, int.class);
+    private static final Method clearParameters = method(PreparedStatement.class, "clearParameters");
+    private static final Method setObject1 = method(PreparedStatement.class, "setObject", int.class, Object.class, int.class);
+    private static final Method setObject2 = method(PreparedStatement.class, "setObject", int.class, Object.class);
+    private static final Method execute = method(PreparedStatement.class, "execute");
+    private static final Method addBatch = method(PreparedStatement.class, "addBatch");
+    private static final Method setCharacterStream1 = method(PreparedStatement.class, "setCharacterStream", int.class, Reader.class, int.class);
+    private static final Method setRef = method(PreparedStatement.class, "setRef", int.class, Ref.class);
+    private static final Method setBlob1 = method(PreparedStatement.class, "setBlob", int.class, Blob.class);
+    private static final Method setClob1 = method(PreparedStatement.class, "setClob", int.class, Clob.class);
+    private static final Method setArray = method(PreparedStatement.class, "setArray", int.class, Array.class);
+    private static final Method getMetaData = method(PreparedStatement.class, "getMetaData");
+    private static final Method setDate2 = method(PreparedStatement.class, "setDate", int.class, Date.class, Calendar.class);
+    private static final Method setTime2 = method(PreparedStatement.class, "setTime", int.class, Time.class, Calendar.class);
+    private static final Method setTimestamp2 = method(PreparedStatement.class, "setTimestamp", int.class, Timestamp.class, Calendar.class);
+    private static final Method setNull2 = method(PreparedStatement.class, "setNull", int.class, int.class, String.class);
+    private static final Method setURL = method(PreparedStatement.class, "setURL", int.class, URL.class);
+    private static final Method getParameterMetaData = method(PreparedStatement.class, "getParameterMetaData");
+    private static final Method setRowId = method(PreparedStatement.class, "setRowId", int.class, RowId.class);
+    private static final Method setNString = method(PreparedStatement.class, "setNString", int.class, String.class);
+    private static final Method setNCharacterStream1 = method(PreparedStatement.class, "setNCharacterStream", int.class, Reader.class, long.class);
+    private static final Method setNClob1 = method(PreparedStatement.class, "setNClob", int.class, NClob.class);
+    private static final Method setClob2 = method(PreparedStatement.class, "setClob", int.class, Reader.class, long.class);
+    private static final Method setBlob2 = method(PreparedStatement.class, "setBlob", int.class, InputStream.class, long.class);
+    private static final Method setNClob2 = method(PreparedStatement.class, "setNClob", int.class, Reader.class, long.class);
+    private static final Method setSQLXML = method(PreparedStatement.class, "setSQLXML", int.class, SQLXML.class);
+    private static final Method setObject3 = method(PreparedStatement.class, "setObject", int.class, Object.class, int.class, int.class);
+    private static final Method setAsciiStream2 = method(PreparedStatement.class, "setAsciiStream", int.class, InputStream.class, long.class);
+    private static final Method setBinaryStream2 = method(PreparedStatement.class, "setBinaryStream", int.class, InputStream.class, long.class);
+    private static final Method setCharacterStream2 = method(PreparedStatement.class, "setCharacterStream", int.class, Reader.class, long.class);
+    private static final Method setAsciiStream3 = method(PreparedStatement.class, "setAsciiStream", int.class, InputStream.class);
+    private static final Method setBinaryStream3 = method(PreparedStatement.class, "setBinaryStream", int.class, InputStream.class);
+    private static final Method setCharacterStream3 = method(PreparedStatement.class, "setCharacterStream", int.class, Reader.class);
+    private static final Method setNCharacterStream2 = method(PreparedStatement.class, "setNCharacterStream", int.class, Reader.class);
+    private static final Method setClob3 = method(PreparedStatement.class, "setClob", int.class, Reader.class);
+    private static final Method setBlob3 = method(PreparedStatement.class, "setBlob", int.class, InputStream.class);
+    private static final Method setNClob3 = method(PreparedStatement.class, "setNClob", int.class, Reader.class);
+    private static final Method executeLargeUpdate = optionalMethod(PreparedStatement.class, "executeLargeUpdate");
+
+    PreparedStatementProxy(T target, StatementInvocationHandler handler) {
+        super(target, handler);
+    }
+
+    @Override
+    public ResultSet executeQuery() throws SQLException {
+        return (ResultSet) handler.invoke(this, executeQuery, null);
+    }
+
+    @Override
+    public int executeUpdate() throws SQLException {
+        return (Integer) handler.invoke(this, executeUpdate, null);
+    }
+
+    @Override
+    public void setNull(int parameterIndex, int sqlType) throws SQLException {
+        handler.invoke(this, setNull1, new Object[] {parameterIndex, sqlType});
+    }
+
+    @Override
+    public void setBoolean(int parameterIndex, boolean x) throws SQLException {
+        handler.invoke(this, setBoolean, new Object[] {parameterIndex, x});
+    }
+
+    @Override
+    public void setByte(int parameterIndex, byte x) throws SQLException {
+        handler.invoke(this, setByte, new Object[] {parameterIndex, x});
+    }
+
+    @Override
+    public void setShort(int parameterIndex, short x) throws SQLException {
+        handler.invoke(this, setShort, new Object[] {parameterIndex, x});
+    }
+
+    @Override
+    public void setInt(int parameterIndex, int x) throws SQLException {
+        handler.invoke(this, setInt, new Object[] {parameterIndex, x});
+    }
+
+    @Override
+    public void setLong(int parameterIndex, long x) throws SQLException {
+        handler.invoke(this, setLong, new Object[] {parameterIndex, x});
+    }
+
+    @Override
+    public void setFloat(int parameterIndex, float x) throws SQLException {
+        handler.invoke(this, setFloat, new Object[] {parameterIndex, x});
+    }
+
+    @Override
+    public void setDouble(int parameterIndex, double x) throws SQLException {
+        handler.invoke(this, setDouble, new Object[] {parameterIndex, x});
+    }
+
+    @Override
+    public void setBigDecimal(int parameterIndex, BigDecimal x) throws SQLException {
+        handler.invoke(this, setBigDecimal, new Object[] {parameterIndex, x});
+    }
+
+    @Override
+    public void setString(int parameterIndex, String x) throws SQLException {
+        handler.invoke(this, setString, new Object[] {parameterIndex, x});
+    }
+
+    @Override
+    public void setBytes(int parameterIndex, byte[] x) throws SQLException {
+        handler.invoke(this, setBytes, new Object[] {parameterIndex, x});
+    }
+
+    @Override
+    public void setDate(int parameterIndex, Date x) throws SQLException {
+        handler.invoke(this, setDate1, new Object[] {parameterIndex, x});
+    }
+
+    @Override
+    public void setTime(int parameterIndex, Time x) throws SQLException {
+        handler.invoke(this, setTime1, new Object[] {parameterIndex, x});
+    }
+
+    @Override
+    public void setTimestamp(int parameterIndex, Timestamp x) throws SQLException {
+        handler.invoke(this, setTimestamp1, new Object[] {parameterIndex, x});
+    }
+
+    @Override
+    public void setAsciiStream(int parameterIndex, InputStream x, int length) throws SQLException {
+        handler.invoke(this, setAsciiStream1, new Object[] {parameterIndex, x, length});
+    }
+
+    @Override
+    @Deprecated
+    public void setUnicodeStream(int parameterIndex, InputStream x, int length) throws SQLException {
+        handler.invoke(this, setUnicodeStream, new Object[] {parameterIndex, x, length});
+    }
+
+    @Override
+    public void setBinaryStream(int parameterIndex, InputStream x, int length) throws SQLException {
+        handler.invoke(this, setBinaryStream1, new Object[] {parameterIndex, x, length});
+    }
+
+    @Override
+    public void clearParameters() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, clearParameters, null);
+        try {
+            target.clearParameters();
+        } catch (SQLException e) {
+            throw handler.targetException(clearParameters, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(clearParameters, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public void setObject(int parameterIndex, Object x, int targetSqlType) throws SQLException {
+        handler.invoke(this, setObject1, new Object[] {parameterIndex, x, targetSqlType});
+    }
+
+    @Override
+    public void setObject(int parameterIndex, Object x) throws SQLException {
+        handler.invoke(this, setObject2, new Object[] {parameterIndex, x});
+    }
+
+    @Override
+    public boolean execute() throws SQLException {
+        return (Boolean) handler.invoke(this, execute, null);
+    }
+
+    @Override
+    public void addBatch() throws SQLException {
+        handler.invoke(this, addBatch, null);
+    }
+
+    @Override
+    public void setCharacterStream(int parameterIndex, Reader reader, int length) throws SQLException {
+        handler.invoke(this, setCharacterStream1, new Object[] {parameterIndex, reader, length});
+    }
+
+    @Override
+    public void setRef(int parameterIndex, Ref x) throws SQLException {
+        handler.invoke(this, setRef, new Object[] {parameterIndex, x});
+    }
+
+    @Override
+    public void setBlob(int parameterIndex, Blob x) throws SQLException {
+        handler.invoke(this, setBlob1, new Object[] {parameterIndex, x});
+    }
+
+    @Override
+    public void setClob(int parameterIndex, Clob x) throws SQLException {
+        handler.invoke(this, setClob1, new Object[] {parameterIndex, x});
+    }
+
+    @Override
+    public void setArray(int parameterIndex, Array x) throws SQLException {
+        handler.invoke(this, setArray, new Object[] {parameterIndex, x});
+    }
+
+    @Override
+    public ResultSetMetaData getMetaData() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getMetaData, null);
+        try {
+            return target.getMetaData();
+        } catch (SQLException e) {
+            throw handler.targetException(getMetaData, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getMetaData, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public void setDate(int parameterIndex, Date x, Calendar cal) throws SQLException {
+        handler.invoke(this, setDate2, new Object[] {parameterIndex, x, cal});
+    }
+
+    @Override
+    public void setTime(int parameterIndex, Time x, Calendar cal) throws SQLException {
+        handler.invoke(this, setTime2, new Object[] {parameterIndex, x, cal});
+    }
+
+    @Override
+    public void setTimestamp(int parameterIndex, Timestamp x, Calendar cal) throws SQLException {
+        handler.invoke(this, setTimestamp2, new Object[] {parameterIndex, x, cal});
+    }
+
+    @Override
+    public void setNull(int parameterIndex, int sqlType, String typeName) throws SQLException {
+        handler.invoke(this, setNull2, new Object[] {parameterIndex, sqlType, typeName});
+    }
+
+    @Override
+    public void setURL(int parameterIndex, URL x) throws SQLException {
+        handler.invoke(this, setURL, new Object[] {parameterIndex, x});
+    }
+
+    @Override
+    public ParameterMetaData getParameterMetaData() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getParameterMetaData, null);
+        try {
+            return target.getParameterMetaData();
+        } catch (SQLException e) {
+            throw handler.targetException(getParameterMetaData, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getParameterMetaData, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public void setRowId(int parameterIndex, RowId x) throws SQLException {
+        handler.invoke(this, setRowId, new Object[] {parameterIndex, x});
+    }
+
+    @Override
+    public void setNString(int parameterIndex, String value) throws SQLException {
+        handler.invoke(this, setNString, new Object[] {parameterIndex, value});
+    }
+
+    @Override
+    public void setNCharacterStream(int parameterIndex, Reader value, long length) throws SQLException {
+        handler.invoke(this, setNCharacterStream1, new Object[] {parameterIndex, value, length});
+    }
+
+    @Override
+    public void setNClob(int parameterIndex, NClob value) throws SQLException {
+        handler.invoke(this, setNClob1, new Object[] {parameterIndex, value});
+    }
+
+    @Override
+    public void setClob(int parameterIndex, Reader reader, long length) throws SQLException {
+        handler.invoke(this, setClob2, new Object[] {parameterIndex, reader, length});
+    }
+
+    @Override
+    public void setBlob(int parameterIndex, InputStream inputStream, long length) throws SQLException {
+        handler.invoke(this, setBlob2, new Object[] {parameterIndex, inputStream, length});
+    }
+
+    @Override
+    public void setNClob(int parameterIndex, Reader reader, long length) throws SQLException {
+        handler.invoke(this, setNClob2, new Object[] {parameterIndex, reader, length});
+    }
+
+    @Override
+    public void setSQLXML(int parameterIndex, SQLXML xmlObject) throws SQLException {
+        handler.invoke(this, setSQLXML, new Object[] {parameterIndex, xmlObject});
+    }
+
+    @Override
+    public void setObject(int parameterIndex, Object x, int targetSqlType, int scaleOrLength) throws SQLException {
+        handler.invoke(this, setObject3, new Object[] {parameterIndex, x, targetSqlType, scaleOrLength});
+    }
+
+    @Override
+    public void setAsciiStream(int parameterIndex, InputStream x, long length) throws SQLException {
+        handler.invoke(this, setAsciiStream2, new Object[] {parameterIndex, x, length});
+    }
+
+    @Override
+    public void setBinaryStream(int parameterIndex, InputStream x, long length) throws SQLException {
+        handler.invoke(this, setBinaryStream2, new Object[] {parameterIndex, x, length});
+    }
+
+    @Override
+    public void setCharacterStream(int parameterIndex, Reader reader, long length) throws SQLException {
+        handler.invoke(this, setCharacterStream2, new Object[] {parameterIndex, reader, length});
+    }
+
+    @Override
+    public void setAsciiStream(int parameterIndex, InputStream x) throws SQLException {
+        handler.invoke(this, setAsciiStream3, new Object[] {parameterIndex, x});
+    }
+
+    @Override
+    public void setBinaryStream(int parameterIndex, InputStream x) throws SQLException {
+        handler.invoke(this, setBinaryStream3, new Object[] {parameterIndex, x});
+    }
+
+    @Override
+    public void setCharacterStream(int parameterIndex, Reader reader) throws SQLException {
+        handler.invoke(this, setCharacterStream3, new Object[] {parameterIndex, reader});
+    }
+
+    @Override
+    public void setNCharacterStream(int parameterIndex, Reader value) throws SQLException {
+        handler.invoke(this, setNCharacterStream2, new Object[] {parameterIndex, value});
+    }
+
+    @Override
+    public void setClob(int parameterIndex, Reader reader) throws SQLException {
+        handler.invoke(this, setClob3, new Object[] {parameterIndex, reader});
+    }
+
+    @Override
+    public void setBlob(int parameterIndex, InputStream inputStream) throws SQLException {
+        handler.invoke(this, setBlob3, new Object[] {parameterIndex, inputStream});
+    }
+
+    @Override
+    public void setNClob(int parameterIndex, Reader reader) throws SQLException {
+        handler.invoke(this, setNClob3, new Object[] {parameterIndex, reader});
+    }
+
+    public long executeLargeUpdate() throws SQLException {
+        return (Long) handler.invoke(this, executeLargeUpdate, null);
+    }
+}
@@ -26,7 +26,10 @@ import java.lang.reflect.InvocationHandler;
 import java.sql.*;
 import java.util.List;
 
+import static java.lang.reflect.Proxy.getInvocationHandler;
 import static java.lang.reflect.Proxy.getProxyClass;
+import static java.lang.reflect.Proxy.isProxyClass;
+import static org.vibur.dbcp.proxy.MethodDispatch.GET_CONNECTION;
 
 /**
  * @author Simeon Malchev
@@ -36,46 +39,86 @@ public final class Proxy {
     private Proxy() { }
 
     public static Connection newProxyConnection(ConnHolder conn, PoolOperations poolOperations, ViburConfig config) {
-        InvocationHandler handler = new ConnectionInvocationHandler(conn, poolOperations, config);
-        return newProxy(connectionCtor, handler);
+        return newProxyConnection(new ConnectionInvocationHandler(conn, poolOperations, config));
+    }
+
+    /**
+     * Creates a new Connection proxy backed by the given (possibly recycled) invocation handler, and starts
+     * a new lease of the handler. A Connection proxy from a previous lease of the handler remains closed.
+     */
+    public static Connection newProxyConnection(ConnectionInvocationHandler handler) {
+        Connection proxy;
+        if (handler.config.isUseConcreteProxies())
+            proxy = new ConnectionProxy(handler.getTarget(), handler);
+        else
+            proxy = newProxy(connectionCtor, handler);
+        handler.startLease(proxy);
+        return proxy;
     }
 
     static Statement newProxyStatement(StatementHolder statement, Connection connProxy,
-                                       ViburConfig config, ExceptionCollector exceptionCollector) {
-        InvocationHandler handler = new StatementInvocationHandler(
-                statement, null /* turns off the cache */, connProxy, config, exceptionCollector);
+                                       ViburConfig config, ConnectionInvocationHandler connHandler) {
+        StatementInvocationHandler handler = new StatementInvocationHandler(
+                statement, null /* turns off the cache */, connProxy, false, config, connHandler);
+        if (config.isUseConcreteProxies())
+            return new StatementProxy<>(statement.value(), handler);
         return newProxy(statementCtor, handler);
     }
 
     static PreparedStatement newProxyPreparedStatement(StatementHolder pStatement, Connection connProxy,
-                                                       ViburConfig config, ExceptionCollector exceptionCollector) {
-        InvocationHandler handler = new StatementInvocationHandler(
-                pStatement, config.getStatementCache(), connProxy, config, exceptionCollector);
+                                                       boolean autoBatch, ViburConfig config,
+                                                       ConnectionInvocationHandler connHandler) {
+        StatementInvocationHandler handler = new StatementInvocationHandler(
+                pStatement, config.getStatementCache(), connProxy, autoBatch, config, connHandler);
+        if (config.isUseConcreteProxies())
+            return new PreparedStatementProxy<>((PreparedStatement) pStatement.value(), handler);
         return newProxy(pStatementCtor, handler);
     }
 
     static CallableStatement newProxyCallableStatement(StatementHolder cStatement, Connection connProxy,
-                                                       ViburConfig config, ExceptionCollector exceptionCollector) {
-        InvocationHandler handler = new StatementInvocationHandler(
-                cStatement, config.getStatementCache(), connProxy, config, exceptionCollector);
+                                                       ViburConfig config, ConnectionInvocationHandler connHandler) {
+        StatementInvocationHandler handler = new StatementInvocationHandler(
+                cStatement, config.getStatementCache(), connProxy, false, config, connHandler);
+        if (config.isUseConcreteProxies())
+            return new CallableStatementProxy((CallableStatement) cStatement.value(), handler);
         return newProxy(cStatementCtor, handler);
     }
 
     static DatabaseMetaData newProxyDatabaseMetaData(DatabaseMetaData rawMetaData, Connection connProxy,
                                                      ViburConfig config, ExceptionCollector exceptionCollector) {
-        InvocationHandler handler = new ChildObjectInvocationHandler<>(
-                rawMetaData, connProxy, "getConnection", config, exceptionCollector);
+        ChildObjectInvocationHandler<Connection, DatabaseMetaData> handler = new ChildObjectInvocationHandler<>(
+                rawMetaData, connProxy, GET_CONNECTION, config, exceptionCollector);
+        if (config.isUseConcreteProxies() || config.isThinProxies())
+            return new DatabaseMetaDataProxy(rawMetaData, handler);
         return newProxy(metadataCtor, handler);
     }
 
     static ResultSet newProxyResultSet(ResultSet rawResultSet, Statement statementProxy,
                                        String sqlQuery, List<Object[]> sqlQueryParams,
                                        ViburConfig config, ExceptionCollector exceptionCollector) {
-        InvocationHandler handler = new ResultSetInvocationHandler(
+        ResultSetInvocationHandler handler = new ResultSetInvocationHandler(
                 rawResultSet, statementProxy, sqlQuery, sqlQueryParams, config, exceptionCollector);
+        if (config.isUseConcreteProxies() || config.isThinProxies())
+            return new ResultSetProxy(rawResultSet, handler);
         return newProxy(resultSetCtor, handler);
     }
 
+    /**
+     * Returns the {@code ConnectionInvocationHandler} that backs the given pooled Connection proxy, which can be
+     * either a dynamic or a concrete proxy.
+     *
+     * @param connection the given Connection
+     * @return the backing invocation handler, or {@code null} if the given Connection is not a pooled Connection proxy
+     */
+    public static ConnectionInvocationHandler getConnectionInvocationHandler(Connection connection) {
+        Object handler = null;
+        if (connection instanceof ConnectionProxy)
+            handler = ((ConnectionProxy) connection).getHandler();
+        else if (isProxyClass(connection.getClass()))
+            handler = getInvocationHandler(connection);
+        return handler instanceof ConnectionInvocationHandler ? (ConnectionInvocationHandler) handler : null;
+    }
+
     private static <T> T newProxy(Constructor<T> proxyCtor, InvocationHandler handler) {
         try {
             return proxyCtor.newInstance(handler);
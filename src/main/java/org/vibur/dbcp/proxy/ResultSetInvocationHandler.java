@@ -24,7 +24,8 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.List;
-import java.util.concurrent.atomic.AtomicLong;
+
+import static org.vibur.dbcp.proxy.MethodDispatch.*;
 
 /**
  * @author Simeon Malchev
@@ -33,43 +34,41 @@ class ResultSetInvocationHandler extends ChildObjectInvocationHandler<Statement,
 
     private final String sqlQuery;
     private final List<Object[]> sqlQueryParams;
-    private final InvocationHooksHolder invocationHooks;
 
-    private final AtomicLong resultSetSize = new AtomicLong(0);
+    // a plain field is enough as, as per the JDBC threading contract, a ResultSet is not used concurrently
+    // by more than one thread
+    private long resultSetSize = 0;
 
     ResultSetInvocationHandler(ResultSet rawResultSet, Statement statementProxy,
                                String sqlQuery, List<Object[]> sqlQueryParams,
                                ViburConfig config, ExceptionCollector exceptionCollector) {
-        super(rawResultSet, statementProxy, "getStatement", config, exceptionCollector);
+        super(rawResultSet, statementProxy, GET_STATEMENT, config, exceptionCollector);
         this.sqlQuery = sqlQuery;
         this.sqlQueryParams = sqlQueryParams;
-        this.invocationHooks = config.getInvocationHooks();
     }
 
     @Override
-    Object unrestrictedInvoke(ResultSet proxy, Method method, Object[] args) throws SQLException {
-        String methodName = method.getName();
-
-        if (methodName == "close")
-            return processClose(method, args);
-        if (methodName == "isClosed")
-            return isClosed();
-
-        return super.unrestrictedInvoke(proxy, method, args);
+    Object unrestrictedInvoke(ResultSet proxy, int opcode, Method method, Object[] args) throws SQLException {
+        switch (opcode) {
+            case CLOSE:
+                return processClose(method, args);
+            case IS_CLOSED:
+                return isClosed();
+            default:
+                return super.unrestrictedInvoke(proxy, opcode, method, args);
+        }
     }
 
     @Override
-    Object restrictedInvoke(ResultSet proxy, Method method, Object[] args) throws SQLException {
-        String methodName = method.getName();
-
-        if (methodName == "next")
+    Object restrictedInvoke(ResultSet proxy, int opcode, Method method, Object[] args) throws SQLException {
+        if (opcode == NEXT)
             return processNext(method, args);
 
-        return super.restrictedInvoke(proxy, method, args);
+        return super.restrictedInvoke(proxy, opcode, method, args);
     }
 
     private Object processNext(Method method, Object[] args) throws SQLException {
-        resultSetSize.incrementAndGet();
+        resultSetSize++;
         return targetInvoke(method, args);
     }
 
@@ -77,8 +76,8 @@ class ResultSetInvocationHandler extends ChildObjectInvocationHandler<Statement,
         if (!close())
             return null;
 
-        long size = resultSetSize.get() - 1;
-        for (Hook.ResultSetRetrieval hook : invocationHooks.onResultSetRetrieval())
+        long size = resultSetSize - 1;
+        for (Hook.ResultSetRetrieval hook : config.getInvocationHooks().onResultSetRetrieval())
             hook.on(sqlQuery, sqlQueryParams, size);
 
         return targetInvoke(method, args);
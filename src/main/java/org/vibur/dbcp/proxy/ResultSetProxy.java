@@ -0,0 +1,2859 @@
+/**
+ * Copyright 2024 the vibur-dbcp contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.vibur.dbcp.proxy;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.lang.reflect.Method;
+import java.math.BigDecimal;
+import java.net.URL;
+import java.sql.*;
+import java.util.Calendar;
+import java.util.Map;
+
+/**
+ * The concrete (non-reflective) proxy class for the JDBC {@link ResultSet} interface. All methods that
+ * the {@link ResultSetInvocationHandler} intercepts are passed to it, and all other methods (most notably,
+ * all {@code get...} and {@code update...} methods) are forwarded directly to the underlying raw ResultSet.
+ *
+ * @see AbstractProxy
+ *
+ * @author agent
+ */
+final class ResultSetProxy extends AbstractProxy<ResultSet> implements ResultSet {
+
+    private static final Method unwrap = method(ResultSet.class, "unwrap", Class.class);
+    private static final Method isWrapperFor = method(ResultSet.class, "isWrapperFor", Class.class);
+    private static final Method next = method(ResultSet.class, "next");
+    private static final Method close = method(ResultSet.class, "close");
+    private static final Method wasNull = method(ResultSet.class, "wasNull");
+    private static final Method getString1 = method(ResultSet.class, "getString", int.class);
+    private static final Method getBoolean1 = method(ResultSet.class, "getBoolean", int.class);
+    private static final Method getByte1 = method(ResultSet.class, "getByte", int.class);
+    private static final Method getShort1 = method(ResultSet.class, "getShort", int.class);
+    private static final Method getInt1 = method(ResultSet.class, "getInt", int.class);
+    private static final Method getLong1 = method(ResultSet.class, "getLong", int.class);
+    private static final Method getFloat1 = method(ResultSet.class, "getFloat", int.class);
+    private static final Method getDouble1 = method(ResultSet.class, "getDouble", int.class);
+    private static final Method getBigDecimal1 = method(ResultSet.class, "getBigDecimal", int.class, int.class);
+    private static final Method getBytes1 = method(ResultSet.class, "getBytes", int.class);
+    private static final Method getDate1 = method(ResultSet.class, "getDate", int.class);
+    private static final Method getTime1 = method(ResultSet.class, "getTime", int.class);
+    private static final Method getTimestamp1 = method(ResultSet.class, "getTimestamp", int.class);
+    private static final Method getAsciiStream1 = method(ResultSet.class, "getAsciiStream", int.class);
+    private static final Method getUnicodeStream1 = method(ResultSet.class, "getUnicodeStream", int.class);
+    private static final Method getBinaryStream1 = method(ResultSet.class, "getBinaryStream", int.class);
+    private static final Method getString2 = method(ResultSet.class, "getString", String.class);
+    private static final Method getBoolean2 = method(ResultSet.class, "getBoolean", String.class);
+    private static final Method getByte2 = method(ResultSet.class, "getByte", String.class);
+    private static final Method getShort2 = method(ResultSet.class, "getShort", String.class);
+    private static final Method getInt2 = method(ResultSet.class, "getInt", String.class);
+    private static final Method getLong2 = method(ResultSet.class, "getLong", String.class);
+    private static final Method getFloat2 = method(ResultSet.class, "getFloat", String.class);
+    private static final Method getDouble2 = method(ResultSet.class, "getDouble", String.class);
+    private static final Method getBigDecimal2 = method(ResultSet.class, "getBigDecimal", String.class, int.class);
+    private static final Method getBytes2 = method(ResultSet.class, "getBytes", String.class);
+    private static final Method getDate2 = method(ResultSet.class, "getDate", String.class);
+    private static final Method getTime2 = method(ResultSet.class, "getTime", String.class);
+    private static final Method getTimestamp2 = method(ResultSet.class, "getTimestamp", String.class);
+    private static final Method getAsciiStream2 = method(ResultSet.class, "getAsciiStream", String.class);
+    private static final Method getUnicodeStream2 = method(ResultSet.class, "getUnicodeStream", String.class);
+    private static final Method getBinaryStream2 = method(ResultSet.class, "getBinaryStream", String.class);
+    private static final Method getWarnings = method(ResultSet.class, "getWarnings");
+    private static final Method clearWarnings = method(ResultSet.class, "clearWarnings");
+    private static final Method getCursorName = method(ResultSet.class, "getCursorName");
+    private static final Method getMetaData = method(ResultSet.class, "getMetaData");
+    private static final Method getObject1 = method(ResultSet.class, "getObject", int.class);
+    private static final Method getObject2 = method(ResultSet.class, "getObject", String.class);
+    private static final Method findColumn = method(ResultSet.class, "findColumn", String.class);
+    private static final Method getCharacterStream1 = method(ResultSet.class, "getCharacterStream", int.class);
+    private static final Method getCharacterStream2 = method(ResultSet.class, "getCharacterStream", String.class);
+    private static final Method getBigDecimal3 = method(ResultSet.class, "getBigDecimal", int.class);
+    private static final Method getBigDecimal4 = method(ResultSet.class, "getBigDecimal", String.class);
+    private static final Method isBeforeFirst = method(ResultSet.class, "isBeforeFirst");
+    private static final Method isAfterLast = method(ResultSet.class, "isAfterLast");
+    private static final Method isFirst = method(ResultSet.class, "isFirst");
+    private static final Method isLast = method(ResultSet.class, "isLast");
+    private static final Method beforeFirst = method(ResultSet.class, "beforeFirst");
+    private static final Method afterLast = method(ResultSet.class, "afterLast");
+    private static final Method first = method(ResultSet.class, "first");
+    private static final Method last = method(ResultSet.class, "last");
+    private static final Method getRow = method(ResultSet.class, "getRow");
+    private static final Method absolute = method(ResultSet.class, "absolute", int.class);
+    private static final Method relative = method(ResultSet.class, "relative", int.class);
+    private static final Method previous = method(ResultSet.class, "previous");
+    private static final Method setFetchDirection = method(ResultSet.class, "setFetchDirection", int.class);
+    private static final Method getFetchDirection = method(ResultSet.class, "getFetchDirection");
+    private static final Method setFetchSize = method(ResultSet.class, "setFetchSize", int.class);
+    private static final Method getFetchSize = method(ResultSet.class, "getFetchSize");
+    private static final Method getType = method(ResultSet.class, "getType");
+    private static final Method getConcurrency = method(ResultSet.class, "getConcurrency");
+    private static final Method rowUpdated = method(ResultSet.class, "rowUpdated");
+    private static final Method rowInserted = method(ResultSet.class, "rowInserted");
+    private static final Method rowDeleted = method(ResultSet.class, "rowDeleted");
+    private static final Method updateNull1 = method(ResultSet.class, "updateNull", int.class);
+    private static final Method updateBoolean1 = method(ResultSet.class, "updateBoolean", int.class, boolean.class);
+    private static final Method updateByte1 = method(ResultSet.class, "updateByte", int.class, byte.class);
+    private static final Method updateShort1 = method(ResultSet.class, "updateShort", int.class, short.class);
+    private static final Method updateInt1 = method(ResultSet.class, "updateInt", int.class, int.class);
+    private static final Method updateLong1 = method(ResultSet.class, "updateLong", int.class, long.class);
+    private static final Method updateFloat1 = method(ResultSet.class, "updateFloat", int.class, float.class);
+    private static final Method updateDouble1 = method(ResultSet.class, "updateDouble", int.class, double.class);
+    private static final Method updateBigDecimal1 = method(ResultSet.class, "updateBigDecimal", int.class, BigDecimal.class);
+    private static final Method updateString1 = method(ResultSet.class, "updateString", int.class, String.class);
+    private static final Method updateBytes1 = method(ResultSet.class, "updateBytes", int.class, byte[].class);
+    private static final Method updateDate1 = method(ResultSet.class, "updateDate", int.class, Date.class);
+    private static final Method updateTime1 = method(ResultSet.class, "updateTime", int.class, Time.class);
+    private static final Method updateTimestamp1 = method(ResultSet.class, "updateTimestamp", int.class, Timestamp.class);
+    private static final Method updateAsciiStream1 = method(ResultSet.class, "updateAsciiStream", int.class, InputStream.class, int.class);
+    private static final Method updateBinaryStream1 = method(ResultSet.class, "updateBinaryStream", int.class, InputStream.class, int.class);
+    private static final Method updateCharacterStream1 = method(ResultSet.class, "updateCharacterStream", int.class, Reader.class, int.class);
+    private static final Method updateObject1 = method(ResultSet.class, "updateObject", int.class, Object.class, int.class);
+    private static final Method updateObject2 = method(ResultSet.class, "updateObject", int.class, Object.class);
+    private static final Method updateNull2 = method(ResultSet.class, "updateNull", String.class);
+    private static final Method updateBoolean2 = method(ResultSet.class, "updateBoolean", String.class, boolean.class);
+    private static final Method updateByte2 = method(ResultSet.class, "updateByte", String.class, byte.class);
+    private static final Method updateShort2 = method(ResultSet.class, "updateShort", String.class, short.class);
+    private static final Method updateInt2 = method(ResultSet.class, "updateInt", String.class, int.class);
+    private static final Method updateLong2 = method(ResultSet.class, "updateLong", String.class, long.class);
+    private static final Method updateFloat2 = method(ResultSet.class, "updateFloat", String.class, float.class);
+    private static final Method updateDouble2 = method(ResultSet.class, "updateDouble", String.class, double.class);
+    private static final Method updateBigDecimal2 = method(ResultSet.class, "updateBigDecimal", String.class, BigDecimal.class);
+    private static final Method updateString2 = method(ResultSet.class, "updateString", String.class, String.class);
+    private static final Method updateBytes2 = method(ResultSet.class, "updateBytes", String.class, byte[].class);
+    private static final Method updateDate2 = method(ResultSet.class, "updateDate", String.class, Date.class);
+    private static final Method updateTime2 = method(ResultSet.class, "updateTime", String.class, Time.class);
+    private static final Method updateTimestamp2 = method(ResultSet.class, "updateTimestamp", String.class, Timestamp.class);
+    private static final Method updateAsciiStream2 = method(ResultSet.class, "updateAsciiStream", String.class, InputStream.class, int.class);
+    private static final Method updateBinaryStream2 = method(ResultSet.class, "updateBinaryStream", String.class, InputStream.class, int.class);
+    private static final Method updateCharacterStream2 = method(ResultSet.class, "updateCharacterStream", String.class, Reader.class, int.class);
+    private static final Method updateObject3 = method(ResultSet.class, "updateObject", String.class, Object.class, int.class);
+    private static final Method updateObject4 = method(ResultSet.class, "updateObject", String.class, Object.class);
+    private static final Method insertRow = method(ResultSet.class, "insertRow");
+    private static final Method updateRow = method(ResultSet.class, "updateRow");
+    private static final Method deleteRow = method(ResultSet.class, "deleteRow");
+    private static final Method refreshRow = method(ResultSet.class, "refreshRow");
+    private static final Method cancelRowUpdates = method(ResultSet.class, "cancelRowUpdates");
+    private static final Method moveToInsertRow = method(ResultSet.class, "moveToInsertRow");
+    private static final Method moveToCurrentRow = method(ResultSet.class, "moveToCurrentRow");
+    private static final Method getStatement = method(ResultSet.class, "getStatement");
+    private static final Method getObject3 = method(ResultSet.class, "getObject", int.class, Map.class);
+    private static final Method getRef1 = method(ResultSet.class, "getRef", int.class);
+    private static final Method getBlob1 = method(ResultSet.class, "getBlob", int.class);
+    private static final Method getClob1 = method(ResultSet.class, "getClob", int.class);
+    private static final Method getArray1 = method(ResultSet.class, "getArray", int.class);
+    private static final Method getObject4 = method(ResultSet.class, "getObject", String.class, Map.class);
+    private static final Method getRef2 = method(ResultSet.class, "getRef", String.class);
+    private static final Method getBlob2 = method(ResultSet.class, "getBlob", String.class);
+    private static final Method getClob2 = method(ResultSet.class, "getClob", String.class);
+    private static final Method getArray2 = method(ResultSet.class, "getArray", String.class);
+    private static final Method getDate3 = method(ResultSet.class, "getDate", int.class, Calendar.class);
+    private static final Method getDate4 = method(ResultSet.class, "getDate", String.class, Calendar.class);
+    private static final Method getTime3 = method(ResultSet.class, "getTime", int.class, Calendar.class);
+    private static final Method getTime4 = method(ResultSet.class, "getTime", String.class, Calendar.class);
+    private static final Method getTimestamp3 = method(ResultSet.class, "getTimestamp", int.class, Calendar.class);
+    private static final Method getTimestamp4 = method(ResultSet.class, "getTimestamp", String.class, Calendar.class);
+    private static final Method getURL1 = method(ResultSet.class, "getURL", int.class);
+    private static final Method getURL2 = method(ResultSet.class, "getURL", String.class);
+    private static final Method updateRef1 = method(ResultSet.class, "updateRef", int.class, Ref.class);
+    private static final Method updateRef2 = method(ResultSet.class, "updateRef", String.class, Ref.class);
+    private static final Method updateBlob1 = method(ResultSet.class, "updateBlob", int.class, Blob.class);
+    private static final Method updateBlob2 = method(ResultSet.class, "updateBlob", String.class, Blob.class);
+    private static final Method updateClob1 = method(ResultSet.class, "updateClob", int.class, Clob.class);
+    private static final Method updateClob2 = method(ResultSet.class, "updateClob", String.class, Clob.class);
+    private static final Method updateArray1 = method(ResultSet.class, "updateArray", int.class, Array.class);
+    private static final Method updateArray2 = method(ResultSet.class, "updateArray", String.class, Array.class);
+    private static final Method getRowId1 = method(ResultSet.class, "getRowId", int.class);
+    private static final Method getRowId2 = method(ResultSet.class, "getRowId", String.class);
+    private static final Method updateRowId1 = method(ResultSet.class, "updateRowId", int.class, RowId.class);
+    private static final Method updateRowId2 = method(ResultSet.class, "updateRowId", String.class, RowId.class);
+    private static final Method getHoldability = method(ResultSet.class, "getHoldability");
+    private static final Method isClosed = method(ResultSet.class, "isClosed");
+    private static final Method updateNString1 = method(ResultSet.class, "updateNString", int.class, String.class);
+    private static final Method updateNString2 = method(ResultSet.class, "updateNString", String.class, String.class);
+    private static final Method updateNClob1 = method(ResultSet.class, "updateNClob", int.class, NClob.class);
+    private static final Method updateNClob2 = method(ResultSet.class, "updateNClob", String.class, NClob.class);
+    private static final Method getNClob1 = method(ResultSet.class, "getNClob", int.class);
+    private static final Method getNClob2 = method(ResultSet.class, "getNClob", String.class);
+    private static final Method getSQLXML1 = method(ResultSet.class, "getSQLXML", int.class);
+    private static final Method getSQLXML2 = method(ResultSet.class, "getSQLXML", String.class);
+    private static final Method updateSQLXML1 = method(ResultSet.class, "updateSQLXML", int.class, SQLXML.class);
+    private static final Method updateSQLXML2 = method(ResultSet.class, "updateSQLXML", String.class, SQLXML.class);
+    private static final Method getNString1 = method(ResultSet.class, "getNString", int.class);
+    private static final Method getNString2 = method(ResultSet.class, "getNString", String.class);
+    private static final Method getNCharacterStream1 = method(ResultSet.class, "getNCharacterStream", int.class);
+    private static final Method getNCharacterStream2 = method(ResultSet.class, "getNCharacterStream", String.class);
+    private static final Method updateNCharacterStream1 = method(ResultSet.class, "updateNCharacterStream", int.class, Reader.class, long.class);
+    private static final Method updateNCharacterStream2 = method(ResultSet.class, "updateNCharacterStream", String.class, Reader.class, long.class);
+    private static final Method updateAsciiStream3 = method(ResultSet.class, "updateAsciiStream", int.class, InputStream.class, long.class);
+    private static final Method updateBinaryStream3 = method(ResultSet.class, "updateBinaryStream", int.class, InputStream.class, long.class);
+    private static final Method updateCharacterStream3 = method(ResultSet.class, "updateCharacterStream", int.class, Reader.class, long.class);
+    private static final Method updateAsciiStream4 = method(ResultSet.class, "updateAsciiStream", String.class, InputStream.class, long.class);
+    private static final Method updateBinaryStream4 = method(ResultSet.class, "updateBinaryStream", String.class, InputStream.class, long.class);
+    private static final Method updateCharacterStream4 = method(ResultSet.class, "updateCharacterStream", String.class, Reader.class, long.class);
+    private static final Method updateBlob3 = method(ResultSet.class, "updateBlob", int.class, InputStream.class, long.class);
+    private static final Method updateBlob4 = method(ResultSet.class, "updateBlob", String.class, InputStream.class, long.class);
+    private static final Method updateClob3 = method(ResultSet.class, "updateClob", int.class, Reader.class, long.class);
+    private static final Method updateClob4 = method(ResultSet.class, "updateClob", String.class, Reader.class, long.class);
+    private static final Method updateNClob3 = method(ResultSet.class, "updateNClob", int.class, Reader.class, long.class);
+    private static final Method updateNClob4 = method(ResultSet.class, "updateNClob", String.class, Reader.class, long.class);
+    private static final Method updateNCharacterStream3 = method(ResultSet.class, "updateNCharacterStream", int.class, Reader.class);
+    private static final Method updateNCharacterStream4 = method(ResultSet.class, "updateNCharacterStream", String.class, Reader.class);
+    private static final Method updateAsciiStream5 = method(ResultSet.class, "updateAsciiStream", int.class, InputStream.class);
+    private static final Method updateBinaryStream5 = method(ResultSet.class, "updateBinaryStream", int.class, InputStream.class);
+    private static final Method updateCharacterStream5 = method(ResultSet.class, "updateCharacterStream", int.class, Reader.class);
+    private static final Method updateAsciiStream6 = method(ResultSet.class, "updateAsciiStream", String.class, InputStream.class);
+    private static final Method updateBinaryStream6 = method(ResultSet.class, "updateBinaryStream", String.class, InputStream.class);
+    private static final Method updateCharacterStream6 = method(ResultSet.class, "updateCharacterStream", String.class, Reader.class);
+    private static final Method updateBlob5 = method(ResultSet.class, "updateBlob", int.class, InputStream.class);
+    private static final Method updateBlob6 = method(ResultSet.class, "updateBlob", String.class, InputStream.class);
+    private static final Method updateClob5 = method(ResultSet.class, "updateClob", int.class, Reader.class);
+    private static final Method updateClob6 = method(ResultSet.class, "updateClob", String.class, Reader.class);
+    private static final Method updateNClob5 = method(ResultSet.class, "updateNClob", int.class, Reader.class);
+    private static final Method updateNClob6 = method(ResultSet.class, "updateNClob", String.class, Reader.class);
+    private static final Method getObject5 = method(ResultSet.class, "getObject", int.class, Class.class);
+    private static final Method getObject6 = method(ResultSet.class, "getObject", String.class, Class.class);
+
+    ResultSetProxy(ResultSet target, ResultSetInvocationHandler handler) {
+        super(target, handler);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T unwrap(Class<T> iface) throws SQLException {
+        return (T) handler.invoke(this, unwrap, new Object[] {iface});
+    }
+
+    @Override
+    public boolean isWrapperFor(Class<?> iface) throws SQLException {
+        return (Boolean) handler.invoke(this, isWrapperFor, new Object[] {iface});
+    }
+
+    @Override
+    public boolean next() throws SQLException {
+        return (Boolean) handler.invoke(this, next, null);
+    }
+
+    @Override
+    public void close() throws SQLException {
+        handler.invoke(this, close, null);
+    }
+
+    @Override
+    public boolean wasNull() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, wasNull, null);
+        try {
+            return target.wasNull();
+        } catch (SQLException e) {
+            throw handler.targetException(wasNull, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(wasNull, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public String getString(int columnIndex) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getString1, new Object[] {columnIndex});
+        try {
+            return target.getString(columnIndex);
+        } catch (SQLException e) {
+            throw handler.targetException(getString1, new Object[] {columnIndex}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getString1, new Object[] {columnIndex}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean getBoolean(int columnIndex) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getBoolean1, new Object[] {columnIndex});
+        try {
+            return target.getBoolean(columnIndex);
+        } catch (SQLException e) {
+            throw handler.targetException(getBoolean1, new Object[] {columnIndex}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getBoolean1, new Object[] {columnIndex}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public byte getByte(int columnIndex) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getByte1, new Object[] {columnIndex});
+        try {
+            return target.getByte(columnIndex);
+        } catch (SQLException e) {
+            throw handler.targetException(getByte1, new Object[] {columnIndex}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getByte1, new Object[] {columnIndex}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public short getShort(int columnIndex) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getShort1, new Object[] {columnIndex});
+        try {
+            return target.getShort(columnIndex);
+        } catch (SQLException e) {
+            throw handler.targetException(getShort1, new Object[] {columnIndex}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getShort1, new Object[] {columnIndex}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public int getInt(int columnIndex) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getInt1, new Object[] {columnIndex});
+        try {
+            return target.getInt(columnIndex);
+        } catch (SQLException e) {
+            throw handler.targetException(getInt1, new Object[] {columnIndex}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getInt1, new Object[] {columnIndex}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public long getLong(int columnIndex) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getLong1, new Object[] {columnIndex});
+        try {
+            return target.getLong(columnIndex);
+        } catch (SQLException e) {
+            throw handler.targetException(getLong1, new Object[] {columnIndex}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getLong1, new Object[] {columnIndex}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public float getFloat(int columnIndex) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getFloat1, new Object[] {columnIndex});
+        try {
+            return target.getFloat(columnIndex);
+        } catch (SQLException e) {
+            throw handler.targetException(getFloat1, new Object[] {columnIndex}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getFloat1, new Object[] {columnIndex}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public double getDouble(int columnIndex) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getDouble1, new Object[] {columnIndex});
+        try {
+            return target.getDouble(columnIndex);
+        } catch (SQLException e) {
+            throw handler.targetException(getDouble1, new Object[] {columnIndex}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getDouble1, new Object[] {columnIndex}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    @Deprecated
+    public BigDecimal getBigDecimal(int columnIndex, int scale) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getBigDecimal1, new Object[] {columnIndex, scale});
+        try {
+            return target.getBigDecimal(columnIndex, scale);
+        } catch (SQLException e) {
+            throw handler.targetException(getBigDecimal1, new Object[] {columnIndex, scale}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getBigDecimal1, new Object[] {columnIndex, scale}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public byte[] getBytes(int columnIndex) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getBytes1, new Object[] {columnIndex});
+        try {
+            return target.getBytes(columnIndex);
+        } catch (SQLException e) {
+            throw handler.targetException(getBytes1, new Object[] {columnIndex}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getBytes1, new Object[] {columnIndex}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public Date getDate(int columnIndex) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getDate1, new Object[] {columnIndex});
+        try {
+            return target.getDate(columnIndex);
+        } catch (SQLException e) {
+            throw handler.targetException(getDate1, new Object[] {columnIndex}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getDate1, new Object[] {columnIndex}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public Time getTime(int columnIndex) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getTime1, new Object[] {columnIndex});
+        try {
+            return target.getTime(columnIndex);
+        } catch (SQLException e) {
+            throw handler.targetException(getTime1, new Object[] {columnIndex}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getTime1, new Object[] {columnIndex}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public Timestamp getTimestamp(int columnIndex) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getTimestamp1, new Object[] {columnIndex});
+        try {
+            return target.getTimestamp(columnIndex);
+        } catch (SQLException e) {
+            throw handler.targetException(getTimestamp1, new Object[] {columnIndex}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getTimestamp1, new Object[] {columnIndex}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public InputStream getAsciiStream(int columnIndex) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getAsciiStream1, new Object[] {columnIndex});
+        try {
+            return target.getAsciiStream(columnIndex);
+        } catch (SQLException e) {
+            throw handler.targetException(getAsciiStream1, new Object[] {columnIndex}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getAsciiStream1, new Object[] {columnIndex}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    @Deprecated
+    public InputStream getUnicodeStream(int columnIndex) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getUnicodeStream1, new Object[] {columnIndex});
+        try {
+            return target.getUnicodeStream(columnIndex);
+        } catch (SQLException e) {
+            throw handler.targetException(getUnicodeStream1, new Object[] {columnIndex}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getUnicodeStream1, new Object[] {columnIndex}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public InputStream getBinaryStream(int columnIndex) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getBinaryStream1, new Object[] {columnIndex});
+        try {
+            return target.getBinaryStream(columnIndex);
+        } catch (SQLException e) {
+            throw handler.targetException(getBinaryStream1, new Object[] {columnIndex}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getBinaryStream1, new Object[] {columnIndex}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public String getString(String columnLabel) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getString2, new Object[] {columnLabel});
+        try {
+            return target.getString(columnLabel);
+        } catch (SQLException e) {
+            throw handler.targetException(getString2, new Object[] {columnLabel}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getString2, new Object[] {columnLabel}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean getBoolean(String columnLabel) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getBoolean2, new Object[] {columnLabel});
+        try {
+            return target.getBoolean(columnLabel);
+        } catch (SQLException e) {
+            throw handler.targetException(getBoolean2, new Object[] {columnLabel}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getBoolean2, new Object[] {columnLabel}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public byte getByte(String columnLabel) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getByte2, new Object[] {columnLabel});
+        try {
+            return target.getByte(columnLabel);
+        } catch (SQLException e) {
+            throw handler.targetException(getByte2, new Object[] {columnLabel}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getByte2, new Object[] {columnLabel}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public short getShort(String columnLabel) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getShort2, new Object[] {columnLabel});
+        try {
+            return target.getShort(columnLabel);
+        } catch (SQLException e) {
+            throw handler.targetException(getShort2, new Object[] {columnLabel}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getShort2, new Object[] {columnLabel}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public int getInt(String columnLabel) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getInt2, new Object[] {columnLabel});
+        try {
+            return target.getInt(columnLabel);
+        } catch (SQLException e) {
+            throw handler.targetException(getInt2, new Object[] {columnLabel}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getInt2, new Object[] {columnLabel}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public long getLong(String columnLabel) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getLong2, new Object[] {columnLabel});
+        try {
+            return target.getLong(columnLabel);
+        } catch (SQLException e) {
+            throw handler.targetException(getLong2, new Object[] {columnLabel}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getLong2, new Object[] {columnLabel}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public float getFloat(String columnLabel) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getFloat2, new Object[] {columnLabel});
+        try {
+            return target.getFloat(columnLabel);
+        } catch (SQLException e) {
+            throw handler.targetException(getFloat2, new Object[] {columnLabel}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getFloat2, new Object[] {columnLabel}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public double getDouble(String columnLabel) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getDouble2, new Object[] {columnLabel});
+        try {
+            return target.getDouble(columnLabel);
+        } catch (SQLException e) {
+            throw handler.targetException(getDouble2, new Object[] {columnLabel}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getDouble2, new Object[] {columnLabel}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    @Deprecated
+    public BigDecimal getBigDecimal(String columnLabel, int scale) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getBigDecimal2, new Object[] {columnLabel, scale});
+        try {
+            return target.getBigDecimal(columnLabel, scale);
+        } catch (SQLException e) {
+            throw handler.targetException(getBigDecimal2, new Object[] {columnLabel, scale}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getBigDecimal2, new Object[] {columnLabel, scale}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public byte[] getBytes(String columnLabel) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getBytes2, new Object[] {columnLabel});
+        try {
+            return target.getBytes(columnLabel);
+        } catch (SQLException e) {
+            throw handler.targetException(getBytes2, new Object[] {columnLabel}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getBytes2, new Object[] {columnLabel}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public Date getDate(String columnLabel) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getDate2, new Object[] {columnLabel});
+        try {
+            return target.getDate(columnLabel);
+        } catch (SQLException e) {
+            throw handler.targetException(getDate2, new Object[] {columnLabel}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getDate2, new Object[] {columnLabel}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public Time getTime(String columnLabel) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getTime2, new Object[] {columnLabel});
+        try {
+            return target.getTime(columnLabel);
+        } catch (SQLException e) {
+            throw handler.targetException(getTime2, new Object[] {columnLabel}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getTime2, new Object[] {columnLabel}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public Timestamp getTimestamp(String columnLabel) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getTimestamp2, new Object[] {columnLabel});
+        try {
+            return target.getTimestamp(columnLabel);
+        } catch (SQLException e) {
+            throw handler.targetException(getTimestamp2, new Object[] {columnLabel}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getTimestamp2, new Object[] {columnLabel}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public InputStream getAsciiStream(String columnLabel) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getAsciiStream2, new Object[] {columnLabel});
+        try {
+            return target.getAsciiStream(columnLabel);
+        } catch (SQLException e) {
+            throw handler.targetException(getAsciiStream2, new Object[] {columnLabel}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getAsciiStream2, new Object[] {columnLabel}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    @Deprecated
+    public InputStream getUnicodeStream(String columnLabel) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getUnicodeStream2, new Object[] {columnLabel});
+        try {
+            return target.getUnicodeStream(columnLabel);
+        } catch (SQLException e) {
+            throw handler.targetException(getUnicodeStream2, new Object[] {columnLabel}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getUnicodeStream2, new Object[] {columnLabel}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public InputStream getBinaryStream(String columnLabel) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getBinaryStream2, new Object[] {columnLabel});
+        try {
+            return target.getBinaryStream(columnLabel);
+        } catch (SQLException e) {
+            throw handler.targetException(getBinaryStream2, new Object[] {columnLabel}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getBinaryStream2, new Object[] {columnLabel}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public SQLWarning getWarnings() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getWarnings, null);
+        try {
+            return target.getWarnings();
+        } catch (SQLException e) {
+            throw handler.targetException(getWarnings, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getWarnings, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public void clearWarnings() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, clearWarnings, null);
+        try {
+            target.clearWarnings();
+        } catch (SQLException e) {
+            throw handler.targetException(clearWarnings, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(clearWarnings, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public String getCursorName() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getCursorName, null);
+        try {
+            return target.getCursorName();
+        } catch (SQLException e) {
+            throw handler.targetException(getCursorName, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getCursorName, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public ResultSetMetaData getMetaData() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getMetaData, null);
+        try {
+            return target.getMetaData();
+        } catch (SQLException e) {
+            throw handler.targetException(getMetaData, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getMetaData, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public Object getObject(int columnIndex) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getObject1, new Object[] {columnIndex});
+        try {
+            return target.getObject(columnIndex);
+        } catch (SQLException e) {
+            throw handler.targetException(getObject1, new Object[] {columnIndex}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getObject1, new Object[] {columnIndex}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public Object getObject(String columnLabel) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getObject2, new Object[] {columnLabel});
+        try {
+            return target.getObject(columnLabel);
+        } catch (SQLException e) {
+            throw handler.targetException(getObject2, new Object[] {columnLabel}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getObject2, new Object[] {columnLabel}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public int findColumn(String columnLabel) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, findColumn, new Object[] {columnLabel});
+        try {
+            return target.findColumn(columnLabel);
+        } catch (SQLException e) {
+            throw handler.targetException(findColumn, new Object[] {columnLabel}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(findColumn, new Object[] {columnLabel}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public Reader getCharacterStream(int columnIndex) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getCharacterStream1, new Object[] {columnIndex});
+        try {
+            return target.getCharacterStream(columnIndex);
+        } catch (SQLException e) {
+            throw handler.targetException(getCharacterStream1, new Object[] {columnIndex}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getCharacterStream1, new Object[] {columnIndex}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public Reader getCharacterStream(String columnLabel) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getCharacterStream2, new Object[] {columnLabel});
+        try {
+            return target.getCharacterStream(columnLabel);
+        } catch (SQLException e) {
+            throw handler.targetException(getCharacterStream2, new Object[] {columnLabel}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getCharacterStream2, new Object[] {columnLabel}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public BigDecimal getBigDecimal(int columnIndex) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getBigDecimal3, new Object[] {columnIndex});
+        try {
+            return target.getBigDecimal(columnIndex);
+        } catch (SQLException e) {
+            throw handler.targetException(getBigDecimal3, new Object[] {columnIndex}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getBigDecimal3, new Object[] {columnIndex}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public BigDecimal getBigDecimal(String columnLabel) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getBigDecimal4, new Object[] {columnLabel});
+        try {
+            return target.getBigDecimal(columnLabel);
+        } catch (SQLException e) {
+            throw handler.targetException(getBigDecimal4, new Object[] {columnLabel}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getBigDecimal4, new Object[] {columnLabel}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean isBeforeFirst() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, isBeforeFirst, null);
+        try {
+            return target.isBeforeFirst();
+        } catch (SQLException e) {
+            throw handler.targetException(isBeforeFirst, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(isBeforeFirst, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean isAfterLast() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, isAfterLast, null);
+        try {
+            return target.isAfterLast();
+        } catch (SQLException e) {
+            throw handler.targetException(isAfterLast, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(isAfterLast, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean isFirst() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, isFirst, null);
+        try {
+            return target.isFirst();
+        } catch (SQLException e) {
+            throw handler.targetException(isFirst, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(isFirst, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean isLast() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, isLast, null);
+        try {
+            return target.isLast();
+        } catch (SQLException e) {
+            throw handler.targetException(isLast, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(isLast, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public void beforeFirst() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, beforeFirst, null);
+        try {
+            target.beforeFirst();
+        } catch (SQLException e) {
+            throw handler.targetException(beforeFirst, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(beforeFirst, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public void afterLast() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, afterLast, null);
+        try {
+            target.afterLast();
+        } catch (SQLException e) {
+            throw handler.targetException(afterLast, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(afterLast, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean first() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, first, null);
+        try {
+            return target.first();
+        } catch (SQLException e) {
+            throw handler.targetException(first, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(first, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean last() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, last, null);
+        try {
+            return target.last();
+        } catch (SQLException e) {
+            throw handler.targetException(last, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(last, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public int getRow() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getRow, null);
+        try {
+            return target.getRow();
+        } catch (SQLException e) {
+            throw handler.targetException(getRow, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getRow, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean absolute(int row) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, absolute, new Object[] {row});
+        try {
+            return target.absolute(row);
+        } catch (SQLException e) {
+            throw handler.targetException(absolute, new Object[] {row}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(absolute, new Object[] {row}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean relative(int rows) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, relative, new Object[] {rows});
+        try {
+            return target.relative(rows);
+        } catch (SQLException e) {
+            throw handler.targetException(relative, new Object[] {rows}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(relative, new Object[] {rows}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean previous() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, previous, null);
+        try {
+            return target.previous();
+        } catch (SQLException e) {
+            throw handler.targetException(previous, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(previous, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public void setFetchDirection(int direction) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, setFetchDirection, new Object[] {direction});
+        try {
+            target.setFetchDirection(direction);
+        } catch (SQLException e) {
+            throw handler.targetException(setFetchDirection, new Object[] {direction}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(setFetchDirection, new Object[] {direction}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public int getFetchDirection() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getFetchDirection, null);
+        try {
+            return target.getFetchDirection();
+        } catch (SQLException e) {
+            throw handler.targetException(getFetchDirection, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getFetchDirection, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public void setFetchSize(int rows) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, setFetchSize, new Object[] {rows});
+        try {
+            target.setFetchSize(rows);
+        } catch (SQLException e) {
+            throw handler.targetException(setFetchSize, new Object[] {rows}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(setFetchSize, new Object[] {rows}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public int getFetchSize() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getFetchSize, null);
+        try {
+            return target.getFetchSize();
+        } catch (SQLException e) {
+            throw handler.targetException(getFetchSize, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getFetchSize, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public int getType() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getType, null);
+        try {
+            return target.getType();
+        } catch (SQLException e) {
+            throw handler.targetException(getType, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getType, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public int getConcurrency() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getConcurrency, null);
+        try {
+            return target.getConcurrency();
+        } catch (SQLException e) {
+            throw handler.targetException(getConcurrency, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getConcurrency, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean rowUpdated() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, rowUpdated, null);
+        try {
+            return target.rowUpdated();
+        } catch (SQLException e) {
+            throw handler.targetException(rowUpdated, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(rowUpdated, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean rowInserted() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, rowInserted, null);
+        try {
+            return target.rowInserted();
+        } catch (SQLException e) {
+            throw handler.targetException(rowInserted, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(rowInserted, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean rowDeleted() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, rowDeleted, null);
+        try {
+            return target.rowDeleted();
+        } catch (SQLException e) {
+            throw handler.targetException(rowDeleted, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(rowDeleted, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public void updateNull(int columnIndex) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, updateNull1, new Object[] {columnIndex});
+        try {
+            target.updateNull(columnIndex);
+        } catch (SQLException e) {
+            throw handler.targetException(updateNull1, new Object[] {columnIndex}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(updateNull1, new Object[] {columnIndex}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public void updateBoolean(int columnIndex, boolean x) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, updateBoolean1, new Object[] {columnIndex, x});
+        try {
+            target.updateBoolean(columnIndex, x);
+        } catch (SQLException e) {
+            throw handler.targetException(updateBoolean1, new Object[] {columnIndex, x}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(updateBoolean1, new Object[] {columnIndex, x}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public void updateByte(int columnIndex, byte x) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, updateByte1, new Object[] {columnIndex, x});
+        try {
+            target.updateByte(columnIndex, x);
+        } catch (SQLException e) {
+            throw handler.targetException(updateByte1, new Object[] {columnIndex, x}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(updateByte1, new Object[] {columnIndex, x}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public void updateShort(int columnIndex, short x) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, updateShort1, new Object[] {columnIndex, x});
+        try {
+            target.updateShort(columnIndex, x);
+        } catch (SQLException e) {
+            throw handler.targetException(updateShort1, new Object[] {columnIndex, x}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(updateShort1, new Object[] {columnIndex, x}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public void updateInt(int columnIndex, int x) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, updateInt1, new Object[] {columnIndex, x});
+        try {
+            target.updateInt(columnIndex, x);
+        } catch (SQLException e) {
+            throw handler.targetException(updateInt1, new Object[] {columnIndex, x}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(updateInt1, new Object[] {columnIndex, x}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public void updateLong(int columnIndex, long x) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, updateLong1, new Object[] {columnIndex, x});
+        try {
+            target.updateLong(columnIndex, x);
+        } catch (SQLException e) {
+            throw handler.targetException(updateLong1, new Object[] {columnIndex, x}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(updateLong1, new Object[] {columnIndex, x}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public void updateFloat(int columnIndex, float x) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, updateFloat1, new Object[] {columnIndex, x});
+        try {
+            target.updateFloat(columnIndex, x);
+        } catch (SQLException e) {
+            throw handler.targetException(updateFloat1, new Object[] {columnIndex, x}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(updateFloat1, new Object[] {columnIndex, x}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public void updateDouble(int columnIndex, double x) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, updateDouble1, new Object[] {columnIndex, x});
+        try {
+            target.updateDouble(columnIndex, x);
+        } catch (SQLException e) {
+            throw handler.targetException(updateDouble1, new Object[] {columnIndex, x}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(updateDouble1, new Object[] {columnIndex, x}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public void updateBigDecimal(int columnIndex, BigDecimal x) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, updateBigDecimal1, new Object[] {columnIndex, x});
+        try {
+            target.updateBigDecimal(columnIndex, x);
+        } catch (SQLException e) {
+            throw handler.targetException(updateBigDecimal1, new Object[] {columnIndex, x}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(updateBigDecimal1, new Object[] {columnIndex, x}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public void updateString(int columnIndex, String x) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, updateString1, new Object[] {columnIndex, x});
+        try {
+            target.updateString(columnIndex, x);
+        } catch (SQLException e) {
+            throw handler.targetException(updateString1, new Object[] {columnIndex, x}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(updateString1, new Object[] {columnIndex, x}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public void updateBytes(int columnIndex, byte[] x) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, updateBytes1, new Object[] {columnIndex, x});
+        try {
+            target.updateBytes(columnIndex, x);
+        } catch (SQLException e) {
+            throw handler.targetException(updateBytes1, new Object[] {columnIndex, x}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(updateBytes1, new Object[] {columnIndex, x}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public void updateDate(int columnIndex, Date x) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, updateDate1, new Object[] {columnIndex, x});
+        try {
+            target.updateDate(columnIndex, x);
+        } catch (SQLException e) {
+            throw handler.targetException(updateDate1, new Object[] {columnIndex, x}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(updateDate1, new Object[] {columnIndex, x}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public void updateTime(int columnIndex, Time x) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, updateTime1, new Object[] {columnIndex, x});
+        try {
+            target.updateTime(columnIndex, x);
+        } catch (SQLException e) {
+            throw handler.targetException(updateTime1, new Object[] {columnIndex, x}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(updateTime1, new Object[] {columnIndex, x}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public void updateTimestamp(int columnIndex, Timestamp x) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, updateTimestamp1, new Object[] {columnIndex, x});
+        try {
+            target.updateTimestamp(columnIndex, x);
+        } catch (SQLException e) {
+            throw handler.targetException(updateTimestamp1, new Object[] {columnIndex, x}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(updateTimestamp1, new Object[] {columnIndex, x}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public void updateAsciiStream(int columnIndex, InputStream x, int length) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, updateAsciiStream1, new Object[] {columnIndex, x, length});
+        try {
+            target.updateAsciiStream(columnIndex, x, length);
+        } catch (SQLException e) {
+            throw handler.targetException(updateAsciiStream1, new Object[] {columnIndex, x, length}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(updateAsciiStream1, new Object[] {columnIndex, x, length}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public void updateBinaryStream(int columnIndex, InputStream x, int length) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, updateBinaryStream1, new Object[] {columnIndex, x, length});
+        try {
+            target.updateBinaryStream(columnIndex, x, length);
+        } catch (SQLException e) {
+            throw handler.targetException(updateBinaryStream1, new Object[] {columnIndex, x, length}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(updateBinaryStream1, new Object[] {columnIndex, x, length}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public void updateCharacterStream(int columnIndex, Reader x, int length) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, updateCharacterStream1, new Object[] {columnIndex, x, length});
+        try {
+            target.updateCharacterStream(columnIndex, x, length);
+        } catch (SQLException e) {
+            throw handler.targetException(updateCharacterStream1, new Object[] {columnIndex, x, length}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(updateCharacterStream1, new Object[] {columnIndex, x, length}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public void updateObject(int columnIndex, Object x, int scaleOrLength) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, updateObject1, new Object[] {columnIndex, x, scaleOrLength});
+        try {
+            target.updateObject(columnIndex, x, scaleOrLength);
+        } catch (SQLException e) {
+            throw handler.targetException(updateObject1, new Object[] {columnIndex, x, scaleOrLength}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(updateObject1, new Object[] {columnIndex, x, scaleOrLength}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public void updateObject(int columnIndex, Object x) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, updateObject2, new Object[] {columnIndex, x});
+        try {
+            target.updateObject(columnIndex, x);
+        } catch (SQLException e) {
+            throw handler.targetException(updateObject2, new Object[] {columnIndex, x}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(updateObject2, new Object[] {columnIndex, x}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public void updateNull(String columnLabel) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, updateNull2, new Object[] {columnLabel});
+        try {
+            target.updateNull(columnLabel);
+        } catch (SQLException e) {
+            throw handler.targetException(updateNull2, new Object[] {columnLabel}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(updateNull2, new Object[] {columnLabel}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public void updateBoolean(String columnLabel, boolean x) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, updateBoolean2, new Object[] {columnLabel, x});
+        try {
+            target.updateBoolean(columnLabel, x);
+        } catch (SQLException e) {
+            throw handler.targetException(updateBoolean2, new Object[] {columnLabel, x}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(updateBoolean2, new Object[] {columnLabel, x}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public void updateByte(String columnLabel, byte x) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, updateByte2, new Object[] {columnLabel, x});
+        try {
+            target.updateByte(columnLabel, x);
+        } catch (SQLException e) {
+            throw handler.targetException(updateByte2, new Object[] {columnLabel, x}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(updateByte2, new Object[] {columnLabel, x}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public void updateShort(String columnLabel, short x) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, updateShort2, new Object[] {columnLabel, x});
+        try {
+            target.updateShort(columnLabel, x);
+        } catch (SQLException e) {
+            throw handler.targetException(updateShort2, new Object[] {columnLabel, x}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(updateShort2, new Object[] {columnLabel, x}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public void updateInt(String columnLabel, int x) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, updateInt2, new Object[] {columnLabel, x});
+        try {
+            target.updateInt(columnLabel, x);
+        } catch (SQLException e) {
+            throw handler.targetException(updateInt2, new Object[] {columnLabel, x}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(updateInt2, new Object[] {columnLabel, x}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public void updateLong(String columnLabel, long x) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, updateLong2, new Object[] {columnLabel, x});
+        try {
+            target.updateLong(columnLabel, x);
+        } catch (SQLException e) {
+            throw handler.targetException(updateLong2, new Object[] {columnLabel, x}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(updateLong2, new Object[] {columnLabel, x}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public void updateFloat(String columnLabel, float x) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, updateFloat2, new Object[] {columnLabel, x});
+        try {
+            target.updateFloat(columnLabel, x);
+        } catch (SQLException e) {
+            throw handler.targetException(updateFloat2, new Object[] {columnLabel, x}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(updateFloat2, new Object[] {columnLabel, x}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public void updateDouble(String columnLabel, double x) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, updateDouble2, new Object[] {columnLabel, x});
+        try {
+            target.updateDouble(columnLabel, x);
+        } catch (SQLException e) {
+            throw handler.targetException(updateDouble2, new Object[] {columnLabel, x}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(updateDouble2, new Object[] {columnLabel, x}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public void updateBigDecimal(String columnLabel, BigDecimal x) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, updateBigDecimal2, new Object[] {columnLabel, x});
+        try {
+            target.updateBigDecimal(columnLabel, x);
+        } catch (SQLException e) {
+            throw handler.targetException(updateBigDecimal2, new Object[] {columnLabel, x}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(updateBigDecimal2, new Object[] {columnLabel, x}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public void updateString(String columnLabel, String x) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, updateString2, new Object[] {columnLabel, x});
+        try {
+            target.updateString(columnLabel, x);
+        } catch (SQLException e) {
+            throw handler.targetException(updateString2, new Object[] {columnLabel, x}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(updateString2, new Object[] {columnLabel, x}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public void updateBytes(String columnLabel, byte[] x) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, updateBytes2, new Object[] {columnLabel, x});
+        try {
+            target.updateBytes(columnLabel, x);
+        } catch (SQLException e) {
+            throw handler.targetException(updateBytes2, new Object[] {columnLabel, x}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(updateBytes2, new Object[] {columnLabel, x}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public void updateDate(String columnLabel, Date x) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, updateDate2, new Object[] {columnLabel, x});
+        try {
+            target.updateDate(columnLabel, x);
+        } catch (SQLException e) {
+            throw handler.targetException(updateDate2, new Object[] {columnLabel, x}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(updateDate2, new Object[] {columnLabel, x}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public void updateTime(String columnLabel, Time x) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, updateTime2, new Object[] {columnLabel, x});
+        try {
+            target.updateTime(columnLabel, x);
+        } catch (SQLException e) {
+            throw handler.targetException(updateTime2, new Object[] {columnLabel, x}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(updateTime2, new Object[] {columnLabel, x}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public void updateTimestamp(String columnLabel, Timestamp x) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, updateTimestamp2, new Object[] {columnLabel, x});
+        try {
+            target.updateTimestamp(columnLabel, x);
+        } catch (SQLException e) {
+            throw handler.targetException(updateTimestamp2, new Object[] {columnLabel, x}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(updateTimestamp2, new Object[] {columnLabel, x}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public void updateAsciiStream(String columnLabel, InputStream x, int length) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, updateAsciiStream2, new Object[] {columnLabel, x, length});
+        try {
+            target.updateAsciiStream(columnLabel, x, length);
+        } catch (SQLException e) {
+            throw handler.targetException(updateAsciiStream2, new Object[] {columnLabel, x, length}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(updateAsciiStream2, new Object[] {columnLabel, x, length}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public void updateBinaryStream(String columnLabel, InputStream x, int length) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, updateBinaryStream2, new Object[] {columnLabel, x, length});
+        try {
+            target.updateBinaryStream(columnLabel, x, length);
+        } catch (SQLException e) {
+            throw handler.targetException(updateBinaryStream2, new Object[] {columnLabel, x, length}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(updateBinaryStream2, new Object[] {columnLabel, x, length}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public void updateCharacterStream(String columnLabel, Reader reader, int length) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, updateCharacterStream2, new Object[] {columnLabel, reader, length});
+        try {
+            target.updateCharacterStream(columnLabel, reader, length);
+        } catch (SQLException e) {
+            throw handler.targetException(updateCharacterStream2, new Object[] {columnLabel, reader, length}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(updateCharacterStream2, new Object[] {columnLabel, reader, length}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public void updateObject(String columnLabel, Object x, int scaleOrLength) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, updateObject3, new Object[] {columnLabel, x, scaleOrLength});
+        try {
+            target.updateObject(columnLabel, x, scaleOrLength);
+        } catch (SQLException e) {
+            throw handler.targetException(updateObject3, new Object[] {columnLabel, x, scaleOrLength}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(updateObject3, new Object[] {columnLabel, x, scaleOrLength}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public void updateObject(String columnLabel, Object x) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, updateObject4, new Object[] {columnLabel, x});
+        try {
+            target.updateObject(columnLabel, x);
+        } catch (SQLException e) {
+            throw handler.targetException(updateObject4, new Object[] {columnLabel, x}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(updateObject4, new Object[] {columnLabel, x}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public void insertRow() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, insertRow, null);
+        try {
+            target.insertRow();
+        } catch (SQLException e) {
+            throw handler.targetException(insertRow, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(insertRow, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public void updateRow() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, updateRow, null);
+        try {
+            target.updateRow();
+        } catch (SQLException e) {
+            throw handler.targetException(updateRow, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(updateRow, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public void deleteRow() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, deleteRow, null);
+        try {
+            target.deleteRow();
+        } catch (SQLException e) {
+            throw handler.targetException(deleteRow, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(deleteRow, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public void refreshRow() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, refreshRow, null);
+        try {
+            target.refreshRow();
+        } catch (SQLException e) {
+            throw handler.targetException(refreshRow, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(refreshRow, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public void cancelRowUpdates() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, cancelRowUpdates, null);
+        try {
+            target.cancelRowUpdates();
+        } catch (SQLException e) {
+            throw handler.targetException(cancelRowUpdates, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(cancelRowUpdates, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public void moveToInsertRow() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, moveToInsertRow, null);
+        try {
+            target.moveToInsertRow();
+        } catch (SQLException e) {
+            throw handler.targetException(moveToInsertRow, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(moveToInsertRow, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public void moveToCurrentRow() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, moveToCurrentRow, null);
+        try {
+            target.moveToCurrentRow();
+        } catch (SQLException e) {
+            throw handler.targetException(moveToCurrentRow, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(moveToCurrentRow, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public Statement getStatement() throws SQLException {
+        return (Statement) handler.invoke(this, getStatement, null);
+    }
+
+    @Override
+    public Object getObject(int columnIndex, Map<String, Class<?>> map) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getObject3, new Object[] {columnIndex, map});
+        try {
+            return target.getObject(columnIndex, map);
+        } catch (SQLException e) {
+            throw handler.targetException(getObject3, new Object[] {columnIndex, map}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getObject3, new Object[] {columnIndex, map}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public Ref getRef(int columnIndex) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getRef1, new Object[] {columnIndex});
+        try {
+            return target.getRef(columnIndex);
+        } catch (SQLException e) {
+            throw handler.targetException(getRef1, new Object[] {columnIndex}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getRef1, new Object[] {columnIndex}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public Blob getBlob(int columnIndex) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getBlob1, new Object[] {columnIndex});
+        try {
+            return target.getBlob(columnIndex);
+        } catch (SQLException e) {
+            throw handler.targetException(getBlob1, new Object[] {columnIndex}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getBlob1, new Object[] {columnIndex}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public Clob getClob(int columnIndex) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getClob1, new Object[] {columnIndex});
+        try {
+            return target.getClob(columnIndex);
+        } catch (SQLException e) {
+            throw handler.targetException(getClob1, new Object[] {columnIndex}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getClob1, new Object[] {columnIndex}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public Array getArray(int columnIndex) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getArray1, new Object[] {columnIndex});
+        try {
+            return target.getArray(columnIndex);
+        } catch (SQLException e) {
+            throw handler.targetException(getArray1, new Object[] {columnIndex}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getArray1, new Object[] {columnIndex}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public Object getObject(String columnLabel, Map<String, Class<?>> map) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getObject4, new Object[] {columnLabel, map});
+        try {
+            return target.getObject(columnLabel, map);
+        } catch (SQLException e) {
+            throw handler.targetException(getObject4, new Object[] {columnLabel, map}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getObject4, new Object[] {columnLabel, map}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public Ref getRef(String columnLabel) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getRef2, new Object[] {columnLabel});
+        try {
+            return target.getRef(columnLabel);
+        } catch (SQLException e) {
+            throw handler.targetException(getRef2, new Object[] {columnLabel}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getRef2, new Object[] {columnLabel}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public Blob getBlob(String columnLabel) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getBlob2, new Object[] {columnLabel});
+        try {
+            return target.getBlob(columnLabel);
+        } catch (SQLException e) {
+            throw handler.targetException(getBlob2, new Object[] {columnLabel}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getBlob2, new Object[] {columnLabel}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public Clob getClob(String columnLabel) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getClob2, new Object[] {columnLabel});
+        try {
+            return target.getClob(columnLabel);
+        } catch (SQLException e) {
+            throw handler.targetException(getClob2, new Object[] {columnLabel}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getClob2, new Object[] {columnLabel}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public Array getArray(String columnLabel) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getArray2, new Object[] {columnLabel});
+        try {
+            return target.getArray(columnLabel);
+        } catch (SQLException e) {
+            throw handler.targetException(getArray2, new Object[] {columnLabel}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getArray2, new Object[] {columnLabel}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public Date getDate(int columnIndex, Calendar cal) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getDate3, new Object[] {columnIndex, cal});
+        try {
+            return target.getDate(columnIndex, cal);
+        } catch (SQLException e) {
+            throw handler.targetException(getDate3, new Object[] {columnIndex, cal}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getDate3, new Object[] {columnIndex, cal}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public Date getDate(String columnLabel, Calendar cal) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getDate4, new Object[] {columnLabel, cal});
+        try {
+            return target.getDate(columnLabel, cal);
+        } catch (SQLException e) {
+            throw handler.targetException(getDate4, new Object[] {columnLabel, cal}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getDate4, new Object[] {columnLabel, cal}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public Time getTime(int columnIndex, Calendar cal) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getTime3, new Object[] {columnIndex, cal});
+        try {
+            return target.getTime(columnIndex, cal);
+        } catch (SQLException e) {
+            throw handler.targetException(getTime3, new Object[] {columnIndex, cal}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getTime3, new Object[] {columnIndex, cal}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public Time getTime(String columnLabel, Calendar cal) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getTime4, new Object[] {columnLabel, cal});
+        try {
+            return target.getTime(columnLabel, cal);
+        } catch (SQLException e) {
+            throw handler.targetException(getTime4, new Object[] {columnLabel, cal}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getTime4, new Object[] {columnLabel, cal}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public Timestamp getTimestamp(int columnIndex, Calendar cal) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getTimestamp3, new Object[] {columnIndex, cal});
+        try {
+            return target.getTimestamp(columnIndex, cal);
+        } catch (SQLException e) {
+            throw handler.targetException(getTimestamp3, new Object[] {columnIndex, cal}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getTimestamp3, new Object[] {columnIndex, cal}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public Timestamp getTimestamp(String columnLabel, Calendar cal) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getTimestamp4, new Object[] {columnLabel, cal});
+        try {
+            return target.getTimestamp(columnLabel, cal);
+        } catch (SQLException e) {
+            throw handler.targetException(getTimestamp4, new Object[] {columnLabel, cal}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getTimestamp4, new Object[] {columnLabel, cal}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public URL getURL(int columnIndex) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getURL1, new Object[] {columnIndex});
+        try {
+            return target.getURL(columnIndex);
+        } catch (SQLException e) {
+            throw handler.targetException(getURL1, new Object[] {columnIndex}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getURL1, new Object[] {columnIndex}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public URL getURL(String columnLabel) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getURL2, new Object[] {columnLabel});
+        try {
+            return target.getURL(columnLabel);
+        } catch (SQLException e) {
+            throw handler.targetException(getURL2, new Object[] {columnLabel}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getURL2, new Object[] {columnLabel}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public void updateRef(int columnIndex, Ref x) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, updateRef1, new Object[] {columnIndex, x});
+        try {
+            target.updateRef(columnIndex, x);
+        } catch (SQLException e) {
+            throw handler.targetException(updateRef1, new Object[] {columnIndex, x}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(updateRef1, new Object[] {columnIndex, x}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public void updateRef(String columnLabel, Ref x) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, updateRef2, new Object[] {columnLabel, x});
+        try {
+            target.updateRef(columnLabel, x);
+        } catch (SQLException e) {
+            throw handler.targetException(updateRef2, new Object[] {columnLabel, x}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(updateRef2, new Object[] {columnLabel, x}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public void updateBlob(int columnIndex, Blob x) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, updateBlob1, new Object[] {columnIndex, x});
+        try {
+            target.updateBlob(columnIndex, x);
+        } catch (SQLException e) {
+            throw handler.targetException(updateBlob1, new Object[] {columnIndex, x}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(updateBlob1, new Object[] {columnIndex, x}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public void updateBlob(String columnLabel, Blob x) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, updateBlob2, new Object[] {columnLabel, x});
+        try {
+            target.updateBlob(columnLabel, x);
+        } catch (SQLException e) {
+            throw handler.targetException(updateBlob2, new Object[] {columnLabel, x}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(updateBlob2, new Object[] {columnLabel, x}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public void updateClob(int columnIndex, Clob x) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, updateClob1, new Object[] {columnIndex, x});
+        try {
+            target.updateClob(columnIndex, x);
+        } catch (SQLException e) {
+            throw handler.targetException(updateClob1, new Object[] {columnIndex, x}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(updateClob1, new Object[] {columnIndex, x}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public void updateClob(String columnLabel, Clob x) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, updateClob2, new Object[] {columnLabel, x});
+        try {
+            target.updateClob(columnLabel, x);
+        } catch (SQLException e) {
+            throw handler.targetException(updateClob2, new Object[] {columnLabel, x}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(updateClob2, new Object[] {columnLabel, x}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public void updateArray(int columnIndex, Array x) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, updateArray1, new Object[] {columnIndex, x});
+        try {
+            target.updateArray(columnIndex, x);
+        } catch (SQLException e) {
+            throw handler.targetException(updateArray1, new Object[] {columnIndex, x}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(updateArray1, new Object[] {columnIndex, x}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public void updateArray(String columnLabel, Array x) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, updateArray2, new Object[] {columnLabel, x});
+        try {
+            target.updateArray(columnLabel, x);
+        } catch (SQLException e) {
+            throw handler.targetException(updateArray2, new Object[] {columnLabel, x}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(updateArray2, new Object[] {columnLabel, x}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public RowId getRowId(int columnIndex) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getRowId1, new Object[] {columnIndex});
+        try {
+            return target.getRowId(columnIndex);
+        } catch (SQLException e) {
+            throw handler.targetException(getRowId1, new Object[] {columnIndex}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getRowId1, new Object[] {columnIndex}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public RowId getRowId(String columnLabel) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getRowId2, new Object[] {columnLabel});
+        try {
+            return target.getRowId(columnLabel);
+        } catch (SQLException e) {
+            throw handler.targetException(getRowId2, new Object[] {columnLabel}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getRowId2, new Object[] {columnLabel}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public void updateRowId(int columnIndex, RowId x) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, updateRowId1, new Object[] {columnIndex, x});
+        try {
+            target.updateRowId(columnIndex, x);
+        } catch (SQLException e) {
+            throw handler.targetException(updateRowId1, new Object[] {columnIndex, x}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(updateRowId1, new Object[] {columnIndex, x}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public void updateRowId(String columnLabel, RowId x) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, updateRowId2, new Object[] {columnLabel, x});
+        try {
+            target.updateRowId(columnLabel, x);
+        } catch (SQLException e) {
+            throw handler.targetException(updateRowId2, new Object[] {columnLabel, x}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(updateRowId2, new Object[] {columnLabel, x}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public int getHoldability() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getHoldability, null);
+        try {
+            return target.getHoldability();
+        } catch (SQLException e) {
+            throw handler.targetException(getHoldability, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getHoldability, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean isClosed() throws SQLException {
+        return (Boolean) handler.invoke(this, isClosed, null);
+    }
+
+    @Override
+    public void updateNString(int columnIndex, String nString) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, updateNString1, new Object[] {columnIndex, nString});
+        try {
+            target.updateNString(columnIndex, nString);
+        } catch (SQLException e) {
+            throw handler.targetException(updateNString1, new Object[] {columnIndex, nString}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(updateNString1, new Object[] {columnIndex, nString}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public void updateNString(String columnLabel, String nString) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, updateNString2, new Object[] {columnLabel, nString});
+        try {
+            target.updateNString(columnLabel, nString);
+        } catch (SQLException e) {
+            throw handler.targetException(updateNString2, new Object[] {columnLabel, nString}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(updateNString2, new Object[] {columnLabel, nString}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public void updateNClob(int columnIndex, NClob nClob) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, updateNClob1, new Object[] {columnIndex, nClob});
+        try {
+            target.updateNClob(columnIndex, nClob);
+        } catch (SQLException e) {
+            throw handler.targetException(updateNClob1, new Object[] {columnIndex, nClob}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(updateNClob1, new Object[] {columnIndex, nClob}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public void updateNClob(String columnLabel, NClob nClob) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, updateNClob2, new Object[] {columnLabel, nClob});
+        try {
+            target.updateNClob(columnLabel, nClob);
+        } catch (SQLException e) {
+            throw handler.targetException(updateNClob2, new Object[] {columnLabel, nClob}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(updateNClob2, new Object[] {columnLabel, nClob}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public NClob getNClob(int columnIndex) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getNClob1, new Object[] {columnIndex});
+        try {
+            return target.getNClob(columnIndex);
+        } catch (SQLException e) {
+            throw handler.targetException(getNClob1, new Object[] {columnIndex}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getNClob1, new Object[] {columnIndex}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public NClob getNClob(String columnLabel) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getNClob2, new Object[] {columnLabel});
+        try {
+            return target.getNClob(columnLabel);
+        } catch (SQLException e) {
+            throw handler.targetException(getNClob2, new Object[] {columnLabel}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getNClob2, new Object[] {columnLabel}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public SQLXML getSQLXML(int columnIndex) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getSQLXML1, new Object[] {columnIndex});
+        try {
+            return target.getSQLXML(columnIndex);
+        } catch (SQLException e) {
+            throw handler.targetException(getSQLXML1, new Object[] {columnIndex}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getSQLXML1, new Object[] {columnIndex}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public SQLXML getSQLXML(String columnLabel) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getSQLXML2, new Object[] {columnLabel});
+        try {
+            return target.getSQLXML(columnLabel);
+        } catch (SQLException e) {
+            throw handler.targetException(getSQLXML2, new Object[] {columnLabel}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getSQLXML2, new Object[] {columnLabel}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public void updateSQLXML(int columnIndex, SQLXML xmlObject) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, updateSQLXML1, new Object[] {columnIndex, xmlObject});
+        try {
+            target.updateSQLXML(columnIndex, xmlObject);
+        } catch (SQLException e) {
+            throw handler.targetException(updateSQLXML1, new Object[] {columnIndex, xmlObject}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(updateSQLXML1, new Object[] {columnIndex, xmlObject}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public void updateSQLXML(String columnLabel, SQLXML xmlObject) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, updateSQLXML2, new Object[] {columnLabel, xmlObject});
+        try {
+            target.updateSQLXML(columnLabel, xmlObject);
+        } catch (SQLException e) {
+            throw handler.targetException(updateSQLXML2, new Object[] {columnLabel, xmlObject}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(updateSQLXML2, new Object[] {columnLabel, xmlObject}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public String getNString(int columnIndex) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getNString1, new Object[] {columnIndex});
+        try {
+            return target.getNString(columnIndex);
+        } catch (SQLException e) {
+            throw handler.targetException(getNString1, new Object[] {columnIndex}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getNString1, new Object[] {columnIndex}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public String getNString(String columnLabel) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getNString2, new Object[] {columnLabel});
+        try {
+            return target.getNString(columnLabel);
+        } catch (SQLException e) {
+            throw handler.targetException(getNString2, new Object[] {columnLabel}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getNString2, new Object[] {columnLabel}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public Reader getNCharacterStream(int columnIndex) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getNCharacterStream1, new Object[] {columnIndex});
+        try {
+            return target.getNCharacterStream(columnIndex);
+        } catch (SQLException e) {
+            throw handler.targetException(getNCharacterStream1, new Object[] {columnIndex}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getNCharacterStream1, new Object[] {columnIndex}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public Reader getNCharacterStream(String columnLabel) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getNCharacterStream2, new Object[] {columnLabel});
+        try {
+            return target.getNCharacterStream(columnLabel);
+        } catch (SQLException e) {
+            throw handler.targetException(getNCharacterStream2, new Object[] {columnLabel}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getNCharacterStream2, new Object[] {columnLabel}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public void updateNCharacterStream(int columnIndex, Reader x, long length) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, updateNCharacterStream1, new Object[] {columnIndex, x, length});
+        try {
+            target.updateNCharacterStream(columnIndex, x, length);
+        } catch (SQLException e) {
+            throw handler.targetException(updateNCharacterStream1, new Object[] {columnIndex, x, length}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(updateNCharacterStream1, new Object[] {columnIndex, x, length}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public void updateNCharacterStream(String columnLabel, Reader reader, long length) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, updateNCharacterStream2, new Object[] {columnLabel, reader, length});
+        try {
+            target.updateNCharacterStream(columnLabel, reader, length);
+        } catch (SQLException e) {
+            throw handler.targetException(updateNCharacterStream2, new Object[] {columnLabel, reader, length}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(updateNCharacterStream2, new Object[] {columnLabel, reader, length}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public void updateAsciiStream(int columnIndex, InputStream x, long length) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, updateAsciiStream3, new Object[] {columnIndex, x, length});
+        try {
+            target.updateAsciiStream(columnIndex, x, length);
+        } catch (SQLException e) {
+            throw handler.targetException(updateAsciiStream3, new Object[] {columnIndex, x, length}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(updateAsciiStream3, new Object[] {columnIndex, x, length}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public void updateBinaryStream(int columnIndex, InputStream x, long length) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, updateBinaryStream3, new Object[] {columnIndex, x, length});
+        try {
+            target.updateBinaryStream(columnIndex, x, length);
+        } catch (SQLException e) {
+            throw handler.targetException(updateBinaryStream3, new Object[] {columnIndex, x, length}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(updateBinaryStream3, new Object[] {columnIndex, x, length}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public void updateCharacterStream(int columnIndex, Reader x, long length) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, updateCharacterStream3, new Object[] {columnIndex, x, length});
+        try {
+            target.updateCharacterStream(columnIndex, x, length);
+        } catch (SQLException e) {
+            throw handler.targetException(updateCharacterStream3, new Object[] {columnIndex, x, length}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(updateCharacterStream3, new Object[] {columnIndex, x, length}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public void updateAsciiStream(String columnLabel, InputStream x, long length) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, updateAsciiStream4, new Object[] {columnLabel, x, length});
+        try {
+            target.updateAsciiStream(columnLabel, x, length);
+        } catch (SQLException e) {
+            throw handler.targetException(updateAsciiStream4, new Object[] {columnLabel, x, length}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(updateAsciiStream4, new Object[] {columnLabel, x, length}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public void updateBinaryStream(String columnLabel, InputStream x, long length) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, updateBinaryStream4, new Object[] {columnLabel, x, length});
+        try {
+            target.updateBinaryStream(columnLabel, x, length);
+        } catch (SQLException e) {
+            throw handler.targetException(updateBinaryStream4, new Object[] {columnLabel, x, length}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(updateBinaryStream4, new Object[] {columnLabel, x, length}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public void updateCharacterStream(String columnLabel, Reader reader, long length) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, updateCharacterStream4, new Object[] {columnLabel, reader, length});
+        try {
+            target.updateCharacterStream(columnLabel, reader, length);
+        } catch (SQLException e) {
+            throw handler.targetException(updateCharacterStream4, new Object[] {columnLabel, reader, length}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(updateCharacterStream4, new Object[] {columnLabel, reader, length}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public void updateBlob(int columnIndex, InputStream inputStream, long length) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, updateBlob3, new Object[] {columnIndex, inputStream, length});
+        try {
+            target.updateBlob(columnIndex, inputStream, length);
+        } catch (SQLException e) {
+            throw handler.targetException(updateBlob3, new Object[] {columnIndex, inputStream, length}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(updateBlob3, new Object[] {columnIndex, inputStream, length}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public void updateBlob(String columnLabel, InputStream inputStream, long length) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, updateBlob4, new Object[] {columnLabel, inputStream, length});
+        try {
+            target.updateBlob(columnLabel, inputStream, length);
+        } catch (SQLException e) {
+            throw handler.targetException(updateBlob4, new Object[] {columnLabel, inputStream, length}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(updateBlob4, new Object[] {columnLabel, inputStream, length}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public void updateClob(int columnIndex, Reader reader, long length) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, updateClob3, new Object[] {columnIndex, reader, length});
+        try {
+            target.updateClob(columnIndex, reader, length);
+        } catch (SQLException e) {
+            throw handler.targetException(updateClob3, new Object[] {columnIndex, reader, length}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(updateClob3, new Object[] {columnIndex, reader, length}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public void updateClob(String columnLabel, Reader reader, long length) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, updateClob4, new Object[] {columnLabel, reader, length});
+        try {
+            target.updateClob(columnLabel, reader, length);
+        } catch (SQLException e) {
+            throw handler.targetException(updateClob4, new Object[] {columnLabel, reader, length}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(updateClob4, new Object[] {columnLabel, reader, length}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public void updateNClob(int columnIndex, Reader reader, long length) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, updateNClob3, new Object[] {columnIndex, reader, length});
+        try {
+            target.updateNClob(columnIndex, reader, length);
+        } catch (SQLException e) {
+            throw handler.targetException(updateNClob3, new Object[] {columnIndex, reader, length}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(updateNClob3, new Object[] {columnIndex, reader, length}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public void updateNClob(String columnLabel, Reader reader, long length) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, updateNClob4, new Object[] {columnLabel, reader, length});
+        try {
+            target.updateNClob(columnLabel, reader, length);
+        } catch (SQLException e) {
+            throw handler.targetException(updateNClob4, new Object[] {columnLabel, reader, length}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(updateNClob4, new Object[] {columnLabel, reader, length}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public void updateNCharacterStream(int columnIndex, Reader x) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, updateNCharacterStream3, new Object[] {columnIndex, x});
+        try {
+            target.updateNCharacterStream(columnIndex, x);
+        } catch (SQLException e) {
+            throw handler.targetException(updateNCharacterStream3, new Object[] {columnIndex, x}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(updateNCharacterStream3, new Object[] {columnIndex, x}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public void updateNCharacterStream(String columnLabel, Reader reader) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, updateNCharacterStream4, new Object[] {columnLabel, reader});
+        try {
+            target.updateNCharacterStream(columnLabel, reader);
+        } catch (SQLException e) {
+            throw handler.targetException(updateNCharacterStream4, new Object[] {columnLabel, reader}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(updateNCharacterStream4, new Object[] {columnLabel, reader}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public void updateAsciiStream(int columnIndex, InputStream x) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, updateAsciiStream5, new Object[] {columnIndex, x});
+        try {
+            target.updateAsciiStream(columnIndex, x);
+        } catch (SQLException e) {
+            throw handler.targetException(updateAsciiStream5, new Object[] {columnIndex, x}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(updateAsciiStream5, new Object[] {columnIndex, x}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public void updateBinaryStream(int columnIndex, InputStream x) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, updateBinaryStream5, new Object[] {columnIndex, x});
+        try {
+            target.updateBinaryStream(columnIndex, x);
+        } catch (SQLException e) {
+            throw handler.targetException(updateBinaryStream5, new Object[] {columnIndex, x}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(updateBinaryStream5, new Object[] {columnIndex, x}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public void updateCharacterStream(int columnIndex, Reader x) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, updateCharacterStream5, new Object[] {columnIndex, x});
+        try {
+            target.updateCharacterStream(columnIndex, x);
+        } catch (SQLException e) {
+            throw handler.targetException(updateCharacterStream5, new Object[] {columnIndex, x}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(updateCharacterStream5, new Object[] {columnIndex, x}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public void updateAsciiStream(String columnLabel, InputStream x) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, updateAsciiStream6, new Object[] {columnLabel, x});
+        try {
+            target.updateAsciiStream(columnLabel, x);
+        } catch (SQLException e) {
+            throw handler.targetException(updateAsciiStream6, new Object[] {columnLabel, x}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(updateAsciiStream6, new Object[] {columnLabel, x}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public void updateBinaryStream(String columnLabel, InputStream x) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, updateBinaryStream6, new Object[] {columnLabel, x});
+        try {
+            target.updateBinaryStream(columnLabel, x);
+        } catch (SQLException e) {
+            throw handler.targetException(updateBinaryStream6, new Object[] {columnLabel, x}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(updateBinaryStream6, new Object[] {columnLabel, x}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public void updateCharacterStream(String columnLabel, Reader reader) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, updateCharacterStream6, new Object[] {columnLabel, reader});
+        try {
+            target.updateCharacterStream(columnLabel, reader);
+        } catch (SQLException e) {
+            throw handler.targetException(updateCharacterStream6, new Object[] {columnLabel, reader}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(updateCharacterStream6, new Object[] {columnLabel, reader}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public void updateBlob(int columnIndex, InputStream inputStream) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, updateBlob5, new Object[] {columnIndex, inputStream});
+        try {
+            target.updateBlob(columnIndex, inputStream);
+        } catch (SQLException e) {
+            throw handler.targetException(updateBlob5, new Object[] {columnIndex, inputStream}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(updateBlob5, new Object[] {columnIndex, inputStream}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public void updateBlob(String columnLabel, InputStream inputStream) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, updateBlob6, new Object[] {columnLabel, inputStream});
+        try {
+            target.updateBlob(columnLabel, inputStream);
+        } catch (SQLException e) {
+            throw handler.targetException(updateBlob6, new Object[] {columnLabel, inputStream}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(updateBlob6, new Object[] {columnLabel, inputStream}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public void updateClob(int columnIndex, Reader reader) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, updateClob5, new Object[] {columnIndex, reader});
+        try {
+            target.updateClob(columnIndex, reader);
+        } catch (SQLException e) {
+            throw handler.targetException(updateClob5, new Object[] {columnIndex, reader}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(updateClob5, new Object[] {columnIndex, reader}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public void updateClob(String columnLabel, Reader reader) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, updateClob6, new Object[] {columnLabel, reader});
+        try {
+            target.updateClob(columnLabel, reader);
+        } catch (SQLException e) {
+            throw handler.targetException(updateClob6, new Object[] {columnLabel, reader}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(updateClob6, new Object[] {columnLabel, reader}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public void updateNClob(int columnIndex, Reader reader) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, updateNClob5, new Object[] {columnIndex, reader});
+        try {
+            target.updateNClob(columnIndex, reader);
+        } catch (SQLException e) {
+            throw handler.targetException(updateNClob5, new Object[] {columnIndex, reader}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(updateNClob5, new Object[] {columnIndex, reader}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public void updateNClob(String columnLabel, Reader reader) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, updateNClob6, new Object[] {columnLabel, reader});
+        try {
+            target.updateNClob(columnLabel, reader);
+        } catch (SQLException e) {
+            throw handler.targetException(updateNClob6, new Object[] {columnLabel, reader}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(updateNClob6, new Object[] {columnLabel, reader}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public <T> T getObject(int columnIndex, Class<T> type) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getObject5, new Object[] {columnIndex, type});
+        try {
+            return target.getObject(columnIndex, type);
+        } catch (SQLException e) {
+            throw handler.targetException(getObject5, new Object[] {columnIndex, type}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getObject5, new Object[] {columnIndex, type}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public <T> T getObject(String columnLabel, Class<T> type) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getObject6, new Object[] {columnLabel, type});
+        try {
+            return target.getObject(columnLabel, type);
+        } catch (SQLException e) {
+            throw handler.targetException(getObject6, new Object[] {columnLabel, type}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getObject6, new Object[] {columnLabel, type}, e);
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,196 @@
+/**
+ * Copyright 2024 the vibur-dbcp contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.vibur.dbcp.proxy;
+
+import org.vibur.dbcp.ViburConfig;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.SQLXML;
+import java.util.AbstractList;
+import java.util.Arrays;
+
+import static org.vibur.dbcp.ViburConfig.QUERY_PARAMS_TRUNCATE;
+import static org.vibur.dbcp.ViburConfig.QUERY_PARAMS_TYPES;
+
+/**
+ * A reusable buffer which captures the parameters of the Prepared/Callable Statement "set..." calls. The buffer is
+ * indexed by the parameter position (or by the parameter name for the named CallableStatement parameters), i.e.,
+ * a repeated "set..." call for the same parameter overwrites the previously captured value, and the buffer memory
+ * is reused across the executions of the Statement. No per "set..." call objects are allocated, except when
+ * the "set..." method has more than 2 parameters.
+ *
+ * <p>The buffer is exposed to the hooks as a read-only {@code List<Object[]>} as described in
+ * {@link org.vibur.dbcp.pool.Hook.ResultSetRetrieval#on ResultSetRetrieval}. The {@code Object[]} list elements are
+ * created lazily, only when they are accessed, for example, when a hook actually logs the query parameters.
+ *
+ * <p>The parameters are captured only after the respective "set..." call on the underlying Statement has succeeded,
+ * i.e., the buffer never grows beyond the parameter positions which the driver has accepted. When several rows are
+ * added to a batch via {@code addBatch()}, the rows overwrite each other's parameters by position, i.e., the
+ * buffer reports the parameters of the last row only (plus any parameter set only in an earlier row), and not
+ * the parameters of each batched row.
+ *
+ * <p>How the parameter values are captured depends on {@link ViburConfig#queryParametersCapture}. This class is
+ * not thread-safe, the same as the Statement to which it belongs.
+ *
+ * @author agent
+ */
+final class SqlQueryParams extends AbstractList<Object[]> {
+
+    private static final int INITIAL_CAPACITY = 8;
+
+    private final boolean typesOnly;
+    private final int truncateLength; // a negative value means no truncation
+
+    private String[] setters = new String[INITIAL_CAPACITY]; // the "set..." method names; null means an empty slot
+    private Object[] keys = new Object[INITIAL_CAPACITY]; // the parameters positions or names
+    private Object[] values = new Object[INITIAL_CAPACITY];
+    private Object[][] extras = null; // the "set..." method arguments after the value; rarely used
+
+    private int limit = 0; // the index after the last used slot
+    private int count = 0; // the number of used slots
+
+    SqlQueryParams(ViburConfig config) {
+        String capture = config.getQueryParametersCapture();
+        this.typesOnly = QUERY_PARAMS_TYPES.equals(capture);
+        this.truncateLength = QUERY_PARAMS_TRUNCATE.equals(capture) ? config.getQueryParametersTruncateLength() : -1;
+    }
+
+    /**
+     * Captures the arguments of the given "set..." method call. The {@code args} must be at least 2, where
+     * {@code args[0]} is the parameter position or name, and {@code args[1]} is the parameter value.
+     */
+    void capture(String setter, Object[] args) {
+        if (args[0] == null)
+            return;
+        int slot = slotFor(args[0]);
+        if (setters[slot] == null)
+            count++;
+        setters[slot] = setter;
+        keys[slot] = args[0];
+        values[slot] = captureValue(args[1]);
+        if (args.length > 2)
+            extras()[slot] = Arrays.copyOfRange(args, 2, args.length);
+        else if (extras != null)
+            extras[slot] = null;
+    }
+
+    /**
+     * Clears all captured parameters and releases the references to their values; the buffer memory is retained.
+     */
+    @Override
+    public void clear() {
+        if (limit == 0)
+            return;
+        Arrays.fill(setters, 0, limit, null);
+        Arrays.fill(keys, 0, limit, null);
+        Arrays.fill(values, 0, limit, null);
+        if (extras != null)
+            Arrays.fill(extras, 0, limit, null);
+        limit = count = 0;
+    }
+
+    @Override
+    public Object[] get(int index) {
+        if (index < 0 || index >= count)
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + count);
+
+        int slot = slotAt(index);
+        Object[] extra = extras != null ? extras[slot] : null;
+        Object[] params = new Object[3 + (extra != null ? extra.length : 0)];
+        params[0] = setters[slot];
+        params[1] = keys[slot];
+        params[2] = values[slot];
+        if (extra != null)
+            System.arraycopy(extra, 0, params, 3, extra.length);
+        return params;
+    }
+
+    @Override
+    public int size() {
+        return count;
+    }
+
+    private int slotAt(int index) {
+        if (count == limit) // there are no empty slots
+            return index;
+        for (int slot = 0; ; slot++)
+            if (setters[slot] != null && index-- == 0)
+                return slot;
+    }
+
+    private int slotFor(Object key) {
+        int slot;
+        if (key instanceof Integer && (Integer) key > 0)
+            slot = (Integer) key - 1;
+        else { // a named CallableStatement parameter
+            for (slot = 0; slot < limit; slot++)
+                if (key.equals(keys[slot]))
+                    break;
+        }
+
+        if (slot >= setters.length)
+            grow(slot + 1);
+        if (slot >= limit)
+            limit = slot + 1;
+        return slot;
+    }
+
+    private void grow(int minCapacity) {
+        int capacity = Math.max(setters.length * 2, minCapacity);
+        setters = Arrays.copyOf(setters, capacity);
+        keys = Arrays.copyOf(keys, capacity);
+        values = Arrays.copyOf(values, capacity);
+        if (extras != null)
+            extras = Arrays.copyOf(extras, capacity);
+    }
+
+    private Object[][] extras() {
+        if (extras == null)
+            extras = new Object[setters.length][];
+        return extras;
+    }
+
+    private Object captureValue(Object value) {
+        if (value == null)
+            return null;
+        if (typesOnly)
+            return value.getClass().getName();
+        if (truncateLength < 0)
+            return value;
+
+        if (value instanceof String) {
+            String str = (String) value;
+            if (str.length() <= truncateLength)
+                return str;
+            int end = truncateLength;
+            if (end > 0 && Character.isHighSurrogate(str.charAt(end - 1)))
+                end--; // do not split a surrogate pair
+            return str.substring(0, end) + "...";
+        }
+        if (value instanceof byte[]) {
+            byte[] bytes = (byte[]) value;
+            return bytes.length <= truncateLength ? bytes : Arrays.copyOf(bytes, truncateLength);
+        }
+        if (value instanceof InputStream || value instanceof Reader
+                || value instanceof Blob || value instanceof Clob || value instanceof SQLXML)
+            return value.getClass().getName(); // the streams and LOBs are never retained
+        return value;
+    }
+}
@@ -17,18 +17,23 @@
 package org.vibur.dbcp.proxy;
 
 import org.vibur.dbcp.ViburConfig;
+import org.vibur.dbcp.pool.DefaultHook;
 import org.vibur.dbcp.pool.Hook;
 import org.vibur.dbcp.stcache.StatementCache;
 import org.vibur.dbcp.stcache.StatementHolder;
 
 import java.lang.reflect.Method;
 import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
-import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.vibur.dbcp.proxy.AbstractProxy.method;
+import static org.vibur.dbcp.proxy.MethodDispatch.*;
 import static org.vibur.dbcp.proxy.Proxy.newProxyResultSet;
 
 /**
@@ -37,70 +42,116 @@ import static org.vibur.dbcp.proxy.Proxy.newProxyResultSet;
 class StatementInvocationHandler extends ChildObjectInvocationHandler<Connection, Statement>
         implements Hook.StatementProceedingPoint {
 
+    private static final Method addBatch = method(PreparedStatement.class, "addBatch");
+    private static final Method clearBatch = method(Statement.class, "clearBatch");
+    private static final Method executeBatch = method(Statement.class, "executeBatch");
+    private static final Method setFetchSize = method(Statement.class, "setFetchSize", int.class);
+
     private final StatementHolder statement;
     private final StatementCache statementCache; // always "null" (i.e. turned off) for simple JDBC Statements
-    private final ViburConfig config;
 
     private final Hook.StatementExecution[] executionHooks;
     private final Hook.StatementExecution firstHook;
     private int hookIdx = 0;
 
     private final boolean logSqlQueryParams;
-    private final List<Object[]> sqlQueryParams;
+    private SqlQueryParams sqlQueryParams = null; // lazily created on the first "set..." call if logSqlQueryParams
+
+    // the handler of the Connection from which this Statement was created
+    private final ConnectionInvocationHandler connHandler;
+
+    // the automatic batching of executeUpdate() calls, see ViburConfig.autoBatchSize; autoBatching is "false" when
+    // turned off, and autoBatch is "true" if this Statement's updates are batched
+    private final boolean autoBatching;
+    private final boolean autoBatch;
+    private int batchedRows = 0;
+    private long batchStartNanoTime;
+    private Statement batchProxy;
+    private int[] flushedCounts = null; // the update counts of the last sent automatic batch
+
+    // records the successful executions as implicit Connection validations, see
+    // ViburConfig.implicitValidationWindowInMs
+    private final boolean trackExecutions;
+
+    // sets the learned fetch size before the executeQuery() calls, see ViburConfig.tuneFetchSize; "null" when off
+    private final DefaultHook.FetchSizeTuning fetchSizeTuning;
 
     StatementInvocationHandler(StatementHolder statement, StatementCache statementCache, Connection connProxy,
-                               ViburConfig config, ExceptionCollector exceptionCollector) {
-        super(statement.value(), connProxy, "getConnection", config, exceptionCollector);
+                               boolean autoBatch, ViburConfig config, ConnectionInvocationHandler connHandler) {
+        super(statement.value(), connProxy, GET_CONNECTION, config, connHandler);
         this.statement = statement;
         this.statementCache = statementCache;
-        this.config = config;
+        this.connHandler = connHandler;
+
+        this.autoBatching = config.getAutoBatchSize() > 0;
+        this.autoBatch = autoBatching && autoBatch;
+        this.trackExecutions = config.getImplicitValidationWindowInMs() > 0;
+        this.fetchSizeTuning = config.getFetchSizeTuning();
 
         this.executionHooks = config.getInvocationHooks().onStatementExecution();
         this.firstHook = executionHooks.length > 0 ? executionHooks[0] : this;
 
         this.logSqlQueryParams = config.isIncludeQueryParameters() &&
                 (executionHooks.length > 0 || config.getInvocationHooks().onResultSetRetrieval().length > 0);
-        this.sqlQueryParams = logSqlQueryParams ? new ArrayList<Object[]>() : null;
     }
 
     @Override
-    Object unrestrictedInvoke(Statement proxy, Method method, Object[] args) throws SQLException {
-        String methodName = method.getName();
-
-        if (methodName == "close")
-            return processClose(method, args);
-        if (methodName == "isClosed")
-            return isClosed();
-
-        return super.unrestrictedInvoke(proxy, method, args);
+    Object unrestrictedInvoke(Statement proxy, int opcode, Method method, Object[] args) throws SQLException {
+        switch (opcode) {
+            case CLOSE:
+                return processClose(method, args);
+            case IS_CLOSED:
+                return isClosed();
+            default:
+                return super.unrestrictedInvoke(proxy, opcode, method, args);
+        }
     }
 
     @Override
-    Object restrictedInvoke(Statement proxy, Method method, Object[] args) throws SQLException {
-        String methodName = method.getName();
-
-        if (methodName.startsWith("set")) // this intercepts all "set..." JDBC Prepared/Callable Statement methods
-            return processSet(method, args);
-        if (methodName.startsWith("execute")) // this intercepts all "execute..." JDBC Statement methods
-            return processExecute(proxy, method, args);
-
-        // Methods which results have to be proxied so that when getStatement() is called
-        // on their results the return value to be the current JDBC Statement proxy.
-        if (methodName == "getResultSet" || methodName == "getGeneratedKeys") // *2
-            return newProxiedResultSet(proxy, method, args, statement.getSqlQuery());
-
-        if (methodName == "cancel")
-            return processCancel(method, args);
-
-        return super.restrictedInvoke(proxy, method, args);
+    Object restrictedInvoke(Statement proxy, int opcode, Method method, Object[] args) throws SQLException {
+        switch (opcode) {
+            case SET: // this intercepts all "set..." JDBC Prepared/Callable Statement methods
+                return processSet(method, args);
+            case EXECUTE_UPDATE:
+                if (autoBatch && args == null)
+                    return processAutoBatch(proxy);
+                return processExecute(proxy, method, args);
+            case EXECUTE_QUERY:
+                if (fetchSizeTuning != null)
+                    tuneFetchSize(args);
+                return processExecute(proxy, method, args);
+            case EXECUTE: // this intercepts all "execute..." JDBC Statement methods
+                return processExecute(proxy, method, args);
+
+            // Methods which results have to be proxied so that when getStatement() is called
+            // on their results the return value to be the current JDBC Statement proxy.
+            case GET_RESULT_SET: // *2
+                flushBatch();
+                return newProxiedResultSet(proxy, method, args, statement.getSqlQuery());
+
+            case BATCH:
+                flushBatch(); // the explicit addBatch() and clearBatch() calls must not mix with the automatic ones
+                return targetInvoke(method, args);
+
+            case CANCEL:
+                return processCancel(method, args);
+
+            default:
+                return super.restrictedInvoke(proxy, opcode, method, args);
+        }
     }
 
     private Object processClose(Method method, Object[] args) throws SQLException {
         if (!close())
             return null;
-        if (statementCache == null || !statementCache.restore(statement, config.isClearSQLWarnings()))
-            return targetInvoke(method, args);
-        return null; // calls to close() are not passed when the statement is restored successfully back in the cache
+        try {
+            flushBatch();
+        } finally {
+            if (statementCache == null || !statementCache.restore(statement, config.isClearSQLWarnings()))
+                targetInvoke(method, args);
+            // calls to close() are not passed when the statement is restored successfully back in the cache
+        }
+        return null;
     }
 
     private Object processCancel(Method method, Object[] args) throws SQLException {
@@ -110,22 +161,119 @@ class StatementInvocationHandler extends ChildObjectInvocationHandler<Connection
     }
 
     private Object processSet(Method method, Object[] args) throws SQLException {
+        Object result = targetInvoke(method, args); // the real "set..." call
+        // captured only after the driver has accepted (and validated) the parameter position
         if (logSqlQueryParams && args != null && args.length >= 2)
-            addSqlQueryParams(method, args);
-        return targetInvoke(method, args); // the real "set..." call
+            getOrInitSqlQueryParams().capture(method.getName(), args);
+        if (fetchSizeTuning != null && method.getName().equals("setFetchSize"))
+            statement.setFetchSizeSet(true); // the pool will not tune the fetch size of this Statement any more
+        return result;
+    }
+
+    /**
+     * Sets the fetch size learned for the executed SQL query on the underlying Statement, unless the application has
+     * set the fetch size of the Statement. The fetch size is not set again as long as it does not change, which
+     * includes the subsequent uses of a cached PreparedStatement.
+     */
+    private void tuneFetchSize(Object[] args) throws SQLException {
+        if (statement.isFetchSizeSet())
+            return;
+        String sqlQuery = args != null && args.length >= 1 ? (String) args[0] : statement.getSqlQuery();
+        int fetchSize = sqlQuery != null ? fetchSizeTuning.getFetchSize(sqlQuery) : 0;
+        if (fetchSize > 0 && fetchSize != statement.getTunedFetchSize()) {
+            targetInvoke(setFetchSize, new Object[] {fetchSize});
+            statement.setTunedFetchSize(fetchSize);
+        }
     }
 
     private Object processExecute(Statement proxy, Method method, Object[] args) throws SQLException {
+        if (autoBatching) {
+            // an explicit executeBatch() call sends the pending automatic batch and returns its update counts
+            boolean takeOver = batchedRows > 0 && method.getName().equals("executeBatch");
+            connHandler.flushPendingBatches(); // includes the pending batch of this Statement
+            if (takeOver) {
+                int[] result = flushedCounts;
+                flushedCounts = null;
+                return result;
+            }
+        }
         if (statement.getSqlQuery() == null && args != null && args.length >= 1) // a simple Statement "execute..." call
             statement.setSqlQuery((String) args[0]);
 
         try {
-            return firstHook.on(proxy, method, args, statement.getSqlQuery(), sqlQueryParams, this);
+            return firstHook.on(proxy, method, args, statement.getSqlQuery(), getSqlQueryParams(), this);
+        } finally {
+            prepareForNextExecution();
+        }
+    }
+
+    /**
+     * Converts the {@code executeUpdate()} call to an {@code addBatch()} call, and sends the accumulated batch to
+     * the database if it has reached the configured size or age. Returns {@link Statement#SUCCESS_NO_INFO} as
+     * the deferred row has not updated anything yet; the real update counts are returned by the
+     * {@code executeBatch()} call which passes through the {@code StatementExecution} hooks when the batch is sent,
+     * and by an explicit {@code executeBatch()} call of the application, see {@link #processExecute}.
+     */
+    private Object processAutoBatch(Statement proxy) throws SQLException {
+        if (batchedRows > 0 && config.getAutoBatchMaxDelayInMs() > 0 && System.nanoTime() - batchStartNanoTime
+                >= MILLISECONDS.toNanos(config.getAutoBatchMaxDelayInMs()))
+            flushBatch(); // the current row will start a new batch
+
+        targetInvoke(addBatch, null);
+        if (batchedRows++ == 0) {
+            batchStartNanoTime = System.nanoTime();
+            batchProxy = proxy;
+            connHandler.addPendingBatch(this);
+        }
+        if (batchedRows >= config.getAutoBatchSize())
+            flushBatch();
+        return Statement.SUCCESS_NO_INFO;
+    }
+
+    /**
+     * Sends the pending automatic batch of this Statement (if any) to the database. The {@code executeBatch()} call
+     * passes through the {@code StatementExecution} hooks, the same as an explicit {@code executeBatch()} call.
+     */
+    void flushBatch() throws SQLException {
+        if (batchedRows == 0)
+            return;
+        Statement proxy = batchProxy;
+        batchedRows = 0;
+        batchProxy = null;
+        connHandler.removePendingBatch(this);
+        try {
+            flushedCounts = (int[]) firstHook.on(proxy, executeBatch, null, statement.getSqlQuery(),
+                    getSqlQueryParams(), this);
         } finally {
             prepareForNextExecution();
         }
     }
 
+    /**
+     * Discards the pending automatic batch of this Statement (if any) without sending it to the database.
+     */
+    void discardBatch() throws SQLException {
+        if (batchedRows == 0)
+            return;
+        connHandler.removePendingBatch(this);
+        try {
+            targetInvoke(clearBatch, null);
+        } finally {
+            abandonBatch();
+        }
+    }
+
+    /**
+     * Forgets the pending automatic batch of this Statement (if any) without any calls to the underlying Statement;
+     * used when the Connection is closed or aborted.
+     */
+    void abandonBatch() {
+        batchedRows = 0;
+        batchProxy = null;
+        flushedCounts = null;
+        prepareForNextExecution();
+    }
+
     private void prepareForNextExecution() {
         if (sqlQueryParams != null)
             sqlQueryParams.clear();
@@ -134,14 +282,19 @@ class StatementInvocationHandler extends ChildObjectInvocationHandler<Connection
 
     private ResultSet newProxiedResultSet(Statement proxy, Method method, Object[] args, String sqlQuery) throws SQLException {
         ResultSet rawResultSet = (ResultSet) targetInvoke(method, args);
-        return newProxyResultSet(rawResultSet, proxy, sqlQuery, sqlQueryParams, config, this);
+        return newProxyResultSet(rawResultSet, proxy, sqlQuery, getSqlQueryParams(), config, this);
     }
 
-    private void addSqlQueryParams(Method method, Object[] args) {
-        Object[] params = new Object[args.length + 1];
-        params[0] = method.getName();
-        System.arraycopy(args, 0, params, 1, args.length);
-        sqlQueryParams.add(params);
+    private SqlQueryParams getOrInitSqlQueryParams() {
+        if (sqlQueryParams == null)
+            sqlQueryParams = new SqlQueryParams(config);
+        return sqlQueryParams;
+    }
+
+    private List<Object[]> getSqlQueryParams() {
+        if (sqlQueryParams == null && logSqlQueryParams)
+            return Collections.emptyList();
+        return sqlQueryParams;
     }
 
     //////// The StatementProceedingPoint implementation: ////////
@@ -155,9 +308,11 @@ class StatementInvocationHandler extends ChildObjectInvocationHandler<Connection
 
         // executeQuery result has to be proxied so that when getStatement() is called
         // on its result the return value to be the current JDBC Statement proxy.
-        if (method.getName() == "executeQuery") // *1
-            return newProxiedResultSet(proxy, method, args, statement.getSqlQuery());
-
-        return targetInvoke(method, args); // the real "execute..." call
+        Object result = opcode(method) == EXECUTE_QUERY // *1
+                ? newProxiedResultSet(proxy, method, args, statement.getSqlQuery())
+                : targetInvoke(method, args); // the real "execute..." call
+        if (trackExecutions)
+            connHandler.executed();
+        return result;
     }
 }
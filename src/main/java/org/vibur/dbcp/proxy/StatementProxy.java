@@ -0,0 +1,487 @@
+/**
+ * Copyright 2024 the vibur-dbcp contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.vibur.dbcp.proxy;
+
+import java.lang.reflect.Method;
+import java.sql.*;
+
+/**
+ * The concrete (non-reflective) proxy class for the JDBC {@link Statement} interface. All methods that
+ * the {@link StatementInvocationHandler} intercepts are passed to it, and all other methods are
+ * forwarded directly to the underlying raw Statement.
+ *
+ * @see AbstractProxy
+ *
+ * @author agent
+ * @param <T> the type of the proxied Statement
+ */
+class StatementProxy<T extends Statement> extends AbstractProxy<T> implements Statement {
+
+    private static final Method unwrap = method(Statement.class, "unwrap", Class.class);
+    private static final Method isWrapperFor = method(Statement.class, "isWrapperFor", Class.class);
+    private static final Method executeQuery = method(Statement.class, "executeQuery", String.class);
+    private static final Method executeUpdate1 = method(Statement.class, "executeUpdate", String.class);
+    private static final Method close = method(Statement.class, "close");
+    private static final Method getMaxFieldSize = method(Statement.class, "getMaxFieldSize");
+    private static final Method setMaxFieldSize = method(Statement.class, "setMaxFieldSize", int.class);
+    private static final Method getMaxRows = method(Statement.class, "getMaxRows");
+    private static final Method setMaxRows = method(Statement.class, "setMaxRows", int.class);
+    private static final Method setEscapeProcessing = method(Statement.class, "setEscapeProcessing", boolean.class);
+    private static final Method getQueryTimeout = method(Statement.class, "getQueryTimeout");
+    private static final Method setQueryTimeout = method(Statement.class, "setQueryTimeout", int.class);
+    private static final Method cancel = method(Statement.class, "cancel");
+    private static final Method getWarnings = method(Statement.class, "getWarnings");
+    private static final Method clearWarnings = method(Statement.class, "clearWarnings");
+    private static final Method setCursorName = method(Statement.class, "setCursorName", String.class);
+    private static final Method execute1 = method(Statement.class, "execute", String.class);
+    private static final Method getResultSet = method(Statement.class, "getResultSet");
+    private static final Method getUpdateCount = method(Statement.class, "getUpdateCount");
+    private static final Method getMoreResults1 = method(Statement.class, "getMoreResults");
+    private static final Method setFetchDirection = method(Statement.class, "setFetchDirection", int.class);
+    private static final Method getFetchDirection = method(Statement.class, "getFetchDirection");
+    private static final Method setFetchSize = method(Statement.class, "setFetchSize", int.class);
+    private static final Method getFetchSize = method(Statement.class, "getFetchSize");
+    private static final Method getResultSetConcurrency = method(Statement.class, "getResultSetConcurrency");
+    private static final Method getResultSetType = method(Statement.class, "getResultSetType");
+    private static final Method addBatch = method(Statement.class, "addBatch", String.class);
+    private static final Method clearBatch = method(Statement.class, "clearBatch");
+    private static final Method executeBatch = method(Statement.class, "executeBatch");
+    private static final Method getConnection = method(Statement.class, "getConnection");
+    private static final Method getMoreResults2 = method(Statement.class, "getMoreResults", int.class);
+    private static final Method getGeneratedKeys = method(Statement.class, "getGeneratedKeys");
+    private static final Method executeUpdate2 = method(Statement.class, "executeUpdate", String.class, int.class);
+    private static final Method executeUpdate3 = method(Statement.class, "executeUpdate", String.class, int[].class);
+    private static final Method executeUpdate4 = method(Statement.class, "executeUpdate", String.class, String[].class);
+    private static final Method execute2 = method(Statement.class, "execute", String.class, int.class);
+    private static final Method execute3 = method(Statement.class, "execute", String.class, int[].class);
+    private static final Method execute4 = method(Statement.class, "execute", String.class, String[].class);
+    private static final Method getResultSetHoldability = method(Statement.class, "getResultSetHoldability");
+    private static final Method isClosed = method(Statement.class, "isClosed");
+    private static final Method setPoolable = method(Statement.class, "setPoolable", boolean.class);
+    private static final Method isPoolable = method(Statement.class, "isPoolable");
+    private static final Method closeOnCompletion = method(Statement.class, "closeOnCompletion");
+    private static final Method isCloseOnCompletion = method(Statement.class, "isCloseOnCompletion");
+    private static final Method getLargeUpdateCount = optionalMethod(Statement.class, "getLargeUpdateCount");
+    private static final Method setLargeMaxRows = optionalMethod(Statement.class, "setLargeMaxRows", long.class);
+    private static final Method getLargeMaxRows = optionalMethod(Statement.class, "getLargeMaxRows");
+    private static final Method executeLargeBatch = optionalMethod(Statement.class, "executeLargeBatch");
+    private static final Method executeLargeUpdate1 = optionalMethod(Statement.class, "executeLargeUpdate", String.class);
+    private static final Method executeLargeUpdate2 = optionalMethod(Statement.class, "executeLargeUpdate", String.class, int.class);
+    private static final Method executeLargeUpdate3 = optionalMethod(Statement.class, "executeLargeUpdate", String.class, int[].class);
+    private static final Method executeLargeUpdate4 = optionalMethod(Statement.class, "executeLargeUpdate", String.class, String[].class);
+
+    StatementProxy(T target, StatementInvocationHandler handler) {
+        super(target, handler);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T unwrap(Class<T> iface) throws SQLException {
+        return (T) handler.invoke(this, unwrap, new Object[] {iface});
+    }
+
+    @Override
+    public boolean isWrapperFor(Class<?> iface) throws SQLException {
+        return (Boolean) handler.invoke(this, isWrapperFor, new Object[] {iface});
+    }
+
+    @Override
+    public ResultSet executeQuery(String sql) throws SQLException {
+        return (ResultSet) handler.invoke(this, executeQuery, new Object[] {sql});
+    }
+
+    @Override
+    public int executeUpdate(String sql) throws SQLException {
+        return (Integer) handler.invoke(this, executeUpdate1, new Object[] {sql});
+    }
+
+    @Override
+    public void close() throws SQLException {
+        handler.invoke(this, close, null);
+    }
+
+    @Override
+    public int getMaxFieldSize() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getMaxFieldSize, null);
+        try {
+            return target.getMaxFieldSize();
+        } catch (SQLException e) {
+            throw handler.targetException(getMaxFieldSize, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getMaxFieldSize, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public void setMaxFieldSize(int max) throws SQLException {
+        handler.invoke(this, setMaxFieldSize, new Object[] {max});
+    }
+
+    @Override
+    public int getMaxRows() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getMaxRows, null);
+        try {
+            return target.getMaxRows();
+        } catch (SQLException e) {
+            throw handler.targetException(getMaxRows, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getMaxRows, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public void setMaxRows(int max) throws SQLException {
+        handler.invoke(this, setMaxRows, new Object[] {max});
+    }
+
+    @Override
+    public void setEscapeProcessing(boolean enable) throws SQLException {
+        handler.invoke(this, setEscapeProcessing, new Object[] {enable});
+    }
+
+    @Override
+    public int getQueryTimeout() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getQueryTimeout, null);
+        try {
+            return target.getQueryTimeout();
+        } catch (SQLException e) {
+            throw handler.targetException(getQueryTimeout, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getQueryTimeout, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public void setQueryTimeout(int seconds) throws SQLException {
+        handler.invoke(this, setQueryTimeout, new Object[] {seconds});
+    }
+
+    @Override
+    public void cancel() throws SQLException {
+        handler.invoke(this, cancel, null);
+    }
+
+    @Override
+    public SQLWarning getWarnings() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getWarnings, null);
+        try {
+            return target.getWarnings();
+        } catch (SQLException e) {
+            throw handler.targetException(getWarnings, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getWarnings, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public void clearWarnings() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, clearWarnings, null);
+        try {
+            target.clearWarnings();
+        } catch (SQLException e) {
+            throw handler.targetException(clearWarnings, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(clearWarnings, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public void setCursorName(String name) throws SQLException {
+        handler.invoke(this, setCursorName, new Object[] {name});
+    }
+
+    @Override
+    public boolean execute(String sql) throws SQLException {
+        return (Boolean) handler.invoke(this, execute1, new Object[] {sql});
+    }
+
+    @Override
+    public ResultSet getResultSet() throws SQLException {
+        return (ResultSet) handler.invoke(this, getResultSet, null);
+    }
+
+    @Override
+    public int getUpdateCount() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getUpdateCount, null);
+        try {
+            return target.getUpdateCount();
+        } catch (SQLException e) {
+            throw handler.targetException(getUpdateCount, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getUpdateCount, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean getMoreResults() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getMoreResults1, null);
+        try {
+            return target.getMoreResults();
+        } catch (SQLException e) {
+            throw handler.targetException(getMoreResults1, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getMoreResults1, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public void setFetchDirection(int direction) throws SQLException {
+        handler.invoke(this, setFetchDirection, new Object[] {direction});
+    }
+
+    @Override
+    public int getFetchDirection() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getFetchDirection, null);
+        try {
+            return target.getFetchDirection();
+        } catch (SQLException e) {
+            throw handler.targetException(getFetchDirection, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getFetchDirection, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public void setFetchSize(int rows) throws SQLException {
+        handler.invoke(this, setFetchSize, new Object[] {rows});
+    }
+
+    @Override
+    public int getFetchSize() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getFetchSize, null);
+        try {
+            return target.getFetchSize();
+        } catch (SQLException e) {
+            throw handler.targetException(getFetchSize, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getFetchSize, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public int getResultSetConcurrency() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getResultSetConcurrency, null);
+        try {
+            return target.getResultSetConcurrency();
+        } catch (SQLException e) {
+            throw handler.targetException(getResultSetConcurrency, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getResultSetConcurrency, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public int getResultSetType() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getResultSetType, null);
+        try {
+            return target.getResultSetType();
+        } catch (SQLException e) {
+            throw handler.targetException(getResultSetType, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getResultSetType, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public void addBatch(String sql) throws SQLException {
+        handler.invoke(this, addBatch, new Object[] {sql});
+    }
+
+    @Override
+    public void clearBatch() throws SQLException {
+        handler.invoke(this, clearBatch, null);
+    }
+
+    @Override
+    public int[] executeBatch() throws SQLException {
+        return (int[]) handler.invoke(this, executeBatch, null);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return (Connection) handler.invoke(this, getConnection, null);
+    }
+
+    @Override
+    public boolean getMoreResults(int current) throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getMoreResults2, new Object[] {current});
+        try {
+            return target.getMoreResults(current);
+        } catch (SQLException e) {
+            throw handler.targetException(getMoreResults2, new Object[] {current}, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getMoreResults2, new Object[] {current}, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public ResultSet getGeneratedKeys() throws SQLException {
+        return (ResultSet) handler.invoke(this, getGeneratedKeys, null);
+    }
+
+    @Override
+    public int executeUpdate(String sql, int autoGeneratedKeys) throws SQLException {
+        return (Integer) handler.invoke(this, executeUpdate2, new Object[] {sql, autoGeneratedKeys});
+    }
+
+    @Override
+    public int executeUpdate(String sql, int[] columnIndexes) throws SQLException {
+        return (Integer) handler.invoke(this, executeUpdate3, new Object[] {sql, columnIndexes});
+    }
+
+    @Override
+    public int executeUpdate(String sql, String[] columnNames) throws SQLException {
+        return (Integer) handler.invoke(this, executeUpdate4, new Object[] {sql, columnNames});
+    }
+
+    @Override
+    public boolean execute(String sql, int autoGeneratedKeys) throws SQLException {
+        return (Boolean) handler.invoke(this, execute2, new Object[] {sql, autoGeneratedKeys});
+    }
+
+    @Override
+    public boolean execute(String sql, int[] columnIndexes) throws SQLException {
+        return (Boolean) handler.invoke(this, execute3, new Object[] {sql, columnIndexes});
+    }
+
+    @Override
+    public boolean execute(String sql, String[] columnNames) throws SQLException {
+        return (Boolean) handler.invoke(this, execute4, new Object[] {sql, columnNames});
+    }
+
+    @Override
+    public int getResultSetHoldability() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, getResultSetHoldability, null);
+        try {
+            return target.getResultSetHoldability();
+        } catch (SQLException e) {
+            throw handler.targetException(getResultSetHoldability, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(getResultSetHoldability, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean isClosed() throws SQLException {
+        return (Boolean) handler.invoke(this, isClosed, null);
+    }
+
+    @Override
+    public void setPoolable(boolean poolable) throws SQLException {
+        handler.invoke(this, setPoolable, new Object[] {poolable});
+    }
+
+    @Override
+    public boolean isPoolable() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, isPoolable, null);
+        try {
+            return target.isPoolable();
+        } catch (SQLException e) {
+            throw handler.targetException(isPoolable, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(isPoolable, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public void closeOnCompletion() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, closeOnCompletion, null);
+        try {
+            target.closeOnCompletion();
+        } catch (SQLException e) {
+            throw handler.targetException(closeOnCompletion, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(closeOnCompletion, null, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean isCloseOnCompletion() throws SQLException {
+        if (handler.accessEntryRequired())
+            handler.restrictedAccessEntry(this, isCloseOnCompletion, null);
+        try {
+            return target.isCloseOnCompletion();
+        } catch (SQLException e) {
+            throw handler.targetException(isCloseOnCompletion, null, e);
+        } catch (RuntimeException | Error e) {
+            handler.logTargetInvokeFailure(isCloseOnCompletion, null, e);
+            throw e;
+        }
+    }
+
+    public long getLargeUpdateCount() throws SQLException {
+        return (Long) handler.invoke(this, getLargeUpdateCount, null);
+    }
+
+    public void setLargeMaxRows(long max) throws SQLException {
+        handler.invoke(this, setLargeMaxRows, new Object[] {max});
+    }
+
+    public long getLargeMaxRows() throws SQLException {
+        return (Long) handler.invoke(this, getLargeMaxRows, null);
+    }
+
+    public long[] executeLargeBatch() throws SQLException {
+        return (long[]) handler.invoke(this, executeLargeBatch, null);
+    }
+
+    public long executeLargeUpdate(String sql) throws SQLException {
+        return (Long) handler.invoke(this, executeLargeUpdate1, new Object[] {sql});
+    }
+
+    public long executeLargeUpdate(String sql, int autoGeneratedKeys) throws SQLException {
+        return (Long) handler.invoke(this, executeLargeUpdate2, new Object[] {sql, autoGeneratedKeys});
+    }
+
+    public long executeLargeUpdate(String sql, int[] columnIndexes) throws SQLException {
+        return (Long) handler.invoke(this, executeLargeUpdate3, new Object[] {sql, columnIndexes});
+    }
+
+    public long executeLargeUpdate(String sql, String[] columnNames) throws SQLException {
+        return (Long) handler.invoke(this, executeLargeUpdate4, new Object[] {sql, columnNames});
+    }
+}
@@ -0,0 +1,504 @@
+/**
+ * Copyright 2024 the vibur-dbcp contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.vibur.dbcp.rscache;
+
+import javax.sql.rowset.RowSetMetaDataImpl;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.sql.*;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import static org.vibur.dbcp.ViburConfig.SQLSTATE_OBJECT_CLOSED_ERROR;
+
+/**
+ * A fully materialized, immutable copy of the rows and the metadata of a {@code ResultSet}, which can be replayed
+ * any number of times, including concurrently, via the {@code ResultSet} views returned by {@link #newResultSet}.
+ * Each view has its own cursor and decodes nothing, as the column values are retained as the objects returned by
+ * {@code ResultSet.getObject} at the time of the materialization.
+ *
+ * <p>The views are forward only and read only, and support the {@code getXXX} methods for the common SQL types,
+ * i.e., the character, numeric, boolean, binary, and date/time types. The {@code ResultSet}s with LOB, array,
+ * structured, or vendor specific column types cannot be materialized.
+ *
+ * @author agent
+ */
+final class CachedResult {
+
+    private static final Object[][] NO_ROWS = new Object[0][];
+
+    private final ResultSetMetaData metaData;
+    private final Map<String, Integer> columns; // the lower case column labels and names to the column indexes
+    private final Object[][] rows;
+    private final boolean complete; // false if only the first rows of the ResultSet were materialized
+    private final boolean remainderOnRow; // true if the ResultSet is positioned on its first not materialized row
+    private final int weight; // the approximate size of this object in bytes
+    private final long expiryNanoTime;
+
+    private CachedResult(ResultSetMetaData metaData, Map<String, Integer> columns, Object[][] rows,
+                         boolean complete, boolean remainderOnRow, int weight, long expiryNanoTime) {
+        this.metaData = metaData;
+        this.columns = columns;
+        this.rows = rows;
+        this.complete = complete;
+        this.remainderOnRow = remainderOnRow;
+        this.weight = weight;
+        this.expiryNanoTime = expiryNanoTime;
+    }
+
+    /**
+     * Materializes the rows of the given {@code resultSet}, up to {@code maxRows}. The returned result is
+     * {@link #isComplete complete} if all rows were materialized. Otherwise, the given {@code resultSet} is left
+     * open and needs to be passed to {@link #newResultSet} so that the application can read the remaining rows
+     * from it. Returns {@code null} and does not move the {@code resultSet} cursor if the ResultSet has columns
+     * of types which cannot be materialized.
+     */
+    static CachedResult materialize(ResultSet resultSet, int maxRows, long timeToLiveNanos) throws SQLException {
+        ResultSetMetaData rawMetaData = resultSet.getMetaData();
+        int columnCount = rawMetaData.getColumnCount();
+        for (int i = 1; i <= columnCount; i++)
+            if (!isMaterializable(rawMetaData.getColumnType(i)))
+                return null;
+
+        RowSetMetaDataImpl metaData = copyOf(rawMetaData);
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = columnCount; i >= 1; i--) { // in reverse order, so that the first column with a given label wins
+            if (metaData.getColumnName(i) != null)
+                columns.put(metaData.getColumnName(i).toLowerCase(Locale.ROOT), i);
+        }
+        for (int i = columnCount; i >= 1; i--) { // the column labels take precedence over the column names
+            if (metaData.getColumnLabel(i) != null)
+                columns.put(metaData.getColumnLabel(i).toLowerCase(Locale.ROOT), i);
+        }
+
+        List<Object[]> rows = new ArrayList<>();
+        long weight = 64 + 64L * columnCount;
+        boolean complete = true;
+        boolean remainderOnRow = false;
+
+        materialization:
+        while (true) {
+            if (rows.size() >= maxRows) {
+                complete = false;
+                break;
+            }
+            if (!resultSet.next())
+                break;
+
+            Object[] row = new Object[columnCount];
+            for (int i = 0; i < columnCount; i++) {
+                Object value = resultSet.getObject(i + 1);
+                if (!isValue(value)) { // for example, a vendor specific date/time type
+                    complete = false;
+                    remainderOnRow = true;
+                    break materialization;
+                }
+                row[i] = value;
+                weight += weightOf(value);
+            }
+            rows.add(row);
+            weight += 16 + 4 * columnCount;
+        }
+
+        return new CachedResult(metaData, columns, rows.isEmpty() ? NO_ROWS : rows.toArray(new Object[rows.size()][]),
+                complete, remainderOnRow, (int) Math.min(weight, Integer.MAX_VALUE),
+                System.nanoTime() + timeToLiveNanos);
+    }
+
+    boolean isComplete() {
+        return complete;
+    }
+
+    boolean isExpired() {
+        return System.nanoTime() - expiryNanoTime >= 0;
+    }
+
+    int weight() {
+        return weight;
+    }
+
+    /**
+     * Returns a new forward only {@code ResultSet} view over the materialized rows.
+     *
+     * @param statement the value which {@code getStatement()} of the returned ResultSet will return
+     * @param remainder the ResultSet from which the rows were materialized, if this result is not complete;
+     *                  its remaining rows are returned after the materialized ones; otherwise, {@code null}
+     */
+    ResultSet newResultSet(Statement statement, ResultSet remainder) {
+        assert complete == (remainder == null);
+        return (ResultSet) Proxy.newProxyInstance(CachedResult.class.getClassLoader(), new Class<?>[] {ResultSet.class},
+                new ReplayInvocationHandler(this, statement, remainder));
+    }
+
+    private static boolean isMaterializable(int columnType) {
+        switch (columnType) {
+            case Types.BLOB:
+            case Types.CLOB:
+            case Types.NCLOB:
+            case Types.ARRAY:
+            case Types.STRUCT:
+            case Types.REF:
+            case Types.SQLXML:
+            case Types.ROWID:
+            case Types.DATALINK:
+            case Types.DISTINCT:
+            case Types.JAVA_OBJECT:
+            case Types.OTHER:
+                return false;
+            default:
+                return true;
+        }
+    }
+
+    private static boolean isValue(Object value) {
+        return value == null || value instanceof String || value instanceof Number || value instanceof Boolean
+                || value instanceof java.util.Date || value instanceof byte[] || value instanceof Character;
+    }
+
+    private static long weightOf(Object value) {
+        if (value == null)
+            return 0;
+        if (value instanceof String)
+            return 40 + 2 * ((String) value).length();
+        if (value instanceof byte[])
+            return 16 + ((byte[]) value).length;
+        if (value instanceof BigDecimal || value instanceof BigInteger)
+            return 64;
+        return 24;
+    }
+
+    private static RowSetMetaDataImpl copyOf(ResultSetMetaData rawMetaData) throws SQLException {
+        int columnCount = rawMetaData.getColumnCount();
+        RowSetMetaDataImpl metaData = new RowSetMetaDataImpl();
+        metaData.setColumnCount(columnCount);
+        for (int i = 1; i <= columnCount; i++) {
+            metaData.setColumnName(i, rawMetaData.getColumnName(i));
+            metaData.setColumnLabel(i, rawMetaData.getColumnLabel(i));
+            metaData.setColumnType(i, rawMetaData.getColumnType(i));
+            metaData.setColumnTypeName(i, rawMetaData.getColumnTypeName(i));
+            metaData.setTableName(i, rawMetaData.getTableName(i));
+            metaData.setSchemaName(i, rawMetaData.getSchemaName(i));
+            metaData.setCatalogName(i, rawMetaData.getCatalogName(i));
+            metaData.setPrecision(i, Math.max(rawMetaData.getPrecision(i), 0));
+            metaData.setScale(i, Math.max(rawMetaData.getScale(i), 0));
+            metaData.setColumnDisplaySize(i, Math.max(rawMetaData.getColumnDisplaySize(i), 0));
+            metaData.setNullable(i, rawMetaData.isNullable(i));
+            metaData.setAutoIncrement(i, rawMetaData.isAutoIncrement(i));
+            metaData.setCaseSensitive(i, rawMetaData.isCaseSensitive(i));
+            metaData.setSearchable(i, rawMetaData.isSearchable(i));
+            metaData.setCurrency(i, rawMetaData.isCurrency(i));
+            metaData.setSigned(i, rawMetaData.isSigned(i));
+        }
+        return metaData;
+    }
+
+    /**
+     * The cursor of one {@code ResultSet} view over a {@code CachedResult}. As per the JDBC threading contract,
+     * a ResultSet is not used concurrently by more than one thread.
+     */
+    private static final class ReplayInvocationHandler implements InvocationHandler {
+
+        private final CachedResult result;
+        private final Statement statement;
+        private ResultSet remainder;
+
+        private int row = -1;
+        private boolean onRemainder = false;
+        private boolean wasNull = false;
+        private boolean closed = false;
+
+        private ReplayInvocationHandler(CachedResult result, Statement statement, ResultSet remainder) {
+            this.result = result;
+            this.statement = statement;
+            this.remainder = remainder;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws SQLException {
+            String name = method.getName();
+            switch (name) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "Vibur cached ResultSet with " + result.rows.length + " rows";
+                case "close":
+                    return processClose();
+                case "isClosed":
+                    return closed;
+                case "isWrapperFor":
+                    return false;
+                case "unwrap":
+                    throw new SQLException("Not a wrapper for " + args[0]);
+            }
+
+            if (closed)
+                throw new SQLException("ResultSet is closed.", SQLSTATE_OBJECT_CLOSED_ERROR);
+            if (onRemainder && !name.equals("getStatement") && !name.equals("getMetaData"))
+                return invokeRemainder(method, args);
+
+            Object[][] rows = result.rows;
+            switch (name) {
+                case "next":
+                    return processNext();
+                case "getRow":
+                    return row >= 0 && row < rows.length ? row + 1 : 0;
+                case "isBeforeFirst":
+                    return row < 0 && (rows.length > 0 || remainder != null);
+                case "isAfterLast":
+                    return row >= rows.length && rows.length > 0;
+                case "isFirst":
+                    return row == 0 && row < rows.length;
+                case "isLast":
+                    return row == rows.length - 1 && remainder == null;
+                case "wasNull":
+                    return wasNull;
+                case "findColumn":
+                    return findColumn((String) args[0]);
+                case "getMetaData":
+                    return result.metaData;
+                case "getStatement":
+                    return statement;
+                case "getType":
+                    return ResultSet.TYPE_FORWARD_ONLY;
+                case "getConcurrency":
+                    return ResultSet.CONCUR_READ_ONLY;
+                case "getHoldability":
+                    return ResultSet.HOLD_CURSORS_OVER_COMMIT;
+                case "getFetchDirection":
+                    return ResultSet.FETCH_FORWARD;
+                case "getFetchSize":
+                    return 0;
+                case "setFetchSize":
+                case "getWarnings":
+                case "clearWarnings":
+                    return null;
+            }
+
+            if (name.startsWith("get") && args != null && args.length >= 1)
+                return getValue(name, args);
+            throw new SQLFeatureNotSupportedException(name + " is not supported by the cached ResultSets");
+        }
+
+        private Object processClose() throws SQLException {
+            if (closed)
+                return null;
+            closed = true;
+            if (remainder != null)
+                remainder.close();
+            return null;
+        }
+
+        private boolean processNext() throws SQLException {
+            if (row < result.rows.length)
+                row++;
+            if (row < result.rows.length)
+                return true;
+            if (remainder == null)
+                return false;
+
+            onRemainder = true;
+            return result.remainderOnRow || remainder.next();
+        }
+
+        private Object invokeRemainder(Method method, Object[] args) throws SQLException {
+            try {
+                return method.invoke(remainder, args);
+            } catch (InvocationTargetException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof SQLException)
+                    throw (SQLException) cause;
+                if (cause instanceof RuntimeException)
+                    throw (RuntimeException) cause;
+                if (cause instanceof Error)
+                    throw (Error) cause;
+                throw new SQLException(cause);
+            } catch (IllegalAccessException e) {
+                throw new SQLException(e);
+            }
+        }
+
+        private int findColumn(String label) throws SQLException {
+            Integer column = result.columns.get(label.toLowerCase(Locale.ROOT));
+            if (column == null)
+                throw new SQLException("Column not found: " + label);
+            return column;
+        }
+
+        private Object getValue(String getter, Object[] args) throws SQLException {
+            if (row < 0 || row >= result.rows.length)
+                throw new SQLException("The cursor is not positioned on a row.");
+            Object[] values = result.rows[row];
+            int column = args[0] instanceof String ? findColumn((String) args[0]) : (Integer) args[0];
+            if (column < 1 || column > values.length)
+                throw new SQLException("Invalid column index: " + column);
+
+            Object value = values[column - 1];
+            wasNull = value == null;
+            if (args.length == 1)
+                return convert(getter, value);
+
+            if (getter.equals("getObject") && args[1] instanceof Class) {
+                Class<?> type = (Class<?>) args[1];
+                if (value == null || type.isInstance(value))
+                    return copyOf(value);
+                return convert(getterFor(type), value);
+            }
+            if (getter.equals("getBigDecimal") && args[1] instanceof Integer) { // getBigDecimal(column, scale)
+                BigDecimal decimal = (BigDecimal) convert(getter, value);
+                return decimal != null ? decimal.setScale((Integer) args[1], RoundingMode.HALF_UP) : null;
+            }
+            throw new SQLFeatureNotSupportedException(getter + " with " + args.length
+                    + " arguments is not supported by the cached ResultSets");
+        }
+
+        private static String getterFor(Class<?> type) throws SQLException {
+            if (type == String.class) return "getString";
+            if (type == Integer.class) return "getInt";
+            if (type == Long.class) return "getLong";
+            if (type == Short.class) return "getShort";
+            if (type == Byte.class) return "getByte";
+            if (type == Double.class) return "getDouble";
+            if (type == Float.class) return "getFloat";
+            if (type == Boolean.class) return "getBoolean";
+            if (type == BigDecimal.class) return "getBigDecimal";
+            if (type == byte[].class) return "getBytes";
+            if (type == Date.class) return "getDate";
+            if (type == Time.class) return "getTime";
+            if (type == Timestamp.class) return "getTimestamp";
+            throw new SQLFeatureNotSupportedException("Conversion to " + type.getName()
+                    + " is not supported by the cached ResultSets");
+        }
+
+        private static Object convert(String getter, Object value) throws SQLException {
+            switch (getter) {
+                case "getObject":
+                    return copyOf(value);
+                case "getString":
+                case "getNString":
+                    return value == null || value instanceof String ? value : toString(value);
+                case "getBoolean":
+                    return toBoolean(value);
+                case "getByte":
+                    return toNumber(value).byteValue();
+                case "getShort":
+                    return toNumber(value).shortValue();
+                case "getInt":
+                    return toNumber(value).intValue();
+                case "getLong":
+                    return toNumber(value).longValue();
+                case "getFloat":
+                    return toNumber(value).floatValue();
+                case "getDouble":
+                    return toNumber(value).doubleValue();
+                case "getBigDecimal":
+                    if (value == null || value instanceof BigDecimal)
+                        return value;
+                    return new BigDecimal(toNumber(value).toString());
+                case "getBytes":
+                    if (value == null || value instanceof byte[])
+                        return copyOf(value);
+                    break;
+                case "getDate":
+                    if (value == null) return null;
+                    if (value instanceof java.util.Date) return new Date(((java.util.Date) value).getTime());
+                    if (value instanceof String) return Date.valueOf(((String) value).trim());
+                    break;
+                case "getTime":
+                    if (value == null) return null;
+                    if (value instanceof java.util.Date) return new Time(((java.util.Date) value).getTime());
+                    if (value instanceof String) return Time.valueOf(((String) value).trim());
+                    break;
+                case "getTimestamp":
+                    if (value == null) return null;
+                    if (value instanceof java.util.Date) return copyOf(toTimestamp((java.util.Date) value));
+                    if (value instanceof String) return Timestamp.valueOf(((String) value).trim());
+                    break;
+                default:
+                    throw new SQLFeatureNotSupportedException(getter + " is not supported by the cached ResultSets");
+            }
+            throw cannotConvert(value, getter);
+        }
+
+        private static Object copyOf(Object value) {
+            if (value instanceof byte[])
+                return ((byte[]) value).clone();
+            if (value instanceof java.util.Date)
+                return ((java.util.Date) value).clone();
+            return value;
+        }
+
+        private static String toString(Object value) throws SQLException {
+            if (value instanceof byte[])
+                throw cannotConvert(value, "getString");
+            if (value instanceof BigDecimal)
+                return ((BigDecimal) value).toPlainString();
+            return value.toString();
+        }
+
+        private static boolean toBoolean(Object value) throws SQLException {
+            if (value == null)
+                return false;
+            if (value instanceof Boolean)
+                return (Boolean) value;
+            if (value instanceof Number)
+                return ((Number) value).doubleValue() != 0;
+            if (value instanceof String) {
+                String str = ((String) value).trim();
+                if (str.equals("1") || str.equalsIgnoreCase("true"))
+                    return true;
+                if (str.equals("0") || str.equalsIgnoreCase("false"))
+                    return false;
+            }
+            throw cannotConvert(value, "getBoolean");
+        }
+
+        private static Number toNumber(Object value) throws SQLException {
+            if (value == null)
+                return 0;
+            if (value instanceof Number)
+                return (Number) value;
+            if (value instanceof Boolean)
+                return (Boolean) value ? 1 : 0;
+            if (value instanceof String) {
+                try {
+                    return new BigDecimal(((String) value).trim());
+                } catch (NumberFormatException ignored) {
+                    // falls through
+                }
+            }
+            throw cannotConvert(value, "a numeric getter");
+        }
+
+        private static Timestamp toTimestamp(java.util.Date value) {
+            return value instanceof Timestamp ? (Timestamp) value : new Timestamp(value.getTime());
+        }
+
+        private static SQLException cannotConvert(Object value, String getter) {
+            return new SQLException("Cannot convert a value of " + value.getClass().getName() + " via " + getter);
+        }
+    }
+}
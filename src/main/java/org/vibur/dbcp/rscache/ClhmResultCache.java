@@ -0,0 +1,234 @@
+/**
+ * Copyright 2024 the vibur-dbcp contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.vibur.dbcp.rscache;
+
+import com.googlecode.concurrentlinkedhashmap.ConcurrentLinkedHashMap;
+import com.googlecode.concurrentlinkedhashmap.EntryWeigher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.vibur.dbcp.ViburConfig;
+
+import java.lang.reflect.Method;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.regex.Pattern;
+
+import static java.util.Objects.requireNonNull;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static java.util.regex.Pattern.CASE_INSENSITIVE;
+import static java.util.regex.Pattern.DOTALL;
+import static org.vibur.objectpool.util.ArgumentValidation.forbidIllegalArgument;
+
+/**
+ * Implements the client side cache of query results. The cache implementation is based on
+ * {@link ConcurrentLinkedHashMap}, which is bounded by the total approximate size in bytes of the cached results,
+ * and which evicts the least recently used results first. Each cached result expires after
+ * {@link ViburConfig#getResultCacheTimeToLiveInMs}.
+ *
+ * <p>Only the {@code executeQuery} calls for {@code SELECT} queries which match the
+ * {@link ViburConfig#getResultCacheIncludePattern include} pattern and which do not match the
+ * {@link ViburConfig#getResultCacheExcludePattern exclude} pattern are cached, and only if all query parameters
+ * are of simple value types, and only if they do not contain a row locking clause such as {@code FOR UPDATE} or
+ * {@code FOR SHARE}. The cache key is the SQL query text plus the query parameters, as captured by the Statement
+ * proxy, plus the Statement {@code maxRows}, fetch direction, ResultSet type and concurrency, and the Connection
+ * catalog and schema; the latter are obtained via the respective getters for each eligible query execution. The ResultSets returned for the cached queries are forward only, read only, replayable copies,
+ * see {@link CachedResult}; the {@code ResultSetRetrieval} hooks are not called for them when served from
+ * the cache.
+ *
+ * <p>If {@link ViburConfig#isResultCacheCoalescing} is enabled, the concurrent executions of the same eligible query
+ * with the same parameters are coalesced: while the query is in flight, i.e., executed by one thread, the other
+ * threads wait for its result and receive their own replayable copy of it, instead of executing the query on their
+ * own Connections. A waiting thread executes the query by itself if the in flight execution fails, or if its result
+ * cannot be materialized, or if {@link ViburConfig#getResultCacheCoalescingMaxWaitInMs}, or the Statement query
+ * timeout if shorter, elapses, or if the thread is interrupted. Note that a waiting thread holds its borrowed
+ * Connection, hence, the maximum wait should be kept short.
+ *
+ * <p>The cache does not observe any data changes made in the database, including the ones made via the same
+ * Connection, i.e., it must be enabled only for queries which can tolerate results which are up to the
+ * configured time to live stale.
+ *
+ * @author agent
+ */
+public class ClhmResultCache implements ResultCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(ClhmResultCache.class);
+
+    private static final int MAX_REMEMBERED_QUERIES = 4096;
+
+    /** The row locking clauses, matched as whole words separated by any whitespace; a query which contains any of
+     * them, even inside a string literal or a comment, is never cached. */
+    private static final Pattern LOCKING_CLAUSE = Pattern.compile(
+            "\\bfor\\s+(?:no\\s+key\\s+)?update\\b|\\bfor\\s+(?:key\\s+)?share\\b|\\block\\s+in\\s+share\\s+mode\\b",
+            CASE_INSENSITIVE);
+
+    private final ConcurrentMap<ResultCacheKey, CachedResult> resultCache;
+    private final ConcurrentMap<String, Boolean> cacheableQueries = new ConcurrentHashMap<>();
+    private final ConcurrentMap<ResultCacheKey, Flight> inFlight; // "null" if the coalescing is disabled
+
+    private final long maxBytes;
+    private final long timeToLiveNanos;
+    private final long coalescingMaxWaitNanos;
+    private final int maxRows;
+    private final Pattern includePattern;
+    private final Pattern excludePattern;
+
+    public ClhmResultCache(ViburConfig config) {
+        this.maxBytes = config.getResultCacheMaxBytes();
+        this.timeToLiveNanos = MILLISECONDS.toNanos(config.getResultCacheTimeToLiveInMs());
+        this.maxRows = config.getResultCacheMaxRows();
+        this.coalescingMaxWaitNanos = MILLISECONDS.toNanos(config.getResultCacheCoalescingMaxWaitInMs());
+        forbidIllegalArgument(maxBytes <= 0);
+        forbidIllegalArgument(timeToLiveNanos <= 0);
+        forbidIllegalArgument(maxRows <= 0);
+        forbidIllegalArgument(coalescingMaxWaitNanos <= 0);
+
+        this.includePattern = compile(config.getResultCacheIncludePattern());
+        this.excludePattern = compile(config.getResultCacheExcludePattern());
+        this.inFlight = config.isResultCacheCoalescing() ? new ConcurrentHashMap<ResultCacheKey, Flight>() : null;
+
+        resultCache = requireNonNull(buildResultCache(maxBytes));
+    }
+
+    private static Pattern compile(String regex) {
+        return regex != null ? Pattern.compile(regex, CASE_INSENSITIVE | DOTALL) : null;
+    }
+
+    private static ConcurrentMap<ResultCacheKey, CachedResult> buildResultCache(long maxBytes) {
+        return new ConcurrentLinkedHashMap.Builder<ResultCacheKey, CachedResult>()
+                .maximumWeightedCapacity(maxBytes)
+                .weigher(new EntryWeigher<ResultCacheKey, CachedResult>() {
+                    @Override
+                    public int weightOf(ResultCacheKey key, CachedResult value) {
+                        return value.weight();
+                    }
+                })
+                .build();
+    }
+
+    @Override
+    public Object on(Statement proxy, Method method, Object[] args, String sqlQuery, List<Object[]> sqlQueryParams,
+                     StatementProceedingPoint proceed) throws SQLException {
+
+        if (!method.getName().equals("executeQuery") || sqlQuery == null || !isCacheable(sqlQuery)
+                || (sqlQueryParams == null && proxy instanceof PreparedStatement)) // the parameters are not captured
+            return proceed.on(proxy, method, args, sqlQuery, sqlQueryParams, proceed);
+
+        ResultCacheKey key = ResultCacheKey.of(sqlQuery, sqlQueryParams, proxy);
+        if (key == null)
+            return proceed.on(proxy, method, args, sqlQuery, sqlQueryParams, proceed);
+
+        CachedResult result = resultCache.get(key);
+        if (result != null) {
+            if (!result.isExpired())
+                return result.newResultSet(proxy, null);
+            resultCache.remove(key, result);
+        }
+
+        if (inFlight == null)
+            return executeQuery(key, null, proxy, method, args, sqlQueryParams, proceed);
+
+        Flight flight = new Flight();
+        Flight leader = inFlight.putIfAbsent(key, flight);
+        if (leader != null) {
+            long queryTimeoutNanos = SECONDS.toNanos(proxy.getQueryTimeout());
+            result = leader.awaitResult(queryTimeoutNanos > 0 ? Math.min(queryTimeoutNanos, coalescingMaxWaitNanos)
+                    : coalescingMaxWaitNanos); // the waiting thread holds its Connection
+            if (result != null)
+                return result.newResultSet(proxy, null);
+            return executeQuery(key, null, proxy, method, args, sqlQueryParams, proceed);
+        }
+
+        try {
+            return executeQuery(key, flight, proxy, method, args, sqlQueryParams, proceed);
+        } finally {
+            inFlight.remove(key, flight);
+            flight.done.countDown();
+        }
+    }
+
+    private Object executeQuery(ResultCacheKey key, Flight flight, Statement proxy, Method method, Object[] args,
+                                List<Object[]> sqlQueryParams, StatementProceedingPoint proceed) throws SQLException {
+
+        ResultSet resultSet = (ResultSet) proceed.on(proxy, method, args, key.sqlQuery(), sqlQueryParams, proceed);
+        CachedResult result = CachedResult.materialize(resultSet, maxRows, timeToLiveNanos);
+        if (result == null)
+            return resultSet;
+        if (!result.isComplete())
+            return result.newResultSet(proxy, resultSet);
+
+        resultSet.close();
+        if (flight != null)
+            flight.result = result; // given to the waiting threads even if too large to be cached
+        if (result.weight() <= maxBytes) {
+            resultCache.put(key, result);
+            if (logger.isTraceEnabled())
+                logger.trace("Cached the result of {}, weight {}", key, result.weight());
+        }
+        return result.newResultSet(proxy, null);
+    }
+
+    private boolean isCacheable(String sqlQuery) {
+        Boolean cacheable = cacheableQueries.get(sqlQuery);
+        if (cacheable == null) {
+            String trimmed = sqlQuery.trim();
+            cacheable = trimmed.regionMatches(true, 0, "select", 0, 6)
+                    && !LOCKING_CLAUSE.matcher(trimmed).find()
+                    && (includePattern == null || includePattern.matcher(sqlQuery).find())
+                    && (excludePattern == null || !excludePattern.matcher(sqlQuery).find());
+            if (cacheableQueries.size() < MAX_REMEMBERED_QUERIES)
+                cacheableQueries.put(sqlQuery, cacheable);
+        }
+        return cacheable;
+    }
+
+    /**
+     * An in flight execution of a query, on which the concurrent executions of the same query wait.
+     */
+    private static final class Flight {
+        private final CountDownLatch done = new CountDownLatch(1);
+        private volatile CachedResult result = null; // stays "null" if the execution fails
+
+        private CachedResult awaitResult(long timeoutNanos) {
+            try {
+                if (!done.await(timeoutNanos, NANOSECONDS))
+                    return null;
+                return result;
+            } catch (InterruptedException ignored) {
+                Thread.currentThread().interrupt();
+                return null;
+            }
+        }
+    }
+
+    @Override
+    public void invalidateAll() {
+        resultCache.clear();
+    }
+
+    @Override
+    public int size() {
+        return resultCache.size();
+    }
+}
@@ -0,0 +1,42 @@
+/**
+ * Copyright 2024 the vibur-dbcp contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.vibur.dbcp.rscache;
+
+import org.vibur.dbcp.pool.Hook;
+
+/**
+ * Defines the operations of the client side cache of query results. The cache is a {@code StatementExecution}
+ * hook which intercepts the {@code executeQuery} calls for the eligible SQL queries, and which returns a replayable
+ * copy of a previously retrieved and materialized {@code ResultSet} for the same SQL query and the same query
+ * parameters, without any call to the database.
+ *
+ * @see ClhmResultCache
+ *
+ * @author agent
+ */
+public interface ResultCache extends Hook.StatementExecution {
+
+    /**
+     * Removes all cached results.
+     */
+    void invalidateAll();
+
+    /**
+     * Returns the number of the currently cached results, including the expired ones which are not removed yet.
+     */
+    int size();
+}
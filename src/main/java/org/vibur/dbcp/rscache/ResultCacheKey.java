@@ -0,0 +1,129 @@
+/**
+ * Copyright 2024 the vibur-dbcp contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.vibur.dbcp.rscache;
+
+import org.vibur.dbcp.proxy.ConnectionInvocationHandler;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+
+import static org.vibur.dbcp.proxy.Proxy.getConnectionInvocationHandler;
+
+/**
+ * The key of a cached query result: the SQL query text plus an immutable copy of its captured parameters, plus
+ * the Statement and Connection attributes which affect the query result: the Statement {@code maxRows}, fetch
+ * direction, ResultSet type and concurrency, and the Connection catalog and schema. The catalog and schema are not
+ * queried from the driver for each key, see {@link ConnectionInvocationHandler#getCatalogAndSchema}.
+ *
+ * @author agent
+ */
+final class ResultCacheKey {
+
+    private static final Object NOT_A_VALUE = new Object();
+
+    private final String sqlQuery;
+    private final Object[][] sqlQueryParams;
+    private final Object[] attributes;
+    private final int hashCode;
+
+    private ResultCacheKey(String sqlQuery, Object[][] sqlQueryParams, Object[] attributes) {
+        this.sqlQuery = sqlQuery;
+        this.sqlQueryParams = sqlQueryParams;
+        this.attributes = attributes;
+        this.hashCode = 31 * (31 * sqlQuery.hashCode() + Arrays.deepHashCode(sqlQueryParams))
+                + Arrays.hashCode(attributes);
+    }
+
+    /**
+     * Creates a new key for the given SQL query and parameters executed via the given Statement, or returns
+     * {@code null} if any of the parameters values is not of a simple value type which can be safely retained and
+     * compared, such as a stream or a LOB.
+     *
+     * @throws SQLException if getting any of the Statement or Connection attributes throws such
+     */
+    static ResultCacheKey of(String sqlQuery, List<Object[]> sqlQueryParams, Statement statement)
+            throws SQLException {
+        int size = sqlQueryParams != null ? sqlQueryParams.size() : 0;
+        Object[][] params = new Object[size][];
+        for (int i = 0; i < size; i++) {
+            Object[] param = sqlQueryParams.get(i).clone();
+            for (int j = 1; j < param.length; j++) { // param[0] is the "set..." method name
+                param[j] = copyOf(param[j]);
+                if (param[j] == NOT_A_VALUE)
+                    return null;
+            }
+            params[i] = param;
+        }
+
+        Connection connection = statement.getConnection();
+        ConnectionInvocationHandler connHandler = getConnectionInvocationHandler(connection);
+        String[] catalogAndSchema = connHandler != null ? connHandler.getCatalogAndSchema()
+                : new String[] {connection.getCatalog(), connection.getSchema()};
+        Object[] attributes = {
+                statement.getMaxRows(), statement.getFetchDirection(),
+                statement.getResultSetType(), statement.getResultSetConcurrency(),
+                catalogAndSchema[0], catalogAndSchema[1]
+        };
+        return new ResultCacheKey(sqlQuery, params, attributes);
+    }
+
+    private static Object copyOf(Object value) {
+        if (value == null || value instanceof String || value instanceof Boolean || value instanceof Character
+                || value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte
+                || value instanceof Double || value instanceof Float
+                || value instanceof BigDecimal || value instanceof BigInteger)
+            return value;
+        if (value instanceof byte[])
+            return ((byte[]) value).clone();
+        if (value instanceof Date)
+            return ((Date) value).clone();
+        return NOT_A_VALUE;
+    }
+
+    String sqlQuery() {
+        return sqlQuery;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        ResultCacheKey that = (ResultCacheKey) o;
+        return hashCode == that.hashCode
+                && sqlQuery.equals(that.sqlQuery)
+                && Arrays.deepEquals(sqlQueryParams, that.sqlQueryParams)
+                && Arrays.equals(attributes, that.attributes);
+    }
+
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
+
+    @Override
+    public String toString() {
+        return "sqlQuery " + sqlQuery + ", params " + Arrays.deepToString(sqlQueryParams)
+                + ", attributes " + Arrays.toString(attributes);
+    }
+}
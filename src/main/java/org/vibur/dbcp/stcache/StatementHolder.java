@@ -46,6 +46,10 @@ public class StatementHolder {
 
     private String sqlQuery;
 
+    // used when ViburConfig.isTuneFetchSize() is enabled; accessed only by the thread which uses the Statement
+    private boolean fetchSizeSet = false; // true if the application has called setFetchSize() on the Statement
+    private int tunedFetchSize = 0; // the fetch size last set on the Statement by the pool, 0 if none
+
     public StatementHolder(Statement value, AtomicReference<State> state, String sqlQuery) {
         assert value != null;
         this.value = value;
@@ -68,4 +72,20 @@ public class StatementHolder {
     public void setSqlQuery(String sqlQuery) {
         this.sqlQuery = sqlQuery;
     }
+
+    public boolean isFetchSizeSet() {
+        return fetchSizeSet;
+    }
+
+    public void setFetchSizeSet(boolean fetchSizeSet) {
+        this.fetchSizeSet = fetchSizeSet;
+    }
+
+    public int getTunedFetchSize() {
+        return tunedFetchSize;
+    }
+
+    public void setTunedFetchSize(int tunedFetchSize) {
+        this.tunedFetchSize = tunedFetchSize;
+    }
 }
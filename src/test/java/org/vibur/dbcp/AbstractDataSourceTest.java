@@ -22,10 +22,19 @@ import org.junit.BeforeClass;
 import org.vibur.dbcp.util.HsqldbUtils;
 import org.vibur.dbcp.util.SimpleDataSource;
 
+import javax.sql.DataSource;
 import java.io.FileInputStream;
 import java.io.IOException;
+import java.sql.Connection;
+import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.Properties;
+import java.util.Set;
+
+import static org.junit.Assert.assertTrue;
 
 /**
  * Abstract JDBC integration super test.
@@ -153,4 +162,23 @@ public abstract class AbstractDataSourceTest {
 
         return dataSource;
     }
+
+    protected static void doTestSelectStatement(DataSource ds) throws SQLException {
+        try (Connection connection = ds.getConnection()) {
+            executeAndVerifySelectStatement(connection);
+        }
+    }
+
+    protected static void executeAndVerifySelectStatement(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("select * from actor where first_name = 'CHRISTIAN'")) {
+
+            Set<String> expectedLastNames = new HashSet<>(Arrays.asList("GABLE", "AKROYD", "NEESON"));
+            while (resultSet.next()) {
+                String lastName = resultSet.getString("last_name");
+                assertTrue(expectedLastNames.remove(lastName));
+            }
+            assertTrue(expectedLastNames.isEmpty());
+        }
+    }
 }
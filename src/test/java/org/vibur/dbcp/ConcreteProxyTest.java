@@ -0,0 +1,175 @@
+/**
+ * Copyright 2024 the vibur-dbcp contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.vibur.dbcp;
+
+import org.junit.Test;
+import org.vibur.dbcp.pool.Hook;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.sql.*;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import static java.lang.reflect.Proxy.isProxyClass;
+import static org.junit.Assert.*;
+import static org.vibur.dbcp.ViburConfig.SQLSTATE_OBJECT_CLOSED_ERROR;
+
+/**
+ * @author agent
+ */
+public class ConcreteProxyTest extends AbstractDataSourceTest {
+
+    @Test
+    public void testConcreteProxiesSameParents() throws SQLException {
+        ViburDBCPDataSource ds = createDataSourceWithConcreteProxies();
+        try (Connection connection = ds.getConnection();
+             Statement statement = connection.createStatement();
+             PreparedStatement pStatement = connection.prepareStatement("select * from actor where first_name = ?");
+             CallableStatement cStatement = connection.prepareCall("select count(*) from actor")) {
+
+            assertFalse(isProxyClass(connection.getClass()));
+            assertFalse(isProxyClass(statement.getClass()));
+            assertFalse(isProxyClass(pStatement.getClass()));
+            assertFalse(isProxyClass(cStatement.getClass()));
+
+            assertSame(connection, statement.getConnection());
+            assertSame(connection, pStatement.getConnection());
+            assertSame(connection, cStatement.getConnection());
+            DatabaseMetaData metaData = connection.getMetaData();
+            assertSame(connection, metaData.getConnection());
+
+            pStatement.setString(1, "CHRISTIAN");
+            try (ResultSet resultSet = pStatement.executeQuery()) {
+                assertSame(pStatement, resultSet.getStatement());
+                int count = 0;
+                while (resultSet.next()) {
+                    assertEquals("CHRISTIAN", resultSet.getString("first_name"));
+                    count++;
+                }
+                assertEquals(3, count);
+            }
+        }
+    }
+
+    @Test
+    public void testConcreteProxiesClosedObjects() throws SQLException {
+        ViburDBCPDataSource ds = createDataSourceWithConcreteProxies();
+        Connection connection = ds.getConnection();
+        Statement statement = connection.createStatement();
+        statement.close();
+
+        assertTrue(statement.isClosed());
+        try {
+            statement.getFetchSize();
+            fail("SQLException expected");
+        } catch (SQLException e) {
+            assertEquals(SQLSTATE_OBJECT_CLOSED_ERROR, e.getSQLState());
+        }
+
+        connection.close();
+        assertTrue(connection.isClosed());
+        try {
+            connection.getAutoCommit();
+            fail("SQLException expected");
+        } catch (SQLException e) {
+            assertEquals(SQLSTATE_OBJECT_CLOSED_ERROR, e.getSQLState());
+        }
+        assertEquals(POOL_INITIAL_SIZE, ds.getPool().remainingCreated());
+    }
+
+    @Test
+    public void testConcreteProxiesInterceptAllMethods() throws Exception {
+        final boolean[] intercepting = {false};
+        final Object[] intercepted = new Object[2]; // the proxy and the Method passed to the MethodInvocation hook
+        ViburDBCPDataSource ds = createDataSourceNotStarted();
+        ds.setUseConcreteProxies(true);
+        ds.getInvocationHooks().addOnMethodInvocation(new Hook.MethodInvocation() {
+            @Override
+            public void on(Object proxy, Method method, Object[] args) throws SQLException {
+                if (intercepting[0]) {
+                    intercepted[0] = proxy;
+                    intercepted[1] = method;
+                    throw new SQLException("intercepted"); // the method is not called on the raw JDBC object
+                }
+            }
+        });
+        ds.start();
+
+        try (Connection connection = ds.getConnection();
+             Statement statement = connection.createStatement();
+             PreparedStatement pStatement = connection.prepareStatement("select * from actor where first_name = ?");
+             CallableStatement cStatement = connection.prepareCall("select count(*) from actor");
+             ResultSet resultSet = statement.executeQuery("select * from actor")) {
+            DatabaseMetaData metaData = connection.getMetaData();
+
+            intercepting[0] = true;
+            assertAllMethodsIntercepted(connection, Connection.class, intercepted);
+            assertAllMethodsIntercepted(statement, Statement.class, intercepted);
+            assertAllMethodsIntercepted(pStatement, PreparedStatement.class, intercepted);
+            assertAllMethodsIntercepted(cStatement, CallableStatement.class, intercepted);
+            assertAllMethodsIntercepted(resultSet, ResultSet.class, intercepted);
+            assertAllMethodsIntercepted(metaData, DatabaseMetaData.class, intercepted);
+            intercepting[0] = false;
+        }
+    }
+
+    /**
+     * Invokes each method of the given JDBC interface on the given concrete proxy, and checks that the proxy
+     * implements the method itself, and passes it through the restricted access entry of its invocation handler
+     * with the correct {@code Method} object. The unrestricted methods, such as {@code close()}, are skipped.
+     */
+    private static void assertAllMethodsIntercepted(Object proxy, Class<?> iface, Object[] intercepted)
+            throws IllegalAccessException {
+        for (Method method : iface.getMethods()) {
+            if (unrestrictedMethods.contains(method.getName()))
+                continue;
+            intercepted[0] = intercepted[1] = null;
+            try {
+                method.invoke(proxy, defaultArgs(method.getParameterTypes()));
+                fail(method + " was not intercepted");
+            } catch (InvocationTargetException ignored) { // thrown by the MethodInvocation hook
+            }
+
+            assertSame(method.toString(), proxy, intercepted[0]);
+            Method passed = (Method) intercepted[1];
+            assertEquals(method.toString(), method.getName(), passed.getName());
+            assertArrayEquals(method.toString(), method.getParameterTypes(), passed.getParameterTypes());
+        }
+    }
+
+    private static final Set<String> unrestrictedMethods = new HashSet<>(Arrays.asList(
+            "close", "isClosed", "isValid", "abort", "unwrap", "isWrapperFor"));
+
+    private static Object[] defaultArgs(Class<?>[] parameterTypes) {
+        Object[] args = new Object[parameterTypes.length];
+        for (int i = 0; i < args.length; i++) {
+            if (parameterTypes[i].isPrimitive()) // the default value of the primitive type
+                args[i] = Array.get(Array.newInstance(parameterTypes[i], 1), 0);
+        }
+        return args;
+    }
+
+    private ViburDBCPDataSource createDataSourceWithConcreteProxies() throws ViburDBCPException {
+        ViburDBCPDataSource ds = createDataSourceNotStarted();
+        ds.setUseConcreteProxies(true);
+        ds.start();
+        return ds;
+    }
+}
@@ -21,7 +21,8 @@ import org.junit.Test;
 import javax.sql.DataSource;
 import java.sql.*;
 
-import static org.junit.Assert.assertSame;
+import static org.junit.Assert.*;
+import static org.vibur.dbcp.ViburConfig.SQLSTATE_OBJECT_CLOSED_ERROR;
 
 /**
  * @author Simeon Malchev
@@ -43,4 +44,52 @@ public class ConnectionProxyTest extends AbstractDataSourceTest {
             assertSame(connection, metaData.getConnection());
         }
     }
+
+    @Test
+    public void testRecycledConnectionProxy() throws SQLException {
+        ViburDBCPDataSource ds = createDataSourceNotStarted();
+        ds.setPoolInitialSize(1);
+        ds.setPoolMaxSize(1);
+        ds.setRecycleConnectionProxies(true);
+        ds.start();
+
+        Connection connection = ds.getConnection();
+        Statement statement = connection.createStatement();
+        connection.close();
+
+        assertTrue(connection.isClosed());
+        try {
+            connection.getAutoCommit();
+            fail("SQLException expected");
+        } catch (SQLException e) {
+            assertEquals(SQLSTATE_OBJECT_CLOSED_ERROR, e.getSQLState());
+        }
+
+        try (Connection connection2 = ds.getConnection()) {
+            assertNotSame(connection, connection2); // a new lease of the same connection
+            assertFalse(connection2.isClosed());
+
+            assertTrue(connection.isClosed()); // the proxy from the previous lease remains closed
+            try {
+                connection.createStatement();
+                fail("SQLException expected");
+            } catch (SQLException e) {
+                assertEquals(SQLSTATE_OBJECT_CLOSED_ERROR, e.getSQLState());
+            }
+            connection.close(); // does not close the current lease
+            assertFalse(connection2.isClosed());
+
+            assertTrue(statement.isClosed()); // derived from the previous lease
+            try {
+                statement.executeQuery("select count(*) from actor");
+                fail("SQLException expected");
+            } catch (SQLException e) {
+                assertEquals(SQLSTATE_OBJECT_CLOSED_ERROR, e.getSQLState());
+            }
+
+            try (Statement statement2 = connection2.createStatement()) {
+                assertSame(connection2, statement2.getConnection());
+            }
+        }
+    }
 }
@@ -21,14 +21,20 @@ import org.vibur.dbcp.pool.Hook;
 
 import java.lang.reflect.Method;
 import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.List;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.vibur.dbcp.ViburConfig.QUERY_PARAMS_FULL;
+import static org.vibur.dbcp.ViburConfig.QUERY_PARAMS_TRUNCATE;
+import static org.vibur.dbcp.ViburConfig.QUERY_PARAMS_TYPES;
 
 /**
  * @author Simeon Malchev
@@ -78,4 +84,140 @@ public class StatementHookTest extends AbstractDataSourceTest {
         assertEquals("dd", executionOrder.get(2));
         assertEquals("bb", executionOrder.get(3));
     }
+
+    @Test
+    public void testQueryParamsCaptureFull() throws SQLException {
+        List<Object[]> params = executeWithQueryParamsCapture(QUERY_PARAMS_FULL);
+        assertEquals(1, params.size()); // the repeated setString call for the same parameter overwrites the first one
+        assertArrayEquals(new Object[] {"setString", 1, "CHRISTIAN"}, params.get(0));
+    }
+
+    @Test
+    public void testQueryParamsCaptureTruncate() throws SQLException {
+        List<Object[]> params = executeWithQueryParamsCapture(QUERY_PARAMS_TRUNCATE);
+        assertEquals(1, params.size());
+        assertArrayEquals(new Object[] {"setString", 1, "CHR..."}, params.get(0));
+    }
+
+    @Test
+    public void testQueryParamsCaptureTypes() throws SQLException {
+        List<Object[]> params = executeWithQueryParamsCapture(QUERY_PARAMS_TYPES);
+        assertEquals(1, params.size());
+        assertArrayEquals(new Object[] {"setString", 1, String.class.getName()}, params.get(0));
+    }
+
+    @Test
+    public void testQueryParamsNotCapturedWhenRejected() throws SQLException {
+        final List<Object[]> capturedParams = new ArrayList<>();
+
+        ViburDBCPDataSource ds = createDataSourceNotStarted();
+        ds.getInvocationHooks().addOnStatementExecution(new Hook.StatementExecution() {
+            @Override
+            public Object on(Statement proxy, Method method, Object[] args, String sqlQuery, List<Object[]> sqlQueryParams,
+                             StatementProceedingPoint proceed) throws SQLException {
+                capturedParams.addAll(sqlQueryParams);
+                return proceed.on(proxy, method, args, sqlQuery, sqlQueryParams, proceed);
+            }
+        });
+        ds.start();
+
+        try (Connection connection = ds.getConnection();
+             PreparedStatement pStatement = connection.prepareStatement("select * from actor where first_name = ?")) {
+
+            try {
+                pStatement.setString(Integer.MAX_VALUE, "JOHNNY"); // rejected by the driver
+                fail("SQLException expected");
+            } catch (SQLException ignored) {
+            }
+            pStatement.setString(1, "CHRISTIAN");
+            try (ResultSet resultSet = pStatement.executeQuery()) {
+                assertTrue(resultSet.next());
+            }
+        }
+        assertEquals(1, capturedParams.size());
+        assertArrayEquals(new Object[] {"setString", 1, "CHRISTIAN"}, capturedParams.get(0));
+    }
+
+    private List<Object[]> executeWithQueryParamsCapture(String queryParametersCapture) throws SQLException {
+        final List<Object[]> capturedParams = new ArrayList<>();
+
+        ViburDBCPDataSource ds = createDataSourceNotStarted();
+        ds.setQueryParametersCapture(queryParametersCapture);
+        ds.setQueryParametersTruncateLength(3);
+        ds.getInvocationHooks().addOnStatementExecution(new Hook.StatementExecution() {
+            @Override
+            public Object on(Statement proxy, Method method, Object[] args, String sqlQuery, List<Object[]> sqlQueryParams,
+                             StatementProceedingPoint proceed) throws SQLException {
+                capturedParams.addAll(sqlQueryParams); // copies the params as the list is reused by the Statement
+                return proceed.on(proxy, method, args, sqlQuery, sqlQueryParams, proceed);
+            }
+        });
+        ds.start();
+
+        try (Connection connection = ds.getConnection();
+             PreparedStatement pStatement = connection.prepareStatement("select * from actor where first_name = ?")) {
+
+            pStatement.setString(1, "JOHNNY");
+            pStatement.setString(1, "CHRISTIAN");
+            try (ResultSet resultSet = pStatement.executeQuery()) {
+                assertTrue(resultSet.next());
+            }
+        }
+        return capturedParams;
+    }
+
+    @Test
+    public void testFetchSizeTuning() throws SQLException {
+        ViburDBCPDataSource ds = createDataSourceNotStarted();
+        ds.setStatementCacheMaxSize(1);
+        ds.setTuneFetchSize(true);
+        ds.start();
+
+        String sql = "select * from actor where first_name = ?";
+        try (Connection connection = ds.getConnection()) {
+            assertEquals(0, executeAndGetFetchSize(connection, sql)); // nothing is learned yet
+            assertEquals(4, executeAndGetFetchSize(connection, sql)); // 3 rows were retrieved the last time
+
+            try (PreparedStatement pStatement = connection.prepareStatement(sql)) {
+                assertEquals(4, pStatement.getFetchSize()); // the cached PreparedStatement keeps the tuned fetch size
+
+                pStatement.setFetchSize(50); // explicitly set by the application, not overridden
+                pStatement.setString(1, "CHRISTIAN");
+                try (ResultSet resultSet = pStatement.executeQuery()) {
+                    assertEquals(50, pStatement.getFetchSize());
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testFetchSizeTuningEvictsLeastRecentlyUsedQueries() throws SQLException {
+        ViburDBCPDataSource ds = createDataSourceNotStarted();
+        ds.setTuneFetchSize(true);
+        ds.setTunedFetchSizeMaxQueries(1);
+        ds.start();
+
+        String sql1 = "select * from actor where first_name = ?";
+        String sql2 = "select * from actor where first_name = ? order by actor_id";
+        try (Connection connection = ds.getConnection()) {
+            executeAndGetFetchSize(connection, sql1);
+            assertEquals(4, executeAndGetFetchSize(connection, sql1));
+
+            executeAndGetFetchSize(connection, sql2); // evicts sql1
+            assertEquals(4, executeAndGetFetchSize(connection, sql2));
+            assertEquals(0, executeAndGetFetchSize(connection, sql1)); // forgotten, and evicts sql2
+        }
+    }
+
+    private int executeAndGetFetchSize(Connection connection, String sql) throws SQLException {
+        try (PreparedStatement pStatement = connection.prepareStatement(sql)) {
+            pStatement.setString(1, "CHRISTIAN");
+            try (ResultSet resultSet = pStatement.executeQuery()) {
+                int fetchSize = pStatement.getFetchSize();
+                while (resultSet.next())
+                    assertEquals("CHRISTIAN", resultSet.getString("first_name"));
+                return fetchSize;
+            }
+        }
+    }
 }
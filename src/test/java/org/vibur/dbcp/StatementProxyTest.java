@@ -17,14 +17,23 @@
 package org.vibur.dbcp;
 
 import org.junit.Test;
+import org.vibur.dbcp.pool.Hook;
+import org.vibur.dbcp.proxy.ConnectionInvocationHandler;
 
 import javax.sql.DataSource;
+import java.lang.reflect.Method;
 import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
 
-import static org.junit.Assert.assertSame;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.Assert.*;
+import static org.vibur.dbcp.proxy.Proxy.getConnectionInvocationHandler;
 
 /**
  * @author Simeon Malchev
@@ -41,4 +50,250 @@ public class StatementProxyTest extends AbstractDataSourceTest {
             assertSame(statement, resultSet.getStatement());
         }
     }
+
+    @Test
+    public void testThinProxiesDoNotExposeRawParents() throws SQLException {
+        ViburDBCPDataSource ds = createDataSourceNotStarted();
+        ds.setThinProxies(true);
+        ds.setLogLargeResultSet(-1); // no ResultSetRetrieval hooks
+        ds.start();
+        try (Connection connection = ds.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("select * from actor where first_name = 'CHRISTIAN'")) {
+
+            assertSame(connection, statement.getConnection());
+            assertSame(statement, resultSet.getStatement());
+            assertSame(connection, connection.getMetaData().getConnection());
+        }
+    }
+
+    @Test
+    public void testThinProxiesWithResultSetRetrievalHook() throws SQLException {
+        ViburDBCPDataSource ds = createDataSourceNotStarted();
+        ds.setThinProxies(true);
+        ds.setLogLargeResultSet(2);
+        ds.start();
+        try (Connection connection = ds.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("select * from actor where first_name = 'CHRISTIAN'")) {
+
+            assertSame(statement, resultSet.getStatement());
+        }
+    }
+
+    @Test
+    public void testAutoBatchedUpdates() throws SQLException {
+        ViburDBCPDataSource ds = createDataSourceNotStarted();
+        ds.setAutoBatchSize(3);
+        ds.start();
+        try (Connection connection = ds.getConnection()) {
+            connection.setAutoCommit(false);
+            try (PreparedStatement pStatement = connection.prepareStatement(
+                    "update actor set last_name = ? where actor_id = ?")) {
+
+                for (int actorId = 1; actorId <= 4; actorId++) {
+                    pStatement.setString(1, "BATCHED");
+                    pStatement.setInt(2, actorId);
+                    assertEquals(Statement.SUCCESS_NO_INFO, pStatement.executeUpdate()); // deferred
+                }
+                // the first 3 updates were sent as a batch, the 4th one is sent before the query
+                assertEquals(4, countActorsByLastName(connection, "BATCHED"));
+
+                for (int actorId = 5; actorId <= 6; actorId++) {
+                    pStatement.setString(1, "BATCHED");
+                    pStatement.setInt(2, actorId);
+                    assertEquals(Statement.SUCCESS_NO_INFO, pStatement.executeUpdate()); // deferred
+                }
+                // an explicit executeBatch() sends the pending rows and returns their update counts
+                assertArrayEquals(new int[] {1, 1}, pStatement.executeBatch());
+                assertEquals(6, countActorsByLastName(connection, "BATCHED"));
+
+                pStatement.setString(1, "DISCARDED");
+                pStatement.setInt(2, 7);
+                assertEquals(Statement.SUCCESS_NO_INFO, pStatement.executeUpdate()); // deferred
+                connection.rollback();
+            }
+            assertEquals(0, countActorsByLastName(connection, "BATCHED"));
+            assertEquals(0, countActorsByLastName(connection, "DISCARDED"));
+        }
+    }
+
+    @Test
+    public void testResultCache() throws SQLException {
+        ViburDBCPDataSource ds = createDataSourceNotStarted();
+        ds.setResultCacheMaxBytes(1024 * 1024);
+        ds.setResultCacheIncludePattern("from actor where first_name");
+        ds.start();
+
+        String sql = "select first_name, last_name from actor where first_name = ?";
+        try (Connection connection = ds.getConnection()) {
+            connection.setAutoCommit(false);
+            String lastName = firstLastName(connection, sql, "CHRISTIAN");
+            assertEquals(1, ds.getResultCache().size());
+
+            try (Statement statement = connection.createStatement()) {
+                statement.executeUpdate("update actor set last_name = 'CHANGED' where first_name = 'CHRISTIAN'");
+            }
+            // served from the cache, i.e., the change is not visible
+            assertEquals(lastName, firstLastName(connection, sql, "CHRISTIAN"));
+            assertEquals(1, ds.getResultCache().size());
+
+            ds.getResultCache().invalidateAll();
+            assertEquals("CHANGED", firstLastName(connection, sql, "CHRISTIAN"));
+            connection.rollback();
+
+            firstLastName(connection, sql, "JOHNNY"); // different query parameters
+            assertEquals(2, ds.getResultCache().size());
+
+            try (PreparedStatement pStatement = connection.prepareStatement(sql)) {
+                pStatement.setMaxRows(1); // a different Statement attribute
+                pStatement.setString(1, "JOHNNY");
+                pStatement.executeQuery().close();
+            }
+            assertEquals(3, ds.getResultCache().size());
+
+            firstLastName(connection, sql + " for\n  update", "JOHNNY"); // a row locking query
+            assertEquals(3, ds.getResultCache().size());
+        }
+    }
+
+    @Test
+    public void testResultCacheCatalogAndSchema() throws SQLException {
+        for (boolean concreteProxies : new boolean[] {false, true}) {
+            ViburDBCPDataSource ds = createDataSourceNotStarted();
+            ds.setUseConcreteProxies(concreteProxies);
+            ds.start();
+
+            try (Connection connection = ds.getConnection()) {
+                ConnectionInvocationHandler handler = getConnectionInvocationHandler(connection);
+                String[] catalogAndSchema = handler.getCatalogAndSchema();
+                assertEquals(connection.getSchema(), catalogAndSchema[1]);
+                assertSame(catalogAndSchema, handler.getCatalogAndSchema()); // not queried again
+
+                connection.setSchema("INFORMATION_SCHEMA");
+                assertEquals("INFORMATION_SCHEMA", handler.getCatalogAndSchema()[1]);
+            }
+            ds.terminate();
+        }
+    }
+
+    @Test
+    public void testResultCacheCoalescing() throws Exception {
+        String[] lastNames = new String[2];
+        assertEquals(1, executeConcurrently(5000, 0, 1, lastNames));
+        assertNotNull(lastNames[0]);
+        assertEquals(lastNames[0], lastNames[1]);
+    }
+
+    @Test
+    public void testResultCacheCoalescingMaxWait() throws Exception {
+        String[] lastNames = new String[2];
+        // the waiting thread gives up waiting for the in flight query and executes it by itself
+        assertEquals(2, executeConcurrently(100, 0, 2, lastNames));
+        assertNotNull(lastNames[0]);
+        assertEquals(lastNames[0], lastNames[1]);
+    }
+
+    @Test
+    public void testResultCacheCoalescingQueryTimeout() throws Exception {
+        String[] lastNames = new String[2];
+        // the waiting thread waits for at most the (shorter) query timeout, as it holds its Connection meanwhile
+        assertEquals(2, executeConcurrently(60_000, 1, 2, lastNames));
+        assertNotNull(lastNames[0]);
+        assertEquals(lastNames[0], lastNames[1]);
+    }
+
+    /**
+     * Executes the same query from 2 threads while the first execution is held in flight until the given number
+     * of real executions has started, and returns the number of the real executions.
+     */
+    private int executeConcurrently(long coalescingMaxWaitInMs, final int queryTimeout, int expectedExecutions,
+                                    final String[] lastNames) throws Exception {
+        final ViburDBCPDataSource ds = createDataSourceNotStarted();
+        ds.setResultCacheMaxBytes(1); // nothing fits in the cache, i.e., only the coalescing can prevent an execution
+        ds.setResultCacheCoalescing(true);
+        ds.setResultCacheCoalescingMaxWaitInMs(coalescingMaxWaitInMs);
+        ds.start();
+
+        final AtomicInteger executions = new AtomicInteger();
+        final CountDownLatch executing = new CountDownLatch(1);
+        final CountDownLatch proceed = new CountDownLatch(1);
+        // added after the start(), i.e., after the result cache hook, in order to see only the real executions
+        ds.getInvocationHooks().addOnStatementExecution(new Hook.StatementExecution() {
+            @Override
+            public Object on(Statement proxy, Method method, Object[] args, String sqlQuery, List<Object[]> sqlQueryParams,
+                             StatementProceedingPoint proceedingPoint) throws SQLException {
+                executions.incrementAndGet();
+                executing.countDown();
+                try {
+                    proceed.await();
+                } catch (InterruptedException e) {
+                    throw new SQLException(e);
+                }
+                return proceedingPoint.on(proxy, method, args, sqlQuery, sqlQueryParams, proceedingPoint);
+            }
+        });
+
+        final String sql = "select first_name, last_name from actor where first_name = ?";
+        Thread[] threads = new Thread[2];
+        for (int i = 0; i < threads.length; i++) {
+            final int idx = i;
+            threads[i] = new Thread() {
+                @Override
+                public void run() {
+                    try (Connection connection = ds.getConnection()) {
+                        lastNames[idx] = firstLastName(connection, sql, "CHRISTIAN", queryTimeout);
+                    } catch (SQLException e) {
+                        throw new RuntimeException(e);
+                    }
+                }
+            };
+        }
+
+        threads[0].start();
+        executing.await();
+        threads[1].start();
+        Thread.sleep(200); // gives the second thread time to start waiting for the in flight query
+        for (long deadline = System.nanoTime() + SECONDS.toNanos(5);
+             executions.get() < expectedExecutions && System.nanoTime() < deadline; )
+            Thread.sleep(10);
+        proceed.countDown();
+        for (Thread thread : threads)
+            thread.join();
+
+        assertEquals(0, ds.getResultCache().size());
+        return executions.get();
+    }
+
+    private static String firstLastName(Connection connection, String sql, String firstName) throws SQLException {
+        return firstLastName(connection, sql, firstName, 0);
+    }
+
+    private static String firstLastName(Connection connection, String sql, String firstName, int queryTimeout)
+            throws SQLException {
+        try (PreparedStatement pStatement = connection.prepareStatement(sql)) {
+            pStatement.setQueryTimeout(queryTimeout);
+            pStatement.setString(1, firstName);
+            try (ResultSet resultSet = pStatement.executeQuery()) {
+                assertSame(pStatement, resultSet.getStatement());
+                assertTrue(resultSet.next());
+                assertEquals(firstName, resultSet.getString("first_name"));
+                String lastName = resultSet.getString(2);
+                while (resultSet.next())
+                    assertEquals(firstName, resultSet.getString(1));
+                return lastName;
+            }
+        }
+    }
+
+    private static int countActorsByLastName(Connection connection, String lastName) throws SQLException {
+        try (PreparedStatement pStatement = connection.prepareStatement(
+                "select count(*) from actor where last_name = ?")) {
+            pStatement.setString(1, lastName);
+            try (ResultSet resultSet = pStatement.executeQuery()) {
+                assertTrue(resultSet.next());
+                return resultSet.getInt(1);
+            }
+        }
+    }
 }
@@ -24,18 +24,27 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
 import org.mockito.InOrder;
 import org.mockito.runners.MockitoJUnitRunner;
+import org.vibur.dbcp.pool.AdaptivePoolSizer;
+import org.vibur.dbcp.pool.ConnectionFactory;
+import org.vibur.dbcp.pool.ConnectionFuture;
+import org.vibur.dbcp.pool.Hook;
+import org.vibur.dbcp.pool.IdleSweeper;
 import org.vibur.dbcp.stcache.StatementHolder;
 import org.vibur.dbcp.stcache.StatementMethod;
 
 import javax.sql.DataSource;
 import java.lang.reflect.Proxy;
 import java.sql.*;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
 
+import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.junit.Assert.*;
 import static org.mockito.Mockito.*;
 import static org.vibur.dbcp.stcache.StatementHolder.State.AVAILABLE;
@@ -264,28 +273,250 @@ public class ViburDBCPDataSourceTest extends AbstractDataSourceTest {
         assertTrue(connection.isClosed());
     }
 
-    private void doTestSelectStatement(DataSource ds) throws SQLException {
-        try (Connection connection = ds.getConnection()) {
-            executeAndVerifySelectStatement(connection);
+    @Test
+    public void testPoolThreadAffinity() throws SQLException, InterruptedException {
+        final ViburDBCPDataSource ds = createDataSourceNotStarted();
+        ds.setPoolThreadAffinity(true);
+        ds.start();
+
+        Connection connection = ds.getConnection();
+        Connection internal1 = connection.unwrap(Connection.class);
+
+        final SQLException[] failure = new SQLException[1];
+        Thread other = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    ds.getConnection().close(); // restores the other connection last, at the head of the pool
+                } catch (SQLException e) {
+                    failure[0] = e;
+                }
+            }
+        });
+        other.start();
+        other.join();
+        assertNull(failure[0]);
+        connection.close();
+        assertEquals(POOL_INITIAL_SIZE, ds.getPool().remainingCreated());
+
+        connection = ds.getConnection(); // the connection last restored by this thread is claimed first
+        assertSame(internal1, connection.unwrap(Connection.class));
+        assertEquals(POOL_INITIAL_SIZE - 1, ds.getPool().remainingCreated());
+        assertEquals(1, ds.getPool().taken());
+
+        Set<Connection> internals = new HashSet<>();
+        internals.add(internal1);
+        Connection[] connections = new Connection[POOL_INITIAL_SIZE];
+        for (int i = 1; i < connections.length; i++) { // the stale entry of the claimed connection is skipped
+            connections[i] = ds.getConnection();
+            assertTrue(internals.add(connections[i].unwrap(Connection.class)));
         }
+        assertEquals(0, ds.getPool().remainingCreated());
+        assertEquals(POOL_INITIAL_SIZE, ds.getPool().taken());
+
+        connection.close();
+        for (int i = 1; i < connections.length; i++)
+            connections[i].close();
+        assertEquals(POOL_INITIAL_SIZE, ds.getPool().remainingCreated());
+        assertEquals(0, ds.getPool().taken());
     }
 
-    private void doTestPreparedSelectStatement(DataSource ds) throws SQLException {
-        try (Connection connection = ds.getConnection()) {
-            executeAndVerifyPreparedSelectStatement(connection);
+    @Test
+    public void testStripedPool() throws SQLException {
+        ViburDBCPDataSource ds = createDataSourceNotStarted();
+        ds.setPoolStripes(2);
+        ds.start();
+
+        assertEquals(POOL_INITIAL_SIZE, ds.getPool().createdTotal());
+        assertEquals(POOL_MAX_SIZE, ds.getPool().maxSize());
+
+        try (Connection connection1 = ds.getConnection(); Connection connection2 = ds.getConnection()) {
+            // the idle connection of the other stripe is stolen before a new connection is created
+            assertEquals(POOL_INITIAL_SIZE, ds.getPool().createdTotal());
+        }
+
+        Set<Connection> internals = new HashSet<>();
+        Connection[] connections = new Connection[POOL_MAX_SIZE];
+        for (int i = 0; i < connections.length; i++) { // takes from the home stripe first, and then steals
+            connections[i] = ds.getConnection();
+            assertTrue(internals.add(connections[i].unwrap(Connection.class)));
+        }
+        assertEquals(POOL_MAX_SIZE, ds.getPool().taken());
+        assertEquals(POOL_MAX_SIZE, ds.getPool().createdTotal());
+        assertEquals(0, ds.getPool().remainingCreated());
+        assertNull(ds.getPool().tryTake()); // the global poolMaxSize is respected
+
+        for (Connection connection : connections)
+            connection.close();
+        assertEquals(0, ds.getPool().taken());
+        assertEquals(POOL_MAX_SIZE, ds.getPool().remainingCreated());
+
+        assertEquals(POOL_MAX_SIZE - POOL_INITIAL_SIZE, ds.getPool().reduceCreatedTo(POOL_INITIAL_SIZE, false));
+        assertEquals(POOL_INITIAL_SIZE, ds.getPool().createdTotal());
+    }
+
+    @Test
+    public void testGetConnectionAsync() throws Exception {
+        ViburDBCPDataSource ds = createDataSourceNoStatementsCache();
+
+        ConnectionFuture future = ds.getConnectionAsync();
+        assertTrue(future.isDone()); // there are available connections in the pool
+        Connection connection = future.get();
+        executeAndVerifySelectStatement(connection);
+        connection.close();
+
+        Connection[] connections = new Connection[POOL_MAX_SIZE];
+        for (int i = 0; i < connections.length; i++)
+            connections[i] = ds.getConnection();
+
+        future = ds.getConnectionAsync();
+        final Connection[] calledBack = new Connection[1];
+        future.addCallback(new ConnectionFuture.Callback() {
+            @Override
+            public void onConnection(Connection connection) {
+                calledBack[0] = connection;
+            }
+
+            @Override
+            public void onFailure(SQLException exception) {
+                fail(exception.toString());
+            }
+        });
+        assertFalse(future.isDone()); // the pool is exhausted
+
+        Connection internal = connections[0].unwrap(Connection.class);
+        connections[0].close(); // completes the waiting future, in this thread
+        assertTrue(future.isDone());
+        connections[0] = future.get();
+        assertSame(connections[0], calledBack[0]);
+        assertSame(internal, connections[0].unwrap(Connection.class));
+        assertEquals(POOL_MAX_SIZE, ds.getPool().taken());
+
+        future = ds.getConnectionAsync(50);
+        try {
+            future.get();
+            fail("ExecutionException expected");
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof SQLTimeoutException);
         }
+
+        for (Connection c : connections)
+            c.close();
+        assertEquals(0, ds.getPool().taken());
     }
 
-    private void executeAndVerifySelectStatement(Connection connection) throws SQLException {
-        try (Statement statement = connection.createStatement();
-             ResultSet resultSet = statement.executeQuery("select * from actor where first_name = 'CHRISTIAN'")) {
+    @Test
+    public void testGetConnectionAsyncCreatesInBackground() throws Exception {
+        final Thread[] createdBy = new Thread[1];
+        ViburDBCPDataSource ds = createDataSourceNotStarted();
+        ds.getConnHooks().addOnInit(new Hook.InitConnection() {
+            @Override
+            public void on(Connection rawConnection, long takenNanos) {
+                createdBy[0] = Thread.currentThread();
+            }
+        });
+        ds.start();
+
+        Connection[] connections = new Connection[POOL_INITIAL_SIZE];
+        for (int i = 0; i < connections.length; i++)
+            connections[i] = ds.getConnection();
+        assertEquals(0, ds.getPool().remainingCreated());
+
+        ConnectionFuture future = ds.getConnectionAsync();
+        Connection connection = future.get(5, SECONDS);
+        assertNotSame(Thread.currentThread(), createdBy[0]); // the new connection was created by the pool creator
+        assertEquals(POOL_INITIAL_SIZE + 1, ds.getPool().createdTotal());
+        executeAndVerifySelectStatement(connection);
+
+        connection.close();
+        for (Connection c : connections)
+            c.close();
+        assertEquals(0, ds.getPool().taken());
+    }
+
+    @Test
+    public void testPoolMinIdle() throws SQLException, InterruptedException {
+        int minIdle = POOL_INITIAL_SIZE + 2;
+        ViburDBCPDataSource ds = createDataSourceNotStarted();
+        ds.setPoolMinIdle(minIdle);
+        ds.start();
+
+        awaitRemainingCreated(ds, minIdle); // the pool is filled above its initial size
+        assertEquals(minIdle, ds.getPool().createdTotal());
+
+        Connection connection1 = ds.getConnection();
+        Connection connection2 = ds.getConnection();
+        awaitRemainingCreated(ds, minIdle); // the taken connections are replaced ahead of demand
+        assertEquals(minIdle + 2, ds.getPool().createdTotal());
+        assertEquals(2, ds.getPool().taken());
+
+        connection1.close();
+        connection2.close();
+        assertEquals(minIdle + 2, ds.getPool().remainingCreated());
+    }
 
-            Set<String> expectedLastNames = new HashSet<>(Arrays.asList("GABLE", "AKROYD", "NEESON"));
-            while (resultSet.next()) {
-                String lastName = resultSet.getString("last_name");
-                assertTrue(expectedLastNames.remove(lastName));
+    @Test
+    public void testAdaptivePoolSizer() throws SQLException, InterruptedException {
+        ViburDBCPDataSource ds = createDataSourceNotStarted();
+        ds.setPoolReducerClass(AdaptivePoolSizer.class.getName());
+        ds.setReducerTimeIntervalInSeconds(1);
+        ds.setReducerSamples(10);
+        ds.start();
+
+        AdaptivePoolSizer poolSizer = (AdaptivePoolSizer) ds.getPoolReducer();
+        assertEquals(POOL_INITIAL_SIZE, poolSizer.getTarget());
+
+        Connection[] connections = new Connection[6];
+        for (int i = 0; i < connections.length; i++)
+            connections[i] = ds.getConnection();
+
+        awaitRemainingCreated(ds, 2); // the pool is grown ahead of demand, up to 6 * HEADROOM Connections
+        assertEquals(8, poolSizer.getTarget());
+        assertEquals(8, ds.getPool().createdTotal());
+
+        for (Connection connection : connections)
+            connection.close();
+        assertEquals(8, ds.getPool().remainingCreated());
+    }
+
+    @Test
+    public void testIdleSweeper() throws SQLException, InterruptedException {
+        final List<String> validatingThreads = Collections.synchronizedList(new ArrayList<String>());
+        ViburDBCPDataSource ds = createDataSourceNotStarted();
+        ds.setConnectionIdleLimitInSeconds(2);
+        ds.setIdleSweepIntervalInSeconds(1);
+        ds.getConnHooks().addOnValidate(new Hook.ValidateConnection() {
+            @Override
+            public void on(Connection rawConnection, long idleNanos) {
+                validatingThreads.add(Thread.currentThread().getName());
             }
-            assertTrue(expectedLastNames.isEmpty());
+        });
+        ds.start();
+
+        for (int i = 0; i < 150 && validatingThreads.isEmpty(); i++)
+            Thread.sleep(20);
+        assertFalse(validatingThreads.isEmpty());
+        assertTrue(validatingThreads.get(0).startsWith(IdleSweeper.class.getSimpleName()));
+
+        validatingThreads.clear();
+        doTestSelectStatement(ds); // takes the just validated Connection
+        assertFalse(validatingThreads.contains(Thread.currentThread().getName()));
+        assertEquals(POOL_INITIAL_SIZE, ds.getPool().createdTotal());
+
+        ConnectionFactory connectionFactory = (ConnectionFactory) ds.getConnectionFactory();
+        assertTrue(connectionFactory.getSweeperValidations() > 0);
+        assertEquals(0, connectionFactory.getValidations()); // the sweeper validations are counted separately
+    }
+
+    private static void awaitRemainingCreated(ViburDBCPDataSource ds, int expected) throws InterruptedException {
+        for (int i = 0; i < 100 && ds.getPool().remainingCreated() < expected; i++)
+            Thread.sleep(20);
+        assertEquals(expected, ds.getPool().remainingCreated());
+    }
+
+    private void doTestPreparedSelectStatement(DataSource ds) throws SQLException {
+        try (Connection connection = ds.getConnection()) {
+            executeAndVerifyPreparedSelectStatement(connection);
         }
     }
 
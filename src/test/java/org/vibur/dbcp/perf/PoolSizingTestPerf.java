@@ -0,0 +1,220 @@
+/**
+ * Copyright 2024 the vibur-dbcp contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.vibur.dbcp.perf;
+
+import org.vibur.dbcp.ViburDBCPDataSource;
+import org.vibur.dbcp.pool.AdaptivePoolSizer;
+import org.vibur.dbcp.pool.Hook;
+import org.vibur.dbcp.pool.PoolReducer;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Replays a few synthetic load curves against the pool with the default {@link PoolReducer} and with
+ * the {@link AdaptivePoolSizer}, and reports for each of them the Connections churn, i.e. how many Connections were
+ * created and destroyed, and the 50th, 90th and 99th percentiles of the time taken by {@code getConnection()}.
+ *
+ * @author agent
+ */
+public class PoolSizingTestPerf {
+
+    // pool metrics:
+    private static final int INITIAL_SIZE = 5;
+    private static final int MAX_SIZE = 100;
+    private static final long TIMEOUT_MS = 5000;
+
+    // load metrics:
+    private static final int MAX_THREADS = 80;
+    private static final long HOLD_MS = 5;
+    private static final long THINK_MS = 5;
+    private static final int STEPS = 30;
+    private static final long STEP_MS = 500;
+
+    private enum LoadCurve {
+        STEP, RAMP, SINE;
+
+        /** Returns the number of the active threads for the given step. */
+        int threads(int step) {
+            switch (this) {
+                case STEP:
+                    return step >= STEPS / 3 && step < 2 * STEPS / 3 ? MAX_THREADS : MAX_THREADS / 10;
+                case RAMP:
+                    return Math.max(MAX_THREADS * (step < STEPS / 2 ? step : STEPS - step) / (STEPS / 2), 1);
+                default:
+                    return (int) Math.round(MAX_THREADS * (1 + Math.sin(2 * Math.PI * step / STEPS)) / 2) + 1;
+            }
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+
+        // For each load curve and each pool reducer class, creates a DataSource and starts MAX_THREADS threads,
+        // of which at any given step only LoadCurve.threads(step) are active, and where each active thread
+        // executes in a loop the following code:
+        //
+        //     Connection connection = ds.getConnection();
+        //     Thread.sleep(HOLD_MS);
+        //     connection.close();
+        //     Thread.sleep(THINK_MS);
+
+        for (LoadCurve curve : LoadCurve.values()) {
+            for (Class<?> reducerClass : Arrays.asList(PoolReducer.class, AdaptivePoolSizer.class))
+                replay(curve, reducerClass);
+        }
+    }
+
+    private static void replay(LoadCurve curve, Class<?> reducerClass) throws InterruptedException {
+        final AtomicInteger created = new AtomicInteger(0);
+        final AtomicInteger destroyed = new AtomicInteger(0);
+        ViburDBCPDataSource ds = createDataSource(reducerClass, created, destroyed);
+        ds.start();
+
+        final AtomicInteger activeThreads = new AtomicInteger(0);
+        final AtomicInteger errors = new AtomicInteger(0);
+        final CountDownLatch doneSignal = new CountDownLatch(MAX_THREADS);
+        List<Worker> workers = new ArrayList<>();
+        for (int i = 0; i < MAX_THREADS; i++) {
+            Worker worker = new Worker(ds, i, activeThreads, errors, doneSignal);
+            workers.add(worker);
+            new Thread(worker).start();
+        }
+
+        int maxCreated = 0;
+        for (int step = 0; step < STEPS; step++) {
+            activeThreads.set(curve.threads(step));
+            Thread.sleep(STEP_MS);
+            maxCreated = Math.max(maxCreated, ds.getPool().createdTotal());
+        }
+        activeThreads.set(-1); // stops the workers
+        doneSignal.await();
+        ds.close();
+
+        long[] waits = merge(workers);
+        System.out.println(String.format("%-5s %-18s: created %4d, destroyed %4d, max size %3d, "
+                        + "getConnection() p50 %8.3f ms, p90 %8.3f ms, p99 %8.3f ms, takes %7d, unsuccessful %d.",
+                curve, reducerClass.getSimpleName(), created.get(), destroyed.get(), maxCreated,
+                percentile(waits, 50), percentile(waits, 90), percentile(waits, 99), waits.length, errors.get()));
+    }
+
+    private static long[] merge(List<Worker> workers) {
+        int length = 0;
+        for (Worker worker : workers)
+            length += worker.count;
+        long[] waits = new long[length];
+        int i = 0;
+        for (Worker worker : workers) {
+            System.arraycopy(worker.waits, 0, waits, i, worker.count);
+            i += worker.count;
+        }
+        Arrays.sort(waits);
+        return waits;
+    }
+
+    private static double percentile(long[] sorted, int percentile) {
+        if (sorted.length == 0)
+            return 0;
+        int index = (int) Math.ceil(sorted.length * percentile / 100.0) - 1;
+        return sorted[Math.max(index, 0)] / 1000000.0;
+    }
+
+    private static class Worker implements Runnable {
+        private final ViburDBCPDataSource ds;
+        private final int id;
+        private final AtomicInteger activeThreads;
+        private final AtomicInteger errors;
+        private final CountDownLatch doneSignal;
+
+        private long[] waits = new long[1024]; // in nanoseconds
+        private int count = 0;
+
+        private Worker(ViburDBCPDataSource ds, int id, AtomicInteger activeThreads, AtomicInteger errors,
+                       CountDownLatch doneSignal) {
+            this.ds = ds;
+            this.id = id;
+            this.activeThreads = activeThreads;
+            this.errors = errors;
+            this.doneSignal = doneSignal;
+        }
+
+        @Override
+        public void run() {
+            try {
+                int active;
+                while ((active = activeThreads.get()) >= 0) {
+                    if (id >= active) {
+                        Thread.sleep(THINK_MS);
+                        continue;
+                    }
+                    long start = System.nanoTime();
+                    try (Connection connection = ds.getConnection()) {
+                        record(System.nanoTime() - start);
+                        Thread.sleep(HOLD_MS);
+                    } catch (SQLException e) {
+                        errors.incrementAndGet();
+                    }
+                    Thread.sleep(ThreadLocalRandom.current().nextLong(THINK_MS * 2 + 1));
+                }
+            } catch (InterruptedException ignored) {
+                errors.incrementAndGet();
+            } finally {
+                doneSignal.countDown();
+            }
+        }
+
+        private void record(long nanos) {
+            if (count == waits.length)
+                waits = Arrays.copyOf(waits, count * 2);
+            waits[count++] = nanos;
+        }
+    }
+
+    private static ViburDBCPDataSource createDataSource(Class<?> reducerClass,
+                                                        final AtomicInteger created, final AtomicInteger destroyed) {
+        ViburDBCPDataSource ds = new ViburDBCPDataSource();
+        ds.setJdbcUrl("jdbc:hsqldb:mem:sakila;shutdown=false");
+        ds.setUsername("sa");
+        ds.setPassword("");
+
+        ds.setPoolInitialSize(INITIAL_SIZE);
+        ds.setPoolMaxSize(MAX_SIZE);
+        ds.setConnectionTimeoutInMs(TIMEOUT_MS);
+        ds.setPoolReducerClass(reducerClass.getName());
+        ds.setReducerTimeIntervalInSeconds(1);
+        ds.setReducerSamples(10);
+
+        ds.getConnHooks().addOnInit(new Hook.InitConnection() {
+            @Override
+            public void on(Connection rawConnection, long takenNanos) {
+                created.incrementAndGet();
+            }
+        });
+        ds.getConnHooks().addOnDestroy(new Hook.DestroyConnection() {
+            @Override
+            public void on(Connection rawConnection, long takenNanos) {
+                destroyed.incrementAndGet();
+            }
+        });
+        return ds;
+    }
+}
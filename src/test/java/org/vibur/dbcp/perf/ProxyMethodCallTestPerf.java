@@ -0,0 +1,128 @@
+/**
+ * Copyright 2024 the vibur-dbcp contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.vibur.dbcp.perf;
+
+import org.vibur.dbcp.ViburDBCPDataSource;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Measures the average cost (in ns) of a single ResultSet getter call and a single PreparedStatement setter call
+ * made through the Vibur proxies, and compares it with the cost of the same call made on the raw JDBC objects.
+ * Run it with {@code true} as a first program argument to measure the concrete proxies instead of the dynamic ones,
+ * and run it on two different versions of the code in order to compare the proxies' method dispatch cost.
+ *
+ * <p>No results of this test are recorded with the code; in particular, the switch to the opcode based dispatch
+ * (see {@code MethodDispatch}) is a restructuring of the invocation handlers, and no speed up of it has been
+ * measured. The numbers depend on the JVM, the JIT and the JDBC driver, and need to be taken on the target system.
+ *
+ * @author agent
+ */
+public class ProxyMethodCallTestPerf {
+
+    private static final String SQL = "select * from INFORMATION_SCHEMA.SYSTEM_USERS where USER_NAME = ?";
+
+    private static final int WARMUP_ROUNDS = 5;
+    private static final int ROUNDS = 10;
+    private static final int CALLS_PER_ROUND = 2_000_000;
+
+    private static volatile Object sink; // prevents dead code elimination
+
+    public static void main(String[] args) throws SQLException {
+        boolean concreteProxies = args.length > 0 && Boolean.parseBoolean(args[0]);
+
+        ViburDBCPDataSource ds = createDataSource(concreteProxies);
+        ds.start();
+
+        try (Connection connection = ds.getConnection();
+             PreparedStatement pStatement = connection.prepareStatement(SQL)) {
+
+            PreparedStatement rawPStatement = pStatement.unwrap(PreparedStatement.class);
+            pStatement.setString(1, "SA");
+            try (ResultSet resultSet = pStatement.executeQuery()) {
+                if (!resultSet.next())
+                    throw new IllegalStateException("No rows returned by " + SQL);
+                ResultSet rawResultSet = resultSet.unwrap(ResultSet.class);
+
+                for (int i = 0; i < WARMUP_ROUNDS; i++) {
+                    getterRound(resultSet);
+                    getterRound(rawResultSet);
+                    setterRound(pStatement);
+                    setterRound(rawPStatement);
+                }
+
+                System.out.println(String.format("%s proxies, %d rounds of %d calls each:",
+                        concreteProxies ? "Concrete" : "Dynamic", ROUNDS, CALLS_PER_ROUND));
+                System.out.println(String.format("ResultSet.getString():          proxy %.2f ns/call, raw %.2f ns/call",
+                        nsPerCall(getterRounds(resultSet)), nsPerCall(getterRounds(rawResultSet))));
+                System.out.println(String.format("PreparedStatement.setString():  proxy %.2f ns/call, raw %.2f ns/call",
+                        nsPerCall(setterRounds(pStatement)), nsPerCall(setterRounds(rawPStatement))));
+            }
+        } finally {
+            ds.close();
+        }
+    }
+
+    private static long getterRounds(ResultSet resultSet) throws SQLException {
+        long start = System.nanoTime();
+        for (int i = 0; i < ROUNDS; i++)
+            getterRound(resultSet);
+        return System.nanoTime() - start;
+    }
+
+    private static long setterRounds(PreparedStatement pStatement) throws SQLException {
+        long start = System.nanoTime();
+        for (int i = 0; i < ROUNDS; i++)
+            setterRound(pStatement);
+        return System.nanoTime() - start;
+    }
+
+    private static void getterRound(ResultSet resultSet) throws SQLException {
+        Object last = null;
+        for (int i = 0; i < CALLS_PER_ROUND; i++)
+            last = resultSet.getString(1);
+        sink = last;
+    }
+
+    private static void setterRound(PreparedStatement pStatement) throws SQLException {
+        for (int i = 0; i < CALLS_PER_ROUND; i++)
+            pStatement.setString(1, "SA");
+        sink = pStatement;
+    }
+
+    private static double nsPerCall(long nanos) {
+        return (double) nanos / ((long) ROUNDS * CALLS_PER_ROUND);
+    }
+
+    private static ViburDBCPDataSource createDataSource(boolean concreteProxies) {
+        ViburDBCPDataSource ds = new ViburDBCPDataSource();
+        ds.setJdbcUrl("jdbc:hsqldb:mem:sakila;shutdown=false");
+        ds.setUsername("sa");
+        ds.setPassword("");
+
+        ds.setPoolInitialSize(1);
+        ds.setPoolMaxSize(1);
+        ds.setLogQueryExecutionLongerThanMs(-1);
+        ds.setLogConnectionLongerThanMs(-1);
+        ds.setLogLargeResultSet(-1);
+        ds.setUseConcreteProxies(concreteProxies);
+        return ds;
+    }
+}
@@ -0,0 +1,105 @@
+/**
+ * Copyright 2024 the vibur-dbcp contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.vibur.dbcp.perf;
+
+import org.vibur.dbcp.ViburDBCPDataSource;
+
+import java.lang.management.ManagementFactory;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Measures the average number of bytes allocated by the current thread for a single
+ * {@code prepareStatement -> setString -> executeQuery -> iterate -> close} sequence, executed via the pool
+ * and executed directly on the raw JDBC Connection. The difference between the two numbers is the allocation
+ * cost of the Vibur proxies and invocation handlers per query. Requires a HotSpot based JVM.
+ *
+ * <p>No results of this test are recorded with the code. The reduction of the invocation handlers footprint is
+ * structural only: the handlers no longer allocate an {@code AtomicBoolean} each, the ResultSet handlers an
+ * {@code AtomicLong} each, and the Statement handlers which don't capture query parameters an empty list each;
+ * the actual savings per query have not been measured.
+ *
+ * @author agent
+ */
+public class QueryAllocationTestPerf {
+
+    private static final String SQL = "select * from INFORMATION_SCHEMA.SYSTEM_USERS where USER_NAME = ?";
+
+    private static final int WARMUP_ITERATIONS = 50_000;
+    private static final int ITERATIONS = 200_000;
+
+    private static final com.sun.management.ThreadMXBean threadMXBean =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    public static void main(String[] args) throws SQLException {
+        boolean concreteProxies = args.length > 0 && Boolean.parseBoolean(args[0]);
+
+        ViburDBCPDataSource ds = createDataSource(concreteProxies);
+        ds.start();
+
+        try (Connection connection = ds.getConnection()) {
+            Connection rawConnection = connection.unwrap(Connection.class);
+
+            runQueries(connection, WARMUP_ITERATIONS);
+            runQueries(rawConnection, WARMUP_ITERATIONS);
+
+            System.out.println(String.format("%s proxies, statement cache size %d, %d iterations:",
+                    concreteProxies ? "Concrete" : "Dynamic", ds.getStatementCacheMaxSize(), ITERATIONS));
+            System.out.println(String.format("Proxied Connection: %d bytes/query", bytesPerQuery(connection)));
+            System.out.println(String.format("Raw Connection:     %d bytes/query", bytesPerQuery(rawConnection)));
+        } finally {
+            ds.close();
+        }
+    }
+
+    private static long bytesPerQuery(Connection connection) throws SQLException {
+        long threadId = Thread.currentThread().getId();
+        long start = threadMXBean.getThreadAllocatedBytes(threadId);
+        runQueries(connection, ITERATIONS);
+        return (threadMXBean.getThreadAllocatedBytes(threadId) - start) / ITERATIONS;
+    }
+
+    private static void runQueries(Connection connection, int iterations) throws SQLException {
+        for (int i = 0; i < iterations; i++) {
+            try (PreparedStatement pStatement = connection.prepareStatement(SQL)) {
+                pStatement.setString(1, "SA");
+                try (ResultSet resultSet = pStatement.executeQuery()) {
+                    while (resultSet.next())
+                        resultSet.getString(1);
+                }
+            }
+        }
+    }
+
+    private static ViburDBCPDataSource createDataSource(boolean concreteProxies) {
+        ViburDBCPDataSource ds = new ViburDBCPDataSource();
+        ds.setJdbcUrl("jdbc:hsqldb:mem:sakila;shutdown=false");
+        ds.setUsername("sa");
+        ds.setPassword("");
+
+        ds.setPoolInitialSize(1);
+        ds.setPoolMaxSize(1);
+        ds.setStatementCacheMaxSize(10);
+        ds.setLogQueryExecutionLongerThanMs(-1);
+        ds.setLogConnectionLongerThanMs(-1);
+        ds.setLogLargeResultSet(-1);
+        ds.setUseConcreteProxies(concreteProxies);
+        return ds;
+    }
+}
@@ -0,0 +1,152 @@
+/**
+ * Copyright 2024 the vibur-dbcp contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.vibur.dbcp.perf;
+
+import org.vibur.dbcp.ViburDBCPDataSource;
+import org.vibur.dbcp.ViburDBCPException;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Measures the getConnection()/close() throughput with and without the pool thread affinity,
+ * at 8, 32 and 128 concurrent threads.
+ *
+ * @author agent
+ */
+public class ThreadAffinityTestPerf {
+
+    // pool metrics:
+    private static final int INITIAL_SIZE = 50;
+    private static final int MAX_SIZE = 200;
+    private static final long TIMEOUT_MS = 2000;
+
+    // threads metrics:
+    private static final int[] THREADS_COUNTS = {8, 32, 128};
+    private static final int ITERATIONS = 100_000;
+    private static final int WARMUP_ITERATIONS = 10_000;
+
+    public static void main(String[] args) throws InterruptedException, ViburDBCPException {
+
+        // For each of the THREADS_COUNTS and with the pool thread affinity disabled and enabled, creates a
+        // DataSource with an INITIAL_SIZE and a MAX_SIZE, and starts the threads, where each thread executes
+        // ITERATIONS times the following code:
+        //
+        //     Connection connection = ds.getConnection();
+        //     connection.close();
+        //
+        // Measures and reports the total time taken and the number of operations per second.
+
+        for (int threadsCount : THREADS_COUNTS) {
+            for (boolean affinity : new boolean[] {false, true}) {
+                ViburDBCPDataSource ds = createDataSource(affinity);
+                ds.start();
+
+                run(ds, threadsCount, WARMUP_ITERATIONS);
+                AtomicInteger errors = new AtomicInteger(0);
+                long nanos = run(ds, threadsCount, ITERATIONS, errors);
+
+                System.out.println(String.format(
+                        "Threads %d, affinity %b: total execution time %f ms, %f ops/ms, unsuccessful takes %d.",
+                        threadsCount, affinity, nanos / 1000000.0,
+                        (double) threadsCount * ITERATIONS * 1000000 / nanos, errors.get()));
+
+                ds.close();
+            }
+        }
+    }
+
+    private static void run(ViburDBCPDataSource ds, int threadsCount, int iterations) throws InterruptedException {
+        run(ds, threadsCount, iterations, new AtomicInteger(0));
+    }
+
+    private static long run(ViburDBCPDataSource ds, int threadsCount, int iterations, AtomicInteger errors)
+            throws InterruptedException {
+
+        CountDownLatch startSignal = new CountDownLatch(1);
+        CountDownLatch readySignal = new CountDownLatch(threadsCount);
+        CountDownLatch doneSignal = new CountDownLatch(threadsCount);
+
+        Worker w = new Worker(ds, errors, iterations, readySignal, startSignal, doneSignal);
+        for (int i = 0; i < threadsCount; i++) {
+            Thread thread = new Thread(w);
+            thread.start();
+        }
+
+        readySignal.await();
+        long start = System.nanoTime();
+        startSignal.countDown();
+        doneSignal.await();
+        return System.nanoTime() - start;
+    }
+
+    private static class Worker implements Runnable {
+        private final ViburDBCPDataSource ds;
+        private final AtomicInteger errors;
+        private final int iterations;
+
+        private final CountDownLatch readySignal;
+        private final CountDownLatch startSignal;
+        private final CountDownLatch doneSignal;
+
+        private Worker(ViburDBCPDataSource ds, AtomicInteger errors, int iterations,
+                       CountDownLatch readySignal, CountDownLatch startSignal, CountDownLatch doneSignal) {
+            this.ds = ds;
+            this.errors = errors;
+            this.iterations = iterations;
+            this.startSignal = startSignal;
+            this.readySignal = readySignal;
+            this.doneSignal = doneSignal;
+        }
+
+        @Override
+        public void run() {
+            try {
+                readySignal.countDown();
+                startSignal.await();
+
+                for (int i = 0; i < iterations; i++) {
+                    try {
+                        Connection connection = ds.getConnection();
+                        connection.close();
+                    } catch (SQLException e) {
+                        errors.incrementAndGet();
+                    }
+                }
+            } catch (InterruptedException ignored) {
+                errors.incrementAndGet();
+            } finally {
+                doneSignal.countDown();
+            }
+        }
+    }
+
+    private static ViburDBCPDataSource createDataSource(boolean affinity) {
+        ViburDBCPDataSource ds = new ViburDBCPDataSource();
+        ds.setJdbcUrl("jdbc:hsqldb:mem:sakila;shutdown=false");
+        ds.setUsername("sa");
+        ds.setPassword("");
+
+        ds.setPoolInitialSize(INITIAL_SIZE);
+        ds.setPoolMaxSize(MAX_SIZE);
+        ds.setConnectionTimeoutInMs(TIMEOUT_MS);
+        ds.setPoolThreadAffinity(affinity);
+        return ds;
+    }
+}
@@ -0,0 +1,162 @@
+/**
+ * Copyright 2024 the vibur-dbcp contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.vibur.dbcp.perf;
+
+import org.vibur.dbcp.ViburDBCPDataSource;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.lang.reflect.Method;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A stress test which borrows Connections from a small pool from a very large number of virtual threads, and
+ * verifies that no virtual thread gets pinned to its carrier thread while doing so. Requires Java 21 to 23, where
+ * the pinning events are reported via the {@code jdk.tracePinnedThreads} system property. The virtual threads are
+ * started via reflection, as this project is compiled for Java 7.
+ *
+ * @author agent
+ */
+public class VirtualThreadsTestPerf {
+
+    // pool metrics:
+    private static final int INITIAL_SIZE = 50;
+    private static final int MAX_SIZE = 50;
+    private static final long TIMEOUT_MS = 60000;
+
+    // threads metrics:
+    private static final int THREADS_COUNT = 100_000;
+
+    public static void main(String[] args) throws Exception {
+
+        // Creates a DataSource with an INITIAL_SIZE and a MAX_SIZE, and starts a THREADS_COUNT virtual threads
+        // where each thread executes the following code:
+        //
+        //     Connection connection = ds.getConnection();
+        //     Thread.sleep(1);
+        //     connection.close();
+        //
+        // Measures and reports the total time taken by the test in ms, and fails if any pinning was reported.
+
+        Method startVirtualThread;
+        try {
+            startVirtualThread = Thread.class.getMethod("startVirtualThread", Runnable.class);
+        } catch (NoSuchMethodException e) {
+            System.out.println("Virtual threads are not supported by this JVM, requires Java 21 or later.");
+            return;
+        }
+        System.setProperty("jdk.tracePinnedThreads", "short"); // must be set before the first virtual thread
+
+        ByteArrayOutputStream pinningTrace = new ByteArrayOutputStream();
+        PrintStream out = System.out;
+        System.setOut(new PrintStream(new TeeOutputStream(out, pinningTrace), true));
+
+        ViburDBCPDataSource ds = createDataSource();
+        ds.start();
+
+        final AtomicInteger errors = new AtomicInteger(0);
+        final CountDownLatch doneSignal = new CountDownLatch(THREADS_COUNT);
+        Runnable worker = new Worker(ds, errors, doneSignal);
+
+        long start = System.nanoTime();
+        for (int i = 0; i < THREADS_COUNT; i++)
+            startVirtualThread.invoke(null, worker);
+        doneSignal.await();
+        long nanos = System.nanoTime() - start;
+
+        ds.close();
+        System.setOut(out);
+
+        boolean pinned = pinningTrace.toString().contains("onPinned");
+        System.out.println(String.format("Total execution time %f ms, unsuccessful takes %d, pinned %b.",
+                nanos / 1000000.0, errors.get(), pinned));
+        if (pinned || errors.get() > 0)
+            throw new AssertionError("Virtual thread pinning or unsuccessful takes occurred:\n" + pinningTrace);
+    }
+
+    private static class Worker implements Runnable {
+        private final ViburDBCPDataSource ds;
+        private final AtomicInteger errors;
+        private final CountDownLatch doneSignal;
+
+        private Worker(ViburDBCPDataSource ds, AtomicInteger errors, CountDownLatch doneSignal) {
+            this.ds = ds;
+            this.errors = errors;
+            this.doneSignal = doneSignal;
+        }
+
+        @Override
+        public void run() {
+            try {
+                Connection connection = ds.getConnection();
+                Thread.sleep(1); // parks the virtual thread while holding the connection
+                connection.close();
+            } catch (InterruptedException ignored) {
+                errors.incrementAndGet();
+            } catch (SQLException e) {
+                errors.incrementAndGet();
+            } finally {
+                doneSignal.countDown();
+            }
+        }
+    }
+
+    private static class TeeOutputStream extends OutputStream {
+        private final OutputStream first;
+        private final OutputStream second;
+
+        private TeeOutputStream(OutputStream first, OutputStream second) {
+            this.first = first;
+            this.second = second;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            first.write(b);
+            second.write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            first.write(b, off, len);
+            second.write(b, off, len);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            first.flush();
+        }
+    }
+
+    private static ViburDBCPDataSource createDataSource() {
+        ViburDBCPDataSource ds = new ViburDBCPDataSource();
+        ds.setJdbcUrl("jdbc:hsqldb:mem:sakila;shutdown=false");
+        ds.setUsername("sa");
+        ds.setPassword("");
+
+        ds.setPoolInitialSize(INITIAL_SIZE);
+        ds.setPoolMaxSize(MAX_SIZE);
+        ds.setConnectionTimeoutInMs(TIMEOUT_MS);
+        ds.setPoolFair(true);
+        return ds;
+    }
+}
@@ -0,0 +1,99 @@
+/**
+ * Copyright 2024 the vibur-dbcp contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.vibur.dbcp.pool;
+
+import org.junit.Test;
+import org.vibur.dbcp.AbstractDataSourceTest;
+import org.vibur.dbcp.ViburDBCPDataSource;
+
+import java.sql.SQLException;
+
+import static org.junit.Assert.*;
+import static org.vibur.dbcp.ViburConfig.SQLSTATE_CIRCUIT_OPEN_ERROR;
+
+/**
+ * @author agent
+ */
+public class CircuitBreakerTest extends AbstractDataSourceTest {
+
+    @Test
+    public void testCircuitBreakerOpens() throws SQLException {
+        ViburDBCPDataSource ds = createDataSourceNotStarted();
+        ds.setPoolInitialSize(0);
+        ds.setPassword("wrong password"); // all connection attempts fail
+        ds.setAcquireRetryAttempts(0);
+        ds.setCircuitBreakerThreshold(2);
+        ds.start();
+
+        for (int i = 0; i < 2; i++) {
+            try {
+                ds.getConnection();
+                fail("SQLException expected");
+            } catch (SQLException e) {
+                assertNotEquals(SQLSTATE_CIRCUIT_OPEN_ERROR, e.getSQLState());
+            }
+        }
+        assertTrue(ds.getCircuitBreaker().isOpen());
+        assertEquals(1, ds.getCircuitBreaker().getOpenedCount());
+
+        try {
+            ds.getConnection();
+            fail("SQLException expected");
+        } catch (SQLException e) { // fails fast without trying to connect
+            assertEquals(SQLSTATE_CIRCUIT_OPEN_ERROR, e.getSQLState());
+        }
+    }
+
+    @Test
+    public void testNonPooledLoginFailuresDoNotOpenCircuitBreaker() throws SQLException {
+        ViburDBCPDataSource ds = createDataSourceNotStarted();
+        ds.setAcquireRetryAttempts(0);
+        ds.setCircuitBreakerThreshold(2);
+        ds.start();
+
+        for (int i = 0; i < 5; i++) {
+            try {
+                ds.getNonPooledConnection(ds.getUsername(), "wrong password");
+                fail("SQLException expected");
+            } catch (SQLException e) {
+                assertNotEquals(SQLSTATE_CIRCUIT_OPEN_ERROR, e.getSQLState());
+            }
+        }
+        assertFalse(ds.getCircuitBreaker().isOpen());
+        assertEquals(0, ds.getCircuitBreaker().getOpenedCount());
+        doTestSelectStatement(ds); // the pooled Connections are not affected
+    }
+
+    @Test
+    public void testCircuitBreakerCloses() throws SQLException, InterruptedException {
+        ViburDBCPDataSource ds = createDataSourceNotStarted();
+        ds.setCircuitBreakerThreshold(1);
+        ds.setAcquireRetryDelayInMs(10); // the first probe delay
+        ds.setCircuitBreakerMaxProbeDelayInMs(100);
+        ds.start();
+
+        CircuitBreaker circuitBreaker = ds.getCircuitBreaker();
+        circuitBreaker.onFailure(); // opens the breaker, while the database is reachable
+        assertEquals(1, circuitBreaker.getOpenedCount());
+
+        for (int i = 0; i < 500 && circuitBreaker.isOpen(); i++)
+            Thread.sleep(10);
+        assertFalse(circuitBreaker.isOpen()); // the prober has connected
+        circuitBreaker.checkClosed();
+        doTestSelectStatement(ds);
+    }
+}
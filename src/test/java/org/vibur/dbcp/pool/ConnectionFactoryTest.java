@@ -0,0 +1,107 @@
+/**
+ * Copyright 2024 the vibur-dbcp contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.vibur.dbcp.pool;
+
+import org.junit.Test;
+import org.vibur.dbcp.AbstractDataSourceTest;
+import org.vibur.dbcp.ViburDBCPDataSource;
+import org.vibur.dbcp.ViburDBCPException;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static java.util.concurrent.TimeUnit.MINUTES;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.Assert.*;
+
+/**
+ * @author agent
+ */
+public class ConnectionFactoryTest extends AbstractDataSourceTest {
+
+    @Test
+    public void testInterruptDuringRetryDelay() throws Exception {
+        ViburDBCPDataSource config = new ViburDBCPDataSource();
+        config.setAcquireRetryAttempts(100);
+        config.setAcquireRetryDelayInMs(60000);
+        final ConnectionFactory connectionFactory = new ConnectionFactory(config);
+
+        final AtomicInteger attempts = new AtomicInteger();
+        final CountDownLatch failed = new CountDownLatch(1);
+        final Connector connector = new Connector() {
+            @Override
+            public Connection connect() throws SQLException {
+                attempts.incrementAndGet();
+                failed.countDown();
+                throw new SQLException("The database is unreachable.");
+            }
+        };
+
+        final AtomicReference<Throwable> thrown = new AtomicReference<>();
+        final AtomicReference<Boolean> interrupted = new AtomicReference<>();
+        Thread thread = new Thread() {
+            @Override
+            public void run() {
+                try {
+                    connectionFactory.create(connector);
+                } catch (Throwable t) {
+                    thrown.set(t);
+                }
+                interrupted.set(isInterrupted());
+            }
+        };
+        thread.start();
+
+        assertTrue(failed.await(5, SECONDS)); // the first attempt has failed, i.e., the thread enters the retry delay
+        thread.interrupt();
+        thread.join(SECONDS.toMillis(5)); // the retry delay is 60 seconds
+
+        assertFalse(thread.isAlive());
+        assertTrue(thrown.get() instanceof ViburDBCPException);
+        assertTrue(thrown.get().getCause() instanceof SQLException);
+        assertEquals(Boolean.TRUE, interrupted.get()); // the interrupt is preserved
+        assertEquals(1, attempts.get()); // no more attempts after the interrupt
+    }
+
+    @Test
+    public void testImplicitValidation() throws SQLException {
+        ViburDBCPDataSource ds = createDataSourceNotStarted();
+        ds.setPoolInitialSize(1);
+        ds.setConnectionIdleLimitInSeconds(0); // validates always
+        ds.setImplicitValidationWindowInMs(MINUTES.toMillis(1));
+        ds.start();
+        ConnectionFactory connectionFactory = (ConnectionFactory) ds.getConnectionFactory();
+
+        ConnHolder conn = ds.getPool().tryTake(); // the Connection was just created, i.e. is within the window
+        assertNotNull(conn);
+        assertEquals(0, connectionFactory.getValidations());
+        assertEquals(1, connectionFactory.getSkippedValidations());
+        conn.setExecutedNanoTime(System.nanoTime() - MINUTES.toNanos(2)); // moves the Connection outside the window
+        ds.getPool().restore(conn, true);
+
+        doTestSelectStatement(ds); // takes the same Connection
+        assertEquals(1, connectionFactory.getValidations());
+        assertEquals(1, connectionFactory.getSkippedValidations());
+
+        doTestSelectStatement(ds); // takes the same Connection, which has just executed a query
+        assertEquals(1, connectionFactory.getValidations());
+        assertEquals(2, connectionFactory.getSkippedValidations());
+    }
+}
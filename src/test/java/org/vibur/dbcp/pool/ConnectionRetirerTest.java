@@ -0,0 +1,129 @@
+/**
+ * Copyright 2024 the vibur-dbcp contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.vibur.dbcp.pool;
+
+import org.junit.Test;
+import org.vibur.dbcp.AbstractDataSourceTest;
+import org.vibur.dbcp.ViburDBCPDataSource;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.CountDownLatch;
+
+import static java.util.concurrent.TimeUnit.HOURS;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.Assert.*;
+
+/**
+ * @author agent
+ */
+public class ConnectionRetirerTest extends AbstractDataSourceTest {
+
+    @Test
+    public void testRetireNanoTimeJitter() {
+        ViburDBCPDataSource config = new ViburDBCPDataSource();
+        config.setMaxLifetimeInSeconds((int) HOURS.toSeconds(1));
+        long lifetimeNanos = HOURS.toNanos(1);
+
+        for (int i = 0; i < 100; i++) {
+            long retireNanoTime = ConnectionRetirer.retireNanoTime(config, 0);
+            assertTrue(retireNanoTime <= lifetimeNanos);
+            assertTrue(retireNanoTime >= lifetimeNanos - (long) (ConnectionRetirer.JITTER * lifetimeNanos));
+        }
+
+        config.setMaxLifetimeInSeconds(0);
+        assertEquals(0, ConnectionRetirer.retireNanoTime(config, 0));
+    }
+
+    @Test
+    public void testExpiredConnectionIsRetired() throws SQLException, InterruptedException {
+        final CountDownLatch destroyed = new CountDownLatch(1);
+        ViburDBCPDataSource ds = createDataSourceNotStarted();
+        ds.setMaxLifetimeInSeconds((int) HOURS.toSeconds(1));
+        ds.getConnHooks().addOnDestroy(new Hook.DestroyConnection() {
+            @Override
+            public void on(Connection rawConnection, long takenNanos) {
+                destroyed.countDown();
+            }
+        });
+        ds.start();
+
+        ConnHolder conn = ds.getPool().tryTake();
+        assertNotNull(conn);
+        conn.setRetireNanoTime(System.nanoTime()); // the Connection expires while it is taken
+        ds.getPool().restore(conn, true); // wakes up the retirer
+
+        assertTrue(destroyed.await(5, SECONDS)); // the expired Connection was retired and replaced
+        for (int i = 0; i < 100 && ds.getPool().createdTotal() > POOL_INITIAL_SIZE; i++)
+            Thread.sleep(10); // the pool counts the destroyed Connection until its destroy() returns
+        assertEquals(POOL_INITIAL_SIZE, ds.getPool().createdTotal());
+        assertEquals(POOL_INITIAL_SIZE, ds.getPool().remainingCreated());
+        doTestSelectStatement(ds);
+    }
+
+    @Test
+    public void testIdleExpiredConnectionIsRetired() throws SQLException, InterruptedException {
+        final CountDownLatch destroyed = new CountDownLatch(POOL_INITIAL_SIZE);
+        ViburDBCPDataSource ds = createDataSourceNotStarted();
+        ds.setMaxLifetimeInSeconds((int) HOURS.toSeconds(1));
+        ds.getConnHooks().addOnDestroy(new Hook.DestroyConnection() {
+            @Override
+            public void on(Connection rawConnection, long takenNanos) {
+                destroyed.countDown();
+            }
+        });
+        ds.start();
+
+        ConnHolder[] conns = new ConnHolder[POOL_INITIAL_SIZE];
+        for (int i = 0; i < conns.length; i++) {
+            conns[i] = ds.getPool().tryTake();
+            assertNotNull(conns[i]);
+        }
+        for (ConnHolder conn : conns) {
+            conn.setRetireNanoTime(System.nanoTime() + MILLISECONDS.toNanos(200));
+            ds.getPool().restore(conn, true); // not expired yet, and never taken again
+        }
+
+        assertTrue(destroyed.await(10, SECONDS)); // the idle Connections were retired and replaced
+        for (int i = 0; i < 100 && ds.getPool().createdTotal() > POOL_INITIAL_SIZE; i++)
+            Thread.sleep(10);
+        assertEquals(POOL_INITIAL_SIZE, ds.getPool().createdTotal());
+        assertEquals(POOL_INITIAL_SIZE, ds.getPool().remainingCreated());
+        doTestSelectStatement(ds);
+    }
+
+    @Test
+    public void testExpiredConnectionIsNotTaken() throws SQLException, InterruptedException {
+        ViburDBCPDataSource ds = createDataSourceNotStarted();
+        ds.setMaxLifetimeInSeconds((int) HOURS.toSeconds(1));
+        ds.start();
+
+        ConnHolder expired = ds.getPool().tryTake();
+        assertNotNull(expired);
+        expired.setRetireNanoTime(System.nanoTime() + MILLISECONDS.toNanos(100));
+        ds.getPool().restore(expired, true);
+        Thread.sleep(150); // the Connection expires while it is idle
+
+        ConnHolder conn = ds.getPool().tryTake();
+        assertNotNull(conn);
+        assertNotSame(expired, conn);
+        assertFalse(ConnectionRetirer.isExpired(conn));
+        ds.getPool().restore(conn, true);
+        doTestSelectStatement(ds);
+    }
+}
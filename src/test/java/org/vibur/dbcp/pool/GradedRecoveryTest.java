@@ -0,0 +1,112 @@
+/**
+ * Copyright 2024 the vibur-dbcp contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.vibur.dbcp.pool;
+
+import org.junit.Test;
+import org.vibur.dbcp.AbstractDataSourceTest;
+import org.vibur.dbcp.ViburDBCPDataSource;
+import org.vibur.dbcp.ViburDBCPException;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.sql.Statement;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.Assert.*;
+import static org.vibur.dbcp.ViburConfig.SQLSTATE_RATE_LIMITED_ERROR;
+
+/**
+ * @author agent
+ */
+public class GradedRecoveryTest extends AbstractDataSourceTest {
+
+    @Test
+    public void testGradedRecovery() throws SQLException, InterruptedException {
+        ViburDBCPDataSource ds = createDataSourceNotStarted();
+        ds.setCriticalSQLStates("42501"); // the HSQLDB "object not found" SQLState, treated here as critical
+        ds.setRecoveryProbeConcurrency(2);
+        ds.start();
+
+        Connection connection = ds.getConnection();
+        try (Statement statement = connection.createStatement()) {
+            statement.executeQuery("select * from nonexistent_table");
+            fail("SQLException expected");
+        } catch (SQLException e) {
+            assertEquals("42501", e.getSQLState());
+        }
+        connection.close(); // destroys only this Connection, and starts probing the idle ones
+
+        for (int i = 0; i < 500 && ds.getGradedRecovery().isRecovering(); i++)
+            Thread.sleep(10);
+        assertFalse(ds.getGradedRecovery().isRecovering());
+        assertEquals(1, ds.getConnectionFactory().version()); // the whole pool was not drained
+        assertEquals(POOL_INITIAL_SIZE - 1, ds.getPool().createdTotal());
+        assertEquals(POOL_INITIAL_SIZE - 1, ds.getPool().remainingCreated());
+        doTestSelectStatement(ds);
+    }
+
+    @Test
+    public void testProbersDoNotCreateConnections() throws SQLException, InterruptedException {
+        ViburDBCPDataSource ds = createDataSourceNotStarted();
+        ds.setRecoveryProbeConcurrency(2);
+        ds.start();
+
+        try (Connection connection1 = ds.getConnection(); Connection connection2 = ds.getConnection()) {
+            assertEquals(0, ds.getPool().remainingCreated()); // no idle Connections to probe
+            ds.getGradedRecovery().recover(new SQLException("The connection is broken.", "08006"));
+
+            for (int i = 0; i < 500 && ds.getGradedRecovery().isRecovering(); i++)
+                Thread.sleep(10);
+            assertFalse(ds.getGradedRecovery().isRecovering());
+            assertEquals(POOL_INITIAL_SIZE, ds.getPool().createdTotal());
+        }
+    }
+
+    @Test
+    public void testReconnectRateLimit() throws ViburDBCPException {
+        ViburDBCPDataSource config = new ViburDBCPDataSource();
+        config.setRecoveryProbeConcurrency(1);
+        config.setRecoveryReconnectsPerSecond(1);
+        GradedRecovery recovery = new GradedRecovery(config, new ConnectionFactory(config));
+
+        recovery.awaitReconnect();
+        recovery.awaitReconnect(); // the reconnects are not limited outside of a recovery
+
+        recovery.recover(new SQLException("The connection is broken.", "08006"));
+        recovery.awaitReconnect(); // takes the only reconnect slot for the next second
+
+        long startTime = System.nanoTime();
+        recovery.setReconnectDeadline(startTime + MILLISECONDS.toNanos(50));
+        try {
+            recovery.awaitReconnect(); // the next slot is after the deadline
+            fail("ViburDBCPException expected");
+        } catch (ViburDBCPException e) { // waits until the deadline, and only then fails
+            assertTrue(System.nanoTime() - startTime >= MILLISECONDS.toNanos(50));
+            assertTrue(e.getCause() instanceof SQLTimeoutException);
+            assertEquals(SQLSTATE_RATE_LIMITED_ERROR, e.unwrapSQLException().getSQLState());
+        }
+
+        recovery.setReconnectDeadline(System.nanoTime() + SECONDS.toNanos(5));
+        recovery.awaitReconnect(); // waits for the next slot, or until the rate limit ends
+        recovery.setReconnectDeadline(null);
+
+        recovery.terminate();
+        recovery.awaitReconnect(); // the reconnects are not limited after the recovery is terminated
+    }
+}
@@ -0,0 +1,117 @@
+/**
+ * Copyright 2024 the vibur-dbcp contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.vibur.dbcp.pool;
+
+import org.junit.Test;
+import org.vibur.dbcp.AbstractDataSourceTest;
+import org.vibur.dbcp.ViburDBCPDataSource;
+import org.vibur.dbcp.ViburPartition;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author agent
+ */
+public class PoolPartitionsTest extends AbstractDataSourceTest {
+
+    @Test
+    public void testGuaranteesAndQuotas() {
+        PoolPartitions partitions = newPartitions(4, "a:2:4, b:0:4");
+        PoolPartition a = partitions.get("a");
+        PoolPartition b = partitions.get("b");
+        PoolPartition unpartitioned = partitions.getUnpartitioned();
+
+        assertTrue(partitions.tryAcquire(b));
+        assertTrue(partitions.tryAcquire(b));
+        assertFalse(partitions.tryAcquire(b)); // the remaining 2 Connections are guaranteed to a
+        assertFalse(partitions.tryAcquire(unpartitioned));
+        assertTrue(partitions.tryAcquire(a));
+        assertTrue(partitions.tryAcquire(a));
+        assertFalse(partitions.tryAcquire(a)); // the pool max size is reached
+
+        partitions.release(b);
+        assertTrue(partitions.tryAcquire(unpartitioned));
+        assertEquals(2, a.getTaken());
+        assertEquals(1, b.getTaken());
+        assertEquals(2, b.getPeakTaken());
+    }
+
+    @Test
+    public void testInvalidPartitions() {
+        String[] invalid = {"a:1", ":0:1", "a:2:1", "a:0:0", "a:0:5", "a:0:1, a:0:1", "a:3:4, b:2:4", "a:x:1"};
+        for (String spec : invalid) {
+            try {
+                newPartitions(4, spec);
+                fail("IllegalArgumentException expected for " + spec);
+            } catch (IllegalArgumentException ignored) {
+            }
+        }
+    }
+
+    @Test
+    public void testPoolPartitions() throws SQLException {
+        ViburDBCPDataSource ds = createDataSourceNotStarted();
+        ds.setPoolPartitions("api:2:10, reporting:0:3");
+        ds.start();
+
+        ViburPartition reporting = ds.partition("reporting");
+        List<Connection> connections = new ArrayList<>();
+        try {
+            for (int i = 0; i < 3; i++)
+                connections.add(reporting.getConnection());
+            try {
+                reporting.getConnection(100);
+                fail("SQLTimeoutException expected");
+            } catch (SQLTimeoutException ignored) { // the reporting partition quota is exhausted
+            }
+
+            Connection connection = ds.partition("api").getConnection();
+            connections.add(connection);
+            executeAndVerifySelectStatement(connection);
+        } finally {
+            for (Connection connection : connections)
+                connection.close();
+        }
+
+        PoolPartition partition = ds.getPartitions().get("reporting");
+        assertEquals(0, partition.getTaken());
+        assertEquals(3, partition.getPeakTaken());
+        assertEquals(4, partition.getRequests());
+        assertEquals(1, partition.getTimeouts());
+        assertEquals(1, ds.getPartitions().get("api").getPeakTaken());
+        doTestSelectStatement(ds);
+
+        try {
+            ds.partition("unknown");
+            fail("IllegalArgumentException expected");
+        } catch (IllegalArgumentException ignored) {
+        }
+    }
+
+    private static PoolPartitions newPartitions(int poolMaxSize, String poolPartitions) {
+        ViburDBCPDataSource config = new ViburDBCPDataSource();
+        config.setPoolMaxSize(poolMaxSize);
+        config.setPoolPartitions(poolPartitions);
+        return new PoolPartitions(config);
+    }
+}
@@ -0,0 +1,91 @@
+/**
+ * Copyright 2024 the vibur-dbcp contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.vibur.dbcp.pool;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameter;
+import org.junit.runners.Parameterized.Parameters;
+import org.vibur.dbcp.AbstractDataSourceTest;
+import org.vibur.dbcp.ViburDBCPDataSource;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collection;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author agent
+ */
+@RunWith(Parameterized.class)
+public class PoolWarmUpTest extends AbstractDataSourceTest {
+
+    @Parameters(name = "poolWarmUpBlockingSize={0}")
+    public static Collection<Object[]> data() {
+        return Arrays.asList(new Object[][] {
+                {-1}, // all initial Connections are created in parallel before start() returns
+                {POOL_INITIAL_SIZE}, // the remaining initial Connections are created in background
+        });
+    }
+
+    @Parameter
+    public int warmUpBlockingSize;
+
+    @Test
+    public void testWarmUp() throws SQLException, InterruptedException {
+        ViburDBCPDataSource ds = createDataSourceNotStarted();
+        ds.setPoolInitialSize(POOL_MAX_SIZE);
+        ds.setPoolWarmUpConcurrency(3);
+        ds.setPoolWarmUpBlockingSize(warmUpBlockingSize);
+        ds.start();
+
+        int blockingSize = warmUpBlockingSize >= 0 ? warmUpBlockingSize : POOL_MAX_SIZE;
+        assertEquals(blockingSize, ds.getPool().initialSize());
+        assertTrue(ds.getPool().createdTotal() >= blockingSize);
+        doTestSelectStatement(ds);
+
+        for (int i = 0; i < 100 && ds.getPool().remainingCreated() < POOL_MAX_SIZE; i++)
+            Thread.sleep(20);
+        assertEquals(POOL_MAX_SIZE, ds.getPool().createdTotal());
+        assertEquals(POOL_MAX_SIZE, ds.getPool().remainingCreated());
+    }
+
+    @Test(timeout = 10000)
+    public void testWarmUpFailure() {
+        final String message = "The init hook failed.";
+        ViburDBCPDataSource ds = createDataSourceNotStarted();
+        ds.setPoolInitialSize(POOL_MAX_SIZE);
+        ds.setPoolWarmUpConcurrency(3);
+        ds.setPoolWarmUpBlockingSize(warmUpBlockingSize);
+        ds.getConnHooks().addOnInit(new Hook.InitConnection() {
+            @Override
+            public void on(Connection rawConnection, long takenNanos) {
+                throw new UnsupportedOperationException(message);
+            }
+        });
+
+        try {
+            ds.start(); // must not wait forever for the Connections which the creator threads failed to create
+            fail("UnsupportedOperationException expected");
+        } catch (UnsupportedOperationException e) {
+            assertEquals(message, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,99 @@
+/**
+ * Copyright 2024 the vibur-dbcp contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.vibur.dbcp.pool;
+
+import org.junit.Test;
+import org.vibur.dbcp.AbstractDataSourceTest;
+import org.vibur.dbcp.ViburDBCPDataSource;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+import static org.vibur.dbcp.pool.ConnectionPriority.HIGH;
+import static org.vibur.dbcp.pool.ConnectionPriority.LOW;
+import static org.vibur.dbcp.pool.ConnectionPriority.NORMAL;
+
+/**
+ * @author agent
+ */
+public class PriorityGateTest extends AbstractDataSourceTest {
+
+    @Test
+    public void testPriorityLimits() {
+        ViburDBCPDataSource config = new ViburDBCPDataSource();
+        config.setPoolMaxSize(4);
+        config.setPoolHighPriorityReserve(1);
+        config.setPoolNormalPriorityReserve(1);
+        PriorityGate gate = new PriorityGate(config);
+
+        assertTrue(gate.tryAcquire(LOW));
+        assertTrue(gate.tryAcquire(LOW));
+        assertFalse(gate.tryAcquire(LOW)); // the last 2 are reserved for the normal and high priorities
+        assertTrue(gate.tryAcquire(NORMAL));
+        assertFalse(gate.tryAcquire(NORMAL)); // the last one is reserved for the high priority
+        assertTrue(gate.tryAcquire(HIGH));
+        assertFalse(gate.tryAcquire(HIGH));
+
+        gate.release();
+        assertFalse(gate.tryAcquire(LOW));
+        assertFalse(gate.tryAcquire(NORMAL));
+        assertTrue(gate.tryAcquire(HIGH));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testReservesNotLessThanPoolMaxSize() {
+        ViburDBCPDataSource config = new ViburDBCPDataSource();
+        config.setPoolMaxSize(4);
+        config.setPoolHighPriorityReserve(2);
+        config.setPoolNormalPriorityReserve(2);
+        new PriorityGate(config);
+    }
+
+    @Test
+    public void testPriorityReserve() throws SQLException {
+        ViburDBCPDataSource ds = createDataSourceNotStarted();
+        ds.setPoolHighPriorityReserve(2);
+        ds.start();
+
+        List<Connection> connections = new ArrayList<>();
+        try {
+            for (int i = 0; i < POOL_MAX_SIZE - 2; i++)
+                connections.add(ds.getConnection());
+            try {
+                ds.getConnection(NORMAL, 100);
+                fail("SQLTimeoutException expected");
+            } catch (SQLTimeoutException ignored) { // the remaining connections are reserved
+            }
+
+            Connection connection = ds.getConnection(HIGH, 100);
+            connections.add(connection);
+            executeAndVerifySelectStatement(connection);
+            assertEquals(POOL_MAX_SIZE - 1, ds.getPool().taken());
+        } finally {
+            for (Connection connection : connections)
+                connection.close();
+        }
+
+        assertTrue(ds.getPriorityGate().getMaxWaitInMs(NORMAL) >= 100);
+        assertTrue(ds.getPriorityGate().getMaxWaitInMs(HIGH) < 100);
+        doTestSelectStatement(ds);
+    }
+}